@@ -2,6 +2,8 @@ package jbse.algo;
 
 import static jbse.bc.Offsets.XCONST_OFFSET;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -21,7 +23,7 @@ StrategyRefine<DecisionAlternative_NONE>,
 StrategyUpdate<DecisionAlternative_NONE>> {
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
@@ -61,12 +63,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XCONST_OFFSET;
     }
 }
@@ -15,6 +15,7 @@ import static jbse.common.Type.isArray;
 import static jbse.common.Type.REFERENCE;
 import static jbse.common.Type.TYPEEND;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -40,7 +41,7 @@ import jbse.val.Primitive;
 final class Algo_ANEWARRAY extends Algo_XNEWARRAY<BytecodeData_1CL> {
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -96,7 +97,7 @@ final class Algo_ANEWARRAY extends Algo_XNEWARRAY<BytecodeData_1CL> {
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> ANEWARRAY_OFFSET;
     }
 }
\ No newline at end of file
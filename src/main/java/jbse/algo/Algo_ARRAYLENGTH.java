@@ -6,6 +6,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.ARRAYLENGTH_OFFSET;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -26,7 +28,7 @@ StrategyRefine<DecisionAlternative_NONE>,
 StrategyUpdate<DecisionAlternative_NONE>> {
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -77,12 +79,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected final Supplier<Integer> programCounterUpdate() {
+    protected final IntSupplier programCounterUpdate() {
         return () -> ARRAYLENGTH_OFFSET;
     }
 }
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwObject;
 import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -23,7 +25,7 @@ StrategyDecide<DecisionAlternative_NONE>,
 StrategyRefine<DecisionAlternative_NONE>, 
 StrategyUpdate<DecisionAlternative_NONE>> {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -72,12 +74,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> 0;
     }
 }
@@ -11,6 +11,8 @@ import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.NO_CLASS_DEFINITION_FOUND_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -45,7 +47,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     protected boolean isSubclass; //result of the check, for the subclasses of this algorithm
 
     @Override
-    protected final Supplier<Integer> numOperands() {
+    protected final IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -124,12 +126,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected final Supplier<Integer> programCounterUpdate() {
+    protected final IntSupplier programCounterUpdate() {
         return () -> CASTINSTANCEOF_OFFSET;
     }
 }
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.DUP_OFFSET;
 import static jbse.common.Type.isCat_1;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -37,7 +39,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1; //one sure operand, but it can dup up to 2 operands
     }
 
@@ -105,12 +107,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> DUP_OFFSET;
     }
 }
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.DUP_OFFSET;
 import static jbse.common.Type.isCat_1;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.common.exc.ClasspathException;
@@ -44,7 +46,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2; //two sure operand, but it can dup up to 4 operands
     }
 
@@ -264,12 +266,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> DUP_OFFSET;
     }
 }
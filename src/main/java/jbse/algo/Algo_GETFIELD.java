@@ -6,7 +6,7 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.bc.exc.FieldNotFoundException;
 import jbse.common.exc.ClasspathException;
@@ -24,7 +24,7 @@ import jbse.val.Reference;
  */
 final class Algo_GETFIELD extends Algo_GETX {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -7,7 +7,7 @@ import static jbse.algo.Util.throwNew;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.bc.exc.FieldNotFoundException;
 import jbse.common.exc.ClasspathException;
@@ -28,7 +28,7 @@ import jbse.mem.exc.HeapMemoryExhaustedException;
  */
 final class Algo_GETSTATIC extends Algo_GETX {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
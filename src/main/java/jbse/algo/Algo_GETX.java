@@ -12,6 +12,8 @@ import static jbse.bc.Signatures.NO_CLASS_DEFINITION_FOUND_ERROR;
 import static jbse.bc.Signatures.NO_SUCH_FIELD_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -104,12 +106,12 @@ abstract class Algo_GETX extends Algo_XLOAD_GETX<BytecodeData_1FI> {
     throws ClasspathException, DecisionException, InterruptException, ContradictionException, FrozenStateException;
 
     @Override
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected final Supplier<Integer> programCounterUpdate() {
+    protected final IntSupplier programCounterUpdate() {
         return () -> GETX_PUTX_OFFSET;
     }
 }
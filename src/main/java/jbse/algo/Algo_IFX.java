@@ -6,6 +6,8 @@ import static jbse.bc.Offsets.IFX_OFFSET;
 import static jbse.common.Type.INT;
 import static jbse.common.Type.widens;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms.Outcome;
@@ -42,7 +44,7 @@ StrategyUpdate<DecisionAlternative_IFX>> {
     private boolean doJump; //produced by updater
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> (this.compareWithZero ? 1 : 2);
     }
 
@@ -117,12 +119,12 @@ StrategyUpdate<DecisionAlternative_IFX>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> (this.doJump ? this.data.jumpOffset() : IFX_OFFSET);
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.IF_ACMPX_XNULL_OFFSET;
 import static jbse.mem.Util.areAlias;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -48,7 +50,7 @@ StrategyUpdate<DecisionAlternative_IFX>> {
     boolean doJump; //produced by updater
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> (this.compareWithNull ? 1 : 2);
     }
 
@@ -108,12 +110,12 @@ StrategyUpdate<DecisionAlternative_IFX>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> (this.doJump ? this.data.jumpOffset() : IF_ACMPX_XNULL_OFFSET);
     }
 }
\ No newline at end of file
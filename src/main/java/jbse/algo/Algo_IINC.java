@@ -6,6 +6,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.IINC_OFFSET;
 import static jbse.bc.Offsets.IINC_WIDE_OFFSET;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -31,7 +33,7 @@ StrategyRefine<DecisionAlternative_NONE>,
 StrategyUpdate<DecisionAlternative_NONE>> {
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
@@ -83,12 +85,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> (this.data.nextWide() ? IINC_WIDE_OFFSET : IINC_OFFSET);
     }
 }
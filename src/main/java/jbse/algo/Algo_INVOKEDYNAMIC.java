@@ -20,6 +20,8 @@ import static jbse.bc.Signatures.NO_CLASS_DEFINITION_FOUND_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.exc.SymbolicValueNotAllowedException;
@@ -61,7 +63,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
 	}
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0; //not used
     }
 
@@ -206,12 +208,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
 	}
 
 	@Override
-	protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+	protected BooleanSupplier isProgramCounterUpdateAnOffset() {
 		return null; //unreachable
 	}
 
 	@Override
-	protected Supplier<Integer> programCounterUpdate() {
+	protected IntSupplier programCounterUpdate() {
 		return null; //unreachable
 	}
 }
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.offsetInvoke;
 import static jbse.common.Type.splitParametersDescriptors;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -55,7 +57,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
 	}
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> (splitParametersDescriptors(this.adapterSignature.getDescriptor()).length - (this.hasAppendix ? 1 : 0));
     }
 
@@ -117,12 +119,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
 	}
 
 	@Override
-	protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+	protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
 	}
 
 	@Override
-	protected Supplier<Integer> programCounterUpdate() {
+	protected IntSupplier programCounterUpdate() {
         return () -> 0; //nothing to add to the program counter of the pushed frame
 	}
 }
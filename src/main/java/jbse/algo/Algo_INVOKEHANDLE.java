@@ -29,6 +29,8 @@ import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 import static jbse.common.Type.parametersNumber;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.BytecodeData_1KME.Kind;
@@ -93,7 +95,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
     
     @Override
-    protected final Supplier<Integer> numOperands() {
+    protected final IntSupplier numOperands() {
         return () -> {
             return parametersNumber(this.data.signature().getDescriptor(), isSignaturePolymorphicMethodStatic(this.data.signature().getName()));
         };
@@ -275,12 +277,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
 	}
 
 	@Override
-	protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+	protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
 	}
 
 	@Override
-	protected Supplier<Integer> programCounterUpdate() {
+	protected IntSupplier programCounterUpdate() {
         return () -> 0; //nothing to add to the program counter of the pushed frame
 	}
 }
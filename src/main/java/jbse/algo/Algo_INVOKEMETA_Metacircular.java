@@ -28,7 +28,8 @@ import static jbse.common.Type.splitReturnValueDescriptor;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.exc.CannotAccessImplementationReflectively;
 import jbse.algo.exc.CannotInvokeNativeException;
@@ -110,7 +111,7 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
     private String nonExpandedRefOrigins; //set by decider
 
     @Override
-    protected final Supplier<Integer> numOperands() {
+    protected final IntSupplier numOperands() {
         return () -> {
             return parametersNumber(this.methodSignatureImplementation.getDescriptor(), this.isStatic);
         };
@@ -421,12 +422,12 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> offsetInvoke(this.isInterface);
     }
 
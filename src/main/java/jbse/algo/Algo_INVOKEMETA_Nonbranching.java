@@ -2,7 +2,8 @@ package jbse.algo;
 
 import static jbse.bc.Offsets.offsetInvoke;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.exc.CannotManageStateException;
 import jbse.bc.exc.RenameUnsupportedException;
@@ -69,12 +70,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> this.pcOffset;
     }
 }
@@ -4,7 +4,7 @@ import static jbse.algo.Util.continueWith;
 import static jbse.algo.Util.continueWithBaseLevelImpl;
 import static jbse.common.Type.parametersNumber;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.mem.State;
 import jbse.tree.DecisionAlternative_NONE;
@@ -28,7 +28,7 @@ public final class Algo_INVOKEMETA_Uninterpreted extends Algo_INVOKEMETA_Nonbran
     private final Algo_INVOKEMETA_Metacircular algo_INVOKEMETA_Metacircular = new Algo_INVOKEMETA_Metacircular();
 
     @Override
-    protected final Supplier<Integer> numOperands() {
+    protected final IntSupplier numOperands() {
         return () -> {
             return parametersNumber(this.data.signature().getDescriptor(), this.isStatic);
         };
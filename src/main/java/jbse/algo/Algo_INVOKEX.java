@@ -16,7 +16,8 @@ import static jbse.bc.Signatures.NO_SUCH_METHOD_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.exc.NotYetImplementedException;
 import jbse.bc.exc.BadClassFileVersionException;
@@ -167,12 +168,12 @@ final class Algo_INVOKEX extends Algo_INVOKEX_Abstract {
     }
 
     @Override
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset() {
         return null; //never used
     }
 
     @Override
-    protected final Supplier<Integer> programCounterUpdate() {
+    protected final IntSupplier programCounterUpdate() {
         return null; //never used
     }
 }
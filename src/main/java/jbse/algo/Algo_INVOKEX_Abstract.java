@@ -18,6 +18,7 @@ import static jbse.common.Type.TYPEEND;
 import static jbse.common.Type.isArray;
 import static jbse.common.Type.parametersNumber;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.exc.BaseUnsupportedException;
@@ -83,7 +84,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
     
     @Override
-    protected final Supplier<Integer> numOperands() {
+    protected final IntSupplier numOperands() {
         return () -> {
             return parametersNumber(this.data.signature().getDescriptor(), this.isStatic);
         };
@@ -11,7 +11,8 @@ import static jbse.bc.Signatures.ILLEGAL_ACCESS_ERROR;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.exc.NotYetImplementedException;
 import jbse.bc.ClassFile;
@@ -190,12 +191,12 @@ final class Algo_INVOKEX_Completion extends Algo_INVOKEX_Abstract {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> 0; //nothing to add to the program counter of the pushed frame
     }
 }
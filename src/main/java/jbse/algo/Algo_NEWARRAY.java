@@ -5,6 +5,7 @@ import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Offsets.NEWARRAY_OFFSET;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.exc.BadClassFileVersionException;
@@ -28,7 +29,7 @@ import jbse.val.Primitive;
 final class Algo_NEWARRAY extends Algo_XNEWARRAY<BytecodeData_1AT> {
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -60,7 +61,7 @@ final class Algo_NEWARRAY extends Algo_XNEWARRAY<BytecodeData_1AT> {
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> NEWARRAY_OFFSET;
     }
 }
@@ -7,7 +7,7 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.bc.ClassFile;
 import jbse.bc.exc.FieldNotFoundException;
@@ -33,7 +33,7 @@ final class Algo_PUTFIELD extends Algo_PUTX {
     }
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -7,7 +7,7 @@ import static jbse.algo.Util.ensureClassInitialized;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.bc.exc.FieldNotFoundException;
 import jbse.common.exc.ClasspathException;
@@ -33,7 +33,7 @@ final class Algo_PUTSTATIC extends Algo_PUTX {
     }
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
     
@@ -21,6 +21,8 @@ import static jbse.common.Type.isReference;
 import static jbse.common.Type.NULLREF;
 
 import java.util.ListIterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -260,12 +262,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     throws InterruptException, ClasspathException, FrozenStateException;
 
     @Override
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected final Supplier<Integer> programCounterUpdate() {
+    protected final IntSupplier programCounterUpdate() {
         return () -> GETX_PUTX_OFFSET;
     }
 }
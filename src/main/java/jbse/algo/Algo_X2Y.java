@@ -6,6 +6,8 @@ import static jbse.bc.Offsets.X2Y_OFFSET;
 import static jbse.common.Type.INT;
 import static jbse.common.Type.isPrimitiveOpStack;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -39,7 +41,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     private Primitive primitiveTo; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -98,12 +100,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> X2Y_OFFSET;
     }
 }
\ No newline at end of file
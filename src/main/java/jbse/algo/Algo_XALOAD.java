@@ -17,6 +17,8 @@ import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.exc.MissingTriggerParameterException;
@@ -82,7 +84,7 @@ StrategyUpdate_XALOAD> {
     private Primitive index; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -342,12 +344,12 @@ StrategyUpdate_XALOAD> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XALOADSTORE_OFFSET;
     }
 }
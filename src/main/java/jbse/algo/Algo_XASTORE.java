@@ -11,6 +11,8 @@ import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 import static jbse.common.Type.isPrimitiveOpStack;
 import static jbse.common.Type.toPrimitiveOrVoidInternalName;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.bc.ClassFile;
@@ -45,7 +47,7 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
     private Value valueToStore; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
@@ -161,12 +163,12 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XALOADSTORE_OFFSET;
     }
 }
@@ -11,6 +11,8 @@ import static jbse.bc.Opcodes.OP_IFLE;
 import static jbse.bc.Opcodes.OP_IFLT;
 import static jbse.bc.Opcodes.OP_IFNE;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms.Outcome;
@@ -46,7 +48,7 @@ StrategyUpdate<DecisionAlternative_XCMPY>> {
     private Primitive val1, val2; //set by cook
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -120,12 +122,12 @@ StrategyUpdate<DecisionAlternative_XCMPY>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XCMPY_OFFSET;
     }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import static jbse.common.Type.DOUBLE;
 import static jbse.common.Type.FLOAT;
 import static jbse.common.Type.LONG;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms;
@@ -33,7 +35,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     Primitive valToPush; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -126,12 +128,12 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XCMPY_OFFSET;
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package jbse.algo;
 
 import static jbse.bc.Offsets.XLOADSTORE_IMPLICIT_OFFSET;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -26,7 +28,7 @@ final class Algo_XLOAD_Y extends Algo_XLOAD_GETX<BytecodeData_0LV> {
     }
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
@@ -43,12 +45,12 @@ final class Algo_XLOAD_Y extends Algo_XLOAD_GETX<BytecodeData_0LV> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> XLOADSTORE_IMPLICIT_OFFSET;
     }
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Signatures.NEGATIVE_ARRAY_SIZE_EXCEPTION;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
 
 import jbse.bc.ClassFile;
 import jbse.bc.exc.RenameUnsupportedException;
@@ -268,7 +268,7 @@ StrategyUpdate<DecisionAlternative_XNEWARRAY>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 }
@@ -4,6 +4,8 @@ import static jbse.algo.Util.exitFromAlgorithm;
 import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.throwVerifyError;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.common.exc.ClasspathException;
@@ -48,7 +50,7 @@ StrategyUpdate<DecisionAlternative_XSWITCH>> {
     private int jumpOffset; //set by updater
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1; //the switch selector
     }
 
@@ -118,12 +120,12 @@ StrategyUpdate<DecisionAlternative_XSWITCH>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> this.jumpOffset;
     }
 
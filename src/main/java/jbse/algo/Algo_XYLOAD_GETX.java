@@ -157,7 +157,7 @@ UP extends StrategyUpdate<R>> extends Algorithm<D, R, DE, RE, UP> {
         //manages triggers
         try {
             final boolean someTriggerFrameLoaded = 
-                this.ctx.triggerManager.loadTriggerFrames(state, this.ctx.getCalculator(), altLoads, this.programCounterUpdate.get());
+                this.ctx.triggerManager.loadTriggerFrames(state, this.ctx.getCalculator(), altLoads, this.programCounterUpdate.getAsInt());
             if (someTriggerFrameLoaded) {
                 exitFromAlgorithm();
             }
@@ -5,6 +5,8 @@ import static jbse.algo.Util.throwVerifyError;
 
 import java.util.Collection;
 import java.util.SortedSet;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.exc.CannotManageStateException;
@@ -41,12 +43,12 @@ UP extends StrategyUpdate<R>> implements Action {
      * The number of operands in the operand stack
      * consumed by the {@link Algorithm}.
      * 
-     * @return a {@link Supplier}{@code <}{@link Integer}{@code >}
+     * @return an {@link IntSupplier}
      *         that, when evaluated, returns the number of 
      *         operands in the operand stack consumed by
      *         the bytecode.
      */
-    protected abstract Supplier<Integer> numOperands();
+    protected abstract IntSupplier numOperands();
 
     /** 
      * The bytecode data.
@@ -102,22 +104,22 @@ UP extends StrategyUpdate<R>> implements Action {
      * How the value returned by {@link #programCounterUpdate()} 
      * should be interpreted.
      * 
-     * @return a {@link Supplier}{@code <}{@link Boolean}{@code >} returning
+     * @return a {@link BooleanSupplier} returning
      *         {@code true} if {@link #programCounterUpdate()} 
      *         returns an offset from the state's current program
      *         counter, {@code false} if {@link #programCounterUpdate()}
      *         returns a new, absolute program counter.
      */
-    protected abstract Supplier<Boolean> isProgramCounterUpdateAnOffset();
+    protected abstract BooleanSupplier isProgramCounterUpdateAnOffset();
 
     /**
      * Either the program counter offset or the 
      * program counter value, after the execution 
      * of the bytecode.
      * 
-     * @return a {@link Supplier}{@code <}{@link Integer}{@code >}.
+     * @return an {@link IntSupplier}.
      */
-    protected abstract Supplier<Integer> programCounterUpdate();
+    protected abstract IntSupplier programCounterUpdate();
 
     /**
      * Override this method to perform cleanup of 
@@ -127,14 +129,14 @@ UP extends StrategyUpdate<R>> implements Action {
      */
     protected void cleanup() { }
 
-    private final Supplier<Integer> numOperands; //just caches
+    private final IntSupplier numOperands; //just caches
     protected D data; //just caches
     private final BytecodeCooker cooker;  //just caches
     private final DE decider; //just caches
     private final RE refiner; //just caches
     private UP updater; //just caches
-    protected final Supplier<Integer> programCounterUpdate; //just caches
-    protected final Supplier<Boolean> isProgramCounterUpdateAnOffset; //just caches
+    protected final IntSupplier programCounterUpdate; //just caches
+    protected final BooleanSupplier isProgramCounterUpdateAnOffset; //just caches
 
     public Algorithm() {
         this.numOperands = numOperands();
@@ -276,7 +278,7 @@ UP extends StrategyUpdate<R>> implements Action {
                 }
 
                 //pops the operands from the operand stack
-            	stateCurrent.popOperands(this.numOperands.get());
+            	stateCurrent.popOperands(this.numOperands.getAsInt());
 
             	//initializes lazily this.updated
                 if (this.updater == null) {
@@ -299,10 +301,10 @@ UP extends StrategyUpdate<R>> implements Action {
                 if (stateCurrent.isStuck() || stateCurrent.getStackSize() == 0) {
                     //nothing to do
                 } else if (interrupt == null) {
-                    if (this.isProgramCounterUpdateAnOffset.get()) {
-                        stateCurrent.incProgramCounter(this.programCounterUpdate.get());
+                    if (this.isProgramCounterUpdateAnOffset.getAsBoolean()) {
+                        stateCurrent.incProgramCounter(this.programCounterUpdate.getAsInt());
                     } else {
-                        stateCurrent.setProgramCounter(this.programCounterUpdate.get());
+                        stateCurrent.setProgramCounter(this.programCounterUpdate.getAsInt());
                     }
                 } else if (interrupt.hasContinuation()) {
                     throw interrupt;
@@ -8,7 +8,7 @@ import static jbse.common.Util.asUnsignedByte;
 import static jbse.common.Util.byteCat;
 import static jbse.common.Util.byteCatShort;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.bc.CallSiteSpecifier;
 import jbse.bc.Signature;
@@ -66,7 +66,7 @@ public abstract class BytecodeData {
      * 
      * @param state a {@link State}.
      * @param calc a {@link Calculator}.
-     * @param numOperandsSupplier a {@link Supplier}{@code <}{@link Integer}{@code >}
+     * @param numOperandsSupplier a {@link IntSupplier}
      *        returning the number of operands to be read from {@code state}'s 
      *        operand stack.
      * @throws ThreadStackEmptyException when {@code state}'s thread stack is empty.
@@ -76,12 +76,12 @@ public abstract class BytecodeData {
      *         or ill-formed, or not accessible.
      * @throws FrozenStateException if the state is empty.
      */
-    public final void read(State state, Calculator calc, Supplier<Integer> numOperandsSupplier) 
+    public final void read(State state, Calculator calc, IntSupplier numOperandsSupplier) 
     throws ThreadStackEmptyException, InterruptException, 
     ClasspathException, FrozenStateException {
         this.nextWide = state.nextWide();
         readImmediates(state, calc);
-        readOperands(state, calc, numOperandsSupplier.get());
+        readOperands(state, calc, numOperandsSupplier.getAsInt());
     }
 
     /**
@@ -27,6 +27,13 @@ import jbse.common.exc.UnexpectedInternalException;
  *
  */
 public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?, ?, ?, ?>> {
+    /** 
+     * The {@link Algorithm}s indexed by the unsigned value
+     * of their bytecodes, kept aligned with the dispatch 
+     * strategies by {@link #setCase} and {@link #setDefault}. 
+     */
+    private final Algorithm<?, ?, ?, ?, ?>[] algorithms = new Algorithm<?, ?, ?, ?, ?>[256];
+    
     private final Action_START        action_START       = new Action_START();
     private final Action_INIT         action_INIT          = new Action_INIT();
     private final Algo_NOTALLOWED     algo_NOTALLOWED      = new Algo_NOTALLOWED();
@@ -363,6 +370,22 @@ public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?
         //the remaining bytecodes should never appear in a classfile
         setDefault(() -> this.algo_NOTALLOWED);
     }
+    
+    @Override
+    public DispatcherBytecodeAlgorithm setCase(Byte bytecode, DispatchStrategy<? extends Algorithm<?, ?, ?, ?, ?>> s) {
+        super.setCase(bytecode, s);
+        this.algorithms[bytecode.byteValue() & 0xFF] = select(bytecode);
+        return this;
+    }
+    
+    @Override
+    public DispatcherBytecodeAlgorithm setDefault(DispatchStrategy<? extends Algorithm<?, ?, ?, ?, ?>> s) {
+        super.setDefault(s);
+        for (int bytecode = 0; bytecode < this.algorithms.length; ++bytecode) {
+            this.algorithms[bytecode] = select(Byte.valueOf((byte) bytecode));
+        }
+        return this;
+    }
 
     public Action_START selectStart() {
         return this.action_START;
@@ -385,4 +408,16 @@ public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?
         }
         return retVal;
     }
+
+    /**
+     * Returns the {@link Algorithm} for a bytecode 
+     * by direct indexing, without boxing {@code bytecode} 
+     * and without invoking any {@link DispatchStrategy}.
+     * 
+     * @param bytecode a {@code byte}, the bytecode.
+     * @return the {@link Algorithm} that executes {@code bytecode}.
+     */
+    public Algorithm<?, ?, ?, ?, ?> select(byte bytecode) {
+        return this.algorithms[bytecode & 0xFF];
+    }
 }
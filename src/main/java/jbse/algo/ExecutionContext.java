@@ -1070,6 +1070,7 @@ public final class ExecutionContext {
     public void switchInitial(State stateInitial) {
         this.stateInitial = stateInitial.clone();
         this.stateTree.setBreadthModePostInitial();
+        this.stateTree.setInitialStateAvailable();
     }
 
     /**
@@ -16,7 +16,7 @@ import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 import static jbse.common.Type.internalClassName;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -55,7 +55,7 @@ public final class Algo_JAVA_CLASSLOADER_DEFINECLASS1 extends Algo_INVOKEMETA_No
     private ClassFile classFile; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 7;
     }
 
@@ -8,7 +8,7 @@ import static jbse.algo.Util.valueString;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.common.Type.internalClassName;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -35,7 +35,7 @@ public final class Algo_JAVA_CLASSLOADER_FINDLOADEDCLASS0 extends Algo_INVOKEMET
     private Reference classRef; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -6,7 +6,7 @@ import static jbse.bc.Signatures.JAVA_CLASSLOADER_NATIVELIBRARY_ISBUILTIN;
 import static jbse.bc.Signatures.JAVA_CLASSLOADER_NATIVELIBRARY_LOADED;
 import static jbse.bc.Signatures.JAVA_CLASSLOADER_NATIVELIBRARY_NAME;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -28,7 +28,7 @@ public final class Algo_JAVA_CLASSLOADER_NATIVELIBRARY_LOAD extends Algo_INVOKEM
     private Instance thisInstance; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
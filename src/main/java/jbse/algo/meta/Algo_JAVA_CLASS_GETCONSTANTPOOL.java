@@ -9,7 +9,7 @@ import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.SUN_CONSTANTPOOL;
 import static jbse.bc.Signatures.SUN_CONSTANTPOOL_CONSTANTPOOLOOP;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -46,7 +46,7 @@ public final class Algo_JAVA_CLASS_GETCONSTANTPOOL extends Algo_INVOKEMETA_Nonbr
     private Reference toPush; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
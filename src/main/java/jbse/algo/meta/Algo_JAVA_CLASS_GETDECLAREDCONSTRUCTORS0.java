@@ -33,7 +33,7 @@ import static jbse.common.Type.TYPEEND;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
@@ -79,7 +79,7 @@ public final class Algo_JAVA_CLASS_GETDECLAREDCONSTRUCTORS0 extends Algo_INVOKEM
     private ClassFile thisClass; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -11,7 +11,7 @@ import static jbse.common.Type.REFERENCE;
 import static jbse.common.Type.TYPEEND;
 
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -44,7 +44,7 @@ public final class Algo_JAVA_CLASS_GETINTERFACES0 extends Algo_INVOKEMETA_Nonbra
     private Reference[] refSuperInterfaces; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
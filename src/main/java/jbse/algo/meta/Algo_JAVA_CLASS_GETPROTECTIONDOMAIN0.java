@@ -1,6 +1,6 @@
 package jbse.algo.meta;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -14,7 +14,7 @@ import jbse.val.Null;
  */
 public final class Algo_JAVA_CLASS_GETPROTECTIONDOMAIN0 extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -4,7 +4,7 @@ import static jbse.algo.Util.exitFromAlgorithm;
 import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.throwVerifyError;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -31,7 +31,7 @@ public final class Algo_JAVA_CLASS_GETSIGNERS extends Algo_INVOKEMETA_Nonbranchi
     private ReferenceConcrete signers;  //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
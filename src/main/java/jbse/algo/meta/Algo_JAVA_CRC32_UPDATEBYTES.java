@@ -8,7 +8,7 @@ import static jbse.common.Type.internalClassName;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 import java.util.zip.CRC32;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
@@ -36,7 +36,7 @@ public final class Algo_JAVA_CRC32_UPDATEBYTES extends Algo_INVOKEMETA_Nonbranch
     private Simplex toPush;
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 4;
     }
 
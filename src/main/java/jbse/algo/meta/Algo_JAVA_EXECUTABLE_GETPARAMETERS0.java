@@ -24,7 +24,7 @@ import static jbse.common.Type.ARRAYOF;
 import static jbse.common.Type.REFERENCE;
 import static jbse.common.Type.TYPEEND;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -68,7 +68,7 @@ public final class Algo_JAVA_EXECUTABLE_GETPARAMETERS0 extends Algo_INVOKEMETA_N
 	private Signature methodSignature; //set by cookMore
 	
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
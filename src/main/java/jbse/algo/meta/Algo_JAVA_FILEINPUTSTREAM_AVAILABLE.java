@@ -13,7 +13,7 @@ import static jbse.bc.Signatures.JAVA_FILEINPUTSTREAM_FD;
 import java.io.FileDescriptor;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -37,7 +37,7 @@ public final class Algo_JAVA_FILEINPUTSTREAM_AVAILABLE extends Algo_INVOKEMETA_N
     private Simplex retVal; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -17,7 +17,7 @@ import java.io.FileOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -45,7 +45,7 @@ public final class Algo_JAVA_FILEOUTPUTSTREAM_OPEN0 extends Algo_INVOKEMETA_Nonb
     private FileOutputStream fos; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
@@ -16,7 +16,7 @@ import java.io.FileDescriptor;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -48,7 +48,7 @@ public final class Algo_JAVA_FILEOUTPUTSTREAM_WRITEBYTES extends Algo_INVOKEMETA
     private FileOutputStream fos; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 5;
     }
 
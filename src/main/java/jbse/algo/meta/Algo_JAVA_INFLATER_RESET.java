@@ -8,7 +8,7 @@ import static jbse.common.Type.internalClassName;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 import java.util.zip.Inflater;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
@@ -30,7 +30,7 @@ import jbse.val.Simplex;
  */
 public final class Algo_JAVA_INFLATER_RESET extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
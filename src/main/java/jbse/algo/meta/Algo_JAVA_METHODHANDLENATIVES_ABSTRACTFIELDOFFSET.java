@@ -19,7 +19,7 @@ import static jbse.bc.Signatures.JAVA_STRING;
 
 import java.lang.reflect.Modifier;
 import java.util.NoSuchElementException;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -56,7 +56,7 @@ abstract class Algo_JAVA_METHODHANDLENATIVES_ABSTRACTFIELDOFFSET extends Algo_IN
 	}
 	
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 1;
 	}
 
@@ -36,7 +36,7 @@ import static jbse.common.Type.toPrimitiveOrVoidCanonicalName;
 import static jbse.common.Type.TYPEEND;
 
 import java.util.ArrayList;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -73,7 +73,7 @@ public final class Algo_JAVA_METHODHANDLENATIVES_GETMEMBERS extends Algo_INVOKEM
 	private boolean justReturnZero;
 
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 7;
 	}
 	
@@ -29,7 +29,7 @@ import static jbse.bc.Signatures.JAVA_MEMBERNAME_FLAGS;
 import static jbse.bc.Signatures.JAVA_MEMBERNAME_NAME;
 import static jbse.bc.Signatures.JAVA_MEMBERNAME_TYPE;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -71,7 +71,7 @@ public final class Algo_JAVA_METHODHANDLENATIVES_INIT extends Algo_INVOKEMETA_No
 	private ClassFile cf_JAVA_CONSTRUCTOR; //set by cookMore
 
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 2;
 	}
 
@@ -7,7 +7,7 @@ import static jbse.algo.meta.Util.INTERRUPT_SYMBOLIC_VALUE_NOT_ALLOWED_EXCEPTION
 import static jbse.bc.Signatures.INTERNAL_ERROR;
 import static jbse.bc.Signatures.JAVA_CALLSITE_TARGET;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -37,7 +37,7 @@ abstract class Algo_JAVA_METHODHANDLENATIVES_SETCALLSITETARGET extends Algo_INVO
 	}
 	
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 2;
 	}
 
@@ -25,7 +25,8 @@ import static jbse.common.Type.splitParametersDescriptors;
 import static jbse.common.Type.splitReturnValueDescriptor;
 
 import java.util.Arrays;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -65,7 +66,7 @@ public final class Algo_JAVA_METHODHANDLE_INVOKEBASIC extends Algo_INVOKEMETA_No
 	private Signature adapterSignature; //set by cookMore
 	
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> parametersNumber(this.data.signature().getDescriptor(), false);
 	}
 
@@ -196,12 +197,12 @@ public final class Algo_JAVA_METHODHANDLE_INVOKEBASIC extends Algo_INVOKEMETA_No
 	}
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> 0; //nothing to add to the program counter of the pushed frame
     }
 }
@@ -27,7 +27,8 @@ import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
 import static jbse.common.Type.parametersNumber;
 import static jbse.common.Type.splitParametersDescriptors;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -97,7 +98,7 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
     }
     
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> parametersNumber(this.data.signature().getDescriptor(), true);
 	}
 
@@ -109,7 +110,7 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
 		final Calculator calc = this.ctx.getCalculator();
 		try {
 			//gets the trailing MemberName
-			final Reference referenceMemberName = (Reference) this.data.operand(numOperands().get() - 1);
+			final Reference referenceMemberName = (Reference) this.data.operand(numOperands().getAsInt() - 1);
 			if (state.isNull(referenceMemberName)) {
 				throw new UndefinedResultException("Invoked method java.lang.invoke.MethodHandle.linkToVirtual with null trailing MemberName parameter.");
 			}
@@ -244,10 +245,10 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
 		            invokeClassLoaderLoadClass(state, calc, e);
 		            exitFromAlgorithm();
 				}
-    			if (numOperands().get() - 1 > formalParametersNumber) {
+    			if (numOperands().getAsInt() - 1 > formalParametersNumber) {
     				boxVarargs = true;
     			} else {
-    				final Value lastArgument = this.data.operands()[numOperands().get() - 2];
+    				final Value lastArgument = this.data.operands()[numOperands().getAsInt() - 2];
     				if (lastArgument instanceof Reference) {
     					final Reference lastArgumentRef = (Reference) lastArgument;
     					final HeapObjekt lastArgumentObj = state.getObject(lastArgumentRef);
@@ -276,7 +277,7 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
     		if (boxVarargs) {	
     			this.parameters = new Value[formalParametersNumber];
     			System.arraycopy(this.data.operands(), 0, this.parameters, 0, this.parameters.length - 1);
-    			final int arrayLength = numOperands().get() - formalParametersNumber;
+    			final int arrayLength = numOperands().getAsInt() - formalParametersNumber;
     			final ReferenceConcrete referenceVarargsArray = state.createArray(calc, null, calc.valInt(arrayLength), varargsArrayClass);
     			final Array varargsArray = (Array) state.getObject(referenceVarargsArray);
     			final int start = formalParametersNumber - 1;
@@ -285,7 +286,7 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
     			}
     			this.parameters[formalParametersNumber - 1] = referenceVarargsArray;
     		} else {
-    			this.parameters = new Value[numOperands().get() - 1];
+    			this.parameters = new Value[numOperands().getAsInt() - 1];
     			System.arraycopy(this.data.operands(), 0, this.parameters, 0, this.parameters.length);
     		}
     		
@@ -362,12 +363,12 @@ public final class Algo_JAVA_METHODHANDLE_LINKTO extends Algo_INVOKEMETA_Nonbran
 	}
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> 0; //nothing to add to the program counter of the pushed frame
     }
 }
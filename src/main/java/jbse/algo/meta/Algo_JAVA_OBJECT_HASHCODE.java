@@ -3,7 +3,7 @@ package jbse.algo.meta;
 import static jbse.algo.Util.exitFromAlgorithm;
 import static jbse.algo.Util.throwVerifyError;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -26,7 +26,7 @@ public final class Algo_JAVA_OBJECT_HASHCODE extends Algo_INVOKEMETA_Nonbranchin
     private Primitive hashCode; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
     
@@ -7,7 +7,7 @@ import static jbse.algo.Util.valueString;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
 import java.nio.file.Path;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -33,7 +33,7 @@ public final class Algo_JAVA_PACKAGE_GETSYSTEMPACKAGE0 extends Algo_INVOKEMETA_N
     private ReferenceConcrete refPathNameOfPackage; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
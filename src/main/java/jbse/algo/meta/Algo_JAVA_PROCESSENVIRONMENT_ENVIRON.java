@@ -9,7 +9,7 @@ import static jbse.common.Type.BYTE;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -38,7 +38,7 @@ public final class Algo_JAVA_PROCESSENVIRONMENT_ENVIRON extends Algo_INVOKEMETA_
     private byte[][] readBytes; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
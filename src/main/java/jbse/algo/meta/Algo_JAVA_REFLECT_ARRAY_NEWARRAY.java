@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.algo.Util.continueWith;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -21,7 +21,7 @@ public final class Algo_JAVA_REFLECT_ARRAY_NEWARRAY extends Algo_INVOKEMETA_Nonb
     private final Algo_JAVA_REFLECT_ARRAY_NEWARRAY_COMPLETION algo = new Algo_JAVA_REFLECT_ARRAY_NEWARRAY_COMPLETION();
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -11,6 +11,7 @@ import static jbse.bc.Signatures.ILLEGAL_ARGUMENT_EXCEPTION;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 import static jbse.common.Type.ARRAYOF;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 import jbse.algo.Algo_XNEWARRAY;
@@ -43,7 +44,7 @@ import jbse.val.Reference;
  */
 public final class Algo_JAVA_REFLECT_ARRAY_NEWARRAY_COMPLETION extends Algo_XNEWARRAY<BytecodeData_1KME> {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -104,7 +105,7 @@ public final class Algo_JAVA_REFLECT_ARRAY_NEWARRAY_COMPLETION extends Algo_XNEW
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET;
     }
 }
@@ -5,7 +5,7 @@ import static jbse.algo.Util.exitFromAlgorithm;
 import static jbse.algo.Util.throwVerifyError;
 import static jbse.bc.Signatures.JAVA_STRING_VALUE;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -29,7 +29,7 @@ import jbse.val.ReferenceSymbolic;
  */
 public final class Algo_JAVA_STRING_HASHCODE extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -45,7 +45,11 @@ public final class Algo_JAVA_STRING_HASHCODE extends Algo_INVOKEMETA_Nonbranchin
             final Reference arrayOfCharsReference = (Reference) thisObject.getFieldValue(JAVA_STRING_VALUE);
             final boolean isSimple = ((arrayOfCharsReference instanceof ReferenceConcrete) || state.resolved((ReferenceSymbolic) arrayOfCharsReference)) && 
                                      ((Array) state.getObject(arrayOfCharsReference)).isSimple();
-            if (isSimple) {
+            final String value = (isSimple ? ((Array) state.getObject(arrayOfCharsReference)).valueString() : null);
+            if (value != null) {
+                //the content is concrete: calculates the hash code directly
+                this.hash = this.ctx.getCalculator().valInt(value.hashCode());
+            } else if (isSimple) {
                 //executes the String.hashCode implementation
                 continueWithBaseLevelImpl(state, this.isInterface, this.isSpecial, this.isStatic); 
             } else {
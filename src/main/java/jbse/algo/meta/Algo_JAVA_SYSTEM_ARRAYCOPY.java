@@ -10,7 +10,8 @@ import static jbse.bc.Signatures.ARRAY_STORE_EXCEPTION;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
 import java.util.Iterator;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA;
 import jbse.algo.BytecodeCooker;
@@ -29,6 +30,7 @@ import jbse.val.Calculator;
 import jbse.val.Null;
 import jbse.val.Primitive;
 import jbse.val.Reference;
+import jbse.val.Simplex;
 import jbse.val.exc.InvalidOperandException;
 import jbse.val.exc.InvalidTypeException;
 
@@ -46,7 +48,7 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
     Primitive srcPos = null, destPos = null, length = null, inRange = null; //produced by the cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 5;
     }
 
@@ -92,6 +94,25 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
                 exitFromAlgorithm();
             }
 
+            if (this.srcPos instanceof Simplex && this.destPos instanceof Simplex && this.length instanceof Simplex &&
+                srcArray.getLength() instanceof Simplex && destArray.getLength() instanceof Simplex) {
+                //all concrete: checks the bounds without building expressions
+                try {
+                    final long srcPosValue = ((Integer) ((Simplex) this.srcPos).getActualValue()).longValue();
+                    final long destPosValue = ((Integer) ((Simplex) this.destPos).getActualValue()).longValue();
+                    final long lengthValue = ((Integer) ((Simplex) this.length).getActualValue()).longValue();
+                    final long srcLengthValue = ((Integer) ((Simplex) srcArray.getLength()).getActualValue()).longValue();
+                    final long destLengthValue = ((Integer) ((Simplex) destArray.getLength()).getActualValue()).longValue();
+                    this.inRange = calc.valBoolean(srcPosValue >= 0 && destPosValue >= 0 && lengthValue >= 0 &&
+                                                   srcPosValue + lengthValue <= srcLengthValue &&
+                                                   destPosValue + lengthValue <= destLengthValue);
+                } catch (ClassCastException e) {
+                    throwVerifyError(state, calc);
+                    exitFromAlgorithm();
+                }
+                return;
+            }
+
             final Primitive zero = calc.valInt(0);
             try {
                 this.inRange = calc.push(this.srcPos).ge(zero)
@@ -188,12 +209,12 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET;
     }
 }
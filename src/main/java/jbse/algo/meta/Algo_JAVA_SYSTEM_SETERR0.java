@@ -4,7 +4,7 @@ import static jbse.algo.Util.failExecution;
 import static jbse.bc.Signatures.JAVA_SYSTEM;
 import static jbse.bc.Signatures.JAVA_SYSTEM_ERR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -31,7 +31,7 @@ public final class Algo_JAVA_SYSTEM_SETERR0 extends Algo_INVOKEMETA_Nonbranching
     private Klass k; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
     
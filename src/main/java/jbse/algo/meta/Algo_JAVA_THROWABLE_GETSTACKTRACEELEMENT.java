@@ -6,7 +6,7 @@ import static jbse.algo.Util.throwNew;
 import static jbse.bc.Signatures.INDEX_OUT_OF_BOUNDS_EXCEPTION;
 import static jbse.bc.Signatures.JAVA_THROWABLE_BACKTRACE;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -32,7 +32,7 @@ public final class Algo_JAVA_THROWABLE_GETSTACKTRACEELEMENT extends Algo_INVOKEM
     private Array backtrace; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -13,7 +13,7 @@ import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -38,7 +38,7 @@ public final class Algo_JAVA_WINNTFILESYSTEM_CANONICALIZEWITHPREFIX0 extends Alg
     private ReferenceConcrete toPush; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
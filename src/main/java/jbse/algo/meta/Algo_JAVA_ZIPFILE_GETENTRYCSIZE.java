@@ -8,7 +8,7 @@ import static jbse.common.Type.internalClassName;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 import java.util.zip.ZipFile;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
@@ -33,7 +33,7 @@ public final class Algo_JAVA_ZIPFILE_GETENTRYCSIZE extends Algo_INVOKEMETA_Nonbr
     private Simplex toPush; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
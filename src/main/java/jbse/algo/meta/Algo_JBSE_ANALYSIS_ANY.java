@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.common.Type.INT;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -18,7 +18,7 @@ import jbse.tree.DecisionAlternative_NONE;
  */
 public final class Algo_JBSE_ANALYSIS_ANY extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
@@ -1,6 +1,6 @@
 package jbse.algo.meta;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -9,7 +9,7 @@ import jbse.tree.DecisionAlternative_NONE;
 
 public final class Algo_JBSE_ANALYSIS_FAIL extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
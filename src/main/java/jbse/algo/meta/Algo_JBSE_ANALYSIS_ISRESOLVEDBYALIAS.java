@@ -5,7 +5,7 @@ import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.throwVerifyError;
 import static jbse.mem.Util.isResolved;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -26,7 +26,7 @@ public final class Algo_JBSE_ANALYSIS_ISRESOLVEDBYALIAS extends Algo_INVOKEMETA_
     private Simplex retVal; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
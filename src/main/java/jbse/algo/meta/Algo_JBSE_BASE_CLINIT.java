@@ -58,7 +58,7 @@ import static jbse.bc.Signatures.JBSE_BASE_USER_TIMEZONE;
 import static jbse.bc.Signatures.JBSE_BASE_USER_VARIANT;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -148,7 +148,7 @@ public final class Algo_JBSE_BASE_CLINIT extends Algo_INVOKEMETA_Nonbranching {
     private static final String SUN_DESKTOP             = System.getProperty("sun.desktop");
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
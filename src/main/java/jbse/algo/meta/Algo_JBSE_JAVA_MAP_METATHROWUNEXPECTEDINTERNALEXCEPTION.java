@@ -5,7 +5,7 @@ import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.throwVerifyError;
 import static jbse.algo.Util.valueString;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -28,7 +28,7 @@ import jbse.val.Reference;
  */
 public final class Algo_JBSE_JAVA_MAP_METATHROWUNEXPECTEDINTERNALEXCEPTION extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
@@ -4,7 +4,7 @@ import static jbse.algo.Util.failExecution;
 import static jbse.bc.Signatures.JAVA_HASHMAP;
 import static jbse.common.Type.binaryClassName;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -28,7 +28,7 @@ import jbse.val.Value;
  */
 public final class Algo_JBSE_JAVA_MAP_NOTIFYMETHODEXECUTION extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
 
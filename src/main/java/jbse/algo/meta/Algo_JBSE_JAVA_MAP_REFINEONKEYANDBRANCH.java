@@ -10,7 +10,8 @@ import static jbse.bc.Signatures.JBSE_JAVA_MAP_REFINEOUTKEY;
 import static jbse.common.Type.BOOLEAN;
 import static jbse.common.Type.INT;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA;
 import jbse.algo.BytecodeCooker;
@@ -46,7 +47,7 @@ StrategyUpdate<DecisionAlternative_IFX>> {
 	private Primitive keyIn, keyOut;
 	
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -133,12 +134,12 @@ StrategyUpdate<DecisionAlternative_IFX>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true; //irrelevant
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET; //irrelevant
     }
 }
@@ -10,7 +10,8 @@ import static jbse.bc.Signatures.JBSE_JAVA_MAP_REFINEOUTKEY;
 import static jbse.common.Type.BOOLEAN;
 import static jbse.common.Type.INT;
 
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA;
 import jbse.algo.BytecodeCooker;
@@ -52,7 +53,7 @@ StrategyUpdate<DecisionAlternative_JAVA_MAP>> {
 	private Primitive[] keyPredicates;
 	
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -184,12 +185,12 @@ StrategyUpdate<DecisionAlternative_JAVA_MAP>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true; //irrelevant
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET; //irrelevant
     }
 }
@@ -8,7 +8,7 @@ import static jbse.bc.Signatures.ILLEGAL_ARGUMENT_EXCEPTION;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 import static jbse.bc.Signatures.SUN_CONSTANTPOOL_CONSTANTPOOLOOP;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -40,7 +40,7 @@ public final class Algo_SUN_CONSTANTPOOL_GETUTF8AT0 extends Algo_INVOKEMETA_Nonb
     private String value;
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
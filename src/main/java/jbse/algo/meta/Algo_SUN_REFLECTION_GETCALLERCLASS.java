@@ -7,7 +7,7 @@ import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
 import java.util.List;
 import java.util.ListIterator;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -26,7 +26,7 @@ public final class Algo_SUN_REFLECTION_GETCALLERCLASS extends Algo_INVOKEMETA_No
     private Reference classRef; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 0;
     }
 
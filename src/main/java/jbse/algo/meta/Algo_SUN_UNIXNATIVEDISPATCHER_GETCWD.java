@@ -11,7 +11,7 @@ import static jbse.common.Type.BYTE;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -44,7 +44,7 @@ public final class Algo_SUN_UNIXNATIVEDISPATCHER_GETCWD extends Algo_INVOKEMETA_
 	private ReferenceConcrete cwd; //set by cookMore
 	
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 0;
 	}
 	
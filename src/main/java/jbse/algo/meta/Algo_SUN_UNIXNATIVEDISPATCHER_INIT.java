@@ -5,7 +5,7 @@ import static jbse.bc.Signatures.SUN_UNIXNATIVEDISPATCHER;
 import static jbse.common.Type.binaryClassName;
 
 import java.lang.reflect.Field;
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -22,7 +22,7 @@ public final class Algo_SUN_UNIXNATIVEDISPATCHER_INIT extends Algo_INVOKEMETA_No
 	private Simplex capabilities; //set by cookMore
 	
 	@Override
-	protected Supplier<Integer> numOperands() {
+	protected IntSupplier numOperands() {
 		return () -> 0;
 	}
 	
@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.common.Util.unsafe;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -15,7 +15,7 @@ import jbse.tree.DecisionAlternative_NONE;
  */
 public final class Algo_SUN_UNSAFE_ADDRESSSIZE extends Algo_INVOKEMETA_Nonbranching {
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 1;
     }
     
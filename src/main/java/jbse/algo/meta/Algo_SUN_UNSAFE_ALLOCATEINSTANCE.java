@@ -6,7 +6,7 @@ import static jbse.algo.Util.throwNew;
 import static jbse.bc.Signatures.INSTANTIATION_EXCEPTION;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -32,7 +32,7 @@ public final class Algo_SUN_UNSAFE_ALLOCATEINSTANCE extends Algo_INVOKEMETA_Nonb
     private ClassFile classFile; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
     
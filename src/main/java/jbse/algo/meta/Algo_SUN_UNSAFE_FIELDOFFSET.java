@@ -13,7 +13,7 @@ import static jbse.bc.Signatures.JAVA_FIELD_SLOT;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 import static jbse.common.Type.LONG;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -46,7 +46,7 @@ abstract class Algo_SUN_UNSAFE_FIELDOFFSET extends Algo_INVOKEMETA_Nonbranching
 	}
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
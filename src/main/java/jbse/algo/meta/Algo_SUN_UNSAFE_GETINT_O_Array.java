@@ -19,7 +19,8 @@ import static jbse.common.Type.isPrimitiveOpStack;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA;
 import jbse.algo.BytecodeCooker;
@@ -83,7 +84,7 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
     private Simplex index; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
@@ -254,7 +255,7 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
                 //manages triggers
                 try {
                     final boolean someTriggerFrameLoaded = 
-                        Algo_SUN_UNSAFE_GETINT_O_Array.this.ctx.triggerManager.loadTriggerFrames(state, calc, altResolved, Algo_SUN_UNSAFE_GETINT_O_Array.this.programCounterUpdate.get());
+                        Algo_SUN_UNSAFE_GETINT_O_Array.this.ctx.triggerManager.loadTriggerFrames(state, calc, altResolved, Algo_SUN_UNSAFE_GETINT_O_Array.this.programCounterUpdate.getAsInt());
                     if (someTriggerFrameLoaded) {
                         exitFromAlgorithm();
                     }
@@ -276,12 +277,12 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET;
     }
 }
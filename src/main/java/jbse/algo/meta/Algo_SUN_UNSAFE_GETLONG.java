@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.common.Util.unsafe;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.StrategyUpdate;
@@ -20,7 +20,7 @@ public final class Algo_SUN_UNSAFE_GETLONG extends Algo_INVOKEMETA_Nonbranching
     private long value; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
     
@@ -6,7 +6,7 @@ import static jbse.algo.Util.throwVerifyError;
 import static jbse.common.Type.NULLREF;
 import static jbse.common.Type.REFERENCE;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -41,7 +41,7 @@ public final class Algo_SUN_UNSAFE_GETOBJECT_O extends Algo_INVOKEMETA_Nonbranch
     private Value read; //set by cookMore
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
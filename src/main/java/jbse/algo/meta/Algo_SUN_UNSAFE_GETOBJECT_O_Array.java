@@ -20,7 +20,8 @@ import static jbse.common.Type.isPrimitiveOpStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA;
 import jbse.algo.BytecodeCooker;
@@ -84,7 +85,7 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
     private Simplex index; //set by cooker
 
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 3;
     }
 
@@ -257,7 +258,7 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
                 //manages triggers
                 try {
                     final boolean someTriggerFrameLoaded = 
-                        Algo_SUN_UNSAFE_GETOBJECT_O_Array.this.ctx.triggerManager.loadTriggerFrames(state, calc, altResolved, Algo_SUN_UNSAFE_GETOBJECT_O_Array.this.programCounterUpdate.get());
+                        Algo_SUN_UNSAFE_GETOBJECT_O_Array.this.ctx.triggerManager.loadTriggerFrames(state, calc, altResolved, Algo_SUN_UNSAFE_GETOBJECT_O_Array.this.programCounterUpdate.getAsInt());
                     if (someTriggerFrameLoaded) {
                         exitFromAlgorithm();
                     }
@@ -279,12 +280,12 @@ StrategyUpdate<DecisionAlternative_XALOAD>> {
     }
 
     @Override
-    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+    protected BooleanSupplier isProgramCounterUpdateAnOffset() {
         return () -> true;
     }
 
     @Override
-    protected Supplier<Integer> programCounterUpdate() {
+    protected IntSupplier programCounterUpdate() {
         return () -> INVOKESPECIALSTATICVIRTUAL_OFFSET;
     }
 }
@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.algo.Util.continueWith;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -33,7 +33,7 @@ public final class Algo_SUN_UNSAFE_PUTINT_O extends Algo_INVOKEMETA_Nonbranching
 	private int ofst;
 	
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 4;
     }
     
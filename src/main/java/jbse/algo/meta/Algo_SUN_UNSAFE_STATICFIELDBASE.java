@@ -9,7 +9,7 @@ import static jbse.bc.Signatures.JAVA_FIELD_CLAZZ;
 import static jbse.bc.Signatures.JAVA_FIELD_MODIFIERS;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.InterruptException;
@@ -36,7 +36,7 @@ public final class Algo_SUN_UNSAFE_STATICFIELDBASE extends Algo_INVOKEMETA_Nonbr
 	private Reference base; //set by cookMore
 	
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
 
@@ -2,7 +2,7 @@ package jbse.algo.meta;
 
 import static jbse.algo.Util.failExecution;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -31,7 +31,7 @@ public final class Algo_noclass_REGISTERLOADEDCLASS extends Algo_INVOKEMETA_Nonb
     private ClassFile classFile; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 2;
     }
     
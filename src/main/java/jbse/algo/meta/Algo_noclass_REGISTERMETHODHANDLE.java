@@ -3,7 +3,7 @@ package jbse.algo.meta;
 import static jbse.algo.Util.failExecution;
 import static jbse.algo.Util.valueString;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -42,7 +42,7 @@ public final class Algo_noclass_REGISTERMETHODHANDLE extends Algo_INVOKEMETA_Non
     private String name; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 5;
     }
     
@@ -1,7 +1,7 @@
 package jbse.algo.meta;
 
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -43,7 +43,7 @@ public final class Algo_noclass_STORELINKEDCALLSITEADAPTERANDAPPENDIX extends Al
     private int programCounter; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 6;
     }
     
@@ -5,7 +5,7 @@ import static jbse.algo.Util.valueString;
 import static jbse.bc.Signatures.JAVA_METHODHANDLE;
 import static jbse.bc.Signatures.JAVA_METHODTYPE_METHODDESCRIPTOR;
 
-import java.util.function.Supplier;
+import java.util.function.IntSupplier;
 
 import jbse.algo.Algo_INVOKEMETA_Nonbranching;
 import jbse.algo.Algorithm;
@@ -41,7 +41,7 @@ public final class Algo_noclass_STORELINKEDMETHODADAPTERANDAPPENDIX extends Algo
     private Signature methodSignature; //set by cookMore
     
     @Override
-    protected Supplier<Integer> numOperands() {
+    protected IntSupplier numOperands() {
         return () -> 4;
     }
     
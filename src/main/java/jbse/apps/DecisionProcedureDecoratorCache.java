@@ -0,0 +1,766 @@
+package jbse.apps;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jbse.bc.ClassFile;
+import jbse.common.exc.InvalidInputException;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.dec.DecisionProcedure;
+import jbse.dec.DecisionProcedureDecorator;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.mem.ClauseAssumeAliases;
+import jbse.mem.ClauseAssumeClassInitialized;
+import jbse.mem.ClauseAssumeClassNotInitialized;
+import jbse.mem.ClauseAssumeExpands;
+import jbse.mem.ClauseAssumeNull;
+import jbse.mem.ClauseAssumeReferenceSymbolic;
+import jbse.mem.Objekt;
+import jbse.val.Any;
+import jbse.val.Expression;
+import jbse.val.NarrowingConversion;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolicApply;
+import jbse.val.PrimitiveSymbolicAtomic;
+import jbse.val.PrimitiveVisitor;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.Simplex;
+import jbse.val.Symbolic;
+import jbse.val.Term;
+import jbse.val.Value;
+import jbse.val.WideningConversion;
+
+/**
+ * A {@link DecisionProcedureDecorator} that caches the answers of
+ * its component to the satisfiability queries. The answers to
+ * {@link #isSat(Expression)} are keyed by the query and by the slice
+ * of the current assumptions that (transitively) share a symbol with
+ * the query, plus the assumptions on the references the symbols
+ * in the slice originate from: Since the current assumptions are 
+ * satisfiable, the other assumptions cannot affect the answer. 
+ * This assumes that the component decides numeric queries based 
+ * on the numeric assumptions and on the assumptions on the 
+ * references only. The answers to all the other queries are
+ * keyed by the query and by all the current assumptions. Queries
+ * and assumptions are rendered with the symbols identified by their
+ * origins, rather than by their identifiers, so that the keys do
+ * not depend on the order the symbols were created in. The
+ * assumptions are hashed in canonical form, i.e., as the
+ * sorted list of the renderings of the clauses in the slice for 
+ * numeric queries, and as the sequence of the renderings 
+ * of all the clauses for the other queries. The cache has bounded 
+ * size and evicts the least recently used entries; optionally, 
+ * it can be saved on a file and reused in later runs of the same 
+ * method.
+ */
+public class DecisionProcedureDecoratorCache extends DecisionProcedureDecorator {
+    private static final String CACHE_FILE_HEADER = "#JBSE decision procedure cache";
+    private static final char CACHE_FILE_SAT = 'T';
+    private static final char CACHE_FILE_UNSAT = 'F';
+    private static final char SEPARATOR = '\u0000';
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long POLY_OFFSET = 0x9e3779b97f4a7c15L;
+    private static final long POLY_PRIME = 1000003L;
+
+    /**
+     * Information about a current assumption, with the hashes
+     * of the current assumptions up to it.
+     */
+    private static final class ClauseInfo {
+        final Clause clause;
+        final String text;
+        /** The symbols in the clause, or {@code null} if it is not a {@link ClauseAssume}. */
+        final HashSet<Object> symbols;
+        /** The reference in the clause, or {@code null} if it is not a {@link ClauseAssumeReferenceSymbolic}. */
+        final ReferenceSymbolic reference;
+        final long prefixHashFnv;
+        final long prefixHashPoly;
+
+        ClauseInfo(Clause clause, ClauseInfo previous) {
+            this.clause = clause;
+            this.text = key(clause);
+            if (clause instanceof ClauseAssume) {
+                this.symbols = new HashSet<>();
+                final SymbolCollector collector = new SymbolCollector(this.symbols);
+                try {
+                    ((ClauseAssume) clause).getCondition().accept(collector);
+                } catch (Exception e) {
+                    //this should never happen
+                    throw new UnexpectedInternalException(e);
+                }
+            } else {
+                this.symbols = null;
+            }
+            this.reference = (clause instanceof ClauseAssumeReferenceSymbolic ? ((ClauseAssumeReferenceSymbolic) clause).getReference() : null);
+            this.prefixHashFnv = hashFnv((previous == null ? FNV_OFFSET : previous.prefixHashFnv), this.text);
+            this.prefixHashPoly = hashPoly((previous == null ? POLY_OFFSET : previous.prefixHashPoly), this.text);
+        }
+    }
+
+    /** Collects the symbols in a {@link Primitive}. */
+    private static final class SymbolCollector implements PrimitiveVisitor {
+        private final HashSet<Object> symbols;
+
+        SymbolCollector(HashSet<Object> symbols) {
+            this.symbols = symbols;
+        }
+
+        @Override
+        public void visitAny(Any x) {
+            //nothing to collect
+        }
+
+        @Override
+        public void visitExpression(Expression e) throws Exception {
+            if (e.isUnary()) {
+                e.getOperand().accept(this);
+            } else {
+                e.getFirstOperand().accept(this);
+                e.getSecondOperand().accept(this);
+            }
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicApply(PrimitiveSymbolicApply x) throws Exception {
+            for (Value arg : x.getArgs()) {
+                if (arg instanceof Primitive) {
+                    ((Primitive) arg).accept(this);
+                } else if (arg instanceof ReferenceSymbolic) {
+                    this.symbols.add(arg);
+                } //else, do nothing
+            }
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicAtomic(PrimitiveSymbolicAtomic s) {
+            this.symbols.add(s);
+        }
+
+        @Override
+        public void visitSimplex(Simplex x) {
+            //nothing to collect
+        }
+
+        @Override
+        public void visitTerm(Term x) {
+            this.symbols.add(x);
+        }
+
+        @Override
+        public void visitNarrowingConversion(NarrowingConversion x) throws Exception {
+            x.getArg().accept(this);
+        }
+
+        @Override
+        public void visitWideningConversion(WideningConversion x) throws Exception {
+            x.getArg().accept(this);
+        }
+    }
+
+    /** 
+     * Renders a {@link Primitive} as a key, fully parenthesized and
+     * with the symbols identified by their origins. 
+     */
+    private static final class KeyFormatter implements PrimitiveVisitor {
+        private final StringBuilder buf = new StringBuilder();
+
+        @Override
+        public void visitAny(Any x) {
+            this.buf.append(x.toString());
+        }
+
+        @Override
+        public void visitExpression(Expression e) throws Exception {
+            this.buf.append('(');
+            if (!e.isUnary()) {
+                e.getFirstOperand().accept(this);
+                this.buf.append(' ');
+            }
+            this.buf.append(e.getOperator().toString()).append(' ');
+            e.getSecondOperand().accept(this);
+            this.buf.append(')');
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicApply(PrimitiveSymbolicApply x) throws Exception {
+            this.buf.append(x.getType()).append(x.getOperator()).append('(');
+            boolean first = true;
+            for (Value arg : x.getArgs()) {
+                this.buf.append(first ? "" : ",");
+                if (arg instanceof Primitive) {
+                    ((Primitive) arg).accept(this);
+                } else if (arg instanceof Symbolic) {
+                    this.buf.append('{').append(((Symbolic) arg).asOriginString()).append('}');
+                } else {
+                    this.buf.append(arg.toString());
+                }
+                first = false;
+            }
+            this.buf.append(')');
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicAtomic(PrimitiveSymbolicAtomic s) {
+            this.buf.append(s.getType()).append('{').append(s.asOriginString()).append('}');
+        }
+
+        @Override
+        public void visitSimplex(Simplex x) {
+            this.buf.append(x.getType()).append(x.toString());
+        }
+
+        @Override
+        public void visitTerm(Term x) {
+            this.buf.append(x.getType()).append('[').append(x.toString()).append(']');
+        }
+
+        @Override
+        public void visitNarrowingConversion(NarrowingConversion x) throws Exception {
+            this.buf.append("NARROW-").append(x.getType()).append('(');
+            x.getArg().accept(this);
+            this.buf.append(')');
+        }
+
+        @Override
+        public void visitWideningConversion(WideningConversion x) throws Exception {
+            this.buf.append("WIDEN-").append(x.getType()).append('(');
+            x.getArg().accept(this);
+            this.buf.append(')');
+        }
+    }
+
+    /** The maximum number of cached answers. */
+    private final int capacity;
+
+    /** The file where the cache is saved, or {@code null}. */
+    private final Path cacheFile;
+
+    /**
+     * Identifies the runs that may share the cache file, e.g.,
+     * the signature of the method under analysis.
+     */
+    private final String context;
+
+    /** The cache, in access order. */
+    private final LinkedHashMap<String, Boolean> cache;
+
+    /** The current assumptions. */
+    private final ArrayList<ClauseInfo> assumptions = new ArrayList<>();
+
+    /**
+     * Set when the current assumptions of the component are unknown
+     * (e.g., because setting them failed); the cache is not used until
+     * the assumptions are set or cleared.
+     */
+    private boolean assumptionsUnknown = false;
+
+    /** Set when the component is in fast and imprecise mode. */
+    private boolean fast = false;
+
+    /** The number of queries answered by the cache. */
+    private long hits = 0L;
+
+    /** The number of queries answered by the component. */
+    private long misses = 0L;
+
+    /**
+     * Constructor.
+     *
+     * @param component the decorated {@link DecisionProcedure}.
+     * @param capacity a positive {@code int}, the maximum number of cached answers.
+     * @param cacheFile a {@link Path}, the file where the cache is loaded from upon
+     *        construction and saved to upon {@link #close()}, or {@code null} if
+     *        the cache must not be saved.
+     * @param context a {@link String} identifying the runs that may reuse the cache
+     *        saved on {@code cacheFile}: If {@code cacheFile} was saved by a run with
+     *        a different context it is ignored.
+     * @throws InvalidInputException if {@code component == null || capacity <= 0 ||
+     *         (cacheFile != null && context == null)}.
+     */
+    public DecisionProcedureDecoratorCache(DecisionProcedure component, int capacity, Path cacheFile, String context)
+    throws InvalidInputException {
+        super(component);
+        if (capacity <= 0 || (cacheFile != null && context == null)) {
+            throw new InvalidInputException("Attempted to create a " + getClass().getName() + " with nonpositive capacity or null context.");
+        }
+        this.capacity = capacity;
+        this.cacheFile = cacheFile;
+        this.context = context;
+        this.cache = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            private static final long serialVersionUID = 3318569618264458474L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > DecisionProcedureDecoratorCache.this.capacity;
+            }
+        };
+        if (cacheFile != null) {
+            readCacheFile();
+        }
+    }
+
+    /**
+     * Returns the number of queries answered by the cache.
+     *
+     * @return a {@code long}.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of queries answered by the
+     * decorated decision procedure.
+     *
+     * @return a {@code long}.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of cached answers.
+     *
+     * @return an {@code int}.
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    @Override
+    public void goFastAndImprecise() {
+        super.goFastAndImprecise();
+        this.fast = true;
+    }
+
+    @Override
+    public void stopFastAndImprecise() {
+        super.stopFastAndImprecise();
+        this.fast = false;
+    }
+
+    @Override
+    public void pushAssumption(Clause c)
+    throws InvalidInputException, DecisionException {
+        try {
+            super.pushAssumption(c);
+        } catch (InvalidInputException | DecisionException | RuntimeException e) {
+            this.assumptionsUnknown = true;
+            throw e;
+        }
+        addAssumption(c);
+    }
+
+    @Override
+    public void clearAssumptions()
+    throws DecisionException {
+        this.assumptions.clear();
+        try {
+            super.clearAssumptions();
+        } catch (DecisionException | RuntimeException e) {
+            this.assumptionsUnknown = true;
+            throw e;
+        }
+        this.assumptionsUnknown = false;
+    }
+
+    @Override
+    public void addAssumptions(Iterable<Clause> assumptionsToAdd)
+    throws InvalidInputException, DecisionException {
+        try {
+            super.addAssumptions(assumptionsToAdd);
+        } catch (InvalidInputException | DecisionException | RuntimeException e) {
+            this.assumptionsUnknown = true;
+            throw e;
+        }
+        for (Clause c : assumptionsToAdd) {
+            addAssumption(c);
+        }
+    }
+
+    @Override
+    public void addAssumptions(Clause... assumptionsToAdd)
+    throws InvalidInputException, DecisionException {
+        try {
+            super.addAssumptions(assumptionsToAdd);
+        } catch (InvalidInputException | DecisionException | RuntimeException e) {
+            this.assumptionsUnknown = true;
+            throw e;
+        }
+        for (Clause c : assumptionsToAdd) {
+            addAssumption(c);
+        }
+    }
+
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions)
+    throws InvalidInputException, DecisionException {
+        try {
+            super.setAssumptions(newAssumptions);
+        } catch (InvalidInputException | DecisionException | RuntimeException e) {
+            this.assumptionsUnknown = true;
+            throw e;
+        }
+        //keeps the information on the common prefix
+        int common = 0;
+        for (Clause c : newAssumptions) {
+            if (common == this.assumptions.size() || this.assumptions.get(common).clause != c) {
+                break;
+            }
+            ++common;
+        }
+        this.assumptions.subList(common, this.assumptions.size()).clear();
+        int i = 0;
+        for (Clause c : newAssumptions) {
+            if (i >= common) {
+                addAssumption(c);
+            }
+            ++i;
+        }
+        this.assumptionsUnknown = false;
+    }
+
+    private void addAssumption(Clause c) {
+        final ClauseInfo last = (this.assumptions.isEmpty() ? null : this.assumptions.get(this.assumptions.size() - 1));
+        this.assumptions.add(new ClauseInfo(c, last));
+    }
+
+    @Override
+    public boolean isSat(Expression exp)
+    throws InvalidInputException, DecisionException {
+        if (exp == null || this.fast || this.assumptionsUnknown) {
+            return super.isSat(exp);
+        }
+        final String key = 'E' + key(exp) + SEPARATOR + hashSlice(exp);
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSat(exp);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public boolean isSatNull(ReferenceSymbolic r)
+    throws InvalidInputException, DecisionException {
+        if (r == null || this.fast || this.assumptionsUnknown) {
+            return super.isSatNull(r);
+        }
+        final String key = 'N' + r.asOriginString() + SEPARATOR + hashAll();
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSatNull(r);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public boolean isSatAliases(ReferenceSymbolic r, long heapPos, Objekt o)
+    throws InvalidInputException, DecisionException {
+        if (r == null || o == null || this.fast || this.assumptionsUnknown) {
+            return super.isSatAliases(r, heapPos, o);
+        }
+        final String objectKey = (o.getOrigin() == null ? "Object[" + heapPos + "]" : o.getOrigin().asOriginString());
+        final String key = 'A' + r.asOriginString() + SEPARATOR + objectKey + SEPARATOR +
+                           toString(o.getType()) + SEPARATOR + hashAll();
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSatAliases(r, heapPos, o);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public boolean isSatExpands(ReferenceSymbolic r, ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (r == null || classFile == null || this.fast || this.assumptionsUnknown) {
+            return super.isSatExpands(r, classFile);
+        }
+        final String key = 'X' + r.asOriginString() + SEPARATOR + toString(classFile) + SEPARATOR + hashAll();
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSatExpands(r, classFile);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public boolean isSatInitialized(ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (classFile == null || this.fast || this.assumptionsUnknown) {
+            return super.isSatInitialized(classFile);
+        }
+        final String key = 'I' + toString(classFile) + SEPARATOR + hashAll();
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSatInitialized(classFile);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public boolean isSatNotInitialized(ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (classFile == null || this.fast || this.assumptionsUnknown) {
+            return super.isSatNotInitialized(classFile);
+        }
+        final String key = 'U' + toString(classFile) + SEPARATOR + hashAll();
+        final Boolean cached = this.cache.get(key);
+        if (cached != null) {
+            ++this.hits;
+            return cached.booleanValue();
+        }
+        ++this.misses;
+        final boolean result = super.isSatNotInitialized(classFile);
+        this.cache.put(key, Boolean.valueOf(result));
+        return result;
+    }
+
+    @Override
+    public void close()
+    throws DecisionException {
+        if (this.cacheFile != null) {
+            writeCacheFile();
+        }
+        super.close();
+    }
+
+    private static String toString(ClassFile classFile) {
+        return classFile.getDefiningClassLoader() + ":" + classFile.getClassName();
+    }
+
+    private static String key(Primitive p) {
+        final KeyFormatter formatter = new KeyFormatter();
+        try {
+            p.accept(formatter);
+        } catch (Exception e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+        return formatter.buf.toString();
+    }
+
+    private static String key(Clause c) {
+        if (c instanceof ClauseAssume) {
+            return key(((ClauseAssume) c).getCondition());
+        } else if (c instanceof ClauseAssumeNull) {
+            return ((ClauseAssumeNull) c).getReference().asOriginString() + " == null";
+        } else if (c instanceof ClauseAssumeAliases) {
+            final ClauseAssumeAliases ca = (ClauseAssumeAliases) c;
+            return ca.getReference().asOriginString() + " == " + ca.getObjekt().getOrigin().asOriginString();
+        } else if (c instanceof ClauseAssumeExpands) {
+            final ClauseAssumeExpands ce = (ClauseAssumeExpands) c;
+            return ce.getReference().asOriginString() + " == fresh " + toString(ce.getObjekt().getType());
+        } else if (c instanceof ClauseAssumeClassInitialized) {
+            return "pre_init(" + toString(((ClauseAssumeClassInitialized) c).getClassFile()) + ")";
+        } else if (c instanceof ClauseAssumeClassNotInitialized) {
+            return "pre_not_init(" + toString(((ClauseAssumeClassNotInitialized) c).getClassFile()) + ")";
+        } else {
+            return c.toString();
+        }
+    }
+
+    /**
+     * Hashes all the current assumptions.
+     *
+     * @return a {@link String}.
+     */
+    private String hashAll() {
+        if (this.assumptions.isEmpty()) {
+            return "0";
+        }
+        final ClauseInfo last = this.assumptions.get(this.assumptions.size() - 1);
+        return this.assumptions.size() + ":" + Long.toHexString(last.prefixHashFnv) + ":" + Long.toHexString(last.prefixHashPoly);
+    }
+
+    /**
+     * Hashes the slice of the current assumptions that is
+     * relevant to a numeric query, i.e., the numeric assumptions 
+     * that transitively share a symbol with the query, and the 
+     * assumptions on the references that some symbol in them 
+     * originates from.
+     *
+     * @param exp the query.
+     * @return a {@link String}.
+     */
+    private String hashSlice(Expression exp) {
+        final HashSet<Object> symbols = new HashSet<>();
+        try {
+            exp.accept(new SymbolCollector(symbols));
+        } catch (Exception e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+
+        //computes the slice by fixpoint iteration
+        final boolean[] inSlice = new boolean[this.assumptions.size()];
+        boolean changed = !symbols.isEmpty();
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < inSlice.length; ++i) {
+                final HashSet<Object> clauseSymbols = this.assumptions.get(i).symbols;
+                if (inSlice[i] || clauseSymbols == null || Collections.disjoint(symbols, clauseSymbols)) {
+                    continue;
+                }
+                inSlice[i] = true;
+                symbols.addAll(clauseSymbols);
+                changed = true;
+            }
+        }
+
+        //adds the assumptions on the containers of the symbols
+        for (int i = 0; i < inSlice.length; ++i) {
+            final ReferenceSymbolic reference = this.assumptions.get(i).reference;
+            if (reference == null) {
+                continue;
+            }
+            for (Object symbol : symbols) {
+                if (symbol instanceof Symbolic && ((Symbolic) symbol).hasContainer(reference)) {
+                    inSlice[i] = true;
+                    break;
+                }
+            }
+        }
+
+        //canonicalizes and hashes the slice
+        final ArrayList<String> slice = new ArrayList<>();
+        for (int i = 0; i < inSlice.length; ++i) {
+            if (inSlice[i]) {
+                slice.add(this.assumptions.get(i).text);
+            }
+        }
+        Collections.sort(slice);
+        long hashFnv = FNV_OFFSET;
+        long hashPoly = POLY_OFFSET;
+        for (String text : slice) {
+            hashFnv = hashFnv(hashFnv, text);
+            hashPoly = hashPoly(hashPoly, text);
+        }
+        return slice.size() + ":" + Long.toHexString(hashFnv) + ":" + Long.toHexString(hashPoly);
+    }
+
+    private static long hashFnv(long hash, String text) {
+        long retVal = hash;
+        for (int i = 0; i < text.length(); ++i) {
+            retVal = (retVal ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (retVal ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long hashPoly(long hash, String text) {
+        long retVal = hash;
+        for (int i = 0; i < text.length(); ++i) {
+            retVal = retVal * POLY_PRIME + text.charAt(i);
+        }
+        return retVal * POLY_PRIME + SEPARATOR;
+    }
+
+    private void readCacheFile() {
+        if (!Files.isRegularFile(this.cacheFile)) {
+            return;
+        }
+        try (final BufferedReader r = Files.newBufferedReader(this.cacheFile, StandardCharsets.UTF_8)) {
+            if (!CACHE_FILE_HEADER.equals(r.readLine()) || !this.context.equals(r.readLine())) {
+                return; //not a cache file, or a cache file for a different context
+            }
+            String line;
+            while ((line = r.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final char answer = line.charAt(0);
+                if (answer == CACHE_FILE_SAT || answer == CACHE_FILE_UNSAT) {
+                    this.cache.put(line.substring(1), Boolean.valueOf(answer == CACHE_FILE_SAT));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            //the cache file is unreadable or ill-formed:
+            //the cache will just start empty
+        }
+    }
+
+    /**
+     * Writes the cache file. The file is first written aside 
+     * and then moved in place, so a reader never sees it 
+     * partially written.
+     */
+    private void writeCacheFile() {
+        if (this.context.indexOf('\n') >= 0 || this.context.indexOf('\r') >= 0) {
+            return; //cannot save it
+        }
+        Path tmpFile = null;
+        try {
+            final Path dir = this.cacheFile.toAbsolutePath().getParent();
+            tmpFile = Files.createTempFile(dir, this.cacheFile.getFileName().toString(), ".tmp");
+            writeCacheFileContent(tmpFile);
+            try {
+                Files.move(tmpFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile = null;
+        } catch (IOException e) {
+            //the cache file is just an optimization,
+            //so failing to write it is not an error
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException e) {
+                    //nothing to do
+                }
+            }
+        }
+    }
+
+    private void writeCacheFileContent(Path file) throws IOException {
+        try (final BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write(CACHE_FILE_HEADER);
+            w.newLine();
+            w.write(this.context);
+            w.newLine();
+            for (Map.Entry<String, Boolean> entry : this.cache.entrySet()) {
+                final String key = entry.getKey();
+                if (key.indexOf('\n') >= 0 || key.indexOf('\r') >= 0) {
+                    continue; //cannot save it
+                }
+                w.write((entry.getValue().booleanValue() ? CACHE_FILE_SAT : CACHE_FILE_UNSAT) + key);
+                w.newLine();
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ import jbse.algo.exc.MetaUnsupportedException;
 import jbse.algo.exc.NotYetImplementedException;
 import jbse.algo.exc.UninterpretedUnsupportedException;
 import jbse.apps.DecisionProcedureDecoratorPrint;
+import jbse.apps.DecisionProcedureDecoratorCache;
 import jbse.apps.DecisionProcedureDecoratorTimer;
 import jbse.apps.IO;
 import jbse.apps.Formatter;
@@ -49,6 +50,7 @@ import jbse.dec.exc.DecisionException;
 import jbse.jvm.Engine;
 import jbse.jvm.Runner;
 import jbse.jvm.RunnerBuilder;
+import jbse.jvm.RunnerParallel;
 import jbse.jvm.RunnerParameters;
 import jbse.jvm.exc.CannotBacktrackException;
 import jbse.jvm.exc.CannotBuildEngineException;
@@ -97,6 +99,12 @@ public final class Run {
     /** The {@link Runner} used to run the method. */
     private Runner runner = null; //TODO build run object during construction and make this final
 
+    /** 
+     * The {@link RunnerParallel} whose main worker is {@code runner},
+     * or {@code null} if the run is sequential. 
+     */
+    private RunnerParallel runnerParallel = null;
+
     /** The {@link Engine} underlying {@code runner}. */
     private Engine engine = null; //TODO build run object during construction and make this final
 
@@ -118,6 +126,9 @@ public final class Run {
     /** The {@link Timer} for the decision procedure. */
     private Timer timer = null;
 
+    /** The {@link DecisionProcedureDecoratorCache}, if the answers of the decision procedure are cached. */
+    private DecisionProcedureDecoratorCache cache = null;
+
     /** The {@link DecisionProcedureGuidance}, whenever this method is chosen for stepping the {@link Engine}. */
     private DecisionProcedureGuidance guidance = null;
 
@@ -187,6 +198,13 @@ public final class Run {
         private String endOfPathMessage;
         private PathTypes pathKind;
         private boolean mayPrint;
+        
+        /**
+         * Enables printing.
+         */
+        protected void setMayPrint() {
+            this.mayPrint = true;
+        }
 
         /**
          * Determines whether the stack size of the current state 
@@ -195,7 +213,7 @@ public final class Run {
          * @return {@code true} iff it is below the threshold.
          */
         private boolean stackSizeAcceptable() {
-            final State currentState = Run.this.engine.getCurrentState();
+            final State currentState = getEngine().getCurrentState();
             return (Run.this.parameters.getStackDepthShow() == 0 || 
                     Run.this.parameters.getStackDepthShow() > currentState.getStackSize());
         }
@@ -209,7 +227,7 @@ public final class Run {
         private boolean printAndAsk() {
             if (this.endOfPathMessage == null && this.pathKind != PathTypes.CONTRADICTORY && this.stackSizeAcceptable() && this.mayPrint) {
                 try {
-                    final State currentState = Run.this.getCurrentState();
+                    final State currentState = getEngine().getCurrentState();
                     Run.this.emitState(currentState);
                 } catch (UnexpectedInternalException e) {
                     Run.this.err(ERROR_UNEXPECTED);
@@ -360,7 +378,7 @@ public final class Run {
 
         @Override
         public boolean atStepPost() {
-            final State currentState = Run.this.engine.getCurrentState();
+            final State currentState = getEngine().getCurrentState();
             
             try {
             	if (Run.this.guidance != null) {
@@ -381,7 +399,7 @@ public final class Run {
             }
             
             //enables printing if we hit the root method execution
-            if (Run.this.engine.atInitialState()) {
+            if (getEngine().atInitialState()) {
             	this.mayPrint = true;
             }
 
@@ -415,8 +433,15 @@ public final class Run {
 
         @Override
         public boolean atPathEnd() {
+            //the workers of a parallel run share the output and the counters
+            synchronized (Run.this) {
+                return atPathEndSynchronized();
+            }
+        }
+
+        private boolean atPathEndSynchronized() {
             try {
-                final State currentState = Run.this.engine.getCurrentState();
+                final State currentState = getEngine().getCurrentState();
                 //prints the leaf state if the case
                 if (Run.this.parameters.getStepShowMode() == StepShowMode.ALL ||       //already shown
                     Run.this.parameters.getStepShowMode() == StepShowMode.SOURCE ||    //already shown
@@ -428,7 +453,7 @@ public final class Run {
                 } else {
                     //prints the refined root state for the summaries case
                     if (Run.this.parameters.getStepShowMode() == StepShowMode.SUMMARIES) {
-                        State initialRefined = Run.this.engine.getInitialState();
+                        State initialRefined = getEngine().getInitialState();
                         initialRefined.refine(currentState);
                         Run.this.emitState(initialRefined);
                         Run.this.out("\n===\n");
@@ -564,12 +589,36 @@ public final class Run {
                 }
             }
             if (Run.this.parameters.getShowWarnings()) {
-                final State currentState = Run.this.engine.getCurrentState();
+                final State currentState = getEngine().getCurrentState();
                 Run.this.log(currentState.getBranchIdentifier() +
                              (concretizable ? MSG_PATH_CONCRETIZABLE : MSG_PATH_NOT_CONCRETIZABLE));
             }
         }
     }
+    
+    /**
+     * The actions of the additional workers of a parallel run. 
+     * They start from post-initial states stolen from the other 
+     * workers, and leave the prologue, the epilogue and the 
+     * pre-initial phase statistics to the main worker.
+     */
+    private class ActionsRunWorker extends ActionsRun {
+        @Override
+        public boolean atStart() {
+            setMayPrint();
+            return false;
+        }
+        
+        @Override
+        public boolean atInitial() {
+            return false;
+        }
+        
+        @Override
+        public void atEnd() {
+            //nothing to do
+        }
+    }
 
     /**
      * Runs the method.
@@ -593,7 +642,11 @@ public final class Run {
 
         // runs
         try {
-            this.runner.run();
+            if (this.runnerParallel == null) {
+                this.runner.run();
+            } else {
+                this.runnerParallel.run();
+            }
         } catch (ClasspathException | 
                  DecisionException | CannotManageStateException | 
                  EngineStuckException | CannotBacktrackException | 
@@ -698,10 +751,21 @@ public final class Run {
             runnerParameters.setActions(new ActionsRun());
             final CalculatorRewriting calc = createCalculator();
             runnerParameters.setCalculator(calc);
-            createDecisionProcedure(calc);
+            this.decisionProcedure = createDecisionProcedure(calc, false);
             runnerParameters.setDecisionProcedure(this.decisionProcedure);
             final RunnerBuilder rb = new RunnerBuilder();
-            this.runner = rb.build(this.parameters.getRunnerParameters());
+            if (this.parameters.getNumWorkers() > 1) {
+                if (!parallelSupported()) {
+                    err(ERROR_PARALLEL_UNSUPPORTED);
+                    return 1;
+                }
+                runnerParameters.setParallel(this.parameters.getNumWorkers(), this::createWorkerDecisionProcedure);
+                runnerParameters.setWorkerActionsFactory(ActionsRunWorker::new);
+                this.runnerParallel = rb.buildParallel(runnerParameters);
+                this.runner = this.runnerParallel.getMainRunner();
+            } else {
+                this.runner = rb.build(runnerParameters);
+            }
             this.engine = rb.getEngine();
             if (this.engine == null) {
                 return 1;
@@ -868,19 +932,24 @@ public final class Run {
     }
 
     /**
-     * Creates the decision procedures in {@code this.decisionProcedure}
-     * and {@code this.decisionProcedureConcretization}. 
+     * Creates a decision procedure, and possibly the decision 
+     * procedure in {@code this.decisionProcedureConcretization}. 
      * 
      * @param calc a {@link CalculatorRewriting}.
+     * @param isWorker {@code true} iff the decision procedure is 
+     *        for an additional worker of a parallel run; in this 
+     *        case it is neither cached nor timed.
+     * @return a {@link DecisionProcedureAlgorithms}.
      * @throws CannotBuildDecisionProcedureException upon failure.
      */
-    private void createDecisionProcedure(CalculatorRewriting calc)
+    private DecisionProcedureAlgorithms createDecisionProcedure(CalculatorRewriting calc, boolean isWorker)
     throws CannotBuildDecisionProcedureException {
     	try {
     		final Path path = this.parameters.getExternalDecisionProcedurePath();       
+    		final boolean pipelined = this.parameters.getExternalDecisionProcedurePipelined();
 
     		//prints some feedback
-    		if (this.parameters.getShowInfo()) {
+    		if (this.parameters.getShowInfo() && !isWorker) {
     			if (this.parameters.getDecisionProcedureType() == DecisionProcedureType.Z3) {
     				log(MSG_TRY_Z3 + (path == null ? "default" : path.toString()) + ".");
     			} else if (this.parameters.getDecisionProcedureType() == DecisionProcedureType.CVC4) {
@@ -909,8 +978,8 @@ public final class Run {
     				z3CommandLine.add(switchChar + "smt2");
     				z3CommandLine.add(switchChar + "in");
     				z3CommandLine.add(switchChar + "t:10");
-    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, z3CommandLine);
-    				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, z3CommandLine) : null);
+    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, z3CommandLine, pipelined);
+    				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, z3CommandLine, pipelined) : null);
     			} else if (type == DecisionProcedureType.CVC4) {
     				final ArrayList<String> cvc4CommandLine = new ArrayList<>();
     				cvc4CommandLine.add(path == null ? "cvc4" : path.toString());
@@ -919,8 +988,8 @@ public final class Run {
     				cvc4CommandLine.add("--no-interactive");
     				cvc4CommandLine.add("--incremental");
     				cvc4CommandLine.add("--tlimit-per=10000");
-    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, cvc4CommandLine);
-    				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, cvc4CommandLine) : null);
+    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, cvc4CommandLine, pipelined);
+    				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, cvc4CommandLine, pipelined) : null);
     			} else {
     				core.close();
     				if (coreNumeric != null) {
@@ -957,6 +1026,17 @@ public final class Run {
     		//further wraps core with class init decision procedure
     		core = new DecisionProcedureClassInit(core, this.parameters.getClassInitRulesRepo());
 
+    		//further wraps core with cache, if required (here, because the 
+    		//answers of the outer decision procedures may depend on the heap)
+    		if (this.parameters.getDecisionProcedureCacheCapacity() > 0 && !isWorker) {
+    			final DecisionProcedureDecoratorCache cCore = 
+    			new DecisionProcedureDecoratorCache(core, this.parameters.getDecisionProcedureCacheCapacity(), 
+    			                                    this.parameters.getDecisionProcedureCacheFile(), 
+    			                                    this.parameters.getMethodSignature() + " " + type);
+    			this.cache = cCore;
+    			core = cCore;
+    		}
+
     		//further wraps core with conservative repOk decision procedure
     		if (this.parameters.getUseConservativeRepOks()) {
     			final RunnerParameters checkerParameters = this.parameters.getConcretizationDriverParameters();
@@ -975,9 +1055,11 @@ public final class Run {
     		}
 
     		//wraps with timer
-    		final DecisionProcedureDecoratorTimer tCore = new DecisionProcedureDecoratorTimer(core);
-    		this.timer = tCore;
-    		core = tCore;
+    		if (!isWorker) {
+    			final DecisionProcedureDecoratorTimer tCore = new DecisionProcedureDecoratorTimer(core);
+    			this.timer = tCore;
+    			core = tCore;
+    		}
 
     		//wraps with printer if interaction with decision procedure must be shown
     		if (this.parameters.getShowDecisionProcedureInteraction()) {
@@ -1005,8 +1087,8 @@ public final class Run {
     			core = this.guidance;
     		}
 
-    		//sets the result
-    		this.decisionProcedure = ((core instanceof DecisionProcedureAlgorithms) ? 
+    		//returns the result
+    		return ((core instanceof DecisionProcedureAlgorithms) ? 
     				(DecisionProcedureAlgorithms) core :
     					new DecisionProcedureAlgorithms(core));
     	} catch (InvalidInputException e) {
@@ -1015,6 +1097,35 @@ public final class Run {
     	}
     }
 
+    /**
+     * Creates the decision procedure of an additional worker 
+     * of a parallel run, with its own calculator.
+     * 
+     * @return a {@link DecisionProcedureAlgorithms}.
+     * @throws DecisionException upon failure.
+     */
+    private DecisionProcedureAlgorithms createWorkerDecisionProcedure() throws DecisionException {
+    	try {
+    		return createDecisionProcedure(createCalculator(), true);
+    	} catch (CannotBuildEngineException e) {
+    		throw new DecisionException(e);
+    	}
+    }
+
+    /**
+     * Checks whether the parameters can be used in a parallel run.
+     * 
+     * @return {@code true} iff the parameters require no interaction,
+     *         guidance, conservative repOks or concretization checks, 
+     *         that are tied to a single {@link Engine}.
+     */
+    private boolean parallelSupported() {
+    	return (this.parameters.getInteractionMode() == InteractionMode.NO_INTERACTION &&
+    	        !this.parameters.isGuided() &&
+    	        !this.parameters.getUseConservativeRepOks() &&
+    	        !this.parameters.getDoConcretization());
+    }
+
     /**
      * Creates the heap checker into {@code this.checker}.
      * 
@@ -1035,7 +1146,7 @@ public final class Run {
     /**
      * Emits the prologue of the symbolic execution.
      */
-    private void emitPrologue() {
+    private synchronized void emitPrologue() {
         this.formatter.cleanup();
         this.formatter.formatPrologue();
         outNoBreak(this.formatter.emit());
@@ -1048,7 +1159,7 @@ public final class Run {
      * @param isRootBranch {@code true} iff 
      *        {@code s} is at a branch point.
      */
-    private void emitState(State s) {
+    private synchronized void emitState(State s) {
         this.formatter.cleanup();
         this.formatter.formatState(s);
         outNoBreak(this.formatter.emit());
@@ -1057,7 +1168,7 @@ public final class Run {
     /**
      * Emits the epilogue of the symbolic execution.
      */
-    private void emitEpilogue() {
+    private synchronized void emitEpilogue() {
         this.formatter.cleanup();
         this.formatter.formatEpilogue();
         outNoBreak(this.formatter.emit());
@@ -1067,20 +1178,26 @@ public final class Run {
      * Prints statistics.
      */
     private void printFinalStats() {
-        final long elapsedTime = this.runner.getStopTime() - this.runner.getStartTime();
-        final long elapsedTimePreInitialPhase = (this.timestampPreInitialPhaseEnd - this.runner.getStartTime());
+        final boolean parallel = (this.runnerParallel != null);
+        final long startTime = (parallel ? this.runnerParallel.getStartTime() : this.runner.getStartTime());
+        final long stopTime = (parallel ? this.runnerParallel.getStopTime() : this.runner.getStopTime());
+        final long analyzedStates = (parallel ? this.runnerParallel.getAnalyzedStates() : this.engine.getAnalyzedStates());
+        final long pathsTotal = (parallel ? this.runnerParallel.getPathsTotal() : this.runner.getPathsTotal());
+        final long pathsOutOfScope = (parallel ? this.runnerParallel.getPathsOutOfScope() : this.runner.getPathsOutOfScope());
+        final long elapsedTime = stopTime - startTime;
+        final long elapsedTimePreInitialPhase = (this.timestampPreInitialPhaseEnd - startTime);
         final long elapsedTimeDecisionProcedure = (this.timer == null ? 0 : this.timer.getTime());
-        final long speed = this.engine.getAnalyzedStates() * 1000 / elapsedTime;
-        final long speedPostInitialPhase = (elapsedTime == elapsedTimePreInitialPhase) ? 0 : (this.engine.getAnalyzedStates() - this.preInitialStateCount) * 1000 / (elapsedTime - elapsedTimePreInitialPhase);
+        final long speed = analyzedStates * 1000 / elapsedTime;
+        final long speedPostInitialPhase = (elapsedTime == elapsedTimePreInitialPhase) ? 0 : (analyzedStates - this.preInitialStateCount) * 1000 / (elapsedTime - elapsedTimePreInitialPhase);
         final long pathsViolatingAssumptions = 
-            this.runner.getPathsTotal() -
+            pathsTotal -
             this.pathsSafe - 
             this.pathsUnsafe -
-            this.runner.getPathsOutOfScope() -
+            pathsOutOfScope -
             this.pathsUnmanageable;
-        log(MSG_END_STATES + this.engine.getAnalyzedStates() + ", " +
+        log(MSG_END_STATES + analyzedStates + ", " +
         	MSG_END_STATES_PREINITIAL + this.preInitialStateCount + ", " +
-            MSG_END_PATHS_TOT + this.runner.getPathsTotal() + ", " +
+            MSG_END_PATHS_TOT + pathsTotal + ", " +
             MSG_END_PATHS_SAFE + this.pathsSafe + 
             (Run.this.parameters.getDoConcretization() ? 
              " (" + this.pathsConcretizableSafe + " concretizable)" :
@@ -1091,7 +1208,7 @@ public final class Run {
              " (" + this.pathsConcretizableUnsafe + " concretizable)" :
              "") +
             ", " +
-            MSG_END_PATHS_OUT_OF_SCOPE + this.runner.getPathsOutOfScope() +
+            MSG_END_PATHS_OUT_OF_SCOPE + pathsOutOfScope +
             (Run.this.parameters.getDoConcretization() ? 
              " (" + this.pathsConcretizableOutOfScope + " concretizable)" :  
              "") +
@@ -1109,6 +1226,10 @@ public final class Run {
             (this.timer == null ? 
              "." :
              ", " + MSG_END_DECISION + Util.formatTime(elapsedTimeDecisionProcedure) + " (" + Util.formatTimePercent(elapsedTimeDecisionProcedure, elapsedTime) + " of total)."));
+        if (this.cache != null) {
+            log(MSG_END_CACHE_HITS + this.cache.getHits() + ", " +
+                MSG_END_CACHE_MISSES + this.cache.getMisses() + ".");
+        }
     }
 
     /**
@@ -1132,8 +1253,11 @@ public final class Run {
             }
         }
 
-        // quits the engine
+        // quits the engines
         try {
+            if (this.runnerParallel != null) {
+                this.runnerParallel.closeWorkers();
+            }
             this.engine.close();
         } catch (DecisionException e) {
             err(ERROR_ENGINE_QUIT_DECISION_PROCEDURE);
@@ -1208,6 +1332,12 @@ public final class Run {
     /** Message: elapsed time in the decision procedure. */
     private static final String MSG_END_DECISION = "Elapsed time in decision procedure: ";
 
+    /** Message: decision procedure cache hits. */
+    private static final String MSG_END_CACHE_HITS = "Decision procedure cache hits: ";
+
+    /** Message: decision procedure cache misses. */
+    private static final String MSG_END_CACHE_MISSES = "misses: ";
+
     /** Message: average speed. */
     private static final String MSG_END_SPEED = "Average speed: ";
 
@@ -1284,6 +1414,9 @@ public final class Run {
     /** Error: unrecognized guidance decision procedure type. */
     private static final String ERROR_DECISION_PROCEDURE_GUIDANCE_UNRECOGNIZED = "Unrecognized guidance decision procedure type ";
 
+    /** Error: parameters not supported by a parallel run. */
+    private static final String ERROR_PARALLEL_UNSUPPORTED = "A parallel run does not support interaction, guidance, conservative repOks or concretization checks.";
+
     /** Error: failed building symbolic executor. */
     private static final String ERROR_BUILD_FAILED = "Failed construction of symbolic executor, cause: ";
 
@@ -29,6 +29,7 @@ import jbse.jvm.EngineParameters;
 import jbse.jvm.ExecutionObserver;
 import jbse.jvm.RunnerParameters;
 import jbse.jvm.EngineParameters.BreadthMode;
+import jbse.jvm.EngineParameters.SearchStrategy;
 import jbse.jvm.EngineParameters.StateIdentificationMode;
 import jbse.mem.State;
 import jbse.rewr.CalculatorRewriting;
@@ -317,6 +318,25 @@ public final class RunParameters implements Cloneable {
     /** The {@link Path} where the executable of the external decision procedure is. */
     private Path externalDecisionProcedurePath = null;
 
+    /** 
+     * Whether the interaction with the external decision 
+     * procedure is pipelined. 
+     */
+    private boolean externalDecisionProcedurePipelined = true;
+
+    /** 
+     * The maximum number of answers cached by the decision 
+     * procedure, or {@code 0} if the answers must not be cached. 
+     */
+    private int decisionProcedureCacheCapacity = 0;
+
+    /** 
+     * The {@link Path} of the file where the answers cached by 
+     * the decision procedure are saved, or {@code null} if they
+     * must not be saved. 
+     */
+    private Path decisionProcedureCacheFile = null;
+
     /** 
      * Whether the engine should use its sign analysis 
      * decision support.
@@ -438,6 +458,9 @@ public final class RunParameters implements Cloneable {
     
     /** The number of hits when guided == true. */
     private int numberOfHits = 1;
+    
+    /** The number of the workers that explore the tree in parallel. */
+    private int numWorkers = 1;
 
     /**
      * Constructor.
@@ -510,6 +533,27 @@ public final class RunParameters implements Cloneable {
         return this.runnerParameters.getBreadthMode();
     }
 
+    /**
+     * Sets the search strategy, i.e., the order in which
+     * the pending states will be explored.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        this.runnerParameters.setSearchStrategy(searchStrategy);
+    }
+
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.runnerParameters.getSearchStrategy();
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -637,6 +681,60 @@ public final class RunParameters implements Cloneable {
     	return this.runnerParameters.getJBSELibPath();
     }
 
+    /**
+     * Sets the file where the index of the jar files in the 
+     * classpath is saved, to be reused across runs. 
+     * 
+     * @param classpathIndexFile a {@link Path}.
+     * @throws NullPointerException if {@code classpathIndexFile == null}.
+     */
+    public void setClasspathIndexFile(Path classpathIndexFile) {
+    	this.runnerParameters.setClasspathIndexFile(classpathIndexFile);
+    }
+
+    /**
+     * Sets that the index of the jar files in the 
+     * classpath must not be saved (default).
+     */
+    public void setClasspathIndexFileNone() {
+    	this.runnerParameters.setClasspathIndexFileNone();
+    }
+
+    /**
+     * Gets the file where the index of the jar files in 
+     * the classpath is saved.
+     * 
+     * @return a {@link Path}, or {@code null} if the index
+     *         is not saved.
+     */
+    public Path getClasspathIndexFile() {
+    	return this.runnerParameters.getClasspathIndexFile();
+    }
+
+    /**
+     * Sets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand, in addition to 
+     * the classes in the expansion backdoor. By default
+     * it is not scanned.
+     * 
+     * @param classpathSubclassIndex a {@code boolean}.
+     */
+    public void setClasspathSubclassIndex(boolean classpathSubclassIndex) {
+    	this.runnerParameters.setClasspathSubclassIndex(classpathSubclassIndex);
+    }
+
+    /**
+     * Gets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getClasspathSubclassIndex() {
+    	return this.runnerParameters.getClasspathSubclassIndex();
+    }
+
     /**
      * Sets the Java home, and cancels the effect 
      * of any previous call to {@link #setStartingState(State)}.
@@ -1152,6 +1250,90 @@ public final class RunParameters implements Cloneable {
         return this.runnerParameters.getMaxHeapSize();
     }
     
+    /**
+     * Sets the memory budget for the pending states. If 
+     * the memory retained in the tenured heap pools (shared by
+     * all the workers of a parallel run)
+     * exceeds the budget, the pending states that would
+     * be explored last are released, and the subtrees
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * budget is unlimited.
+     * 
+     * @param memoryBudget a {@code long}, the budget in 
+     *        bytes ({@code <= 0} means unlimited).
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        this.runnerParameters.setMemoryBudget(memoryBudget);
+    }
+    
+    /**
+     * Returns the memory budget for the pending states.
+     * 
+     * @return a {@code long}, the budget in bytes 
+     *         ({@code <= 0} means unlimited).
+     */
+    public long getMemoryBudget() {
+        return this.runnerParameters.getMemoryBudget();
+    }
+    
+    /**
+     * Sets the maximum number of pending states kept in 
+     * memory. The pending states beyond it that would be 
+     * explored last are released, their branch identifiers
+     * are spilled to a temporary file, and the subtrees 
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * number of pending states is unlimited.
+     * 
+     * @param pendingStatesWindow an {@code int}, the maximum
+     *        number of pending states ({@code <= 0} means unlimited).
+     */
+    public void setPendingStatesWindow(int pendingStatesWindow) {
+        this.runnerParameters.setPendingStatesWindow(pendingStatesWindow);
+    }
+    
+    /**
+     * Returns the maximum number of pending states kept in memory.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states ({@code <= 0} means unlimited).
+     */
+    public int getPendingStatesWindow() {
+        return this.runnerParameters.getPendingStatesWindow();
+    }
+    
+    /**
+     * Sets the number of workers that explore the symbolic 
+     * execution tree in parallel, each with its own engine, 
+     * decision procedure and thread (see {@link jbse.jvm.RunnerParallel}). 
+     * A parallel run does not support interaction, guidance, 
+     * conservative repOks and concretization checks; only the 
+     * main worker caches and times the decision procedure, and 
+     * the states of the different workers are output in no 
+     * specific order.
+     * By default the run is sequential (one worker).
+     * 
+     * @param numWorkers an {@code int}, the number of workers.
+     * @throws IllegalArgumentException if {@code numWorkers < 1}.
+     */
+    public void setParallel(int numWorkers) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.numWorkers = numWorkers;
+    }
+    
+    /**
+     * Returns the number of workers that explore the symbolic 
+     * execution tree in parallel.
+     * 
+     * @return a positive {@code int}, {@code 1} if the run is sequential.
+     */
+    public int getNumWorkers() {
+        return this.numWorkers;
+    }
+    
     /**
      * Sets whether the classes created during
      * the pre-initialization phase shall be (pedantically)
@@ -1201,6 +1383,33 @@ public final class RunParameters implements Cloneable {
     	return this.runnerParameters.getUseHashMapModel();
     }
 
+    /**
+     * Sets whether the initial state must be cached. If set, and no
+     * starting state is set, the symbolic execution starts 
+     * from the state at the end of the bootstrap (before the 
+     * root method is invoked) in the {@link jbse.jvm.InitialStateCache},
+     * stored by a previous symbolic execution in the same JVM 
+     * with the same classpath, parameters, and classes of the
+     * root method and of its parameters; if there is no such 
+     * state, the symbolic execution stores its own bootstrap 
+     * state in the {@link jbse.jvm.InitialStateCache} upon reaching it. 
+     * The cache is not saved across JVMs. By default it is not set.
+     * 
+     * @param cacheInitialState a {@code boolean}.
+     */
+    public void setCacheInitialState(boolean cacheInitialState) {
+    	this.runnerParameters.setCacheInitialState(cacheInitialState);
+    }
+    
+    /**
+     * Returns whether the initial state must be cached.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getCacheInitialState() {
+    	return this.runnerParameters.getCacheInitialState();
+    }
+
     /**
      * Sets a timeout for execution.
      * 
@@ -1507,6 +1716,104 @@ public final class RunParameters implements Cloneable {
         return this.externalDecisionProcedurePath;
     }
 
+    /**
+     * Sets whether the interaction with the external decision 
+     * procedure is pipelined, i.e., whether the commands are 
+     * sent in batches and the answers are only checked when 
+     * the decision procedure is queried. By default it is. 
+     * A non-pipelined interaction is slower, but it detects 
+     * errors as soon as they happen, so it is better 
+     * for debugging.
+     * 
+     * @param externalDecisionProcedurePipelined {@code true} iff
+     *        the interaction must be pipelined.
+     */
+    public void setExternalDecisionProcedurePipelined(boolean externalDecisionProcedurePipelined) {
+        this.externalDecisionProcedurePipelined = externalDecisionProcedurePipelined;
+    }
+
+    /**
+     * Gets whether the interaction with the external 
+     * decision procedure is pipelined.
+     * 
+     * @return {@code true} iff the interaction is pipelined.
+     */
+    public boolean getExternalDecisionProcedurePipelined() {
+        return this.externalDecisionProcedurePipelined;
+    }
+
+    /**
+     * Sets the decision procedure to cache the answers 
+     * to the satisfiability queries. By default they
+     * are not cached.
+     * 
+     * @param decisionProcedureCacheCapacity a positive {@code int},
+     *        the maximum number of cached answers; when it is
+     *        reached the least recently used answers are evicted.
+     * @throws IllegalArgumentException if {@code decisionProcedureCacheCapacity <= 0}.
+     */
+    public void setDecisionProcedureCache(int decisionProcedureCacheCapacity) {
+        if (decisionProcedureCacheCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.decisionProcedureCacheCapacity = decisionProcedureCacheCapacity;
+    }
+
+    /**
+     * Sets the decision procedure not to cache the answers 
+     * to the satisfiability queries. This is the default.
+     */
+    public void setDecisionProcedureCacheNone() {
+        this.decisionProcedureCacheCapacity = 0;
+    }
+
+    /**
+     * Gets the maximum number of answers to the satisfiability
+     * queries cached by the decision procedure.
+     * 
+     * @return an {@code int}, {@code 0} if the answers 
+     *         are not cached.
+     */
+    public int getDecisionProcedureCacheCapacity() {
+        return this.decisionProcedureCacheCapacity;
+    }
+
+    /**
+     * Sets the file where the answers cached by the decision 
+     * procedure are saved at the end of the run, and loaded
+     * from at the beginning of the next runs of the same method
+     * (it has no effect unless {@link #setDecisionProcedureCache(int)}
+     * is also invoked).
+     * 
+     * @param decisionProcedureCacheFile a {@link Path}.
+     * @throws NullPointerException if {@code decisionProcedureCacheFile == null}.
+     */
+    public void setDecisionProcedureCacheFile(Path decisionProcedureCacheFile) {
+        if (decisionProcedureCacheFile == null) {
+            throw new NullPointerException();
+        }
+        this.decisionProcedureCacheFile = decisionProcedureCacheFile;
+    }
+
+    /**
+     * Sets the answers cached by the decision procedure not 
+     * to be saved across runs. This is the default.
+     */
+    public void setDecisionProcedureCacheFileNone() {
+        this.decisionProcedureCacheFile = null;
+    }
+
+    /**
+     * Gets the file where the answers cached by the decision 
+     * procedure are saved across runs.
+     * 
+     * @return a {@link Path}, or {@code null} if the answers
+     *         are not saved.
+     */
+    public Path getDecisionProcedureCacheFile() {
+        return this.decisionProcedureCacheFile;
+    }
+
     /**
      * Adds a creation strategy to the strategies 
      * for creating the {@link DecisionProcedure}.
@@ -2507,6 +2814,7 @@ public final class RunParameters implements Cloneable {
         retVal.setDecisionProcedure(dec);
         retVal.setStateIdentificationMode(StateIdentificationMode.COMPACT);
         retVal.setBreadthMode(BreadthMode.MORE_THAN_ONE);
+        retVal.setSearchStrategy(SearchStrategy.DEPTH_FIRST);
         /* TODO should be:
          * retVal.setHeapScopeUnlimited();
          * retVal.setDepthScopeUnlimited();
@@ -2531,6 +2839,7 @@ public final class RunParameters implements Cloneable {
         final RunnerParameters retVal = this.runnerParameters.clone();
         retVal.setStateIdentificationMode(StateIdentificationMode.COMPACT);
         retVal.setBreadthMode(BreadthMode.MORE_THAN_ONE);
+        retVal.setSearchStrategy(SearchStrategy.DEPTH_FIRST);
         retVal.setHeapScopeComputed(this.concretizationHeapScope);
         retVal.setDepthScope(this.concretizationDepthScope);
         retVal.setCountScope(this.concretizationCountScope);
@@ -2564,6 +2873,7 @@ public final class RunParameters implements Cloneable {
             } 
             retVal.setStateIdentificationMode(StateIdentificationMode.COMPACT);
             retVal.setBreadthMode(BreadthMode.MORE_THAN_ONE);
+            retVal.setSearchStrategy(SearchStrategy.DEPTH_FIRST);
             retVal.setIdentifierSubregionRoot();
         } else {
             retVal = null;
@@ -87,10 +87,13 @@ public class ClassFileJavassist extends ClassFile {
     private final ClassFile hostClass;
     private String className; //nonfinal because of classfile renaming
     private byte[] bytecode; //only for dummy classes, nonfinal because of classfile renaming
-    private ArrayList<Signature> fieldsStatic; //lazily initialized, but actually final
-    private ArrayList<Signature> fieldsObject; //lazily initialized, but actually final
-    private ArrayList<Signature> methods; //lazily initialized, but actually final
-    private ArrayList<Signature> constructors; //lazily initialized, but actually final
+    //the following are lazily initialized, but actually final; they are
+    //volatile and assigned only when filled because the classfiles are 
+    //shared by the threads of a parallel run
+    private volatile ArrayList<Signature> fieldsStatic;
+    private volatile ArrayList<Signature> fieldsObject;
+    private volatile ArrayList<Signature> methods;
+    private volatile ArrayList<Signature> constructors;
 
     /**
      * Constructor for nonanonymous classes.
@@ -657,8 +660,9 @@ public class ClassFileJavassist extends ClassFile {
     }
 
     private ArrayList<Signature> getDeclaredFields(boolean areStatic) {
-        if ((areStatic ? this.fieldsStatic : this.fieldsObject) == null) {
-            final ArrayList<Signature> fields = new ArrayList<Signature>();
+        ArrayList<Signature> fields = (areStatic ? this.fieldsStatic : this.fieldsObject);
+        if (fields == null) {
+            fields = new ArrayList<Signature>();
             final List<FieldInfo> fieldsJA = this.cf.getFields();
             for (FieldInfo fld : fieldsJA) {
                 if (Modifier.isStatic(AccessFlag.toModifier(fld.getAccessFlags())) == areStatic) {
@@ -672,7 +676,7 @@ public class ClassFileJavassist extends ClassFile {
                 this.fieldsObject = fields;
             }
         }
-        return (areStatic ? this.fieldsStatic : this.fieldsObject);
+        return fields;
     }
 
     @Override
@@ -1081,11 +1085,13 @@ public class ClassFileJavassist extends ClassFile {
 
     @Override
     public Signature[] getDeclaredMethods() {
-        if (this.methods == null) {
+        ArrayList<Signature> methods = this.methods;
+        if (methods == null) {
             fillMethodsAndConstructors();
+            methods = this.methods;
         }
-        final Signature[] retVal = new Signature[this.methods.size()];
-        this.methods.toArray(retVal);
+        final Signature[] retVal = new Signature[methods.size()];
+        methods.toArray(retVal);
         return retVal;
     }
 
@@ -1474,25 +1480,29 @@ public class ClassFileJavassist extends ClassFile {
     }
     
     private void fillMethodsAndConstructors() {
-        this.methods = new ArrayList<>();
-        this.constructors = new ArrayList<>();
+        final ArrayList<Signature> methods = new ArrayList<>();
+        final ArrayList<Signature> constructors = new ArrayList<>();
         final List<MethodInfo> ms = this.cf.getMethods();
         for (MethodInfo m : ms) {
             final Signature sig = new Signature(getClassName(), m.getDescriptor(), m.getName());
-            this.methods.add(sig);
+            methods.add(sig);
             if (m.isConstructor()) {
-                this.constructors.add(sig);
+                constructors.add(sig);
             }
         }
+        this.methods = methods;
+        this.constructors = constructors;
     }
 
     @Override
     public Signature[] getDeclaredConstructors() {
-        if (this.constructors == null) {
+        ArrayList<Signature> constructors = this.constructors;
+        if (constructors == null) {
             fillMethodsAndConstructors();
+            constructors = this.constructors;
         }
-        final Signature[] retVal = new Signature[this.constructors.size()];
-        this.constructors.toArray(retVal);
+        final Signature[] retVal = new Signature[constructors.size()];
+        constructors.toArray(retVal);
         return retVal;
     }
 
@@ -3,8 +3,8 @@ package jbse.bc;
 import static jbse.bc.ClassLoaders.CLASSLOADER_NONE;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
+import jbse.common.PersistentMap;
 import jbse.common.Type;
 import jbse.common.exc.InvalidInputException;
 
@@ -12,17 +12,19 @@ import jbse.common.exc.InvalidInputException;
  * A container for the loaded classfiles. Implements
  * the loaded class cache, similarly to what
  * in the Hotspot JVM implementation does the system
- * dictionary. 
+ * dictionary. The caches are persistent maps, thus
+ * a clone shares them with its original and only 
+ * stores the classfiles that are loaded after cloning.
  */ 
 final class ClassFileStore implements Cloneable {  
     /** 
      * The loaded class cache; maps the initiating loader id plus the class name
      * to the {@link ClassFile} for the loaded class.
      */
-    private ArrayList<HashMap<String, ClassFile>> loadedClassCache = new ArrayList<>(); //not final because of clone
+    private ArrayList<PersistentMap<String, ClassFile>> loadedClassCache = new ArrayList<>(); //not final because of clone
     
     /** The cache for the anonymous classes. */
-    private HashMap<String, ClassFile> anonymousClasses = new HashMap<>(); //not final because of clone
+    private PersistentMap<String, ClassFile> anonymousClasses = PersistentMap.empty(); //not final because it is persistent
 
     // The primitive classfiles.
     private final ClassFileBoolean primitiveClassFileBoolean = new ClassFileBoolean(); 
@@ -69,12 +71,12 @@ final class ClassFileStore implements Cloneable {
         
         //makes room
         for (int i = this.loadedClassCache.size(); i <= initiatingLoader; ++i) {
-            this.loadedClassCache.add(new HashMap<>());
+            this.loadedClassCache.add(PersistentMap.empty());
         }
 
         final ClassFile previousClassFile = getClassFile(initiatingLoader, classFile.getClassName());
         if (previousClassFile == null) {
-            this.loadedClassCache.get(initiatingLoader).put(classFile.getClassName(), classFile);
+            this.loadedClassCache.set(initiatingLoader, this.loadedClassCache.get(initiatingLoader).put(classFile.getClassName(), classFile));
         } else if (previousClassFile == classFile) {
             //reinsertion of the same classfile, does nothing
             return;
@@ -108,7 +110,7 @@ final class ClassFileStore implements Cloneable {
         if (classFile.isDummy()) {
             throw new InvalidInputException("Invoked " + this.getClass().getName() + ".putAnonymousClassCache with a classFile parameter that is a dummy classfile.");
         }
-        this.anonymousClasses.put(classFile.getClassName(), classFile);
+        this.anonymousClasses = this.anonymousClasses.put(classFile.getClassName(), classFile);
     }
     
     /**
@@ -126,10 +128,7 @@ final class ClassFileStore implements Cloneable {
      */
     ClassFile getClassFile(int initiatingLoader, String className) {
         if (0 <= initiatingLoader && initiatingLoader < this.loadedClassCache.size()) {
-            final HashMap<String, ClassFile> classFiles = this.loadedClassCache.get(initiatingLoader);
-            if (classFiles.containsKey(className)) {
-                return classFiles.get(className);
-            }
+            return this.loadedClassCache.get(initiatingLoader).get(className);
         }
         return null;
     }
@@ -191,14 +190,11 @@ final class ClassFileStore implements Cloneable {
             throw new InternalError(e);
         }
         
-        //loadedClassCache
-        o.loadedClassCache = new ArrayList<>();
-        for (HashMap<String, ClassFile> map : this.loadedClassCache) {
-            o.loadedClassCache.add(new HashMap<>(map));
-        }
+        //loadedClassCache (the maps are persistent, 
+        //thus only the list must be copied)
+        o.loadedClassCache = new ArrayList<>(this.loadedClassCache);
         
-        //anonymousClasses
-        o.anonymousClasses = new HashMap<>(o.anonymousClasses);
+        //anonymousClasses is persistent, thus it is shared
         
         return o;
     }
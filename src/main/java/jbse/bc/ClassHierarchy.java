@@ -23,13 +23,10 @@ import static jbse.common.Type.toPrimitiveOrVoidCanonicalName;
 import static jbse.common.Type.toPrimitiveOrVoidInternalName;
 import static jbse.common.Type.TYPEEND;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -38,8 +35,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -59,7 +54,7 @@ import jbse.bc.exc.MethodNotFoundException;
 import jbse.bc.exc.PleaseLoadClassException;
 import jbse.bc.exc.RenameUnsupportedException;
 import jbse.bc.exc.WrongClassNameException;
-import jbse.common.Util;
+import jbse.common.PersistentMap;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 
@@ -108,9 +103,16 @@ public final class ClassHierarchy implements Cloneable {
     /**
      * Associates the names of the system packages to the 
      * jar file or directory from which the classes in the 
-     * package were loaded from. Not final because of clone.
+     * package were loaded from. It is persistent, thus
+     * it is shared with the clones.
      */
-    private HashMap<String, Path> systemPackages;
+    private PersistentMap<String, Path> systemPackages;
+    
+    // The indices of the classpaths, shared by the clones.
+    private final ClasspathIndex bootClassPathIndex;
+    private final ClasspathIndex extClassPathIndex;
+    private final ClasspathIndex userClassPathIndex;
+    private final ClasspathIndex implementationClassPathIndex;
     
     private static class FindBytecodeResult {
         final byte[] bytecode;
@@ -168,7 +170,12 @@ public final class ClassHierarchy implements Cloneable {
         } catch (InstantiationException | IllegalAccessException e) {
             throw new InvalidClassFileFactoryClassException(e);
         }
-        this.systemPackages = new HashMap<>();
+        this.systemPackages = PersistentMap.empty();
+        final Path indexFile = this.cp.indexFile();
+        this.bootClassPathIndex = new ClasspathIndex(this.cp.bootClassPath(), indexFile);
+        this.extClassPathIndex = new ClasspathIndex(this.cp.extClassPath(), indexFile);
+        this.userClassPathIndex = new ClasspathIndex(this.cp.userClassPath(), indexFile);
+        this.implementationClassPathIndex = new ClasspathIndex(this.implementationClassPath, indexFile);
     }
 
     /**
@@ -421,7 +428,11 @@ public final class ClassHierarchy implements Cloneable {
      *         the system package names.
      */
     public Set<String> getSystemPackages() {
-        return new HashSet<>(this.systemPackages.keySet());
+        final HashSet<String> retVal = new HashSet<>();
+        for (Map.Entry<String, Path> e : this.systemPackages) {
+            retVal.add(e.getKey());
+        }
+        return retVal;
     }
 
     /**
@@ -432,7 +443,10 @@ public final class ClassHierarchy implements Cloneable {
      * implementation returns {@code classFile.}{@link ClassFile#getClassName() getClassName()}, 
      * if it is not an interface or an abstract class, and all the classes 
      * associated to {@code classFile.}{@link ClassFile#getClassName() getClassName()}, 
-     * in the expansion backdoor provided at construction time.
+     * in the expansion backdoor provided at construction time. If the
+     * classpath has a subclass index (see {@link Classpath#subclassIndex()}), 
+     * it also returns all the concrete subclasses of {@code classFile}
+     * in the user classpath that can be loaded.
      * 
      * @param classFile a {@link ClassFile}.
      * @return A {@link Set}{@code <}{@link ClassFile}{@code >} of 
@@ -490,6 +504,25 @@ public final class ClassHierarchy implements Cloneable {
                 } 
             }
         }
+        if (this.cp.subclassIndex()) {
+            for (String subclassName : this.userClassPathIndex.concreteSubclasses(classFile.getClassName())) {
+                try {
+                    final ClassFile subclass = loadCreateClass(CLASSLOADER_APP, subclassName, true);
+                    if (subclass.isSubclass(classFile)) {
+                        retVal.add(subclass);
+                    }
+                } catch (ClassFileNotFoundException | ClassFileIllFormedException | ClassFileNotAccessibleException | 
+                         IncompatibleClassFileException | BadClassFileVersionException | RenameUnsupportedException | 
+                         WrongClassNameException e) {
+                    //unlike the classes in the expansion backdoor, 
+                    //the classes in the classpath are not required 
+                    //to be loadable: skips it
+                } catch (PleaseLoadClassException e) {
+                    //this should never happen
+                    throw new UnexpectedInternalException(e);
+                } 
+            }
+        }
         return retVal;
     }
     
@@ -855,7 +888,7 @@ public final class ClassHierarchy implements Cloneable {
      */
     private void registerSystemPackage(String classSignature, Path loadedFrom) {
         final String packageName = classSignature.substring(0, classSignature.lastIndexOf('/') + 1);
-        this.systemPackages.put(packageName, loadedFrom);  
+        this.systemPackages = this.systemPackages.put(packageName, loadedFrom);
         //note that replacing the origin of an already registered package
         //upon loading of multiple classes from the package is a behavior
         //compatible with what Hotspot does, see hotspot:src/share/vm/classfile/classLoader.cpp:1013
@@ -864,7 +897,7 @@ public final class ClassHierarchy implements Cloneable {
     
     /**
      * Returns the bytecode of a class file by searching the 
-     * class file on the filesystem.
+     * class file in the (indexed) classpath.
      * 
      * @param className a {@link String}, the name of the class.
      * @param initatingLoader an {@code int}; It must be either {@link ClassLoaders#CLASSLOADER_BOOT}, 
@@ -882,36 +915,19 @@ public final class ClassHierarchy implements Cloneable {
     	} else {
     		targetClassName = className;
     	}
-        final Iterable<Path> paths = (toSubstitute ? this.implementationClassPath :
-                                      initiatingLoader == CLASSLOADER_BOOT ? this.cp.bootClassPath() :
-                                      initiatingLoader == CLASSLOADER_EXT ? this.cp.extClassPath() :
-                                      this.cp.userClassPath());
-        for (Path path : paths) {
-            try {
-                if (Files.isDirectory(path)) {
-                    final Path pathOfClass = path.resolve(targetClassName + ".class");
-                    return new FindBytecodeResult(Files.readAllBytes(pathOfClass), path);
-                } else if (Util.isJarFile(path)) {
-                    try (final JarFile f = new JarFile(path.toFile())) {
-                        final JarEntry e = f.getJarEntry(targetClassName + ".class");
-                        if (e == null) {
-                            continue;
-                        }
-                        final InputStream inStr = f.getInputStream(e);
-                        final ByteArrayOutputStream outStr = new ByteArrayOutputStream();
-                        final byte[] buf = new byte[2048];
-                        int nbytes;
-                        while ((nbytes = inStr.read(buf)) != -1) {
-                            outStr.write(buf, 0, nbytes);
-                        }
-                        return new FindBytecodeResult(outStr.toByteArray(), path);
-                    }
-                } //else do nothing
-            } catch (IOException e) {
-                continue;
-            }
+        final ClasspathIndex index = (toSubstitute ? this.implementationClassPathIndex :
+                                      initiatingLoader == CLASSLOADER_BOOT ? this.bootClassPathIndex :
+                                      initiatingLoader == CLASSLOADER_EXT ? this.extClassPathIndex :
+                                      this.userClassPathIndex);
+        final Path container = index.locate(targetClassName);
+        if (container == null) {
+            return null;
+        }
+        try {
+            return new FindBytecodeResult(index.read(container, targetClassName), container);
+        } catch (IOException e) {
+            return null;
         }
-        return null;
     }
     
     /**
@@ -2037,7 +2053,8 @@ public final class ClassHierarchy implements Cloneable {
         }
         
         //cp, expansionBackdoor and allFieldsOf may be shared;
-        //in a future, expansionBackdoor may possibly be cloned
+        //in a future, expansionBackdoor may possibly be cloned;
+        //systemPackages is persistent, thus it is shared
         
         o.cfs = o.cfs.clone();
         
@@ -21,6 +21,8 @@ import jbse.common.Util;
 public class Classpath implements Cloneable {
     private final Path jbseLibPath;
     private final Path javaHome;
+    private final Path indexFile;
+    private final boolean subclassIndex;
     private ArrayList<Path> bootClassPath; //nonfinal because of clone
     private ArrayList<Path> extClassPath; //nonfinal because of clone
     private ArrayList<Path> extDirs; //nonfinal because of clone
@@ -42,8 +44,55 @@ public class Classpath implements Cloneable {
      * @throws IOException if an I/O error occurs.
      */
     public Classpath(Path jbseLibPath, Path javaHome, List<Path> extDirs, List<Path> userPaths) throws IOException {
+        this(jbseLibPath, javaHome, extDirs, userPaths, null);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param jbseLibPath a {@link Path}, the path of the JBSE library.
+     * @param javaHome a {@link Path}, the Java home directory.
+     * @param extDirs a {@link List}{@code <}{@link Path}{@code >}, 
+     *        the extension directories. It must contain valid paths
+     *        to directories. Only the jar files contained in these
+     *        directories will be considered.
+     * @param userPaths a {@link List}{@code <}{@link Path}{@code >},
+     *        the user classpath. It must contain valid paths to directories
+     *        or jar files.
+     * @param indexFile a {@link Path}, the file where the index of 
+     *        the jar files in the classpath is saved and reused across
+     *        runs, or {@code null} if the index must not be saved.
+     * @throws IOException if an I/O error occurs.
+     */
+    public Classpath(Path jbseLibPath, Path javaHome, List<Path> extDirs, List<Path> userPaths, Path indexFile) throws IOException {
+        this(jbseLibPath, javaHome, extDirs, userPaths, indexFile, false);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param jbseLibPath a {@link Path}, the path of the JBSE library.
+     * @param javaHome a {@link Path}, the Java home directory.
+     * @param extDirs a {@link List}{@code <}{@link Path}{@code >}, 
+     *        the extension directories. It must contain valid paths
+     *        to directories. Only the jar files contained in these
+     *        directories will be considered.
+     * @param userPaths a {@link List}{@code <}{@link Path}{@code >},
+     *        the user classpath. It must contain valid paths to directories
+     *        or jar files.
+     * @param indexFile a {@link Path}, the file where the index of 
+     *        the jar files in the classpath is saved and reused across
+     *        runs, or {@code null} if the index must not be saved.
+     * @param subclassIndex a {@code boolean}, {@code true} iff 
+     *        the user classpath must be scanned for the subclasses 
+     *        of the classes of the symbolic references to expand.
+     * @throws IOException if an I/O error occurs.
+     */
+    public Classpath(Path jbseLibPath, Path javaHome, List<Path> extDirs, List<Path> userPaths, Path indexFile, boolean subclassIndex) throws IOException {
     	this.jbseLibPath = jbseLibPath.toAbsolutePath();
         this.javaHome = javaHome.toAbsolutePath();
+        this.indexFile = (indexFile == null ? null : indexFile.toAbsolutePath());
+        this.subclassIndex = subclassIndex;
         
         //bootstrap paths
         //taken from hotspot:/src/share/vm/runtime/os.cpp, lines 1194-1202
@@ -135,6 +184,26 @@ public class Classpath implements Cloneable {
         return this.javaHome;
     }
 
+    /**
+     * Returns the index file.
+     * 
+     * @return a {@link Path}, or {@code null} if 
+     *         the classpath index is not saved.
+     */
+    public Path indexFile() {
+        return this.indexFile;
+    }
+
+    /**
+     * Returns whether the user classpath is scanned
+     * for the subclasses of the classes to expand.
+     *
+     * @return a {@code boolean}.
+     */
+    public boolean subclassIndex() {
+        return this.subclassIndex;
+    }
+
     /**
      * Returns the paths in the bootstrap classpath.
      * 
@@ -0,0 +1,708 @@
+package jbse.bc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jbse.common.Util;
+
+/**
+ * An index of a sequence of classpath entries (directories
+ * or jar files), that locates the container of a class and
+ * reads its bytecode. The outcomes of all the lookups,
+ * including the negative ones, are cached. The jar files
+ * are opened once and kept open, and their class lists are
+ * shared by all the indices in the same JVM; optionally, the
+ * class lists can be saved on an index file and reused
+ * in later runs, as long as the jar files do not change.
+ * The index file is replaced atomically, is terminated by an
+ * end marker, and each of its jar sections records how many
+ * classes and class headers it lists, so that a truncated or 
+ * ill-formed index file is detected and the jar files are 
+ * scanned again.
+ * On demand, the index also scans the headers of all the 
+ * classes in its entries to find the subclasses of a class;
+ * the headers of the classes in the jar files are also 
+ * saved on the index file.
+ */
+final class ClasspathIndex {
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final String INDEX_FILE_HEADER = "#JBSE classpath index v2";
+    private static final String INDEX_FILE_END = "#end";
+    private static final char INDEX_FILE_JAR = 'J';
+    private static final char INDEX_FILE_CLASS = 'C';
+    private static final char INDEX_FILE_CLASS_HEADERS = 'S';
+    private static final char INDEX_FILE_CLASS_HEADER = 'H';
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_MODULE = 0x8000;
+
+    /** All the indexed jar files, shared by all the indices. */
+    private static final ConcurrentHashMap<Path, JarIndex> JARS = new ConcurrentHashMap<>();
+
+    /** The index files that were already read. */
+    private static final Set<Path> INDEX_FILES_READ = new HashSet<>();
+
+    /** The classpath entries. */
+    private final ArrayList<Path> paths = new ArrayList<>();
+
+    /**
+     * The outcome of the lookups, mapping class names to
+     * the position in {@code paths} of their container, or
+     * to {@code -1} if no container has the class.
+     */
+    private final ConcurrentHashMap<String, Integer> lookups = new ConcurrentHashMap<>();
+
+    /** The index file, or {@code null} for no index file. */
+    private final Path indexFile;
+
+    /**
+     * Maps the name of each class or interface with the 
+     * headers of its direct subclasses and subinterfaces 
+     * in the classpath entries; built on demand.
+     */
+    private Map<String, List<ClassHeader>> directSubclasses = null;
+
+    /**
+     * Constructor.
+     *
+     * @param paths an {@link Iterable}{@code <}{@link Path}{@code >},
+     *        the classpath entries in lookup order.
+     * @param indexFile a {@link Path}, the file where the class lists of
+     *        the jar files are saved and reused across runs, or
+     *        {@code null} for no index file.
+     */
+    ClasspathIndex(Iterable<Path> paths, Path indexFile) {
+        this.indexFile = indexFile;
+        if (indexFile != null) {
+            readIndexFile(indexFile);
+        }
+        boolean newJars = false;
+        for (Path path : paths) {
+            this.paths.add(path);
+            if (Util.isJarFile(path)) {
+                newJars = indexJar(path) || newJars;
+            }
+        }
+        if (indexFile != null && newJars) {
+            writeIndexFile(indexFile);
+        }
+    }
+
+    /**
+     * Forgets all the jar files indexed and all the index files 
+     * read so far, closing the jar files. Used by the tests to 
+     * simulate a later run.
+     */
+    static void clear() {
+        synchronized (INDEX_FILES_READ) {
+            INDEX_FILES_READ.clear();
+            for (JarIndex jar : JARS.values()) {
+                jar.close();
+            }
+            JARS.clear();
+        }
+    }
+
+    /**
+     * Locates the container of a class.
+     *
+     * @param className a {@link String}, the name of a class
+     *        in internal format.
+     * @return the {@link Path} of the first classpath entry that
+     *         contains {@code className}, or {@code null} if
+     *         no entry contains it.
+     */
+    Path locate(String className) {
+        final int pos = this.lookups.computeIfAbsent(className, this::lookup);
+        return (pos < 0 ? null : this.paths.get(pos));
+    }
+
+    private int lookup(String className) {
+        for (int pos = 0; pos < this.paths.size(); ++pos) {
+            final Path path = this.paths.get(pos);
+            if (Files.isDirectory(path)) {
+                if (Files.isRegularFile(path.resolve(className + CLASS_FILE_EXTENSION))) {
+                    return pos;
+                }
+            } else {
+                final JarIndex jar = JARS.get(path);
+                if (jar != null && jar.classNames.contains(className)) {
+                    return pos;
+                }
+            } //else do nothing
+        }
+        return -1;
+    }
+
+    /**
+     * Lists the concrete subclasses of a class in the classpath 
+     * entries. The first time it is invoked the method scans the 
+     * headers of all the classes in the entries, in parallel.
+     *
+     * @param className a {@link String}, the name of a class
+     *        or interface in internal format.
+     * @return a {@link Set}{@code <}{@link String}{@code >} containing
+     *         the names of all the classes in the classpath entries 
+     *         that are neither abstract nor interfaces, and that 
+     *         directly or indirectly extend or implement {@code className}
+     *         ({@code className} excluded). 
+     */
+    Set<String> concreteSubclasses(String className) {
+        final Map<String, List<ClassHeader>> directSubclasses = directSubclasses();
+        final HashSet<String> retVal = new HashSet<>();
+        final HashSet<String> visited = new HashSet<>();
+        final ArrayDeque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(className);
+        visited.add(className);
+        while (!toVisit.isEmpty()) {
+            final List<ClassHeader> subclasses = directSubclasses.get(toVisit.poll());
+            if (subclasses == null) {
+                continue;
+            }
+            for (ClassHeader subclass : subclasses) {
+                if (visited.add(subclass.name)) {
+                    toVisit.add(subclass.name);
+                    if ((subclass.accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0) {
+                        retVal.add(subclass.name);
+                    }
+                }
+            }
+        }
+        return retVal;
+    }
+
+    private synchronized Map<String, List<ClassHeader>> directSubclasses() {
+        if (this.directSubclasses == null) {
+            //scans the entries in parallel
+            final AtomicBoolean newHeaders = new AtomicBoolean(false);
+            final List<Map<String, ClassHeader>> headersByPath = this.paths.parallelStream().map(path -> {
+                final JarIndex jar = JARS.get(path);
+                if (jar != null) {
+                    synchronized (jar) {
+                        if (jar.headers == null) {
+                            jar.headers = scanHeaders(jar);
+                            newHeaders.set(true);
+                        }
+                        return jar.headers;
+                    }
+                } else if (Files.isDirectory(path)) {
+                    return scanHeaders(path);
+                } else {
+                    return Collections.<String, ClassHeader>emptyMap();
+                }
+            }).collect(Collectors.toList());
+            if (this.indexFile != null && newHeaders.get()) {
+                writeIndexFile(this.indexFile);
+            }
+
+            //a class in an entry shadows the classes with 
+            //same name in the later entries
+            final HashSet<String> seen = new HashSet<>();
+            final HashMap<String, List<ClassHeader>> directSubclasses = new HashMap<>();
+            for (Map<String, ClassHeader> headers : headersByPath) {
+                for (ClassHeader header : headers.values()) {
+                    if (!seen.add(header.name)) {
+                        continue;
+                    }
+                    if (header.superName != null) {
+                        directSubclasses.computeIfAbsent(header.superName, k -> new ArrayList<>()).add(header);
+                    }
+                    for (String interfaceName : header.interfaceNames) {
+                        directSubclasses.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(header);
+                    }
+                }
+            }
+            this.directSubclasses = directSubclasses;
+        }
+        return this.directSubclasses;
+    }
+
+    private static Map<String, ClassHeader> scanHeaders(JarIndex jar) {
+        final HashMap<String, ClassHeader> retVal = new HashMap<>();
+        try {
+            final JarFile f = jar.jarFile();
+            for (String className : jar.classNames) {
+                final JarEntry e = f.getJarEntry(className + CLASS_FILE_EXTENSION);
+                if (e == null) {
+                    continue;
+                }
+                try (final InputStream inStr = f.getInputStream(e)) {
+                    putHeader(retVal, inStr);
+                }
+            }
+        } catch (IOException e) {
+            //keeps the headers read so far
+        }
+        return retVal;
+    }
+
+    private static Map<String, ClassHeader> scanHeaders(Path directory) {
+        final HashMap<String, ClassHeader> retVal = new HashMap<>();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.toString().endsWith(CLASS_FILE_EXTENSION) && Files.isRegularFile(file)).forEach(file -> {
+                try (final InputStream inStr = Files.newInputStream(file)) {
+                    putHeader(retVal, inStr);
+                } catch (IOException e) {
+                    //skips the file
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            //keeps the headers read so far
+        }
+        return retVal;
+    }
+
+    private static void putHeader(Map<String, ClassHeader> headers, InputStream inStr) {
+        try {
+            final ClassHeader header = ClassHeader.read(inStr);
+            if (header != null) {
+                headers.put(header.name, header);
+            }
+        } catch (IOException | RuntimeException e) {
+            //the classfile is ill-formed: skips it
+        }
+    }
+
+    /**
+     * Reads the bytecode of a class.
+     *
+     * @param container the {@link Path} of the classpath entry
+     *        that contains the class, as returned by {@link #locate(String)}.
+     * @param className a {@link String}, the name of the class
+     *        in internal format.
+     * @return a {@code byte[]}, the bytecode of {@code className}.
+     * @throws IOException if reading fails.
+     */
+    byte[] read(Path container, String className) throws IOException {
+        final String entryName = className + CLASS_FILE_EXTENSION;
+        final JarIndex jar = JARS.get(container);
+        if (jar == null) {
+            return Files.readAllBytes(container.resolve(entryName));
+        }
+        final JarFile f = jar.jarFile();
+        final JarEntry e = f.getJarEntry(entryName);
+        if (e == null) {
+            throw new IOException("Missing entry " + entryName + " in jar file " + container + ".");
+        }
+        try (final InputStream inStr = f.getInputStream(e)) {
+            final long size = e.getSize();
+            if (size >= 0) {
+                //reads directly into an array with the right size
+                final byte[] retVal = new byte[(int) size];
+                int offset = 0;
+                while (offset < retVal.length) {
+                    final int nbytes = inStr.read(retVal, offset, retVal.length - offset);
+                    if (nbytes == -1) {
+                        throw new EOFException();
+                    }
+                    offset += nbytes;
+                }
+                return retVal;
+            } else {
+                final ByteArrayOutputStream outStr = new ByteArrayOutputStream();
+                final byte[] buf = new byte[2048];
+                int nbytes;
+                while ((nbytes = inStr.read(buf)) != -1) {
+                    outStr.write(buf, 0, nbytes);
+                }
+                return outStr.toByteArray();
+            }
+        }
+    }
+
+    /**
+     * Makes sure that a jar file is indexed.
+     *
+     * @param path the {@link Path} of a jar file.
+     * @return {@code true} iff {@code path} had to be
+     *         (re)scanned because it was not indexed or it 
+     *         changed since it was indexed.
+     */
+    private static boolean indexJar(Path path) {
+        final JarIndex current = JARS.get(path);
+        try {
+            if (current != null && current.isUpToDate()) {
+                return false;
+            }
+            JARS.put(path, JarIndex.scan(path));
+        } catch (IOException e) {
+            //does not index it, so lookups will skip it
+            JARS.remove(path);
+        }
+        if (current != null) {
+            current.close();
+        }
+        return true;
+    }
+
+    /**
+     * Reads an index file, if it was not already read,
+     * and puts in {@code JARS} the class lists of all the
+     * jar files that did not change since it was written.
+     * Nothing is taken from an index file without the end
+     * marker, a jar section that does not list as many 
+     * classes as it declares is discarded, and so are the class 
+     * headers of a jar section if it does not list as many of 
+     * them as it declares.
+     *
+     * @param indexFile the {@link Path} of the index file.
+     */
+    private static void readIndexFile(Path indexFile) {
+        synchronized (INDEX_FILES_READ) {
+            if (!INDEX_FILES_READ.add(indexFile) || !Files.isRegularFile(indexFile)) {
+                return;
+            }
+            try (final BufferedReader r = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+                if (!INDEX_FILE_HEADER.equals(r.readLine())) {
+                    return; //not an index file
+                }
+                final ArrayList<JarIndex> jars = new ArrayList<>();
+                JarIndex jar = null;
+                int classCount = 0;
+                int headerCount = 0;
+                boolean ended = false;
+                String line;
+                while ((line = r.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    if (INDEX_FILE_END.equals(line)) {
+                        ended = true;
+                        break;
+                    }
+                    final String payload = line.substring(1);
+                    if (line.charAt(0) == INDEX_FILE_JAR) {
+                        addIfComplete(jars, jar, classCount, headerCount);
+                        final String[] fields = payload.split("\t", 4);
+                        jar = new JarIndex(Paths.get(fields[3]), Long.parseLong(fields[0]), Long.parseLong(fields[1]), new HashSet<>());
+                        classCount = Integer.parseInt(fields[2]);
+                        headerCount = 0;
+                    } else if (line.charAt(0) == INDEX_FILE_CLASS && jar != null) {
+                        jar.classNames.add(payload);
+                    } else if (line.charAt(0) == INDEX_FILE_CLASS_HEADERS && jar != null) {
+                        jar.headers = new HashMap<>();
+                        headerCount = Integer.parseInt(payload);
+                    } else if (line.charAt(0) == INDEX_FILE_CLASS_HEADER && jar != null && jar.headers != null) {
+                        final ClassHeader header = ClassHeader.parse(payload);
+                        jar.headers.put(header.name, header);
+                    }
+                }
+                addIfComplete(jars, jar, classCount, headerCount);
+                if (!ended) {
+                    return; //truncated index file
+                }
+                for (JarIndex jarRead : jars) {
+                    if (Util.isJarFile(jarRead.path) && jarRead.isUpToDate()) {
+                        JARS.putIfAbsent(jarRead.path, jarRead);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                //the index file is unreadable or ill-formed:
+                //the jar files will just be scanned
+            }
+        }
+    }
+
+    private static void addIfComplete(ArrayList<JarIndex> jars, JarIndex jar, int classCount, int headerCount) {
+        if (jar != null && jar.classNames.size() == classCount) {
+            if (jar.headers != null && jar.headers.size() != headerCount) {
+                jar.headers = null; //they will be scanned again on demand
+            }
+            jars.add(jar);
+        }
+    }
+
+    /**
+     * Writes on an index file the class lists of all the
+     * jar files in {@code JARS}. The file is first written
+     * aside and then moved in place, so a concurrent or later 
+     * reader never sees it partially written.
+     *
+     * @param indexFile the {@link Path} of the index file.
+     */
+    private static void writeIndexFile(Path indexFile) {
+        synchronized (INDEX_FILES_READ) {
+            Path tmpFile = null;
+            try {
+                final Path dir = indexFile.toAbsolutePath().getParent();
+                tmpFile = Files.createTempFile(dir, indexFile.getFileName().toString(), ".tmp");
+                writeIndexFileContent(tmpFile);
+                try {
+                    Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                tmpFile = null;
+            } catch (IOException e) {
+                //the index file is just an optimization,
+                //so failing to write it is not an error
+            } finally {
+                if (tmpFile != null) {
+                    try {
+                        Files.deleteIfExists(tmpFile);
+                    } catch (IOException e) {
+                        //nothing to do
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeIndexFileContent(Path file) throws IOException {
+        try (final BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write(INDEX_FILE_HEADER);
+            w.newLine();
+            for (Map.Entry<Path, JarIndex> entry : JARS.entrySet()) {
+                final JarIndex jar = entry.getValue();
+                w.write(INDEX_FILE_JAR + Long.toString(jar.size) + "\t" + jar.lastModified + "\t" + jar.classNames.size() + "\t" + jar.path);
+                w.newLine();
+                for (String className : jar.classNames) {
+                    w.write(INDEX_FILE_CLASS + className);
+                    w.newLine();
+                }
+                final Map<String, ClassHeader> headers;
+                synchronized (jar) {
+                    headers = jar.headers;
+                }
+                if (headers != null) {
+                    w.write(INDEX_FILE_CLASS_HEADERS + Integer.toString(headers.size()));
+                    w.newLine();
+                    for (ClassHeader header : headers.values()) {
+                        w.write(INDEX_FILE_CLASS_HEADER + header.format());
+                        w.newLine();
+                    }
+                }
+            }
+            w.write(INDEX_FILE_END);
+            w.newLine();
+        }
+    }
+
+    /**
+     * The class list of a jar file, and the
+     * jar file itself, opened on demand and
+     * kept open.
+     */
+    private static final class JarIndex {
+        final Path path;
+        final long size;
+        final long lastModified;
+        final Set<String> classNames;
+        Map<String, ClassHeader> headers; //guarded by this
+        private JarFile jarFile;
+
+        JarIndex(Path path, long size, long lastModified, Set<String> classNames) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.classNames = classNames;
+        }
+
+        static JarIndex scan(Path path) throws IOException {
+            final long size = Files.size(path);
+            final long lastModified = Files.getLastModifiedTime(path).toMillis();
+            final HashSet<String> classNames = new HashSet<>();
+            final JarFile f = new JarFile(path.toFile());
+            try {
+                final Enumeration<JarEntry> entries = f.entries();
+                while (entries.hasMoreElements()) {
+                    final String entryName = entries.nextElement().getName();
+                    if (entryName.endsWith(CLASS_FILE_EXTENSION)) {
+                        classNames.add(entryName.substring(0, entryName.length() - CLASS_FILE_EXTENSION.length()));
+                    }
+                }
+            } catch (RuntimeException e) {
+                f.close();
+                throw e;
+            }
+            final JarIndex retVal = new JarIndex(path, size, lastModified, classNames);
+            retVal.jarFile = f;
+            return retVal;
+        }
+
+        boolean isUpToDate() throws IOException {
+            return Files.size(this.path) == this.size &&
+                   Files.getLastModifiedTime(this.path).toMillis() == this.lastModified;
+        }
+
+        synchronized JarFile jarFile() throws IOException {
+            if (this.jarFile == null) {
+                this.jarFile = new JarFile(this.path.toFile());
+            }
+            return this.jarFile;
+        }
+
+        /**
+         * Closes the jar file, if it is open. It
+         * is reopened on demand.
+         */
+        synchronized void close() {
+            if (this.jarFile != null) {
+                try {
+                    this.jarFile.close();
+                } catch (IOException e) {
+                    //nothing to do
+                }
+                this.jarFile = null;
+            }
+        }
+    }
+
+    /**
+     * The header of a classfile, i.e., the name of the 
+     * class, its access flags, and the names of its 
+     * superclass and of its direct superinterfaces.
+     */
+    private static final class ClassHeader {
+        final String name;
+        final int accessFlags;
+        final String superName;
+        final String[] interfaceNames;
+
+        ClassHeader(String name, int accessFlags, String superName, String[] interfaceNames) {
+            this.name = name;
+            this.accessFlags = accessFlags;
+            this.superName = superName;
+            this.interfaceNames = interfaceNames;
+        }
+
+        /**
+         * Reads a classfile up to its superinterfaces,
+         * skipping all the constant pool entries that 
+         * are not class or UTF8 entries.
+         * 
+         * @param inStr the {@link InputStream} of the classfile.
+         * @return the {@link ClassHeader} of the classfile, or 
+         *         {@code null} if the classfile is a module
+         *         descriptor.
+         * @throws IOException if reading fails or the classfile
+         *         is ill-formed.
+         */
+        static ClassHeader read(InputStream inStr) throws IOException {
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(inStr));
+            if (in.readInt() != CLASS_FILE_MAGIC) {
+                throw new IOException("Not a classfile.");
+            }
+            in.readUnsignedShort(); //minor version
+            in.readUnsignedShort(); //major version
+            final int constantPoolCount = in.readUnsignedShort();
+            final String[] utf8s = new String[constantPoolCount];
+            final int[] classes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; ++i) {
+                final int tag = in.readUnsignedByte();
+                switch (tag) {
+                case 1: //Utf8
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7: //Class
+                    classes[i] = in.readUnsignedShort();
+                    break;
+                case 8:  //String
+                case 16: //MethodType
+                case 19: //Module
+                case 20: //Package
+                    skip(in, 2);
+                    break;
+                case 15: //MethodHandle
+                    skip(in, 3);
+                    break;
+                case 3:  //Integer
+                case 4:  //Float
+                case 9:  //Fieldref
+                case 10: //Methodref
+                case 11: //InterfaceMethodref
+                case 12: //NameAndType
+                case 17: //Dynamic
+                case 18: //InvokeDynamic
+                    skip(in, 4);
+                    break;
+                case 5: //Long
+                case 6: //Double
+                    skip(in, 8);
+                    ++i; //takes two entries
+                    break;
+                default:
+                    throw new IOException("Wrong constant pool tag " + tag + ".");
+                }
+            }
+            final int accessFlags = in.readUnsignedShort();
+            if ((accessFlags & ACC_MODULE) != 0) {
+                return null;
+            }
+            final String name = utf8s[classes[in.readUnsignedShort()]];
+            final int superIndex = in.readUnsignedShort();
+            final String superName = (superIndex == 0 ? null : utf8s[classes[superIndex]]);
+            final String[] interfaceNames = new String[in.readUnsignedShort()];
+            for (int i = 0; i < interfaceNames.length; ++i) {
+                interfaceNames[i] = utf8s[classes[in.readUnsignedShort()]];
+            }
+            if (name == null) {
+                throw new IOException("Missing class name.");
+            }
+            return new ClassHeader(name, accessFlags, superName, interfaceNames);
+        }
+
+        private static void skip(DataInputStream in, int n) throws IOException {
+            for (int skipped = 0; skipped < n; ) {
+                final int nbytes = in.skipBytes(n - skipped);
+                if (nbytes == 0) {
+                    in.readByte(); //throws EOFException at the end of the stream
+                    ++skipped;
+                } else {
+                    skipped += nbytes;
+                }
+            }
+        }
+
+        /**
+         * Parses the format of a {@link ClassHeader} 
+         * on the index file.
+         * 
+         * @param s a {@link String} produced by {@link #format()}.
+         * @return the parsed {@link ClassHeader}.
+         */
+        static ClassHeader parse(String s) {
+            final String[] fields = s.split("\t", -1);
+            final String superName = (fields[2].isEmpty() ? null : fields[2]);
+            final String[] interfaceNames = (fields[3].isEmpty() ? new String[0] : fields[3].split(","));
+            return new ClassHeader(fields[0], Integer.parseInt(fields[1]), superName, interfaceNames);
+        }
+
+        /**
+         * Formats this {@link ClassHeader} for the index file.
+         * 
+         * @return a {@link String}.
+         */
+        String format() {
+            return this.name + "\t" + this.accessFlags + "\t" + (this.superName == null ? "" : this.superName) + "\t" + String.join(",", this.interfaceNames);
+        }
+    }
+}
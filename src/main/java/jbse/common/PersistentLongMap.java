@@ -0,0 +1,244 @@
+package jbse.common;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An immutable (persistent) map with primitive {@code long} keys,
+ * implemented as a radix trie that consumes the bits of the key
+ * from the most to the least significant. Updates do not modify
+ * the receiver but return a new map that copies only the path to
+ * the updated key and shares with the receiver all the rest of
+ * the trie, so a "copy" of a map is free, and both lookups and
+ * updates cost O(log<sub>32</sub> k), where k is the largest key
+ * in the map. It is therefore well suited for dense keys starting
+ * from zero. Values must not be {@code null}.
+ *
+ *
+ * @param <V> the type of the values.
+ */
+public final class PersistentLongMap<V> {
+    /** The number of key bits consumed at each level of the trie. */
+    private static final int BITS = 5;
+
+    /** The number of children of each node. */
+    private static final int WIDTH = 1 << BITS;
+
+    /** Mask for extracting {@link #BITS} bits. */
+    private static final int MASK = WIDTH - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentLongMap EMPTY = new PersistentLongMap<>(null, 0, 0);
+
+    /**
+     * The root of the trie, or {@code null} if the map is empty.
+     * The nodes at shift 0 store the values, the other ones store
+     * their children; absent values and children are {@code null}.
+     */
+    private final Object[] root;
+
+    /** The shift of the key for the root level. */
+    private final int shift;
+
+    /** The number of mappings. */
+    private final int size;
+
+    private PersistentLongMap(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty {@link PersistentLongMap}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return an {@code int}.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this map is empty.
+     *
+     * @return {@code true} iff {@link #size()}{@code == 0}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks whether this map contains a mapping for a key.
+     *
+     * @param key a {@code long}, the key.
+     * @return {@code true} iff this map has a mapping for {@code key}.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value associated to a key.
+     *
+     * @param key a {@code long}, the key.
+     * @return the value associated to {@code key}, or
+     *         {@code null} if there is no such value.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (this.root == null || !fits(key, this.shift)) {
+            return null;
+        }
+        Object[] node = this.root;
+        for (int s = this.shift; s > 0; s -= BITS) {
+            node = (Object[]) node[index(key, s)];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (V) node[index(key, 0)];
+    }
+
+    /**
+     * Returns the map obtained by adding a mapping to this map.
+     *
+     * @param key a {@code long}, the key.
+     * @param value the value. It must not be {@code null}.
+     * @return a {@link PersistentLongMap} that has the same mappings
+     *         as {@code this}, except that {@code key} is mapped
+     *         to {@code value}. {@code this} is not modified.
+     * @throws NullPointerException if {@code value == null}.
+     */
+    public PersistentLongMap<V> put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        final V previous = get(key);
+        if (previous == value) {
+            return this;
+        }
+
+        //possibly adds levels on top of the root until key fits
+        Object[] newRoot = this.root;
+        int newShift = this.shift;
+        while (!fits(key, newShift)) {
+            if (newRoot != null) {
+                final Object[] r = new Object[WIDTH];
+                r[0] = newRoot;
+                newRoot = r;
+            }
+            newShift += BITS;
+        }
+
+        newRoot = assoc(newRoot, newShift, key, value);
+        return new PersistentLongMap<>(newRoot, newShift, (previous == null ? this.size + 1 : this.size));
+    }
+
+    /**
+     * Returns the map obtained by removing a mapping from this map.
+     *
+     * @param key a {@code long}, the key.
+     * @return a {@link PersistentLongMap} that has the same mappings
+     *         as {@code this}, except that {@code key} is not mapped.
+     *         {@code this} is not modified.
+     */
+    public PersistentLongMap<V> remove(long key) {
+        if (get(key) == null) {
+            return this;
+        }
+        if (this.size == 1) {
+            return empty();
+        }
+        return new PersistentLongMap<>(without(this.root, this.shift, key), this.shift, this.size - 1);
+    }
+
+    /**
+     * Performs an action on all the mappings of this map,
+     * in ascending (unsigned) order of key.
+     *
+     * @param action an {@link ObjLongConsumer}{@code <? super V>},
+     *        the action to be performed, that receives the value
+     *        and the key of each mapping.
+     */
+    public void forEach(ObjLongConsumer<? super V> action) {
+        if (this.root != null) {
+            forEach(this.root, this.shift, 0L, action);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEach(Object[] node, int shift, long prefix, ObjLongConsumer<? super V> action) {
+        for (int i = 0; i < WIDTH; ++i) {
+            final Object child = node[i];
+            if (child == null) {
+                continue;
+            }
+            final long key = prefix | (((long) i) << shift);
+            if (shift == 0) {
+                action.accept((V) child, key);
+            } else {
+                forEach((Object[]) child, shift - BITS, key, action);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("{");
+        forEach((value, key) -> {
+            if (buf.length() > 1) {
+                buf.append(", ");
+            }
+            buf.append(Long.toUnsignedString(key));
+            buf.append('=');
+            buf.append(value);
+        });
+        buf.append('}');
+        return buf.toString();
+    }
+
+    private static boolean fits(long key, int shift) {
+        return shift + BITS >= Long.SIZE || (key >>> (shift + BITS)) == 0;
+    }
+
+    private static int index(long key, int shift) {
+        return (int) ((key >>> shift) & MASK);
+    }
+
+    private static Object[] assoc(Object[] node, int shift, long key, Object value) {
+        final Object[] retVal = (node == null ? new Object[WIDTH] : node.clone());
+        final int i = index(key, shift);
+        retVal[i] = (shift == 0 ? value : assoc((Object[]) retVal[i], shift - BITS, key, value));
+        return retVal;
+    }
+
+    private static Object[] without(Object[] node, int shift, long key) {
+        final int i = index(key, shift);
+        final Object[] child = (shift == 0 ? null : without((Object[]) node[i], shift - BITS, key));
+        if (child == null) {
+            //collapses the node if the removed entry was its only one
+            boolean isEmpty = true;
+            for (int j = 0; j < WIDTH; ++j) {
+                if (j != i && node[j] != null) {
+                    isEmpty = false;
+                    break;
+                }
+            }
+            if (isEmpty) {
+                return null;
+            }
+        }
+        final Object[] retVal = node.clone();
+        retVal[i] = child;
+        return retVal;
+    }
+}
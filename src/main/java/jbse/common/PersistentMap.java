@@ -0,0 +1,408 @@
+package jbse.common;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable (persistent) map implemented as a hash array
+ * mapped trie. Updates do not modify the receiver but return a new
+ * map that shares with it all the unmodified part of the trie,
+ * so a "copy" of a map is free and an update costs
+ * O(log<sub>32</sub> n). Keys must not be {@code null}.
+ *
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class PersistentMap<K, V> implements Iterable<Map.Entry<K, V>> {
+    /** The number of hash bits consumed at each level of the trie. */
+    private static final int BITS = 5;
+
+    /** Mask for extracting {@link #BITS} bits. */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** The maximum depth of the trie (bitmap nodes plus one collision node). */
+    private static final int MAX_DEPTH = (Integer.SIZE / BITS) + 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentMap EMPTY = new PersistentMap<>(null, 0);
+
+    /** The root of the trie, or {@code null} if the map is empty. */
+    private final Node root;
+
+    /** The number of mappings. */
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty {@link PersistentMap}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return an {@code int}.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this map is empty.
+     *
+     * @return {@code true} iff {@link #size()}{@code == 0}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks whether this map contains a mapping for a key.
+     *
+     * @param key the key. It must not be {@code null}.
+     * @return {@code true} iff this map has a mapping for {@code key}.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    public boolean containsKey(Object key) {
+        return this.root != null && this.root.find(0, key.hashCode(), key, NOT_FOUND) != NOT_FOUND;
+    }
+
+    /**
+     * Returns the value associated to a key.
+     *
+     * @param key the key. It must not be {@code null}.
+     * @return the value associated to {@code key}, or
+     *         {@code null} if there is no such value.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (this.root == null) {
+            return null;
+        }
+        final Object retVal = this.root.find(0, key.hashCode(), key, NOT_FOUND);
+        return (retVal == NOT_FOUND ? null : (V) retVal);
+    }
+
+    /**
+     * Returns the map obtained by adding a mapping to this map.
+     *
+     * @param key the key. It must not be {@code null}.
+     * @param value the value.
+     * @return a {@link PersistentMap} that has the same mappings
+     *         as {@code this}, except that {@code key} is mapped
+     *         to {@code value}. {@code this} is not modified.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    public PersistentMap<K, V> put(K key, V value) {
+        final boolean[] added = new boolean[1];
+        final Node start = (this.root == null ? BitmapNode.EMPTY : this.root);
+        final Node newRoot = start.assoc(0, key.hashCode(), key, value, added);
+        if (newRoot == this.root) {
+            return this;
+        }
+        return new PersistentMap<>(newRoot, added[0] ? this.size + 1 : this.size);
+    }
+
+    /**
+     * Returns the map obtained by removing a mapping from this map.
+     *
+     * @param key the key. It must not be {@code null}.
+     * @return a {@link PersistentMap} that has the same mappings
+     *         as {@code this}, except that {@code key} is not mapped.
+     *         {@code this} is not modified.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    public PersistentMap<K, V> remove(Object key) {
+        if (this.root == null) {
+            return this;
+        }
+        final Node newRoot = this.root.without(0, key.hashCode(), key);
+        if (newRoot == this.root) {
+            return this;
+        }
+        return (newRoot == null ? empty() : new PersistentMap<>(newRoot, this.size - 1));
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(this.root);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("{");
+        boolean isFirst = true;
+        for (Map.Entry<K, V> e : this) {
+            if (isFirst) {
+                isFirst = false;
+            } else {
+                buf.append(", ");
+            }
+            buf.append(e.getKey());
+            buf.append('=');
+            buf.append(e.getValue());
+        }
+        buf.append('}');
+        return buf.toString();
+    }
+
+    /** Sentinel for absent mappings, since values can be {@code null}. */
+    private static final Object NOT_FOUND = new Object();
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int i, Object a) {
+        final Object[] retVal = array.clone();
+        retVal[i] = a;
+        return retVal;
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int i, Object a, int j, Object b) {
+        final Object[] retVal = array.clone();
+        retVal[i] = a;
+        retVal[j] = b;
+        return retVal;
+    }
+
+    private static Object[] removePair(Object[] array, int i) {
+        final Object[] retVal = new Object[array.length - 2];
+        System.arraycopy(array, 0, retVal, 0, 2 * i);
+        System.arraycopy(array, 2 * (i + 1), retVal, 2 * i, retVal.length - 2 * i);
+        return retVal;
+    }
+
+    /**
+     * A node of the trie. Its array stores pairs (key, value);
+     * in bitmap nodes a pair with {@code null} key stores a
+     * subnode in place of the value.
+     */
+    private static abstract class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key, Object notFound);
+
+        abstract Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+        abstract Node without(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key, Object notFound) {
+            final int bit = bitpos(hash, shift);
+            if ((this.bitmap & bit) == 0) {
+                return notFound;
+            }
+            final int idx = index(bit);
+            final Object k = this.array[2 * idx];
+            final Object v = this.array[2 * idx + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + BITS, hash, key, notFound);
+            }
+            return (key.equals(k) ? v : notFound);
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            final int bit = bitpos(hash, shift);
+            final int idx = index(bit);
+            if ((this.bitmap & bit) == 0) {
+                added[0] = true;
+                final Object[] newArray = new Object[this.array.length + 2];
+                System.arraycopy(this.array, 0, newArray, 0, 2 * idx);
+                newArray[2 * idx] = key;
+                newArray[2 * idx + 1] = value;
+                System.arraycopy(this.array, 2 * idx, newArray, 2 * (idx + 1), this.array.length - 2 * idx);
+                return new BitmapNode(this.bitmap | bit, newArray);
+            }
+            final Object k = this.array[2 * idx];
+            final Object v = this.array[2 * idx + 1];
+            if (k == null) {
+                final Node n = ((Node) v).assoc(shift + BITS, hash, key, value, added);
+                return (n == v ? this : new BitmapNode(this.bitmap, cloneAndSet(this.array, 2 * idx + 1, n)));
+            }
+            if (key.equals(k)) {
+                return (value == v ? this : new BitmapNode(this.bitmap, cloneAndSet(this.array, 2 * idx + 1, value)));
+            }
+            added[0] = true;
+            final Node sub = createNode(shift + BITS, k, v, hash, key, value);
+            return new BitmapNode(this.bitmap, cloneAndSet(this.array, 2 * idx, null, 2 * idx + 1, sub));
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            final int bit = bitpos(hash, shift);
+            if ((this.bitmap & bit) == 0) {
+                return this;
+            }
+            final int idx = index(bit);
+            final Object k = this.array[2 * idx];
+            final Object v = this.array[2 * idx + 1];
+            if (k == null) {
+                final Node n = ((Node) v).without(shift + BITS, hash, key);
+                if (n == v) {
+                    return this;
+                }
+                if (n != null) {
+                    return new BitmapNode(this.bitmap, cloneAndSet(this.array, 2 * idx + 1, n));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            return (this.bitmap == bit ? null : new BitmapNode(this.bitmap ^ bit, removePair(this.array, idx)));
+        }
+
+        private static Node createNode(int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+            final int h1 = k1.hashCode();
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[] { k1, v1, k2, v2 });
+            }
+            final boolean[] added = new boolean[1];
+            return EMPTY.assoc(shift, h1, k1, v1, added).assoc(shift, h2, k2, v2, added);
+        }
+    }
+
+    /** A node storing all the keys with the same (full) hash. */
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < this.array.length / 2; ++i) {
+                if (key.equals(this.array[2 * i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key, Object notFound) {
+            if (hash != this.hash) {
+                return notFound;
+            }
+            final int idx = indexOf(key);
+            return (idx < 0 ? notFound : this.array[2 * idx + 1]);
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                //pushes this node one level down
+                return new BitmapNode(bitpos(this.hash, shift), new Object[] { null, this })
+                       .assoc(shift, hash, key, value, added);
+            }
+            final int idx = indexOf(key);
+            if (idx >= 0) {
+                return (this.array[2 * idx + 1] == value ? this : new CollisionNode(this.hash, cloneAndSet(this.array, 2 * idx + 1, value)));
+            }
+            added[0] = true;
+            final Object[] newArray = new Object[this.array.length + 2];
+            System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+            newArray[this.array.length] = key;
+            newArray[this.array.length + 1] = value;
+            return new CollisionNode(this.hash, newArray);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            final int idx = indexOf(key);
+            if (idx < 0) {
+                return this;
+            }
+            return (this.array.length == 2 ? null : new CollisionNode(this.hash, removePair(this.array, idx)));
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Map.Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            if (root == null) {
+                this.depth = -1;
+            } else {
+                this.arrays[0] = root.array;
+                this.depth = 0;
+            }
+            moveForward();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void moveForward() {
+            while (this.depth >= 0) {
+                final Object[] array = this.arrays[this.depth];
+                final int pos = this.positions[this.depth];
+                if (pos >= array.length) {
+                    --this.depth;
+                    continue;
+                }
+                this.positions[this.depth] = pos + 2;
+                final Object k = array[pos];
+                final Object v = array[pos + 1];
+                if (k == null) {
+                    ++this.depth;
+                    this.arrays[this.depth] = ((Node) v).array;
+                    this.positions[this.depth] = 0;
+                } else {
+                    this.next = new AbstractMap.SimpleImmutableEntry<>((K) k, (V) v);
+                    return;
+                }
+            }
+            this.next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final Map.Entry<K, V> retVal = this.next;
+            moveForward();
+            return retVal;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package jbse.common;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A table of canonical instances of immutable objects
+ * (hash-consing). Interning two equivalent objects yields
+ * the same instance, so equivalence between interned objects
+ * can be checked by identity. The table refers its
+ * instances weakly, so it does not prevent the garbage
+ * collection of the instances that are no longer used.
+ * It is safe to use it from multiple threads: the table 
+ * is split in segments, each guarded by its own lock.
+ *
+ * @param <T> the type of the interned objects.
+ */
+public final class WeakInternTable<T> {
+    /** The number of segments (a power of two). */
+    private static final int SEGMENTS = 16;
+
+    /** Shifts a hash to the index of its segment. */
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    /** The initial number of buckets of a segment (a power of two). */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** 
+     * How many objects are interned in a segment between two
+     * removals of its garbage collected entries. 
+     */
+    private static final int PURGE_PERIOD = 64;
+
+    /** The hash function. */
+    private final ToIntFunction<? super T> hash;
+
+    /** The equivalence relation. */
+    private final BiPredicate<? super T, ? super T> equivalent;
+
+    /** The segments. */
+    private final Segment<T>[] segments;
+
+    private static final class Entry<T> extends WeakReference<T> {
+        final int hash;
+        Entry<T> next;
+
+        Entry(T t, int hash, Entry<T> next, ReferenceQueue<T> queue) {
+            super(t, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A segment of the table. All its methods must be
+     * invoked with the segment's lock held.
+     */
+    private static final class Segment<T> {
+        /** Where the garbage collector enqueues the cleared entries. */
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+        /** The buckets. */
+        private Entry<T>[] buckets = newBuckets(INITIAL_CAPACITY);
+
+        /** The number of entries. */
+        private int size = 0;
+
+        /** The number of interned objects before the next purge. */
+        private int untilPurge = PURGE_PERIOD;
+
+        T intern(T t, int h, BiPredicate<? super T, ? super T> equivalent) {
+            if (--this.untilPurge == 0) {
+                purge();
+            }
+            final int index = h & (this.buckets.length - 1);
+            for (Entry<T> e = this.buckets[index]; e != null; e = e.next) {
+                if (e.hash == h) {
+                    final T canonical = e.get();
+                    if (canonical != null && equivalent.test(canonical, t)) {
+                        return canonical;
+                    }
+                }
+            }
+            this.buckets[index] = new Entry<>(t, h, this.buckets[index], this.queue);
+            ++this.size;
+            if (this.size > this.buckets.length) {
+                //the table may be full of dead entries
+                purge();
+                if (this.size > this.buckets.length) {
+                    resize();
+                }
+            }
+            return t;
+        }
+
+        /**
+         * Removes the entries whose objects were garbage collected.
+         */
+        void purge() {
+            this.untilPurge = PURGE_PERIOD;
+            Object cleared;
+            while ((cleared = this.queue.poll()) != null) {
+                final Entry<?> entry = (Entry<?>) cleared;
+                final int index = entry.hash & (this.buckets.length - 1);
+                Entry<T> prev = null;
+                for (Entry<T> e = this.buckets[index]; e != null; prev = e, e = e.next) {
+                    if (e == entry) {
+                        if (prev == null) {
+                            this.buckets[index] = e.next;
+                        } else {
+                            prev.next = e.next;
+                        }
+                        --this.size;
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Doubles the number of buckets.
+         */
+        private void resize() {
+            final Entry<T>[] bucketsNew = newBuckets(this.buckets.length * 2);
+            for (Entry<T> bucket : this.buckets) {
+                Entry<T> e = bucket;
+                while (e != null) {
+                    final Entry<T> next = e.next;
+                    final int index = e.hash & (bucketsNew.length - 1);
+                    e.next = bucketsNew[index];
+                    bucketsNew[index] = e;
+                    e = next;
+                }
+            }
+            this.buckets = bucketsNew;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Entry<T>[] newBuckets(int n) {
+        return (Entry<T>[]) new Entry[n];
+    }
+
+    /**
+     * Constructor. The interned objects are compared
+     * by {@link Object#equals(Object) equals}.
+     */
+    public WeakInternTable() {
+        this(Object::hashCode, Object::equals);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hash the hash function. It must be consistent
+     *        with {@code equivalent}, and must not depend
+     *        on mutable state.
+     * @param equivalent the equivalence relation between
+     *        interned objects. Equivalent objects must be
+     *        interchangeable.
+     */
+    @SuppressWarnings("unchecked")
+    public WeakInternTable(ToIntFunction<? super T> hash, BiPredicate<? super T, ? super T> equivalent) {
+        this.hash = hash;
+        this.equivalent = equivalent;
+        this.segments = (Segment<T>[]) new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; ++i) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Interns an object.
+     *
+     * @param t the object to intern. It must not be {@code null}.
+     * @return the canonical instance equivalent to {@code t}:
+     *         either an instance previously interned,
+     *         or {@code t} itself if there is no such instance.
+     * @throws NullPointerException if {@code t == null}.
+     */
+    public T intern(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+        final int h = spread(this.hash.applyAsInt(t));
+        //the segment is chosen by the high bits, the bucket by the low ones
+        final Segment<T> segment = this.segments[h >>> SEGMENT_SHIFT];
+        synchronized (segment) {
+            return segment.intern(t, h, this.equivalent);
+        }
+    }
+
+    /**
+     * Returns the number of the (still alive) interned objects.
+     *
+     * @return an {@code int}.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : this.segments) {
+            synchronized (segment) {
+                segment.purge();
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        final int s = h * 0x9E3779B9; //mixes the low bits into the high ones
+        return s ^ (s >>> 16);
+    }
+}
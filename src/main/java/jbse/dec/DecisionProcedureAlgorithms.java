@@ -41,7 +41,6 @@ import jbse.dec.SolverEquationGenericTypes.TypeTerm;
 import jbse.dec.SolverEquationGenericTypes.Var;
 import jbse.dec.exc.DecisionException;
 import jbse.mem.Array;
-import jbse.mem.Clause;
 import jbse.mem.ClauseAssumeExpands;
 import jbse.mem.Objekt;
 import jbse.mem.State;
@@ -1483,26 +1482,23 @@ public class DecisionProcedureAlgorithms extends DecisionProcedureDecorator {
         final TreeMap<Long, Objekt> retVal = new TreeMap<>();
 
         //TODO extract this code and share with State.getObjectInitial and jbse.rule.Util.getTriggerMethodParameterObject
-        //scans the path condition for compatible objects
-        final Iterable<Clause> pathCondition = state.getPathCondition(); //TODO the decision procedure already stores the path condition: eliminate dependence on state
-        for (Clause c : pathCondition) {
-            if (c instanceof ClauseAssumeExpands) {
+        //scans the path condition for compatible objects, restricting
+        //to the expansions whose objects may have a compatible type
+        try {
+            for (ClauseAssumeExpands cExp : state.getPathConditionExpands(refClass)) { //TODO the decision procedure already stores the path condition: eliminate dependence on state
                 //gets the object and its position in the heap
-                final ClauseAssumeExpands cExp = (ClauseAssumeExpands) c;
                 final Long i = cExp.getHeapPosition();
                 final Objekt o = cExp.getObjekt();
 
                 //if it is type and epoch compatible, adds the object
                 //to the result
-                try {
-                    if (isAliasCompatible(o, ref, refClass)) {
-                        retVal.put(i, o);
-                    }
-                } catch (InvalidInputException e) {
-                    //this should never happen (checked before)
-                    throw new UnexpectedInternalException(e);
+                if (isAliasCompatible(o, ref, refClass)) {
+                    retVal.put(i, o);
                 }
             }
+        } catch (InvalidInputException e) {
+            //this should never happen (checked before)
+            throw new UnexpectedInternalException(e);
         }
         return retVal;
     }
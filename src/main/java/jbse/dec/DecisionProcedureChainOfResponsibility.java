@@ -53,6 +53,47 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
      */
     protected Rewriter[] rewriters;
 
+    /** 
+     * The weight of the last measurement in the (exponential moving) 
+     * averages of the costs of locally pushing, popping and clearing
+     * assumptions. 
+     */
+    private static final double COST_WEIGHT = 0.125d;
+
+    /** 
+     * The average cost, in nanoseconds, of locally pushing
+     * a clause, or a negative value if it was not yet measured. 
+     */
+    private double costPush = -1.0d;
+
+    /** 
+     * The average cost, in nanoseconds, of locally popping
+     * a clause, or a negative value if it was not yet measured. 
+     */
+    private double costPop = -1.0d;
+
+    /** 
+     * The average cost, in nanoseconds, of locally clearing
+     * the assumptions, or a negative value if it was not yet measured. 
+     */
+    private double costClear = -1.0d;
+
+    /** The number of clauses locally pushed by {@link #setAssumptions(Collection)}. */
+    private long numAssumptionsPushed = 0L;
+
+    /** The number of clauses locally popped by {@link #setAssumptions(Collection)}. */
+    private long numAssumptionsPopped = 0L;
+
+    /** The number of times {@link #setAssumptions(Collection)} locally cleared the assumptions. */
+    private long numAssumptionsCleared = 0L;
+
+    /** 
+     * The number of clauses that were locally pushed again after
+     * the assumptions were cleared, despite they were already
+     * pushed before the clear. 
+     */
+    private long numAssumptionsResent = 0L;
+
     /**
      * Constructor.
      * 
@@ -325,10 +366,10 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         final int common = numCommonAssumptions(currentAssumptions, newAssumptions);
         final int toPop = currentAssumptions.size() - common;
         final int toPush = newAssumptions.size() - common;
-        if (canPopAssumptions() && toPop < common) { //TODO toPop < common is a guess! Implement better heuristics
+        if (shouldPopAssumptions(common, toPop, toPush)) {
             setAssumptionsLocalConservatively(newAssumptions, toPop, toPush);
         } else {
-            setAssumptionsLocalDestructively(newAssumptions);
+            setAssumptionsLocalDestructively(newAssumptions, common);
         }
         if (hasNext()) {
             this.next.setAssumptions(newAssumptions);
@@ -342,7 +383,9 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         while (iterOld.hasNext() && iterNew.hasNext()) {
             final Clause oldAssumption = iterOld.next();
             final Clause newAssumption = iterNew.next();
-            if (!oldAssumption.equals(newAssumption)) {
+            //the common prefix of two path conditions is usually
+            //made of shared clauses, so tests identity first
+            if (oldAssumption != newAssumption && !oldAssumption.equals(newAssumption)) {
                 break;
             }
             ++retVal;
@@ -350,6 +393,43 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         return retVal;
     }
 
+    /**
+     * Decides whether to locally set the assumptions by popping 
+     * and pushing just the clauses that differ, or by clearing 
+     * the current assumptions and pushing all the new ones. The 
+     * decision is based on the measured average costs of pushing
+     * and popping a clause and of clearing the assumptions;
+     * until all of them are measured, it is taken by just
+     * comparing the number of clauses to pop with the number 
+     * of common clauses.
+     * 
+     * @param common the number of clauses in the common prefix of 
+     *        the current and the new assumptions.
+     * @param toPop the number of current clauses not in the common prefix.
+     * @param toPush the number of new clauses not in the common prefix.
+     * @return {@code true} iff the clauses that differ should be 
+     *         popped and pushed.
+     */
+    private boolean shouldPopAssumptions(int common, int toPop, int toPush) {
+        if (!canPopAssumptions()) {
+            return false;
+        }
+        if (toPop == 0) {
+            return true;
+        }
+        if (this.costPush < 0 || this.costPop < 0 || this.costClear < 0) {
+            return toPop < common;
+        }
+        final double costConservative = toPop * this.costPop + toPush * this.costPush;
+        final double costDestructive = this.costClear + (common + toPush) * this.costPush;
+        return costConservative <= costDestructive;
+    }
+
+    private static double updateCost(double cost, long elapsed, int n) {
+        final double measured = ((double) elapsed) / n;
+        return (cost < 0 ? measured : cost + COST_WEIGHT * (measured - cost));
+    }
+
     /**
      * Locally pops/pushes just the clauses that differ.
      * 
@@ -362,20 +442,16 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
     setAssumptionsLocalConservatively(Collection<Clause> newAssumptions, int toPop, int toPush)
     throws DecisionException {
         //pops
-        for (int i = 1; i <= toPop; ++i) {
-            popAssumptionLocal();
+        if (toPop > 0) {
+            final long start = System.nanoTime();
+            popAssumptionsLocal(toPop);
+            this.costPop = updateCost(this.costPop, System.nanoTime() - start, toPop);
+            this.numAssumptionsPopped += toPop;
         }
 
         //pushes
         final int common = newAssumptions.size() - toPush;
-        int i = 1;
-        for (Clause c : newAssumptions) {
-            if (i > common) {
-                final Clause cSimpl = simplifyLocal(c);
-                pushAssumptionLocal(cSimpl);
-            }
-            ++i;
-        }
+        pushAssumptionsLocal(newAssumptions, common);
     }
 
     /**
@@ -386,13 +462,41 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
      * @throws DecisionException upon failure.
      */
     private void 
-    setAssumptionsLocalDestructively(Collection<Clause> newAssumptions) 
+    setAssumptionsLocalDestructively(Collection<Clause> newAssumptions, int common) 
     throws DecisionException {
+        final long start = System.nanoTime();
         clearAssumptionsLocal();
+        this.costClear = updateCost(this.costClear, System.nanoTime() - start, 1);
+        ++this.numAssumptionsCleared;
+        this.numAssumptionsResent += common;
+        pushAssumptionsLocal(newAssumptions, 0);
+    }
+
+    /**
+     * Locally pushes a suffix of the new assumptions.
+     * 
+     * @param newAssumptions see {@link #setAssumptions}.
+     * @param skip the number of clauses at the beginning of 
+     *        {@code newAssumptions} that must not be pushed.
+     * @throws DecisionException upon failure.
+     */
+    private void pushAssumptionsLocal(Collection<Clause> newAssumptions, int skip) 
+    throws DecisionException {
+        final int toPush = newAssumptions.size() - skip;
+        if (toPush <= 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        int i = 1;
         for (Clause c : newAssumptions) {
-            final Clause cSimpl = simplifyLocal(c);
-            pushAssumptionLocal(cSimpl);
+            if (i > skip) {
+                final Clause cSimpl = simplifyLocal(c);
+                pushAssumptionLocal(cSimpl);
+            }
+            ++i;
         }
+        this.costPush = updateCost(this.costPush, System.nanoTime() - start, toPush);
+        this.numAssumptionsPushed += toPush;
     }
 
     /**
@@ -421,6 +525,74 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         throw new DecisionException();
     }
 
+    /**
+     * Locally pops the last clauses added to the current assumptions.
+     * The default implementation invokes {@link #popAssumptionLocal()}
+     * {@code n} times; subclasses may override it when popping many 
+     * clauses at once is cheaper than popping them one by one.
+     * 
+     * @param n a positive {@code int}, the number of clauses to pop.
+     * @throws DecisionException if the subclass does not offer
+     *         this feature.
+     */
+    protected void popAssumptionsLocal(int n) throws DecisionException {
+        for (int i = 1; i <= n; ++i) {
+            popAssumptionLocal();
+        }
+    }
+
+    /**
+     * Counts clauses that were locally pushed again after they were 
+     * dropped, e.g., because a subclass had to resynchronize with 
+     * an external tool.
+     * 
+     * @param n an {@code int}, the number of clauses pushed again.
+     */
+    protected final void countAssumptionsResent(int n) {
+        this.numAssumptionsResent += n;
+    }
+
+    /**
+     * Returns the number of clauses locally pushed
+     * when setting the assumptions.
+     * 
+     * @return a {@code long}.
+     */
+    public final long getNumAssumptionsPushed() {
+        return this.numAssumptionsPushed;
+    }
+
+    /**
+     * Returns the number of clauses locally popped
+     * when setting the assumptions.
+     * 
+     * @return a {@code long}.
+     */
+    public final long getNumAssumptionsPopped() {
+        return this.numAssumptionsPopped;
+    }
+
+    /**
+     * Returns the number of times the local assumptions
+     * were cleared when setting the assumptions.
+     * 
+     * @return a {@code long}.
+     */
+    public final long getNumAssumptionsCleared() {
+        return this.numAssumptionsCleared;
+    }
+
+    /**
+     * Returns the number of clauses that were locally 
+     * pushed again after the local assumptions were 
+     * cleared, despite they had been already pushed.
+     * 
+     * @return a {@code long}.
+     */
+    public final long getNumAssumptionsResent() {
+        return this.numAssumptionsResent;
+    }
+
     @Override
     public final Collection<Clause> getAssumptions() throws DecisionException {
         //the farthest element in the chain has
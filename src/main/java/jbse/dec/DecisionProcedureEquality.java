@@ -1,8 +1,11 @@
 package jbse.dec;
 
+import java.util.ArrayList;
+
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
 import jbse.mem.ClauseAssume;
 import jbse.val.Any;
 import jbse.val.Expression;
@@ -28,6 +31,12 @@ import jbse.val.exc.NoResultException;
  */
 public final class DecisionProcedureEquality extends DecisionProcedureChainOfResponsibility {
 	private final Partition<Primitive> equivalence = new Partition<>();
+	
+	/** 
+	 * The checkpoints of {@link #equivalence} before 
+	 * the push of each current assumption. 
+	 */
+	private final ArrayList<Integer> checkpoints = new ArrayList<>();
 
 	public DecisionProcedureEquality(DecisionProcedure component) 
 	throws InvalidInputException {
@@ -35,6 +44,12 @@ public final class DecisionProcedureEquality extends DecisionProcedureChainOfRes
 		this.rewriters = new Rewriter[] { new RewriterUnify() }; //explicit assignment: no constructor call is allowed before super()
 	}
 
+	@Override
+	protected void pushAssumptionLocal(Clause cSimpl) throws DecisionException {
+		this.checkpoints.add(this.equivalence.checkpoint());
+		super.pushAssumptionLocal(cSimpl);
+	}
+
 	@Override
 	protected void pushAssumptionLocal(ClauseAssume c) {
 		final Primitive p = c.getCondition();
@@ -53,6 +68,20 @@ public final class DecisionProcedureEquality extends DecisionProcedureChainOfRes
 	@Override
 	protected void clearAssumptionsLocal() {
 		this.equivalence.reset();
+		this.checkpoints.clear();
+	}
+	
+	@Override
+	protected boolean canPopAssumptions() {
+		return true;
+	}
+	
+	@Override
+	protected void popAssumptionLocal() throws DecisionException {
+		if (this.checkpoints.isEmpty()) {
+			throw new DecisionException("Attempted to pop an assumption when there are no current assumptions.");
+		}
+		this.equivalence.rollback(this.checkpoints.remove(this.checkpoints.size() - 1));
 	}
 
 	@Override
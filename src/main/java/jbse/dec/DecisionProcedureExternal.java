@@ -80,6 +80,7 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
             for (Clause c : i) {
                 super.pushAssumptionLocal(c); //redispatches
             }
+            countAssumptionsResent(this.clauses.size());
             this.notInSynch = false;
         } catch (ExternalProtocolInterfaceException | IOException e) {
             throw new DecisionException(e);
@@ -218,6 +219,27 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
         }
     }
 
+    @Override
+    protected final void popAssumptionsLocal(int n) 
+    throws DecisionException {
+        for (int i = 1; i <= n; ++i) {
+            this.clauses.pop();
+        }
+        if (this.fast) {
+            this.notInSynch = true;
+        } else {
+            try {
+                if (this.extIf.isWorking()) {
+                    this.extIf.popAssumptions(n);
+                } else {
+                    throw new DecisionException(NOT_WORKING);					
+                }
+            } catch (ExternalProtocolInterfaceException | IOException e) {
+                throw new DecisionException(e);
+            }
+        }
+    }
+
     @Override
     protected final boolean isSatLocal(Expression exp, Expression expSimpl) 
     throws DecisionException {
@@ -202,6 +202,29 @@ public abstract class DecisionProcedureExternalInterface {
         throw new ExternalProtocolInterfaceException("Popping assumptions is not implemented for external decision procedure interface of class " + this.getClass().getName());
     }
 
+    /**
+     * Pops the last {@code n} clauses added to the current assumption by 
+     * calls to {@link #pushAssumption(boolean)}. The default implementation
+     * invokes {@link #popAssumption()} {@code n} times, subclasses should
+     * override it if the external decision procedure can backtrack many
+     * assumptions in one step.
+     * 
+     * @param n a positive {@code int}, the number of clauses to pop.
+     * @throws ExternalProtocolInterfaceException if this method
+     *         is invoked when there is a current predicate, 
+     *         or when there are less than {@code n} clauses
+     *         in the current assumption, or if popping is 
+     *         unimplemented.
+     * @throws IOException if communication with the external 
+     *         decision procedure fails.
+     */
+    public void popAssumptions(int n)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (int i = 1; i <= n; ++i) {
+            popAssumption();
+        }
+    }
+
     /**
      * Deletes the whole assumption set.
      * 
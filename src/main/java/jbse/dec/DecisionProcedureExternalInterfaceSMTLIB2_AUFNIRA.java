@@ -37,7 +37,16 @@ import jbse.val.WideningConversion;
 
 /**
  * {@link DecisionProcedureExternalInterface} to a generic SMTLIB 2 solver
- * that supports the AUFNIRA logic. 
+ * that supports the AUFNIRA logic. It can work in two modes: In strict mode
+ * the solver is configured to acknowledge every command, and every command
+ * is sent as soon as it is issued and its acknowledgment is checked. In 
+ * pipelined mode the solver does not acknowledge the commands, and all the 
+ * commands (declarations, assertions, push, pop) are buffered and sent in a
+ * single write when either a {@code check-sat} or a {@code get-value} command
+ * is issued; then the answer of the solver is checked. Pipelined mode saves 
+ * a round-trip with the solver process for every command, but an error is 
+ * detected only at the first {@code check-sat} or {@code get-value} after 
+ * the command that caused it, so strict mode is more suitable for debugging. 
  * 
  * @author Pietro Braione
  * @author Diego Piazza
@@ -45,8 +54,9 @@ import jbse.val.WideningConversion;
 //TODO simplify implementation
 final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionProcedureExternalInterface {
     //commands
+    private static final String PRINT_SUCCESS = "(set-option :print-success true)\n";
+    private static final String PRINT_NO_SUCCESS = "(set-option :print-success false)\n";
     private static final String PROLOGUE = 
-        "(set-option :print-success true)\n" +
         "(set-option :interactive-mode true)\n" +
         "(set-option :produce-models true)\n" +
         "(set-logic AUFNIRA)\n" +
@@ -65,12 +75,14 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
     private static final String SAT = "sat";
     private static final String UNSAT = "unsat";
     private static final String UNKNOWN = "unknown";
+    private static final String ERROR = "(error";
     
     //etc
     private static final String OTHER = "";
 
     private final Calculator calc;
     private final ExpressionMangler m;
+    private final boolean pipelined;
     private boolean working;
     private Process solver;
     private BufferedReader solverIn;
@@ -90,11 +102,14 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
      * @param calc a {@link Calculator}.
      * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
      *        command line to launch the external process for the decision procedure.
+     * @param pipelined a {@code boolean}, {@code true} iff the interface must
+     *        work in pipelined mode, {@code false} iff it must work in strict mode.
      */
-    public DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(Calculator calc, List<String> solverCommandLine) 
+    public DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(Calculator calc, List<String> solverCommandLine, boolean pipelined) 
     throws ExternalProtocolInterfaceException, IOException {
         this.calc = calc;
         this.m = new ExpressionMangler("X", "", calc);
+        this.pipelined = pipelined;
         this.working = true;
         final ProcessBuilder pb = new ProcessBuilder(solverCommandLine);
         pb.redirectErrorStream(true);
@@ -102,7 +117,7 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
         this.solverIn = new BufferedReader(new InputStreamReader(this.solver.getInputStream()));
         this.solverOut = new BufferedWriter(new OutputStreamWriter(this.solver.getOutputStream()));
         
-        final String query = PROLOGUE + PUSH_1;
+        final String query = (pipelined ? PRINT_NO_SUCCESS : PRINT_SUCCESS) + PROLOGUE + PUSH_1;
         sendAndCheckAnswer(query);
         clear();
     }
@@ -431,6 +446,27 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
         }
     }
 
+    @Override
+    public void popAssumptions(int n) throws ExternalProtocolInterfaceException, IOException {
+        if (n > this.pushedClauseIsOutsideTheory.size()) {
+            throw new ExternalProtocolInterfaceException("Attempted to pop " + n + " assumptions when there are only " + this.pushedClauseIsOutsideTheory.size() + " assumptions.");
+        }
+        //every clause in the theory was pushed in its own scope, 
+        //so all the scopes are popped by a single command
+        int nToPop = 0;
+        for (int i = 1; i <= n; ++i) {
+            final int last = this.pushedClauseIsOutsideTheory.size() - 1;
+            final boolean outsideTheory = this.pushedClauseIsOutsideTheory.remove(last);
+            if (!outsideTheory) {
+                forgetPoppedDeclarations();
+                ++nToPop;
+            }
+        }
+        if (nToPop > 0) {
+            sendAndCheckAnswer(POP_BEGIN + nToPop + POP_END);
+        }
+    }
+
     @Override
     public void clear() 
     throws ExternalProtocolInterfaceException, IOException {
@@ -455,7 +491,23 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
         }
     }
     
+    private void sendBuffered(String query) throws IOException {
+        //System.err.print("--->SMTLIB2: " + query); //TODO log differently!
+    	
+        try {
+            this.solverOut.write(query); //the buffer is flushed by the next send
+        } catch (IOException e) {
+            this.working = false;
+            throw e;
+        }
+    }
+    
     private void sendAndCheckAnswer(String query) throws IOException, ExternalProtocolInterfaceException {
+        if (this.pipelined) {
+            //no answer to check
+            sendBuffered(query);
+            return;
+        }
         send(query);
         for (int i = 0; i < query.length(); ++i) {
             if (query.charAt(i) == '\n') {
@@ -492,6 +544,11 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
     private boolean sendAndCheckAnswerChecksat() throws IOException, ExternalProtocolInterfaceException {
         send(CHECKSAT);
         final String answer = read();
+        if (this.pipelined && answer.startsWith(ERROR)) {
+            //the error might be caused by any of the buffered commands
+            this.working = false;
+            throw new ExternalProtocolInterfaceException("unexpected solver answer. Message: " + answer);
+        }
         if (!answer.equals(SAT) && !answer.equals(UNSAT) && !answer.equals(UNKNOWN)) {
             this.working = false;
             throw new ExternalProtocolInterfaceException("unrecognized answer from solver when checking satisfiability. Message: " + answer);
@@ -18,21 +18,74 @@ import java.util.List;
  *
  */
 public final class DecisionProcedureSMTLIB2_AUFNIRA extends DecisionProcedureExternal {
+	/**
+	 * Constructor. The interaction with the solver is pipelined.
+	 * 
+	 * @param next the next {@link DecisionProcedure} in the Chain of Responsibility.
+	 * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
+	 *        command line to launch the solver.
+	 * @throws InvalidInputException if {@code next == null}.
+	 * @throws DecisionException if launching the solver fails.
+	 */
 	public DecisionProcedureSMTLIB2_AUFNIRA(DecisionProcedure next, List<String> solverCommandLine) 
+	throws InvalidInputException, DecisionException {
+		this(next, solverCommandLine, true);
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param next the next {@link DecisionProcedure} in the Chain of Responsibility.
+	 * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
+	 *        command line to launch the solver.
+	 * @param pipelined {@code true} iff the interaction with the solver must be
+	 *        pipelined, {@code false} iff every command must be acknowledged by 
+	 *        the solver before sending the next one (slower, but better for debugging).
+	 * @throws InvalidInputException if {@code next == null}.
+	 * @throws DecisionException if launching the solver fails.
+	 */
+	public DecisionProcedureSMTLIB2_AUFNIRA(DecisionProcedure next, List<String> solverCommandLine, boolean pipelined) 
 	throws InvalidInputException, DecisionException {
 		super(next);
 		try {
-			this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(getCalculator(), solverCommandLine);
+			this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(getCalculator(), solverCommandLine, pipelined);
 		} catch (ExternalProtocolInterfaceException | IOException e) {
 			throw new DecisionException(e);
 		}
 	}
 	
+	/**
+	 * Constructor (no next procedure in the Chain of Responsibility). 
+	 * The interaction with the solver is pipelined.
+	 * 
+	 * @param calc a {@link Calculator}.
+	 * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
+	 *        command line to launch the solver.
+	 * @throws InvalidInputException if {@code calc == null}.
+	 * @throws DecisionException if launching the solver fails.
+	 */
 	public DecisionProcedureSMTLIB2_AUFNIRA(Calculator calc, List<String> solverCommandLine) 
+	throws InvalidInputException, DecisionException {
+		this(calc, solverCommandLine, true);
+	}
+	
+	/**
+	 * Constructor (no next procedure in the Chain of Responsibility).
+	 * 
+	 * @param calc a {@link Calculator}.
+	 * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
+	 *        command line to launch the solver.
+	 * @param pipelined {@code true} iff the interaction with the solver must be
+	 *        pipelined, {@code false} iff every command must be acknowledged by 
+	 *        the solver before sending the next one (slower, but better for debugging).
+	 * @throws InvalidInputException if {@code calc == null}.
+	 * @throws DecisionException if launching the solver fails.
+	 */
+	public DecisionProcedureSMTLIB2_AUFNIRA(Calculator calc, List<String> solverCommandLine, boolean pipelined) 
 	throws InvalidInputException, DecisionException {
 		super(calc);
 		try {
-			this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(getCalculator(), solverCommandLine);
+			this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(getCalculator(), solverCommandLine, pipelined);
 		} catch (ExternalProtocolInterfaceException | IOException e) {
 			throw new DecisionException(e);
 		}
@@ -1,11 +1,13 @@
 package jbse.dec;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import jbse.common.Type;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
 import jbse.mem.ClauseAssume;
 import jbse.val.Any;
 import jbse.val.Expression;
@@ -480,12 +482,34 @@ public final class DecisionProcedureSignAnalysis extends DecisionProcedureChainO
 	
 	/** Caches the {@link SignPredicate}s of all the discovered path predicates. */
 	private HashMap<Primitive, SignPredicate> preds = new HashMap<Primitive, SignPredicate>();
+	
+	/** 
+	 * The undo trail of {@link #preds}: For each current assumption
+	 * it stores the {@link Primitive} whose {@link SignPredicate} 
+	 * was updated by the assumption (or {@code null} if no 
+	 * {@link SignPredicate} was updated)...
+	 */
+	private final ArrayList<Primitive> trailOperands = new ArrayList<>();
+	
+	/** 
+	 * ...and the {@link SignPredicate} it had before the update 
+	 * (or {@code null} if it had none).
+	 */
+	private final ArrayList<SignPredicate> trailPreds = new ArrayList<>();
 
 	public DecisionProcedureSignAnalysis(DecisionProcedure next) throws InvalidInputException {
 		super(next);
 		this.rewriters = new Rewriter[] { new RewriterSimplifyTrivialExpressions() }; //explicit assignment because the super constructor must be invoked before the rewriter's constructor
 	}
 
+	@Override
+	protected void pushAssumptionLocal(Clause cSimpl) throws DecisionException {
+		//pushes an empty trail frame that pushAssumptionLocal(ClauseAssume) might fill
+		this.trailOperands.add(null);
+		this.trailPreds.add(null);
+		super.pushAssumptionLocal(cSimpl);
+	}
+
 	@Override
 	protected void pushAssumptionLocal(ClauseAssume c) {
 		final Primitive p = c.getCondition();
@@ -496,7 +520,12 @@ public final class DecisionProcedureSignAnalysis extends DecisionProcedureChainO
 				final SignPredicate predicateOperand = fetch(operand);
 				final SignPredicate predicateRange = bestApproxRange(exp);
 				final SignPredicate bestPredicate = predicateOperand.and(predicateRange);
-				this.preds.put(operand, bestPredicate);
+				final SignPredicate previous = this.preds.put(operand, bestPredicate);
+				final int last = this.trailOperands.size() - 1;
+				if (last >= 0) {
+					this.trailOperands.set(last, operand);
+					this.trailPreds.set(last, previous);
+				}
 			}
 		}
 	}
@@ -504,6 +533,30 @@ public final class DecisionProcedureSignAnalysis extends DecisionProcedureChainO
 	@Override
 	protected void clearAssumptionsLocal() {
 		this.preds.clear();
+		this.trailOperands.clear();
+		this.trailPreds.clear();
+	}
+	
+	@Override
+	protected boolean canPopAssumptions() {
+		return true;
+	}
+	
+	@Override
+	protected void popAssumptionLocal() throws DecisionException {
+		final int last = this.trailOperands.size() - 1;
+		if (last < 0) {
+			throw new DecisionException("Attempted to pop an assumption when there are no current assumptions.");
+		}
+		final Primitive operand = this.trailOperands.remove(last);
+		final SignPredicate previous = this.trailPreds.remove(last);
+		if (operand != null) {
+			if (previous == null) {
+				this.preds.remove(operand);
+			} else {
+				this.preds.put(operand, previous);
+			}
+		}
 	}
 	
 	@Override
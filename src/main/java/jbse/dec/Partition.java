@@ -1,9 +1,12 @@
 package jbse.dec;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 
 /**
- * Union-find partition data structure.
+ * Union-find partition data structure. It records all the
+ * changes to its nodes on a trail, so it can be rolled back
+ * to a previous {@link #checkpoint() checkpoint}.
  * 
  * @author Pietro Braione
  */
@@ -24,7 +27,37 @@ class Partition<X> {
 			return ">" + this.parent.element.toString() +"(r" + this.rank + ")";
 		}
 	}
+	
+	/**
+	 * An entry of the trail, that stores the previous
+	 * parent and rank of a node, or records that the 
+	 * node was created.
+	 */
+	private class TrailEntry {
+		private final PartitionNode node;
+		private final PartitionNode parent;
+		private final int rank;
+		private final boolean created;
+		
+		TrailEntry(PartitionNode node, boolean created) {
+			this.node = node;
+			this.parent = node.parent;
+			this.rank = node.rank;
+			this.created = created;
+		}
+		
+		void undo() {
+			if (this.created) {
+				nodes.remove(this.node.element);
+			} else {
+				this.node.parent = this.parent;
+				this.node.rank = this.rank;
+			}
+		}
+	}
+	
 	private final LinkedHashMap<X, PartitionNode> nodes = new LinkedHashMap<>();
+	private final ArrayList<TrailEntry> trail = new ArrayList<>();
 	
 	void union(X elemFirst, X elemSecond) {
 		if (elemFirst.equals(elemSecond)) {
@@ -43,9 +76,11 @@ class Partition<X> {
 			partitionLower = partitionSecond;
 			partitionHigher = partitionFirst;
 			if (partitionLower.rank == partitionHigher.rank) {
+				this.trail.add(new TrailEntry(partitionHigher, false));
 				++partitionHigher.rank;
 			}
 		}
+		this.trail.add(new TrailEntry(partitionLower, false));
 		partitionLower.parent = partitionHigher;
 	}
 	
@@ -59,11 +94,41 @@ class Partition<X> {
 	
 	void reset() {
 		this.nodes.clear();
+		this.trail.clear();
+	}
+	
+	/**
+	 * Returns a checkpoint for this partition.
+	 * 
+	 * @return an {@code int} that can be passed to 
+	 *         {@link #rollback(int)} to restore the 
+	 *         current state of this partition.
+	 */
+	int checkpoint() {
+		return this.trail.size();
+	}
+	
+	/**
+	 * Restores this partition to a previous state.
+	 * 
+	 * @param checkpoint an {@code int}, returned by a previous 
+	 *        invocation of {@link #checkpoint()} that was not
+	 *        followed by a {@link #reset()} or by a rollback 
+	 *        to an earlier checkpoint.
+	 */
+	void rollback(int checkpoint) {
+		for (int i = this.trail.size() - 1; i >= checkpoint; --i) {
+			this.trail.remove(i).undo();
+		}
 	}
 
 	private PartitionNode findRootAndCompress(PartitionNode node) {
 		if (node.parent != node) {
-			node.parent = findRootAndCompress(node.parent);
+			final PartitionNode root = findRootAndCompress(node.parent);
+			if (node.parent != root) {
+				this.trail.add(new TrailEntry(node, false));
+				node.parent = root;
+			}
 		}
 		return node.parent;
 	}
@@ -73,6 +138,7 @@ class Partition<X> {
 		if (elemNode == null) {
 			elemNode = new PartitionNode(elem);
 			this.nodes.put(elem, elemNode);
+			this.trail.add(new TrailEntry(elemNode, true));
 		}
 		return findRootAndCompress(elemNode);
 	}
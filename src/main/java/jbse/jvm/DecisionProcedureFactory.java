@@ -0,0 +1,27 @@
+package jbse.jvm;
+
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.exc.DecisionException;
+
+/**
+ * Factory for the decision procedures of the worker 
+ * {@link Engine}s of a {@link RunnerParallel}. Each worker
+ * needs its own decision procedure (and external solver 
+ * process), together with its own {@link jbse.val.Calculator}, 
+ * that the worker will get through 
+ * {@link DecisionProcedureAlgorithms#getCalculator()}.
+ */
+@FunctionalInterface
+public interface DecisionProcedureFactory {
+    /**
+     * Creates a new decision procedure.
+     * 
+     * @return a {@link DecisionProcedureAlgorithms} not shared 
+     *         with any other {@link Engine}, and with a 
+     *         {@link jbse.val.Calculator} not shared with any other 
+     *         {@link Engine}.
+     * @throws DecisionException if the creation of the decision
+     *         procedure fails.
+     */
+    public DecisionProcedureAlgorithms createDecisionProcedure() throws DecisionException;
+}
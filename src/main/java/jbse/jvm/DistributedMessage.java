@@ -0,0 +1,154 @@
+package jbse.jvm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A message exchanged between the coordinator and 
+ * a worker of a distributed run (see {@link RunnerDistributed}).
+ * On the wire a message is a type byte followed by its 
+ * payload. Variable-length payloads (branch identifiers, 
+ * output blocks) are prefixed by their length in bytes.
+ */
+final class DistributedMessage {
+    /** Worker to coordinator: the worker has no work (no payload). */
+    static final byte IDLE = 0;
+    
+    /** 
+     * Coordinator to worker: explore a subtree (payload: the 
+     * branch identifier of its root, empty for the whole tree). 
+     */
+    static final byte WORK = 1;
+    
+    /** Coordinator to worker: hand off a pending subtree (no payload). */
+    static final byte SPLIT_REQUEST = 2;
+    
+    /** 
+     * Worker to coordinator: a pending subtree handed off (payload:
+     * the branch identifier of its root, empty if none). 
+     */
+    static final byte SPLIT = 3;
+    
+    /** Worker to coordinator: a block of output (payload: the bytes). */
+    static final byte OUTPUT = 4;
+    
+    /** Coordinator to worker: the run is over (no payload). */
+    static final byte END = 5;
+    
+    /** 
+     * Worker to coordinator: the worker stopped (payload: 
+     * total paths, out-of-scope paths, analyzed states). 
+     */
+    static final byte DONE = 6;
+    
+    final byte type;
+    final String identifier;
+    final byte[] output;
+    final long[] statistics;
+    
+    private DistributedMessage(byte type, String identifier, byte[] output, long[] statistics) {
+        this.type = type;
+        this.identifier = identifier;
+        this.output = output;
+        this.statistics = statistics;
+    }
+    
+    static DistributedMessage idle() {
+        return new DistributedMessage(IDLE, null, null, null);
+    }
+    
+    static DistributedMessage work(String identifier) {
+        return new DistributedMessage(WORK, identifier, null, null);
+    }
+    
+    static DistributedMessage splitRequest() {
+        return new DistributedMessage(SPLIT_REQUEST, null, null, null);
+    }
+    
+    static DistributedMessage split(String identifier) {
+        return new DistributedMessage(SPLIT, identifier, null, null);
+    }
+    
+    static DistributedMessage output(byte[] output) {
+        return new DistributedMessage(OUTPUT, null, output, null);
+    }
+    
+    static DistributedMessage end() {
+        return new DistributedMessage(END, null, null, null);
+    }
+    
+    static DistributedMessage done(long pathsTotal, long pathsOutOfScope, long analyzedStates) {
+        return new DistributedMessage(DONE, null, null, new long[] { pathsTotal, pathsOutOfScope, analyzedStates });
+    }
+    
+    /**
+     * Writes this message and flushes the stream.
+     * 
+     * @param out a {@link DataOutputStream}.
+     * @throws IOException if writing fails.
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeByte(this.type);
+        switch (this.type) {
+        case WORK:
+        case SPLIT:
+            writeBytes(out, this.identifier.getBytes(StandardCharsets.UTF_8));
+            break;
+        case OUTPUT:
+            writeBytes(out, this.output);
+            break;
+        case DONE:
+            for (long statistic : this.statistics) {
+                out.writeLong(statistic);
+            }
+            break;
+        default:
+            //no payload
+        }
+        out.flush();
+    }
+    
+    /**
+     * Reads a message.
+     * 
+     * @param in a {@link DataInputStream}.
+     * @return the read {@link DistributedMessage}.
+     * @throws IOException if reading fails, or the stream 
+     *         does not contain a message.
+     */
+    static DistributedMessage read(DataInputStream in) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+        case IDLE:
+        case SPLIT_REQUEST:
+        case END:
+            return new DistributedMessage(type, null, null, null);
+        case WORK:
+        case SPLIT:
+            return new DistributedMessage(type, new String(readBytes(in), StandardCharsets.UTF_8), null, null);
+        case OUTPUT:
+            return output(readBytes(in));
+        case DONE:
+            return done(in.readLong(), in.readLong(), in.readLong());
+        default:
+            throw new IOException("Unexpected message type " + type + ".");
+        }
+    }
+    
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative payload length " + length + ".");
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -36,6 +36,7 @@ import jbse.mem.State.Phase;
 import jbse.mem.exc.ContradictionException;
 import jbse.mem.exc.FrozenStateException;
 import jbse.mem.exc.ThreadStackEmptyException;
+import jbse.tree.MemoryGovernor;
 import jbse.tree.StateTree.BranchPoint;
 
 /**
@@ -111,6 +112,13 @@ public class Engine implements AutoCloseable {
     /** The total number of {@link State}s analyzed by the {@link Engine}. */
     private long analyzedStates = 0L;
     
+    /** 
+     * The key under which the last pre-initial state must be 
+     * stored in the {@link InitialStateCache}, or {@code null} 
+     * if it must not be stored. 
+     */
+    private String initialStateCacheKey = null;
+    
     //Construction.
 
     /**
@@ -122,6 +130,18 @@ public class Engine implements AutoCloseable {
         this.ctx = ctx;
         this.vom = vom;
     }
+    
+    /**
+     * Makes this engine store the last pre-initial state, 
+     * i.e., the state at the end of the bootstrap, in the 
+     * {@link InitialStateCache} when it reaches it.
+     * 
+     * @param initialStateCacheKey a {@link String}, the
+     *        key of the state.
+     */
+    void setInitialStateCacheKey(String initialStateCacheKey) {
+        this.initialStateCacheKey = initialStateCacheKey;
+    }
 
     /**
      * Steps the engine in a suitable start state from which execution can be continued
@@ -173,7 +193,7 @@ public class Engine implements AutoCloseable {
     		
     		//updates the current state
     		if (this.ctx.stateTree.createdBranch()) { //Algo_START always creates a branch, but we need the side effect of invoking createBranch
-    			this.currentState = this.ctx.stateTree.nextState();
+    			this.currentState = this.ctx.stateTree.nextStateDepthFirst();
     		} else {
     			//this should never happen
     			throw new UnexpectedInternalException("The first state is missing from the state tree.");
@@ -230,6 +250,17 @@ public class Engine implements AutoCloseable {
         return this.ctx.getStateInitial();
     }
 
+    /**
+     * Checks whether the engine has a current state. This
+     * is always the case, except for the worker engines of a 
+     * {@link RunnerParallel} that did not yet adopt any state.
+     * 
+     * @return {@code true} iff the engine has a current state.
+     */
+    public boolean hasCurrentState() {
+        return this.currentState != null;
+    }
+
     /**
      * Checks whether the engine can step.
      * 
@@ -283,6 +314,11 @@ public class Engine implements AutoCloseable {
         	//sets the next phase of the state
         	final boolean atLastPreInitialState = atLastPreInitialState(); //safety copy
         	if (atLastPreInitialState) {
+        		//caches the bootstrap, before the root frame is pushed, 
+        		//unless it branched
+        		if (this.initialStateCacheKey != null && !this.ctx.stateTree.hasStates()) {
+        			InitialStateCache.put(this.initialStateCacheKey, this.currentState);
+        		}
         		this.currentState.setPhaseInitial();
         	} else if (atInitialState()) {
         		this.currentState.setPhasePostInitial();
@@ -292,6 +328,9 @@ public class Engine implements AutoCloseable {
         	this.preStepStackSize = this.currentState.getStackSize();
         	this.preStepSourceRow = (this.preStepStackSize == 0 ? -1 : this.currentState.getSourceRow());
 
+        	//notifies the search strategy
+        	this.ctx.stateTree.getSearchStrategy().notifyStep(this.currentState);
+
         	//steps
         	Action action = (atLastPreInitialState ? 
   				             this.ctx.dispatcher.selectInit() :
@@ -333,11 +372,13 @@ public class Engine implements AutoCloseable {
 
         	//updates the current state and calculates the return value
         	BranchPoint retVal = null;
-        	if (this.ctx.stateTree.createdBranch()) {
-        		retVal = this.ctx.stateTree.nextBranch();
-        		this.currentState = this.ctx.stateTree.nextState();
-        	} else {
-        		this.currentState.incSequenceNumber();
+        	synchronized (this.ctx.stateTree) {
+        		if (this.ctx.stateTree.createdBranch()) {
+        			retVal = this.ctx.stateTree.nextBranch();
+        			this.currentState = this.ctx.stateTree.nextStateDepthFirst();
+        		} else {
+        			this.currentState.incSequenceNumber();
+        		}
         	}
         	
         	//updates the counters for depth/count scope
@@ -448,7 +489,131 @@ public class Engine implements AutoCloseable {
      *         pending backtrack point.
      */
     public boolean canBacktrack() {
-        return this.ctx.stateTree.hasStates();
+        return this.ctx.stateTree.hasStatesReserve();
+    }
+
+    /**
+     * Removes from this engine the pending state that would 
+     * be backtracked last, so that it can be adopted by 
+     * another engine.
+     * 
+     * @return the removed {@link State}, or {@code null} if 
+     *         this engine has no pending post-initial state
+     *         that can be removed.
+     */
+    State stealPendingState() {
+        try {
+            return this.ctx.stateTree.stealState();
+        } catch (FrozenStateException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Adopts a pending state removed from another engine
+     * by {@link #stealPendingState()}. After the invocation 
+     * the engine can backtrack to it.
+     * 
+     * @param s the adopted {@link State}.
+     * @param stateInitial the initial {@link State} of the
+     *        engine {@code s} was removed from.
+     */
+    void adoptPendingState(State s, State stateInitial) {
+        try {
+            if (this.ctx.stateInitial == null) {
+                this.ctx.switchInitial(stateInitial);
+            }
+            this.ctx.stateTree.addStateAdopted(s);
+        } catch (InvalidInputException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Checks whether the engine has some pending state that
+     * was released to stay within the memory budget, and
+     * must be re-derived by {@link #replay()}.
+     * 
+     * @return {@code true} iff the engine has at least one
+     *         released pending state.
+     */
+    public boolean canReplay() {
+        return this.ctx.stateTree.hasReleasedStates();
+    }
+
+    /**
+     * Adopts a pending state released by another engine, 
+     * possibly in another process. After the invocation the 
+     * engine can re-derive it by {@link #replay()}.
+     * 
+     * @param identifier a {@link String}, the branch 
+     *        identifier of the released state.
+     */
+    void adoptReleasedState(String identifier) {
+        this.ctx.stateTree.addReleasedState(identifier);
+    }
+
+    /**
+     * Restricts the release of the pending states to
+     * a subtree (see {@link jbse.tree.StateTree#setReleaseSubregion(String)}).
+     * 
+     * @param identifierSubregion a {@link String}, the branch 
+     *        identifier of the root of the subtree, or {@code null} 
+     *        for the whole tree.
+     */
+    void setReleaseSubregion(String identifierSubregion) {
+        this.ctx.stateTree.setReleaseSubregion(identifierSubregion);
+    }
+
+    /**
+     * Sets the {@link MemoryGovernor} that enforces the 
+     * memory budget of the pending states of this engine.
+     * 
+     * @param memoryGovernor a {@link MemoryGovernor}, possibly
+     *        shared with the other engines of the same run.
+     */
+    void setMemoryGovernor(MemoryGovernor memoryGovernor) {
+        this.ctx.stateTree.setMemoryGovernor(memoryGovernor);
+    }
+
+    /**
+     * Restarts the execution from the initial state, to
+     * re-derive the next released pending state. It 
+     * is up to the caller to restrict the execution to 
+     * the subtree rooted at the released state.
+     * 
+     * @return a {@link String}, the branch identifier of
+     *         the released state. 
+     * @throws CannotBacktrackException iff {@link #canReplay}{@code () == false} 
+     *         or {@link #canBacktrack}{@code () == true} before the 
+     *         method is invoked.
+     * @throws DecisionBacktrackException iff the decision procedure fails for 
+     *         any reason. 
+     */
+    public String replay() throws CannotBacktrackException, DecisionBacktrackException {
+        final String retVal;
+        try {
+            synchronized (this.ctx.stateTree) {
+                if (!canReplay() || this.ctx.stateTree.hasStates()) {
+                    throw new CannotBacktrackException();
+                }
+                retVal = this.ctx.stateTree.nextReleasedState();
+                this.ctx.stateTree.addStateInitial(this.ctx.getStateInitial());
+                this.ctx.stateTree.createdBranch();
+                this.currentState = this.ctx.stateTree.nextStateDepthFirst();
+            }
+            final Collection<Clause> currentAssumptions = this.currentState.getPathCondition();
+            this.ctx.decisionProcedure.setAssumptions(currentAssumptions);
+            this.currentState.resetLastPathConditionClauses();
+        } catch (DecisionException e) {
+            throw new DecisionBacktrackException(e);
+        } catch (InvalidInputException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+        return retVal;
     }
 
     /**
@@ -463,15 +628,17 @@ public class Engine implements AutoCloseable {
     public BranchPoint backtrack() 
     throws CannotBacktrackException, DecisionBacktrackException {
         //TODO dubious correctness of this implementation
-        if (!canBacktrack()) {
-            throw new CannotBacktrackException();
-        }
-
-        final BranchPoint bp = this.ctx.stateTree.nextBranch();
-        final boolean isLast = (getNumOfStatesAtBranch(bp) == 1);
-
+        final BranchPoint bp;
+        final boolean isLast;
         try {
-            this.currentState = this.ctx.stateTree.nextState();
+            synchronized (this.ctx.stateTree) {
+                if (!canBacktrack()) {
+                    throw new CannotBacktrackException();
+                }
+                this.currentState = this.ctx.stateTree.nextState();
+                bp = this.ctx.stateTree.lastBranch();
+                isLast = (getNumOfStatesAtBranch(bp) == 0);
+            }
             final Collection<Clause> currentAssumptions = this.currentState.getPathCondition();
             this.ctx.decisionProcedure.setAssumptions(currentAssumptions);
             this.currentState.resetLastPathConditionClauses();
@@ -597,6 +764,7 @@ public class Engine implements AutoCloseable {
      */
     @Override
     public void close() throws DecisionException {
+        this.ctx.stateTree.close();
         this.ctx.decisionProcedure.close();
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import jbse.dec.exc.DecisionException;
 import jbse.jvm.exc.CannotBuildEngineException;
 import jbse.jvm.exc.InitializationException;
 import jbse.jvm.exc.NonexistingObservedVariablesException;
+import jbse.mem.State;
 import jbse.mem.exc.ContradictionException;
 import jbse.tree.DecisionAlternativeComparators;
 
@@ -66,33 +67,90 @@ public class EngineBuilder {
             throw new CannotBuildEngineException(new NullPointerException());
         }
 
+        //possibly starts from a cached bootstrap state
+        EngineParameters actualParameters = parameters;
+        String initialStateCacheKey = null;
+        if (parameters.getCacheInitialState() && parameters.getStartingState() == null) {
+            try {
+                initialStateCacheKey = InitialStateCache.key(parameters);
+            } catch (IOException e) {
+                throw new CannotBuildEngineException(e);
+            }
+            final State stateBootstrap = InitialStateCache.get(initialStateCacheKey);
+            if (stateBootstrap != null) {
+                actualParameters = parameters.clone();
+                actualParameters.setStartingState(stateBootstrap);
+                initialStateCacheKey = null;
+            }
+        }
+
         //creates the engine
-        final Engine engine = bootEngineArchitecture(parameters);
+        final Engine engine = bootEngineArchitecture(actualParameters);
+        if (initialStateCacheKey != null) {
+            engine.setInitialStateCacheKey(initialStateCacheKey);
+        }
         engine.init();
         return engine;
     }
 
+    /**
+     * Builds a worker {@link Engine} for a {@link RunnerParallel}. 
+     * The built engine has no current state, and must adopt one
+     * (see {@link Engine#adoptPendingState(jbse.mem.State, jbse.mem.State)})
+     * before it can run. It does not support execution observers.
+     *  
+     * @param parameters the {@link EngineParameters} to configure the 
+     *        {@link Engine}. The decision procedure in {@code parameters}
+     *        must not be shared with any other {@link Engine}.
+     * @return an {@link Engine}.
+     * @throws CannotBuildEngineException whenever {@code parameters} has
+     *         insufficient information for creating an {@link Engine}.
+     */
+    Engine buildWorker(EngineParameters parameters) throws CannotBuildEngineException {
+        //checks whether parameters is complete
+        if (parameters.getMethodSignature() == null || parameters.getDecisionProcedure() == null) {
+            throw new CannotBuildEngineException(new NullPointerException());
+        }
+
+        //creates the engine
+        try {
+            final ExecutionContext ctx = makeExecutionContext(parameters);
+            setOverrides(ctx, parameters);
+            final VariableObserverManager vom = new VariableObserverManager(parameters.getMethodSignature().getClassName());
+            return new Engine(ctx, vom);
+        } catch (IOException e) {
+            throw new CannotBuildEngineException(e);
+        }
+    }
+
+    private static ExecutionContext makeExecutionContext(EngineParameters parameters) throws IOException {
+        final ExecutionContext ctx = new ExecutionContext(parameters.getStartingState(),
+                                                         parameters.getBypassStandardLoading(),
+                                                         parameters.getMaxSimpleArrayLength(),
+                                                         parameters.getMaxHeapSize(),
+                                                         parameters.getMakePreInitClassesSymbolic(),
+                                                         parameters.getClasspath(),
+                                                         ClassFileFactoryJavassist.class,          //default
+                                                         parameters.getExpansionBackdoor(), 
+                                                         parameters.getModelClassSubstitutions(),
+                                                         parameters.getCalculator(),
+                                                         new DecisionAlternativeComparators(),     //default 
+                                                         parameters.getMethodSignature(),
+                                                         parameters.getDecisionProcedure(),
+                                                         parameters.getStateIdentificationMode().toInternal(), 
+                                                         parameters.getBreadthMode().toInternal(),
+                                                         parameters.getTriggerRulesRepo(),
+                                                         parameters.getClassInvariantAfterInitialization());
+        ctx.stateTree.setMemoryBudget(parameters.getMemoryBudget());
+        ctx.stateTree.setPendingStatesWindow(parameters.getPendingStatesWindow());
+        ctx.stateTree.setSearchStrategy(parameters.getSearchStrategy().toInternal());
+        return ctx;
+    }
+
     private static Engine bootEngineArchitecture(EngineParameters parameters) 
     throws CannotBuildEngineException {
     	try {
-	        final ExecutionContext ctx = 
-	          new ExecutionContext(parameters.getStartingState(),
-	                               parameters.getBypassStandardLoading(),
-	                               parameters.getMaxSimpleArrayLength(),
-	                               parameters.getMaxHeapSize(),
-	                               parameters.getMakePreInitClassesSymbolic(),
-	                               parameters.getClasspath(),
-	                               ClassFileFactoryJavassist.class,          //default
-	                               parameters.getExpansionBackdoor(), 
-	                               parameters.getModelClassSubstitutions(),
-	                               parameters.getCalculator(),
-	                               new DecisionAlternativeComparators(),     //default 
-	                               parameters.getMethodSignature(),
-	                               parameters.getDecisionProcedure(),
-	                               parameters.getStateIdentificationMode().toInternal(), 
-	                               parameters.getBreadthMode().toInternal(),
-	                               parameters.getTriggerRulesRepo(),
-	                               parameters.getClassInvariantAfterInitialization());
+	        final ExecutionContext ctx = makeExecutionContext(parameters);
 	
 	        //sets the meta-level directives
 	        setOverrides(ctx, parameters);
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jbse.bc.Classpath;
@@ -21,6 +22,11 @@ import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.mem.State;
 import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.rules.TriggerRulesRepo;
+import jbse.tree.SearchStrategyBreadthFirst;
+import jbse.tree.SearchStrategyCoverage;
+import jbse.tree.SearchStrategyDepthFirst;
+import jbse.tree.SearchStrategyIterativeDeepening;
+import jbse.tree.SearchStrategyRandomPath;
 import jbse.tree.StateTree;
 import jbse.val.Calculator;
 
@@ -146,12 +152,64 @@ public final class EngineParameters implements Cloneable {
         }
     }
 
+    /**
+     * Enumeration of the strategies for selecting the next 
+     * pending state to be explored.
+     * 
+     * @author Pietro Braione
+     */
+    public static enum SearchStrategy {
+        /** 
+         * Explores the states in depth-first order. 
+         */
+        DEPTH_FIRST(SearchStrategyDepthFirst::new),
+        
+        /** 
+         * When a path ends, explores the shallowest
+         * pending state (breadth-first order). 
+         */
+        BREADTH_FIRST(SearchStrategyBreadthFirst::new),
+        
+        /**
+         * Explores the states in depth-first order up to a
+         * depth bound, that is increased when no state fits it.
+         */
+        ITERATIVE_DEEPENING(SearchStrategyIterativeDeepening::new),
+        
+        /**
+         * Explores first the states whose next bytecode
+         * was not yet executed, and the other ones in 
+         * depth-first order.
+         */
+        COVERAGE_GUIDED(SearchStrategyCoverage::new),
+        
+        /**
+         * Explores the states in random order, as 
+         * if choosing at random the child at each branch
+         * from the root of the symbolic execution tree.
+         */
+        RANDOM_PATH(SearchStrategyRandomPath::new);
+        
+        private final Supplier<jbse.tree.SearchStrategy> internal;
+        
+        private SearchStrategy(Supplier<jbse.tree.SearchStrategy> internal) {
+            this.internal = internal;
+        }
+        
+        public final jbse.tree.SearchStrategy toInternal() {
+            return this.internal.get();
+        }
+    }
+
     /** The state identification mode. */
     private StateIdentificationMode stateIdMode = StateIdentificationMode.COMPACT;
 
     /** The breadth mode. */
     private BreadthMode breadthMode = BreadthMode.MORE_THAN_ONE;
 
+    /** The search strategy. */
+    private SearchStrategy searchStrategy = SearchStrategy.DEPTH_FIRST;
+
     /** 
      * The initial {@link State} of the symbolic execution, or
      * {@code null} iff an initial state for a method invocation 
@@ -173,6 +231,20 @@ public final class EngineParameters implements Cloneable {
      */
     private Path jbseLibPath = Paths.get("jbse-lib.jar");
     
+    /** 
+     * The file where the classpath index is saved, or 
+     * {@code null} if it must not be saved; ignored
+     * when {@code initialState != null}.
+     */
+    private Path classpathIndexFile = null;
+    
+    /** 
+     * Whether the user classpath is scanned for the 
+     * subclasses of the classes to expand; ignored
+     * when {@code initialState != null}.
+     */
+    private boolean classpathSubclassIndex = false;
+    
     /** 
      * The Java home, where the JRE resides; overridden by 
      * {@code initialState}'s bootstrap path when 
@@ -242,6 +314,18 @@ public final class EngineParameters implements Cloneable {
     /** The maximum size of the heap (number of objects). */
     private long maxHeapSize = 1_000_000;
     
+    /** 
+     * The memory budget for the pending states, in bytes 
+     * ({@code <= 0} means unlimited). 
+     */
+    private long memoryBudget = 0;
+    
+    /** 
+     * The maximum number of pending states kept in memory
+     * ({@code <= 0} means unlimited). 
+     */
+    private int pendingStatesWindow = 0;
+    
     /** 
      * Whether the classes that are initialized during the
      * pre-initialization phase should be made symbolic, so
@@ -255,6 +339,12 @@ public final class EngineParameters implements Cloneable {
      * default JDK implementation of {@code java.util.HashMap}.
      */
     private boolean useHashMapModel = false;
+    
+    /**
+     * Whether the initial state must be taken from, and
+     * stored in, the {@link InitialStateCache}.
+     */
+    private boolean cacheInitialState = false;
 
     /**
      * Constructor.
@@ -327,6 +417,30 @@ public final class EngineParameters implements Cloneable {
         return this.breadthMode;
     }
 
+    /**
+     * Sets the search strategy, i.e., the order in which
+     * the pending states will be explored.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        if (searchStrategy == null) {
+            throw new NullPointerException();
+        }
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.searchStrategy;
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -504,6 +618,63 @@ public final class EngineParameters implements Cloneable {
         }
     }
 
+    /**
+     * Sets the file where the index of the jar files in the 
+     * classpath is saved, to be reused across runs. 
+     * 
+     * @param classpathIndexFile a {@link Path}.
+     * @throws NullPointerException if {@code classpathIndexFile == null}.
+     */
+    public void setClasspathIndexFile(Path classpathIndexFile) {
+        if (classpathIndexFile == null) {
+            throw new NullPointerException();
+        }
+        this.classpathIndexFile = classpathIndexFile;
+    }
+
+    /**
+     * Sets that the index of the jar files in the 
+     * classpath must not be saved (default).
+     */
+    public void setClasspathIndexFileNone() {
+        this.classpathIndexFile = null;
+    }
+
+    /**
+     * Gets the file where the index of the jar files in 
+     * the classpath is saved.
+     * 
+     * @return a {@link Path}, or {@code null} if the index
+     *         is not saved.
+     */
+    public Path getClasspathIndexFile() {
+        return this.classpathIndexFile;
+    }
+
+    /**
+     * Sets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand, in addition to 
+     * the classes in the expansion backdoor. By default
+     * it is not scanned.
+     * 
+     * @param classpathSubclassIndex a {@code boolean}.
+     */
+    public void setClasspathSubclassIndex(boolean classpathSubclassIndex) {
+        this.classpathSubclassIndex = classpathSubclassIndex;
+    }
+
+    /**
+     * Gets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getClasspathSubclassIndex() {
+        return this.classpathSubclassIndex;
+    }
+
     /**
      * Sets the Java home, and cancels the effect 
      * of any previous call to {@link #setStartingState(State)}.
@@ -664,7 +835,7 @@ public final class EngineParameters implements Cloneable {
      */
     public Classpath getClasspath() throws IOException {
         if (this.startingState == null) {
-            return new Classpath(this.jbseLibPath, this.javaHome, this.extPaths, this.userPaths);
+            return new Classpath(this.jbseLibPath, this.javaHome, this.extPaths, this.userPaths, this.classpathIndexFile, this.classpathSubclassIndex);
         } else {
             return this.startingState.getClasspath();
         }
@@ -1094,6 +1265,59 @@ public final class EngineParameters implements Cloneable {
         return this.maxHeapSize;
     }
     
+    /**
+     * Sets the memory budget for the pending states. If 
+     * the memory retained in the tenured heap pools (shared by
+     * all the workers of a parallel run)
+     * exceeds the budget, the pending states that would
+     * be explored last are released, and the subtrees
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * budget is unlimited.
+     * 
+     * @param memoryBudget a {@code long}, the budget in 
+     *        bytes ({@code <= 0} means unlimited).
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+    
+    /**
+     * Returns the memory budget for the pending states.
+     * 
+     * @return a {@code long}, the budget in bytes 
+     *         ({@code <= 0} means unlimited).
+     */
+    public long getMemoryBudget() {
+        return this.memoryBudget;
+    }
+    
+    /**
+     * Sets the maximum number of pending states kept in 
+     * memory. The pending states beyond it that would be 
+     * explored last are released, their branch identifiers
+     * are spilled to a temporary file, and the subtrees 
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * number of pending states is unlimited.
+     * 
+     * @param pendingStatesWindow an {@code int}, the maximum
+     *        number of pending states ({@code <= 0} means unlimited).
+     */
+    public void setPendingStatesWindow(int pendingStatesWindow) {
+        this.pendingStatesWindow = pendingStatesWindow;
+    }
+    
+    /**
+     * Returns the maximum number of pending states kept in memory.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states ({@code <= 0} means unlimited).
+     */
+    public int getPendingStatesWindow() {
+        return this.pendingStatesWindow;
+    }
+    
     /**
      * Sets whether the classes created during
      * the pre-initialization phase shall be (pedantically)
@@ -1142,6 +1366,33 @@ public final class EngineParameters implements Cloneable {
     public boolean getUseHashMapModel() {
     	return this.useHashMapModel;
     }
+
+    /**
+     * Sets whether the initial state must be cached. If set, and no
+     * starting state is set, the symbolic execution starts 
+     * from the state at the end of the bootstrap (before the 
+     * root method is invoked) in the {@link InitialStateCache},
+     * stored by a previous symbolic execution in the same JVM 
+     * with the same classpath, parameters, and classes of the
+     * root method and of its parameters; if there is no such 
+     * state, the symbolic execution stores its own bootstrap 
+     * state in the {@link InitialStateCache} upon reaching it. 
+     * The cache is not saved across JVMs. By default it is not set.
+     * 
+     * @param cacheInitialState a {@code boolean}.
+     */
+    public void setCacheInitialState(boolean cacheInitialState) {
+    	this.cacheInitialState = cacheInitialState;
+    }
+    
+    /**
+     * Returns whether the initial state must be cached.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getCacheInitialState() {
+    	return this.cacheInitialState;
+    }
     
     /**
      * Returns a map of the model class substitutions.
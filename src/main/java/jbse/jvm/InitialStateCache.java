@@ -0,0 +1,227 @@
+package jbse.jvm;
+
+import static jbse.common.Type.className;
+import static jbse.common.Type.isArray;
+import static jbse.common.Type.isReference;
+import static jbse.common.Type.splitParametersDescriptors;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import jbse.bc.Classpath;
+import jbse.bc.Signature;
+import jbse.mem.State;
+
+/**
+ * A cache of the states reached at the end of the pre-initial 
+ * (bootstrap) phase of symbolic execution, i.e., just before 
+ * the frame of the root method is pushed. It is shared by all 
+ * the {@link Engine}s in the JVM, so a symbolic execution whose 
+ * {@link EngineParameters} have the same key of a previous one 
+ * may start from its bootstrap state rather than re-executing 
+ * the pre-initial phase. The bootstrap does not depend on the 
+ * root method but for the classes it loads and initializes, 
+ * i.e., the class of the root method and the classes of its 
+ * parameters, so different root methods may share the same 
+ * bootstrap state.
+ * The cache keeps at most {@link #MAX_SIZE} states, evicting
+ * the least recently used ones, and refers them softly, so 
+ * they can be garbage collected when memory is low. It lives 
+ * in memory only, and is not saved across different JVMs: The 
+ * states refer to classfiles and values that have no serialized 
+ * form, so the runs that must share the cache must be executed 
+ * in the same JVM.
+ * The key is built from the classpath, from the size and
+ * modification time of the files in it, and from all the 
+ * parameters that affect the pre-initial phase or the 
+ * initial state.
+ */
+public final class InitialStateCache {
+    /** The maximum number of cached states. */
+    public static final int MAX_SIZE = 4;
+    
+    /** The cached states, in access order. */
+    private static final LinkedHashMap<String, SoftReference<State>> CACHE = 
+        new LinkedHashMap<String, SoftReference<State>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SoftReference<State>> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+
+    /**
+     * Returns the key of the bootstrap state of a symbolic execution.
+     *
+     * @param parameters the {@link EngineParameters} of the symbolic
+     *        execution. They must have no starting state.
+     * @return a {@link String}, the key of the bootstrap state of
+     *         the symbolic execution configured by {@code parameters}.
+     * @throws IOException if an I/O error occurs while scanning the classpath.
+     */
+    static String key(EngineParameters parameters) throws IOException {
+        final Classpath cp = parameters.getClasspath();
+        final StringBuilder buf = new StringBuilder();
+        buf.append("jbseLibPath:");
+        appendPath(buf, cp.jbseLibPath());
+        buf.append('\n');
+        buf.append("javaHome:").append(cp.javaHome()).append('\n');
+        appendPaths(buf, "bootClassPath:", cp.bootClassPath());
+        appendPaths(buf, "extClassPath:", cp.extClassPath());
+        appendPaths(buf, "userClassPath:", cp.userClassPath());
+        buf.append("stateIdentificationMode:").append(parameters.getStateIdentificationMode()).append('\n');
+        buf.append("breadthMode:").append(parameters.getBreadthMode()).append('\n');
+        appendRootMethodClasses(buf, parameters.getMethodSignature());
+        buf.append("bypassStandardLoading:").append(parameters.getBypassStandardLoading()).append('\n');
+        buf.append("maxSimpleArrayLength:").append(parameters.getMaxSimpleArrayLength()).append('\n');
+        buf.append("maxHeapSize:").append(parameters.getMaxHeapSize()).append('\n');
+        buf.append("makePreInitClassesSymbolic:").append(parameters.getMakePreInitClassesSymbolic()).append('\n');
+        buf.append("useHashMapModel:").append(parameters.getUseHashMapModel()).append('\n');
+        buf.append("modelClassSubstitutions:").append(new TreeMap<>(parameters.getModelClassSubstitutions())).append('\n');
+        final TreeMap<String, TreeSet<String>> expansionBackdoor = new TreeMap<>();
+        for (Map.Entry<String, Set<String>> e : parameters.getExpansionBackdoor().entrySet()) {
+            expansionBackdoor.put(e.getKey(), new TreeSet<>(e.getValue()));
+        }
+        buf.append("expansionBackdoor:").append(expansionBackdoor).append('\n');
+        appendSignatures(buf, "metaOverridden:", parameters.getMetaOverridden());
+        appendSignatures(buf, "uninterpreted:", parameters.getUninterpreted());
+        appendSignatures(buf, "uninterpretedPattern:", parameters.getUninterpretedPattern());
+        buf.append("triggerRules:").append(parameters.getTriggerRulesRepo()).append('\n');
+        buf.append("classInvariantAfterInitialization:").append(parameters.getClassInvariantAfterInitialization()).append('\n');
+        return buf.toString();
+    }
+
+    private static void appendPaths(StringBuilder buf, String name, Iterable<Path> paths) throws IOException {
+        buf.append(name);
+        for (Path p : paths) {
+            appendPath(buf, p);
+            buf.append(';');
+        }
+        buf.append('\n');
+    }
+
+    /**
+     * Appends a path, with a fingerprint of its content: the
+     * size and modification time of a file, or the number, 
+     * total size and latest modification time of the files 
+     * in a directory.
+     */
+    private static void appendPath(StringBuilder buf, Path p) throws IOException {
+        buf.append(p);
+        if (Files.isRegularFile(p)) {
+            buf.append('[').append(Files.size(p)).append(',').append(Files.getLastModifiedTime(p).toMillis()).append(']');
+        } else if (Files.isDirectory(p)) {
+            long count = 0L;
+            long size = 0L;
+            long lastModified = Files.getLastModifiedTime(p).toMillis();
+            try (final Stream<Path> files = Files.walk(p)) {
+                for (Path f : (Iterable<Path>) files::iterator) {
+                    if (Files.isRegularFile(f)) {
+                        ++count;
+                        size += Files.size(f);
+                    }
+                    lastModified = Math.max(lastModified, Files.getLastModifiedTime(f).toMillis());
+                }
+            }
+            buf.append('[').append(count).append(',').append(size).append(',').append(lastModified).append(']');
+        } //else, it does not exist and there is nothing to append
+    }
+
+    /**
+     * Appends the classes that the bootstrap loads and initializes
+     * for the root method: its class, and the classes of its 
+     * parameters.
+     */
+    private static void appendRootMethodClasses(StringBuilder buf, Signature rootMethodSignature) {
+        buf.append("rootMethodClasses:").append(rootMethodSignature.getClassName()).append(';');
+        for (String parameterType : splitParametersDescriptors(rootMethodSignature.getDescriptor())) {
+            if (isArray(parameterType) || isReference(parameterType)) {
+                buf.append(className(parameterType)).append(';');
+            }
+        }
+        buf.append('\n');
+    }
+
+    private static void appendSignatures(StringBuilder buf, String name, List<String[]> signatures) {
+        buf.append(name);
+        for (String[] s : signatures) {
+            buf.append(Arrays.toString(s)).append(';');
+        }
+        buf.append('\n');
+    }
+
+    /**
+     * Gets a cached bootstrap state.
+     *
+     * @param key a {@link String}, as returned by {@link #key(EngineParameters)}.
+     * @return a copy of the {@link State} cached for {@code key},
+     *         or {@code null} if there is no such state.
+     */
+    static State get(String key) {
+        final State retVal;
+        synchronized (CACHE) {
+            final SoftReference<State> ref = CACHE.get(key);
+            retVal = (ref == null ? null : ref.get());
+            if (ref != null && retVal == null) {
+                CACHE.remove(key);
+            }
+        }
+        return (retVal == null ? null : retVal.clone());
+    }
+
+    /**
+     * Caches a bootstrap state.
+     *
+     * @param key a {@link String}, as returned by {@link #key(EngineParameters)}.
+     * @param stateBootstrap the last pre-initial {@link State}, i.e., 
+     *        the state at the end of the bootstrap, with an empty
+     *        stack. The method caches a copy of it.
+     */
+    static void put(String key, State stateBootstrap) {
+        final State copy = stateBootstrap.clone();
+        synchronized (CACHE) {
+            final SoftReference<State> ref = CACHE.get(key);
+            if (ref == null || ref.get() == null) {
+                CACHE.put(key, new SoftReference<>(copy));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached states.
+     *
+     * @return an {@code int}, not greater than {@link #MAX_SIZE}.
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Do not instantiate it!
+     */
+    private InitialStateCache() {
+        //intentionally empty
+    }
+}
@@ -391,8 +391,41 @@ public class Runner {
     private final Actions actions;
 
     /** The identifier of the branch state in the state space subregion we want to explore (null for everything). */
+    private final String identifierSubregionRequested;
+
+    /** 
+     * The identifier of the branch state in the state space subregion 
+     * currently explored (null for everything); it is the root of the
+     * replayed subtree while re-derivating a released pending state.
+     */
     private String identifierSubregion;
 
+    /** 
+     * The branch identifier of the last state checked 
+     * by {@link #currentStateIsInRunSubregion()}.
+     */
+    private String identifierLastChecked = null;
+
+    /** 
+     * Whether the state with branch identifier {@link #identifierLastChecked}
+     * is in the subregion currently explored. 
+     */
+    private boolean lastCheckedIsInSubregion = true;
+
+    /** 
+     * Whether the run was restarted from the initial state
+     * to re-derive some released pending state. 
+     */
+    private boolean replayed = false;
+    
+    /** 
+     * Whether the run is re-deriving the path from the initial 
+     * state to the root of the subregion currently explored. The
+     * actions on this path were already performed, and thus are 
+     * not performed again.
+     */
+    private boolean replayingPrefix = false;
+
     /** The heap scope. */
     private final Map<String, Integer> heapScope;
 
@@ -417,6 +450,12 @@ public class Runner {
     /** Stores the stop time. */
     private long stopTime;
 
+    /** 
+     * The {@link RunnerCoordinator} of the run this {@link Runner} is 
+     * a worker of, or {@code null} if the run is sequential. 
+     */
+    private RunnerCoordinator coordinator = null;
+
     /**
      * Constructor.
      * 
@@ -445,7 +484,8 @@ public class Runner {
         this.engine = engine;
         this.actions = actions;
         this.actions.engine = engine;
-        this.identifierSubregion = identifierSubregion;
+        this.identifierSubregionRequested = identifierSubregion;
+        setIdentifierSubregion(identifierSubregion);
         this.timeout = timeout;
         this.heapScope = heapScope;
         this.depthScope = depthScope;
@@ -457,18 +497,163 @@ public class Runner {
     public Engine getEngine() {
     	return this.engine;
     }
+    
+    /**
+     * Makes this {@link Runner} a worker of a parallel or 
+     * distributed run.
+     * 
+     * @param coordinator the {@link RunnerCoordinator} that
+     *        coordinates the run.
+     */
+    void setCoordinator(RunnerCoordinator coordinator) {
+        this.coordinator = coordinator;
+    }
+    
+    /**
+     * Restricts the run to a subtree assigned by the 
+     * coordinator of a distributed run, before the 
+     * run starts. The run does not perform the actions 
+     * at the initial state if the subtree is not the 
+     * whole tree, since they are performed by the worker 
+     * that is assigned the whole tree.
+     * 
+     * @param identifierSubregion a {@link String}, the identifier 
+     *        of the root of the subtree, or {@code null} for the
+     *        whole tree. It must be in the subregion requested
+     *        at construction.
+     */
+    void restrictTo(String identifierSubregion) {
+        setIdentifierSubregion(identifierSubregion);
+        this.replayed = (identifierSubregion != null);
+        this.replayingPrefix = this.replayed;
+    }
+    
+    /**
+     * Returns the subregion currently explored.
+     * 
+     * @return a {@link String}, the identifier of the root
+     *         of the subtree currently explored, or {@code null} 
+     *         if it is the whole tree.
+     */
+    String getIdentifierSubregion() {
+        return this.identifierSubregion;
+    }
+    
+    private void setIdentifierSubregion(String identifierSubregion) {
+        this.identifierSubregion = identifierSubregion;
+        this.identifierLastChecked = null;
+        this.engine.setReleaseSubregion(identifierSubregion);
+    }
+    
+    /**
+     * Possibly steals a pending state from the other workers
+     * of a parallel run, or receives some work from the coordinator
+     * of a distributed run, so that the engine can backtrack or
+     * replay.
+     * 
+     * @return {@code true} iff some work was received; it is always
+     *         {@code false} when the run is sequential.
+     */
+    private boolean stealWork() {
+        return (this.coordinator != null && this.coordinator.stealFor(this.engine));
+    }
 
     private boolean currentStateIsInRunSubregion() {
         if (this.identifierSubregion == null) {
             return true;
         }
+        //the states on the same branch share their identifier, 
+        //so the check is redone only when the branch changes
         final String currentRegion = this.engine.getCurrentState().getBranchIdentifier();
-        final boolean retVal = (this.identifierSubregion.equals(currentRegion) ||
-                                currentRegion.startsWith(this.identifierSubregion + BRANCH_IDENTIFIER_SEPARATOR_COMPACT) || 
-                                currentRegion.startsWith(this.identifierSubregion + BRANCH_IDENTIFIER_SEPARATOR_LONG) || 
-                                this.identifierSubregion.startsWith(currentRegion + BRANCH_IDENTIFIER_SEPARATOR_COMPACT) ||
-                                this.identifierSubregion.startsWith(currentRegion + BRANCH_IDENTIFIER_SEPARATOR_LONG));
-        return retVal;
+        if (currentRegion != this.identifierLastChecked) {
+            this.identifierLastChecked = currentRegion;
+            this.lastCheckedIsInSubregion = isInSubregion(currentRegion, this.identifierSubregion);
+        }
+        return this.lastCheckedIsInSubregion;
+    }
+
+    /**
+     * Checks whether a branch identifier is in a subregion,
+     * i.e., it is in the subtree rooted at the subregion, 
+     * or on the path from the root to it.
+     * 
+     * @param currentRegion a {@link String}, a branch identifier.
+     * @param identifierSubregion a {@link String}, the identifier
+     *        of the root of the subregion, or {@code null} for the
+     *        whole tree.
+     * @return {@code true} iff {@code currentRegion} is in 
+     *         {@code identifierSubregion}.
+     */
+    static boolean isInSubregion(String currentRegion, String identifierSubregion) {
+        if (identifierSubregion == null) {
+            return true;
+        }
+        return (identifierSubregion.equals(currentRegion) ||
+                isProperPrefix(identifierSubregion, currentRegion) || 
+                isProperPrefix(currentRegion, identifierSubregion));
+    }
+
+    /**
+     * Checks whether a branch identifier is the identifier 
+     * of a proper ancestor of another one.
+     * 
+     * @param prefix a {@link String}, a branch identifier.
+     * @param identifier a {@link String}, a branch identifier.
+     * @return {@code true} iff {@code prefix} identifies a 
+     *         proper ancestor of {@code identifier}.
+     */
+    static boolean isProperPrefix(String prefix, String identifier) {
+        if (identifier.length() <= prefix.length() || !identifier.startsWith(prefix)) {
+            return false;
+        }
+        final char next = identifier.charAt(prefix.length());
+        return (next == BRANCH_IDENTIFIER_SEPARATOR_COMPACT.charAt(0) || next == BRANCH_IDENTIFIER_SEPARATOR_LONG.charAt(0));
+    }
+    
+    /**
+     * Possibly restarts the execution from the initial state to
+     * re-derive a pending state that the engine released to stay 
+     * within its memory budget, restricting the run to the subtree 
+     * rooted at the released state.
+     * 
+     * @return {@code true} iff the execution was restarted.
+     * @throws CannotBacktrackException as in {@link Engine#replay()}.
+     * @throws DecisionBacktrackException as in {@link Engine#replay()}.
+     */
+    private boolean replayReleased() throws CannotBacktrackException, DecisionBacktrackException {
+        while (this.engine.canReplay()) {
+            final String identifierReleased = this.engine.replay();
+            //a released state may be out of the requested subregion,
+            //or even contain it when its subtree was partially explored
+            if (isInSubregion(identifierReleased, this.identifierSubregionRequested)) {
+                final boolean releasedContainsRequested = 
+                    (this.identifierSubregionRequested != null && this.identifierSubregionRequested.length() > identifierReleased.length());
+                setIdentifierSubregion(releasedContainsRequested ? this.identifierSubregionRequested : identifierReleased);
+                this.replayed = true;
+                this.replayingPrefix = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the run is re-deriving the path from the
+     * initial state to the root of the subregion after a replay,
+     * i.e., whether the current state is not yet in the subtree 
+     * rooted at the subregion.
+     * 
+     * @return {@code true} iff the actions must not be 
+     *         performed at the current state.
+     */
+    private boolean isReplayingPrefix() {
+        if (this.replayingPrefix) {
+            final String currentRegion = this.engine.getCurrentState().getBranchIdentifier();
+            if (this.identifierSubregion.equals(currentRegion) || isProperPrefix(this.identifierSubregion, currentRegion)) {
+                this.replayingPrefix = false;
+            }
+        }
+        return this.replayingPrefix;
     }
 
     private boolean outOfScope() {
@@ -528,23 +713,43 @@ public class Runner {
     ClasspathException, ThreadStackEmptyException, 
     ContradictionException, DecisionException, EngineStuckException, 
     FailureException, NonexistingObservedVariablesException  {
+        //a worker of a parallel run starts from a stolen state
+        if (!this.engine.hasCurrentState()) {
+            try {
+                if (!stealWork()) {
+                    this.actions.atEnd();
+                    return; 
+                }
+                this.engine.backtrack();
+            } catch (DecisionBacktrackException e) {
+                this.actions.atDecisionBacktrackException(e);
+                return;
+            }
+        }
+        
         if (this.actions.atStart()) { return; }
         //performs the symbolic execution loop
         while (true) {
-            if (this.actions.atPathStart()) { return; }
+            if (!isReplayingPrefix()) {
+                if (this.actions.atPathStart()) { return; }
+            }
 
             //explores the path
             while (this.engine.canStep() && currentStateIsInRunSubregion()) {
-                if (this.engine.atInitialState()) {
+                //the actions on the replayed prefix were performed before the replay
+                final boolean atPrefix = isReplayingPrefix();
+                if (this.engine.atInitialState() && !this.replayed) {
                     if (this.actions.atInitial()) { return; }
                 }
-                if (this.engine.currentMethodChanged()) {
+                if (this.engine.currentMethodChanged() && !atPrefix) {
                     if (this.actions.atMethodPre()) { return; }
                 }
-                if (this.engine.sourceRowChanged()) {
+                if (this.engine.sourceRowChanged() && !atPrefix) {
                     if (this.actions.atSourceRowPre()) { return; }
                 }
-                if (this.actions.atStepPre()) { return; }
+                if (!atPrefix) {
+                    if (this.actions.atStepPre()) { return; }
+                }
                 BranchPoint bp = null;
                 try {
                     bp = this.engine.step();
@@ -565,13 +770,20 @@ public class Runner {
                 } catch (NonexistingObservedVariablesException e) {
                     if (this.actions.atNonexistingObservedVariablesException(e)) { return; }
                 } finally {
-                    if (this.actions.atStepFinally()) { return; }
+                    if (!atPrefix && this.actions.atStepFinally()) { return; }
+                }
+                if (!atPrefix) {
+                    if (this.actions.atStepPost()) { return; }
+                }
+                if (this.coordinator != null) {
+                    this.coordinator.atStepPost(this);
                 }
-                if (this.actions.atStepPost()) { return; }
                 
                 if (bp != null) {
                     if (!currentStateIsInRunSubregion()) { break; }
-                    if (this.actions.atBranch(bp)) { return; }
+                    if (!atPrefix) {
+                        if (this.actions.atBranch(bp)) { return; }
+                    }
                 }
 
                 if (outOfScope()) {
@@ -595,10 +807,10 @@ public class Runner {
                     }
                 }
 
-                if (this.engine.sourceRowChanged() || this.engine.atFrameChanger()) {
+                if ((this.engine.sourceRowChanged() || this.engine.atFrameChanger()) && !atPrefix) {
                     if (this.actions.atSourceRowPost()) { return; }
                 }
-                if (this.engine.currentMethodChanged() || this.engine.atFrameChanger()) {
+                if ((this.engine.currentMethodChanged() || this.engine.atFrameChanger()) && !atPrefix) {
                     if (this.actions.atMethodPost()) { return; }
                 }
 
@@ -613,25 +825,34 @@ public class Runner {
             }
 
             //backtracks
-            if (this.engine.canBacktrack()) {
-                if (this.actions.atBacktrackPre()) { return; }
+            if (this.engine.canBacktrack() || stealWork() || this.engine.canReplay()) {
+                final boolean atPrefix = isReplayingPrefix();
+                if (!atPrefix) {
+                    if (this.actions.atBacktrackPre()) { return; }
+                }
 
                 BranchPoint bp = null;
                 boolean found = false;
                 try {
-                    do {
+                    while (!found && this.engine.canBacktrack()) {
                         bp = this.engine.backtrack();
                         found = currentStateIsInRunSubregion();
-                    } while (!found && this.engine.canBacktrack());
+                    }
+                    if (!found && replayReleased()) {
+                        continue; //restarts from the initial state
+                    }
                 } catch (DecisionBacktrackException e) {
                     if (this.actions.atDecisionBacktrackException(e)) { return; }
                 } catch (CannotBacktrackException e) {
                     if (this.actions.atCannotBacktrackException(e)) { return; }
                 } finally {
-                    if (this.actions.atBacktrackFinally()) { return; }
+                    if (!atPrefix && this.actions.atBacktrackFinally()) { return; }
                 }
                 if (found) {
-                    if (this.actions.atBacktrackPost(bp)) { return; }
+                    //the backtrack to the root of the subregion ends the replayed prefix
+                    if (!isReplayingPrefix()) {
+                        if (this.actions.atBacktrackPost(bp)) { return; }
+                    }
                 } else {
                     this.actions.atEnd();
                     return;
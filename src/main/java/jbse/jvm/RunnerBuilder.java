@@ -1,13 +1,17 @@
 package jbse.jvm;
 
+import java.util.ArrayList;
+
 import jbse.algo.exc.NotYetImplementedException;
 import jbse.bc.exc.InvalidClassFileFactoryClassException;
 import jbse.common.exc.ClasspathException;
+import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.dec.exc.DecisionException;
 import jbse.jvm.exc.CannotBuildEngineException;
 import jbse.jvm.exc.InitializationException;
 import jbse.jvm.exc.NonexistingObservedVariablesException;
 import jbse.mem.exc.ContradictionException;
+import jbse.tree.MemoryGovernor;
 
 public class RunnerBuilder {
 	/**
@@ -59,6 +63,56 @@ public class RunnerBuilder {
 				parameters.getCountScope());
 	}
 	
+	/**
+	 * Builds a {@link RunnerParallel}.
+	 * 
+	 * @param parameters the {@link RunnerParameters} to configure the {@link RunnerParallel}.
+	 *        The main worker is configured exactly as {@link #build(RunnerParameters)}
+	 *        would configure a {@link Runner}; The other workers get their decision 
+	 *        procedures from {@link RunnerParameters#getWorkerDecisionProcedureFactory()}
+	 *        and their actions from {@link RunnerParameters#getWorkerActionsFactory()}.
+	 * 
+	 * @return a {@link RunnerParallel}.
+	 * @throws CannotBuildEngineException as in {@link #build(RunnerParameters)}.
+	 * @throws DecisionException as in {@link #build(RunnerParameters)}, or 
+	 *         in case the creation of the decision procedure of some worker fails.
+	 * @throws InitializationException as in {@link #build(RunnerParameters)}.
+	 * @throws InvalidClassFileFactoryClassException as in {@link #build(RunnerParameters)}.
+	 * @throws NonexistingObservedVariablesException as in {@link #build(RunnerParameters)}.
+	 * @throws ClasspathException as in {@link #build(RunnerParameters)}.
+	 * @throws NotYetImplementedException as in {@link #build(RunnerParameters)}.
+	 * @throws ContradictionException as in {@link #build(RunnerParameters)}.
+	 */
+	public RunnerParallel buildParallel(RunnerParameters parameters) 
+	throws CannotBuildEngineException, DecisionException, InitializationException, 
+	InvalidClassFileFactoryClassException, NonexistingObservedVariablesException, ClasspathException, 
+	NotYetImplementedException, ContradictionException {
+		final ArrayList<Runner> workers = new ArrayList<>();
+		workers.add(build(parameters));
+		final DecisionProcedureFactory factory = parameters.getWorkerDecisionProcedureFactory();
+		if (factory != null) {
+			for (int i = 1; i < parameters.getNumWorkers(); ++i) {
+				final EngineParameters workerParameters = parameters.getEngineParameters().clone();
+				final DecisionProcedureAlgorithms workerDecisionProcedure = factory.createDecisionProcedure();
+				workerParameters.setDecisionProcedure(workerDecisionProcedure);
+				workerParameters.setCalculator(workerDecisionProcedure.getCalculator());
+				final Engine workerEngine = this.eb.buildWorker(workerParameters);
+				workers.add(new Runner(workerEngine, parameters.getWorkerActionsFactory().get(), parameters.getIdentifierSubregion(), 
+						parameters.getTimeout(), parameters.getHeapScope(), parameters.getDepthScope(), 
+						parameters.getCountScope()));
+			}
+		}
+		final long memoryBudget = parameters.getEngineParameters().getMemoryBudget();
+		if (memoryBudget > 0) {
+			//the workers share the heap, thus the budget
+			final MemoryGovernor memoryGovernor = new MemoryGovernor(memoryBudget);
+			for (Runner worker : workers) {
+				worker.getEngine().setMemoryGovernor(memoryGovernor);
+			}
+		}
+		return new RunnerParallel(workers);
+	}
+	
 	/**
 	 * Returns the {@link Engine} underlying the built {@link Runner}.
 	 * 
@@ -0,0 +1,29 @@
+package jbse.jvm;
+
+/**
+ * A coordinator of a run split among many workers, 
+ * each driven by a {@link Runner}, that dispatches 
+ * the work to the idle workers.
+ */
+interface RunnerCoordinator {
+    /**
+     * Finds some work for an idle worker, waiting until
+     * either some is available or the run is over, and 
+     * makes the worker's {@link Engine} able to proceed 
+     * with it, either by backtracking or by replaying.
+     *
+     * @param thief the {@link Engine} of the idle worker, that
+     *        must have no pending state.
+     * @return {@code true} iff {@code thief} received 
+     *         some work, {@code false} if the run is over.
+     */
+    boolean stealFor(Engine thief);
+    
+    /**
+     * Invoked by a worker after each step, when the state of 
+     * its {@link Engine} is consistent. By default it does nothing.
+     * 
+     * @param worker the {@link Runner} of the worker.
+     */
+    default void atStepPost(Runner worker) { }
+}
@@ -0,0 +1,374 @@
+package jbse.jvm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class implementing the coordinator of a distributed run,
+ * where a Java method is fully run by many worker processes
+ * (see {@link RunnerDistributedWorker}) that connect to the
+ * coordinator through a socket. The work is split by branch
+ * identifiers: a piece of work is the subtree rooted at a
+ * branch identifier, that a worker explores by replaying
+ * the execution from its own initial state. The first idle
+ * worker is assigned the whole tree. Whenever a worker is idle
+ * and there is no piece of work to assign, the coordinator asks
+ * a busy worker to hand off one of its pending subtrees (the one
+ * that the worker would explore last). The run ends when all
+ * the workers are idle. The coordinator merges the path
+ * statistics of the workers, and copies the output blocks
+ * they send to its output. If a worker disconnects before the
+ * end of the run its work is lost, and the run fails. See 
+ * {@link RunnerDistributedWorker} for how the workers are started.
+ */
+public final class RunnerDistributed {
+    /**
+     * How many milliseconds the coordinator waits for a message
+     * before asking again the busy workers for some work.
+     */
+    private static final long SPLIT_RETRY_MILLIS = 10L;
+
+    /** The {@link ServerSocket} the workers connect to. */
+    private final ServerSocket serverSocket;
+
+    /** The number of workers. */
+    private final int numWorkers;
+
+    /** The {@link OutputStream} where the output of the workers is copied. */
+    private final OutputStream output;
+
+    /** The messages received from the workers. */
+    private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+    /**
+     * The branch identifiers of the subtrees that are not
+     * assigned to any worker; the empty string is the whole tree.
+     */
+    private final ArrayDeque<String> work = new ArrayDeque<>();
+
+    /** The workers. */
+    private final ArrayList<Worker> workers = new ArrayList<>();
+
+    /** Round-robin index of the next worker asked for some work. */
+    private int nextVictim = 0;
+
+    /** Stores the start time. */
+    private long startTime;
+
+    /** Stores the stop time. */
+    private long stopTime;
+
+    /** The total number of paths explored by the workers. */
+    private long pathsTot = 0L;
+
+    /** The total number of out-of-scope paths explored by the workers. */
+    private long pathsOutOfScope = 0L;
+
+    /** The total number of states analyzed by the workers. */
+    private long analyzedStates = 0L;
+
+    /** A worker, as seen by the coordinator. */
+    private static final class Worker {
+        final Socket socket;
+        final DataOutputStream out;
+        boolean idle = false;
+        boolean splitRequested = false;
+        boolean done = false;
+
+        Worker(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+    }
+
+    /**
+     * A message received from a worker, or the
+     * disconnection of a worker if {@code message == null}.
+     */
+    private static final class Event {
+        final Worker worker;
+        final DistributedMessage message;
+
+        Event(Worker worker, DistributedMessage message) {
+            this.worker = worker;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Constructor. The coordinator listens on the loopback
+     * interface.
+     *
+     * @param port an {@code int}, the port the workers connect
+     *        to, or {@code 0} for an automatically allocated port
+     *        (see {@link #getPort()}).
+     * @param numWorkers an {@code int}, the number of workers.
+     *        It must be positive.
+     * @param output the {@link OutputStream} where the output
+     *        of the workers is copied.
+     * @throws IOException if the socket cannot be created.
+     */
+    public RunnerDistributed(int port, int numWorkers, OutputStream output) throws IOException {
+        this(new ServerSocket(port, numWorkers, InetAddress.getLoopbackAddress()), numWorkers, output);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param serverSocket the bound {@link ServerSocket}
+     *        the workers connect to. It is closed at the
+     *        end of the run.
+     * @param numWorkers an {@code int}, the number of workers.
+     *        It must be positive.
+     * @param output the {@link OutputStream} where the output
+     *        of the workers is copied.
+     */
+    public RunnerDistributed(ServerSocket serverSocket, int numWorkers, OutputStream output) {
+        if (numWorkers <= 0) {
+            throw new IllegalArgumentException("The number of workers must be positive.");
+        }
+        this.serverSocket = serverSocket;
+        this.numWorkers = numWorkers;
+        this.output = output;
+    }
+
+    /**
+     * Returns the port the workers connect to.
+     *
+     * @return an {@code int}.
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Runs the method, by waiting for all the workers to
+     * connect and then dispatching the work among them
+     * until all of them are idle.
+     *
+     * @throws IOException if the communication with some
+     *         worker fails, or some worker disconnects before
+     *         the end of the run.
+     * @throws InterruptedException if the coordinator is
+     *         interrupted while waiting for the workers.
+     */
+    public void run() throws IOException, InterruptedException {
+        this.startTime = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < this.numWorkers; ++i) {
+                final Worker worker = new Worker(this.serverSocket.accept());
+                this.workers.add(worker);
+                startReader(worker);
+            }
+            this.work.add("");
+            boolean ending = false;
+            while (!allDone()) {
+                final Event event = this.events.poll(SPLIT_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    receive(event, ending);
+                }
+                if (ending) {
+                    continue;
+                }
+                assignWork();
+                if (allIdle()) {
+                    for (Worker worker : this.workers) {
+                        if (!worker.done) {
+                            send(worker, DistributedMessage.end());
+                        }
+                    }
+                    ending = true;
+                } else if (event == null) {
+                    requestSplits();
+                }
+            }
+        } finally {
+            for (Worker worker : this.workers) {
+                try {
+                    worker.socket.close();
+                } catch (IOException e) {
+                    //nothing to do
+                }
+            }
+            this.serverSocket.close();
+            this.stopTime = System.currentTimeMillis();
+        }
+    }
+
+    private void startReader(Worker worker) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(worker.socket.getInputStream()));
+        final Thread reader = new Thread(() -> {
+            try {
+                while (true) {
+                    final DistributedMessage message = DistributedMessage.read(in);
+                    this.events.add(new Event(worker, message));
+                    if (message.type == DistributedMessage.DONE) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                this.events.add(new Event(worker, null));
+            }
+        }, "jbse-coordinator-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void receive(Event event, boolean ending) throws IOException {
+        final Worker worker = event.worker;
+        final DistributedMessage message = event.message;
+        if (message == null) {
+            if (worker.done) {
+                return;
+            }
+            throw new EOFException("A worker disconnected before the end of the run.");
+        }
+        switch (message.type) {
+        case DistributedMessage.IDLE:
+            worker.idle = true;
+            break;
+        case DistributedMessage.SPLIT:
+            worker.splitRequested = false;
+            if (!message.identifier.isEmpty()) {
+                this.work.add(message.identifier);
+            }
+            break;
+        case DistributedMessage.OUTPUT:
+            this.output.write(message.output);
+            this.output.flush();
+            break;
+        case DistributedMessage.DONE:
+            //a worker that is done before the end of the
+            //run stopped by itself, and abandons its work
+            worker.done = true;
+            worker.idle = false;
+            worker.splitRequested = false;
+            this.pathsTot += message.statistics[0];
+            this.pathsOutOfScope += message.statistics[1];
+            this.analyzedStates += message.statistics[2];
+            break;
+        default:
+            throw new IOException("Unexpected message type " + message.type + " from a worker.");
+        }
+    }
+
+    private void assignWork() throws IOException {
+        for (Worker worker : this.workers) {
+            if (this.work.isEmpty()) {
+                return;
+            }
+            if (worker.idle) {
+                worker.idle = false;
+                send(worker, DistributedMessage.work(this.work.poll()));
+            }
+        }
+    }
+
+    private void requestSplits() throws IOException {
+        int requests = 0;
+        for (Worker worker : this.workers) {
+            if (worker.idle) {
+                ++requests;
+            }
+        }
+        for (int i = 0; i < this.numWorkers && requests > 0; ++i) {
+            final Worker victim = this.workers.get((this.nextVictim + i) % this.numWorkers);
+            if (!victim.idle && !victim.done && !victim.splitRequested) {
+                victim.splitRequested = true;
+                send(victim, DistributedMessage.splitRequest());
+                --requests;
+            }
+        }
+        this.nextVictim = (this.nextVictim + 1) % this.numWorkers;
+    }
+
+    private boolean allIdle() {
+        if (!this.work.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : this.workers) {
+            if (!worker.done && (!worker.idle || worker.splitRequested)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean allDone() {
+        for (Worker worker : this.workers) {
+            if (!worker.done) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void send(Worker worker, DistributedMessage message) throws IOException {
+        message.write(worker.out);
+    }
+
+    /**
+     * Returns the start time, i.e., the time when
+     * the method {@link #run()} was invoked.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()}.
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Returns the stop time, i.e., the time when
+     * the method {@link #run()} returned.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()} returns.
+     */
+    public long getStopTime() {
+        return this.stopTime;
+    }
+
+    /**
+     * Returns the total number of paths explored by
+     * the workers that are done.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsTotal() {
+        return this.pathsTot;
+    }
+
+    /**
+     * Returns the total number of out-of-scope paths explored
+     * by the workers that are done.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsOutOfScope() {
+        return this.pathsOutOfScope;
+    }
+
+    /**
+     * Returns the total number of states analyzed
+     * by the workers that are done.
+     *
+     * @return a {@code long}.
+     */
+    public long getAnalyzedStates() {
+        return this.analyzedStates;
+    }
+}
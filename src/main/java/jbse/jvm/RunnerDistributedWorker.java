@@ -0,0 +1,296 @@
+package jbse.jvm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import jbse.algo.exc.CannotManageStateException;
+import jbse.common.exc.ClasspathException;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.exc.CannotBacktrackException;
+import jbse.jvm.exc.EngineStuckException;
+import jbse.jvm.exc.FailureException;
+import jbse.jvm.exc.NonexistingObservedVariablesException;
+import jbse.mem.State;
+import jbse.mem.exc.ContradictionException;
+import jbse.mem.exc.ThreadStackEmptyException;
+
+/**
+ * Class implementing a worker of a distributed run (see
+ * {@link RunnerDistributed}), that drives a {@link Runner}
+ * in the worker process and communicates with the coordinator
+ * through a socket. The worker explores the subtrees the
+ * coordinator assigns to it by replaying the execution from its
+ * own initial state, and when asked hands off the pending subtree
+ * it would explore last. The output the worker must merge in the
+ * output of the coordinator must be printed on {@link #getOutput()},
+ * and is sent to the coordinator in blocks, one for each flush.
+ * 
+ * <p>A worker process is started as a JVM that runs a program 
+ * which configures the same method, classpath and decision 
+ * procedure as the other workers, and then runs
+ * <pre>
+ * final Runner runner = new RunnerBuilder().build(runnerParameters);
+ * try {
+ *     new RunnerDistributedWorker(host, port).run(runner);
+ * } finally {
+ *     runner.getEngine().close();
+ * }
+ * </pre>
+ * where {@code host} and {@code port} are those of the coordinator
+ * (see {@link RunnerDistributed#getPort()}). The coordinator must 
+ * be listening before the workers are started, and waits until 
+ * all of them have connected. The workers may also be threads of
+ * the coordinator process, each with its own {@link Runner}.</p>
+ */
+public final class RunnerDistributedWorker implements RunnerCoordinator {
+    /** The {@link Socket} connected to the coordinator. */
+    private final Socket socket;
+
+    /** The stream of the messages to the coordinator. */
+    private final DataOutputStream out;
+
+    /**
+     * The messages received from the coordinator; an {@link DistributedMessage#END}
+     * message is also put when the connection is lost.
+     */
+    private final BlockingQueue<DistributedMessage> inbox = new LinkedBlockingQueue<>();
+
+    /** The output that is sent to the coordinator. */
+    private final PrintStream output;
+
+    /**
+     * Constructor. Connects to the coordinator.
+     *
+     * @param host a {@link String}, the host of the coordinator.
+     * @param port an {@code int}, the port of the coordinator.
+     * @throws IOException if the connection fails.
+     */
+    public RunnerDistributedWorker(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        this.out = new DataOutputStream(new BufferedOutputStream(this.socket.getOutputStream()));
+        this.output = new PrintStream(new OutputForwarder(), false, "UTF-8");
+        startReader();
+    }
+
+    private void startReader() throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+        final Thread reader = new Thread(() -> {
+            try {
+                while (true) {
+                    final DistributedMessage message = DistributedMessage.read(in);
+                    this.inbox.add(message);
+                    if (message.type == DistributedMessage.END) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                this.inbox.add(DistributedMessage.end());
+            }
+        }, "jbse-worker-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Returns the output of this worker.
+     *
+     * @return a {@link PrintStream}. Whatever is printed on it
+     *         is sent to the coordinator when it is flushed, and
+     *         is copied to the output of the coordinator as a
+     *         single block.
+     */
+    public PrintStream getOutput() {
+        return this.output;
+    }
+
+    /**
+     * Runs the method in this worker, by waiting for the
+     * work assigned by the coordinator and exploring it,
+     * until the coordinator ends the run. At the end the
+     * connection with the coordinator is closed.
+     *
+     * @param runner the {@link Runner} of this worker.
+     *        Its {@link Engine} must be initialized, and
+     *        must not have been stepped yet.
+     * @throws IOException if the communication with the
+     *         coordinator fails.
+     * @throws CannotBacktrackException as in {@link Runner#run()}
+     * @throws CannotManageStateException as in {@link Runner#run()}
+     * @throws ClasspathException as in {@link Runner#run()}
+     * @throws ThreadStackEmptyException as in {@link Runner#run()}
+     * @throws ContradictionException as in {@link Runner#run()}
+     * @throws DecisionException as in {@link Runner#run()}
+     * @throws EngineStuckException as in {@link Runner#run()}
+     * @throws FailureException as in {@link Runner#run()}
+     * @throws NonexistingObservedVariablesException as in {@link Runner#run()}
+     */
+    public void run(Runner runner)
+    throws IOException, CannotBacktrackException, CannotManageStateException,
+    ClasspathException, ThreadStackEmptyException,
+    ContradictionException, DecisionException, EngineStuckException,
+    FailureException, NonexistingObservedVariablesException {
+        try {
+            send(DistributedMessage.idle());
+            final DistributedMessage assignment = takeAssignment();
+            if (assignment.type == DistributedMessage.WORK) {
+                runner.setCoordinator(this);
+                runner.restrictTo(assignment.identifier.isEmpty() ? null : assignment.identifier);
+                runner.run();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.output.flush();
+            try {
+                send(DistributedMessage.done(runner.getPathsTotal(), runner.getPathsOutOfScope(), runner.getEngine().getAnalyzedStates()));
+            } finally {
+                this.socket.close();
+            }
+        }
+    }
+
+    /**
+     * Waits for a piece of work from the coordinator,
+     * refusing all the requests of handing off work.
+     *
+     * @return a {@link DistributedMessage}, either a
+     *         {@link DistributedMessage#WORK} or an
+     *         {@link DistributedMessage#END} message.
+     */
+    private DistributedMessage takeAssignment() {
+        while (true) {
+            final DistributedMessage message;
+            try {
+                message = this.inbox.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return DistributedMessage.end();
+            }
+            if (message.type == DistributedMessage.SPLIT_REQUEST) {
+                sendUnchecked(DistributedMessage.split(""));
+            } else {
+                return message;
+            }
+        }
+    }
+
+    /**
+     * Notifies the coordinator that this worker is idle
+     * and waits for some work, that {@code thief} adopts
+     * as a released state to be replayed.
+     *
+     * @param thief the {@link Engine} of this worker, that
+     *        must have no pending state.
+     * @return {@code true} iff {@code thief} received
+     *         some work, {@code false} if the run is over.
+     * @throws UncheckedIOException if the communication with
+     *         the coordinator fails.
+     */
+    @Override
+    public boolean stealFor(Engine thief) {
+        sendUnchecked(DistributedMessage.idle());
+        final DistributedMessage message = takeAssignment();
+        if (message.type == DistributedMessage.WORK) {
+            thief.adoptReleasedState(message.identifier);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Answers a request of handing off work from the
+     * coordinator, if there is any.
+     *
+     * @param worker the {@link Runner} of this worker.
+     * @throws UncheckedIOException if the communication with
+     *         the coordinator fails.
+     */
+    @Override
+    public void atStepPost(Runner worker) {
+        final DistributedMessage message = this.inbox.peek();
+        if (message == null || message.type != DistributedMessage.SPLIT_REQUEST) {
+            return;
+        }
+        this.inbox.poll();
+        sendUnchecked(DistributedMessage.split(handOff(worker)));
+    }
+
+    /**
+     * Removes from a worker the pending state it would explore last
+     * among the ones in its subregion.
+     *
+     * @param worker the {@link Runner} of this worker.
+     * @return a {@link String}, the branch identifier of the removed
+     *         state, or the empty string if no state can be removed.
+     */
+    private static String handOff(Runner worker) {
+        final Engine engine = worker.getEngine();
+        final String identifierSubregion = worker.getIdentifierSubregion();
+        State s;
+        while ((s = engine.stealPendingState()) != null) {
+            final String identifier = s.getBranchIdentifier();
+            if (identifierSubregion == null || identifierSubregion.equals(identifier) ||
+                Runner.isProperPrefix(identifierSubregion, identifier)) {
+                return identifier;
+            }
+            if (Runner.isProperPrefix(identifier, identifierSubregion)) {
+                //on the path to the subregion, must be explored here
+                engine.adoptPendingState(s, engine.getInitialState());
+                return "";
+            }
+            //otherwise it is out of the subregion, and
+            //it would be discarded when backtracked
+        }
+        return "";
+    }
+
+    private synchronized void send(DistributedMessage message) throws IOException {
+        message.write(this.out);
+    }
+
+    private void sendUnchecked(DistributedMessage message) {
+        try {
+            send(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The {@link OutputStream} under {@link RunnerDistributedWorker#output},
+     * that buffers the output and sends it to the coordinator as
+     * a block when flushed.
+     */
+    private final class OutputForwarder extends OutputStream {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        @Override
+        public synchronized void write(int b) {
+            this.buffer.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            this.buffer.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            if (this.buffer.size() == 0 || RunnerDistributedWorker.this.socket.isClosed()) {
+                return;
+            }
+            send(DistributedMessage.output(this.buffer.toByteArray()));
+            this.buffer.reset();
+        }
+    }
+}
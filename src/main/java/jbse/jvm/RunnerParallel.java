@@ -0,0 +1,338 @@
+package jbse.jvm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jbse.algo.exc.CannotManageStateException;
+import jbse.common.exc.ClasspathException;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.exc.CannotBacktrackException;
+import jbse.jvm.exc.EngineStuckException;
+import jbse.jvm.exc.FailureException;
+import jbse.jvm.exc.NonexistingObservedVariablesException;
+import jbse.mem.State;
+import jbse.mem.exc.ContradictionException;
+import jbse.mem.exc.ThreadStackEmptyException;
+
+/**
+ * Class implementing an algorithm for fully running a Java method by
+ * steering many {@link Engine}s in parallel, each on its own thread.
+ * Each {@link Engine} is driven by a {@link Runner} (a <em>worker</em>),
+ * and has its own execution context and decision procedure. The first
+ * worker (the main one) starts the symbolic execution from the root,
+ * the other ones start idle. Whenever a worker runs out of pending
+ * states it steals one from another worker, picking the one that
+ * the victim would explore last (thus, usually, the one with the
+ * largest subtree below it). The run ends when all the workers
+ * are idle.
+ */
+public final class RunnerParallel implements RunnerCoordinator {
+    /**
+     * How many milliseconds an idle worker waits before
+     * trying again to steal a state.
+     */
+    private static final long STEAL_RETRY_MILLIS = 10L;
+
+    /** The workers; the first one is the main one. */
+    private final ArrayList<Runner> workers;
+
+    /** The {@link Engine}s of the idle workers. */
+    private final HashSet<Engine> idle = new HashSet<>();
+
+    /** Set whenever a worker fails, to stop the idle ones. */
+    private boolean stopped = false;
+
+    /** Stores the start time. */
+    private long startTime;
+
+    /** Stores the stop time. */
+    private long stopTime;
+
+    /**
+     * Constructor.
+     *
+     * @param workers a {@link List}{@code <}{@link Runner}{@code >},
+     *        the workers of the run. The first one must be initialized,
+     *        all the other ones must be built around worker {@link Engine}s
+     *        (see {@link EngineBuilder#buildWorker(EngineParameters)}).
+     */
+    RunnerParallel(List<Runner> workers) {
+        this.workers = new ArrayList<>(workers);
+        for (Runner worker : this.workers) {
+            worker.setCoordinator(this);
+        }
+    }
+
+    /**
+     * Returns the main worker.
+     *
+     * @return the {@link Runner} that starts the symbolic execution
+     *         from the root.
+     */
+    public Runner getMainRunner() {
+        return this.workers.get(0);
+    }
+
+    /**
+     * Returns all the workers.
+     *
+     * @return an unmodifiable {@link List}{@code <}{@link Runner}{@code >};
+     *         its first element is the main worker.
+     */
+    public List<Runner> getWorkers() {
+        return Collections.unmodifiableList(this.workers);
+    }
+
+    /**
+     * Runs the method.
+     *
+     * @throws CannotBacktrackException as in {@link Runner#run()}
+     * @throws CannotManageStateException as in {@link Runner#run()}
+     * @throws ClasspathException as in {@link Runner#run()}
+     * @throws ThreadStackEmptyException as in {@link Runner#run()}
+     * @throws ContradictionException as in {@link Runner#run()}
+     * @throws DecisionException as in {@link Runner#run()}
+     * @throws EngineStuckException as in {@link Runner#run()}
+     * @throws FailureException as in {@link Runner#run()}
+     * @throws NonexistingObservedVariablesException as in {@link Runner#run()}
+     */
+    public void run()
+    throws CannotBacktrackException, CannotManageStateException,
+    ClasspathException, ThreadStackEmptyException,
+    ContradictionException, DecisionException, EngineStuckException,
+    FailureException, NonexistingObservedVariablesException {
+        this.startTime = System.currentTimeMillis();
+        final ExecutorService pool = Executors.newFixedThreadPool(this.workers.size());
+        try {
+            final ArrayList<Future<?>> results = new ArrayList<>();
+            for (Runner worker : this.workers) {
+                results.add(pool.submit(() -> {
+                    try {
+                        worker.run();
+                    } catch (Exception | Error e) {
+                        stop();
+                        throw e;
+                    } finally {
+                        setIdle(worker.getEngine());
+                    }
+                    return null;
+                }));
+            }
+            Throwable failure = null;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    stop();
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (failure != null) {
+                rethrow(failure);
+            }
+        } finally {
+            pool.shutdownNow();
+            this.stopTime = System.currentTimeMillis();
+        }
+    }
+
+    private static void rethrow(Throwable e)
+    throws CannotBacktrackException, CannotManageStateException,
+    ClasspathException, ThreadStackEmptyException,
+    ContradictionException, DecisionException, EngineStuckException,
+    FailureException, NonexistingObservedVariablesException {
+        if (e instanceof CannotBacktrackException) {
+            throw (CannotBacktrackException) e;
+        } else if (e instanceof CannotManageStateException) {
+            throw (CannotManageStateException) e;
+        } else if (e instanceof ClasspathException) {
+            throw (ClasspathException) e;
+        } else if (e instanceof ThreadStackEmptyException) {
+            throw (ThreadStackEmptyException) e;
+        } else if (e instanceof ContradictionException) {
+            throw (ContradictionException) e;
+        } else if (e instanceof DecisionException) {
+            throw (DecisionException) e;
+        } else if (e instanceof EngineStuckException) {
+            throw (EngineStuckException) e;
+        } else if (e instanceof FailureException) {
+            throw (FailureException) e;
+        } else if (e instanceof NonexistingObservedVariablesException) {
+            throw (NonexistingObservedVariablesException) e;
+        } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    private synchronized void stop() {
+        this.stopped = true;
+        notifyAll();
+    }
+
+    private synchronized void setIdle(Engine engine) {
+        this.idle.add(engine);
+        notifyAll();
+    }
+
+    /**
+     * Steals a pending state from some worker, waiting until
+     * either one is available or all the workers are idle,
+     * and makes an {@link Engine} adopt it.
+     *
+     * @param thief the {@link Engine} of the stealing worker, that
+     *        must have no pending state.
+     * @return {@code true} iff {@code thief} adopted a stolen
+     *         state and can backtrack to it, {@code false} if the
+     *         run is over.
+     */
+    @Override
+    public boolean stealFor(Engine thief) {
+        synchronized (this) {
+            State stolen = null;
+            State stateInitial = null;
+            this.idle.add(thief);
+            while (stolen == null) {
+                if (this.stopped) {
+                    return false;
+                }
+                final int numWorkers = this.workers.size();
+                final int first = ThreadLocalRandom.current().nextInt(numWorkers);
+                for (int i = 0; i < numWorkers; ++i) {
+                    final Engine victim = this.workers.get((first + i) % numWorkers).getEngine();
+                    if (victim == thief) {
+                        continue;
+                    }
+                    stolen = victim.stealPendingState();
+                    if (stolen != null) {
+                        stateInitial = victim.getInitialState();
+                        break;
+                    }
+                }
+                if (stolen == null) {
+                    if (this.idle.size() == numWorkers) {
+                        notifyAll();
+                        return false;
+                    }
+                    try {
+                        wait(STEAL_RETRY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+            this.idle.remove(thief);
+            
+            //adopts while holding the lock, so no other thief can 
+            //see the stolen state before it is reserved in thief
+            thief.adoptPendingState(stolen, stateInitial);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the start time, i.e., the time when
+     * the method {@link #run()} was invoked.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()}.
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Returns the stop time, i.e., the time when
+     * the method {@link #run()} returned.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()} returns.
+     */
+    public long getStopTime() {
+        return this.stopTime;
+    }
+
+    /**
+     * Returns the total number of paths explored by
+     * all the workers until its invocation.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsTotal() {
+        long retVal = 0L;
+        for (Runner worker : this.workers) {
+            retVal += worker.getPathsTotal();
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns the total number of out-of-scope paths explored
+     * by all the workers until its invocation.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsOutOfScope() {
+        long retVal = 0L;
+        for (Runner worker : this.workers) {
+            retVal += worker.getPathsOutOfScope();
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns the total number of states analyzed
+     * by all the workers until its invocation.
+     *
+     * @return a {@code long}.
+     */
+    public long getAnalyzedStates() {
+        long retVal = 0L;
+        for (Runner worker : this.workers) {
+            retVal += worker.getEngine().getAnalyzedStates();
+        }
+        return retVal;
+    }
+
+    /**
+     * Cleans up the decision procedures of all the workers
+     * except the main one, whose {@link Engine} must be
+     * closed by its owner.
+     *
+     * @throws DecisionException when clean-up of some decision
+     *         procedure fails.
+     */
+    public void closeWorkers() throws DecisionException {
+        DecisionException failure = null;
+        for (Runner worker : this.workers.subList(1, this.workers.size())) {
+            try {
+                worker.getEngine().close();
+            } catch (DecisionException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
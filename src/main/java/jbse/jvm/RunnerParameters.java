@@ -9,11 +9,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jbse.bc.Classpath;
 import jbse.bc.Signature;
 import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.jvm.EngineParameters.BreadthMode;
+import jbse.jvm.EngineParameters.SearchStrategy;
 import jbse.jvm.EngineParameters.StateIdentificationMode;
 import jbse.jvm.Runner.Actions;
 import jbse.mem.State;
@@ -64,6 +66,18 @@ public final class RunnerParameters implements Cloneable {
      */
     private String identifierSubregion = null;
 
+    /** The number of workers for a parallel run. */
+    private int numWorkers = 1;
+
+    /** 
+     * The {@link DecisionProcedureFactory} for the workers
+     * of a parallel run.
+     */
+    private DecisionProcedureFactory workerDecisionProcedureFactory = null;
+
+    /** The {@link Supplier} of the {@link Actions} of the workers of a parallel run. */
+    private Supplier<Actions> workerActionsFactory = Actions::new;
+
     /** 
      * Constructor. 
      */
@@ -151,6 +165,27 @@ public final class RunnerParameters implements Cloneable {
         return this.engineParameters.getBreadthMode();
     }
 
+    /**
+     * Sets the search strategy, i.e., the order in which
+     * the pending states will be explored.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        this.engineParameters.setSearchStrategy(searchStrategy);
+    }
+
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.engineParameters.getSearchStrategy();
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -296,6 +331,60 @@ public final class RunnerParameters implements Cloneable {
     	return this.engineParameters.getJBSELibPath();
     }
 
+    /**
+     * Sets the file where the index of the jar files in the 
+     * classpath is saved, to be reused across runs. 
+     * 
+     * @param classpathIndexFile a {@link Path}.
+     * @throws NullPointerException if {@code classpathIndexFile == null}.
+     */
+    public void setClasspathIndexFile(Path classpathIndexFile) {
+    	this.engineParameters.setClasspathIndexFile(classpathIndexFile);
+    }
+
+    /**
+     * Sets that the index of the jar files in the 
+     * classpath must not be saved (default).
+     */
+    public void setClasspathIndexFileNone() {
+    	this.engineParameters.setClasspathIndexFileNone();
+    }
+
+    /**
+     * Gets the file where the index of the jar files in 
+     * the classpath is saved.
+     * 
+     * @return a {@link Path}, or {@code null} if the index
+     *         is not saved.
+     */
+    public Path getClasspathIndexFile() {
+    	return this.engineParameters.getClasspathIndexFile();
+    }
+
+    /**
+     * Sets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand, in addition to 
+     * the classes in the expansion backdoor. By default
+     * it is not scanned.
+     * 
+     * @param classpathSubclassIndex a {@code boolean}.
+     */
+    public void setClasspathSubclassIndex(boolean classpathSubclassIndex) {
+    	this.engineParameters.setClasspathSubclassIndex(classpathSubclassIndex);
+    }
+
+    /**
+     * Gets whether the user classpath must be scanned for 
+     * the concrete subclasses of the classes of the 
+     * symbolic references to expand.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getClasspathSubclassIndex() {
+    	return this.engineParameters.getClasspathSubclassIndex();
+    }
+
     /**
      * Sets the Java home, and cancels the effect 
      * of any previous call to {@link #setStartingState(State)}.
@@ -785,6 +874,59 @@ public final class RunnerParameters implements Cloneable {
         return this.engineParameters.getMaxHeapSize();
     }
     
+    /**
+     * Sets the memory budget for the pending states. If 
+     * the memory retained in the tenured heap pools (shared by
+     * all the workers of a parallel run)
+     * exceeds the budget, the pending states that would
+     * be explored last are released, and the subtrees
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * budget is unlimited.
+     * 
+     * @param memoryBudget a {@code long}, the budget in 
+     *        bytes ({@code <= 0} means unlimited).
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        this.engineParameters.setMemoryBudget(memoryBudget);
+    }
+    
+    /**
+     * Returns the memory budget for the pending states.
+     * 
+     * @return a {@code long}, the budget in bytes 
+     *         ({@code <= 0} means unlimited).
+     */
+    public long getMemoryBudget() {
+        return this.engineParameters.getMemoryBudget();
+    }
+    
+    /**
+     * Sets the maximum number of pending states kept in 
+     * memory. The pending states beyond it that would be 
+     * explored last are released, their branch identifiers
+     * are spilled to a temporary file, and the subtrees 
+     * they root are later re-derived by replaying the 
+     * execution from the initial state. By default the 
+     * number of pending states is unlimited.
+     * 
+     * @param pendingStatesWindow an {@code int}, the maximum
+     *        number of pending states ({@code <= 0} means unlimited).
+     */
+    public void setPendingStatesWindow(int pendingStatesWindow) {
+        this.engineParameters.setPendingStatesWindow(pendingStatesWindow);
+    }
+    
+    /**
+     * Returns the maximum number of pending states kept in memory.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states ({@code <= 0} means unlimited).
+     */
+    public int getPendingStatesWindow() {
+        return this.engineParameters.getPendingStatesWindow();
+    }
+    
     /**
      * Sets whether the classes created during
      * the pre-initialization phase shall be (pedantically)
@@ -834,6 +976,33 @@ public final class RunnerParameters implements Cloneable {
     	return this.engineParameters.getUseHashMapModel();
     }
 
+    /**
+     * Sets whether the initial state must be cached. If set, and no
+     * starting state is set, the symbolic execution starts 
+     * from the state at the end of the bootstrap (before the 
+     * root method is invoked) in the {@link InitialStateCache},
+     * stored by a previous symbolic execution in the same JVM 
+     * with the same classpath, parameters, and classes of the
+     * root method and of its parameters; if there is no such 
+     * state, the symbolic execution stores its own bootstrap 
+     * state in the {@link InitialStateCache} upon reaching it. 
+     * The cache is not saved across JVMs. By default it is not set.
+     * 
+     * @param cacheInitialState a {@code boolean}.
+     */
+    public void setCacheInitialState(boolean cacheInitialState) {
+    	this.engineParameters.setCacheInitialState(cacheInitialState);
+    }
+    
+    /**
+     * Returns whether the initial state must be cached.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getCacheInitialState() {
+    	return this.engineParameters.getCacheInitialState();
+    }
+
     /**
      * Sets a timeout for execution.
      * 
@@ -1083,6 +1252,86 @@ public final class RunnerParameters implements Cloneable {
         return this.identifierSubregion;
     }
 
+    /**
+     * Sets the number of workers of a parallel run
+     * (see {@link RunnerParallel}).
+     * 
+     * @param numWorkers an {@code int}, the total number of 
+     *        {@link Engine}s that will explore the symbolic 
+     *        execution tree in parallel, including the one that
+     *        is configured with the other parameters.
+     * @param workerDecisionProcedureFactory a {@link DecisionProcedureFactory}
+     *        that will be used to create the decision procedures
+     *        of the {@code numWorkers - 1} additional {@link Engine}s.
+     * @throws IllegalArgumentException if {@code numWorkers < 1}.
+     * @throws NullPointerException if {@code workerDecisionProcedureFactory == null}.
+     */
+    public void setParallel(int numWorkers, DecisionProcedureFactory workerDecisionProcedureFactory) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (workerDecisionProcedureFactory == null) {
+            throw new NullPointerException();
+        }
+        this.numWorkers = numWorkers;
+        this.workerDecisionProcedureFactory = workerDecisionProcedureFactory;
+    }
+
+    /**
+     * Instructs to run with a single worker. This is the 
+     * default behavior.
+     */
+    public void setSequential() {
+        this.numWorkers = 1;
+        this.workerDecisionProcedureFactory = null;
+    }
+
+    /**
+     * Gets the number of workers of a parallel run.
+     * 
+     * @return a positive {@code int}.
+     */
+    public int getNumWorkers() {
+        return this.numWorkers;
+    }
+
+    /**
+     * Gets the factory for the decision procedures of the 
+     * workers of a parallel run.
+     * 
+     * @return a {@link DecisionProcedureFactory}, or {@code null}
+     *         if the run is sequential.
+     */
+    public DecisionProcedureFactory getWorkerDecisionProcedureFactory() {
+        return this.workerDecisionProcedureFactory;
+    }
+
+    /**
+     * Sets the factory of the actions to be performed by the 
+     * additional workers of a parallel run. Note that these 
+     * actions are invoked concurrently by the different workers.
+     * 
+     * @param workerActionsFactory a {@link Supplier}{@code <}{@link Actions}{@code >}.
+     *        By default it supplies actions that do nothing.
+     * @throws NullPointerException if {@code workerActionsFactory == null}.
+     */
+    public void setWorkerActionsFactory(Supplier<Actions> workerActionsFactory) {
+        if (workerActionsFactory == null) {
+            throw new NullPointerException();
+        }
+        this.workerActionsFactory = workerActionsFactory;
+    }
+
+    /**
+     * Gets the factory of the actions to be performed by the 
+     * additional workers of a parallel run.
+     * 
+     * @return a {@link Supplier}{@code <}{@link Actions}{@code >}.
+     */
+    public Supplier<Actions> getWorkerActionsFactory() {
+        return this.workerActionsFactory;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public RunnerParameters clone() {
@@ -1,14 +1,22 @@
 package jbse.mem;
 
 import static jbse.common.Type.ARRAYOF;
+import static jbse.common.Type.BOOLEAN;
+import static jbse.common.Type.BYTE;
+import static jbse.common.Type.CHAR;
+import static jbse.common.Type.DOUBLE;
+import static jbse.common.Type.FLOAT;
 import static jbse.common.Type.INT;
+import static jbse.common.Type.LONG;
 import static jbse.common.Type.NULLREF;
 import static jbse.common.Type.REFERENCE;
+import static jbse.common.Type.SHORT;
 import static jbse.common.Type.getArrayMemberType;
 import static jbse.common.Type.isPrimitive;
 import static jbse.common.Type.toPrimitiveOrVoidInternalName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -24,6 +32,7 @@ import jbse.mem.exc.FastArrayAccessNotAllowedException;
 import jbse.val.Calculator;
 import jbse.val.Expression;
 import jbse.val.HistoryPoint;
+import jbse.val.Operator;
 import jbse.val.Primitive;
 import jbse.val.Reference;
 import jbse.val.ReferenceArrayImmaterial;
@@ -32,6 +41,7 @@ import jbse.val.Simplex;
 import jbse.val.Term;
 import jbse.val.Value;
 import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidOperatorException;
 import jbse.val.exc.InvalidTypeException;
 
 /**
@@ -39,6 +49,11 @@ import jbse.val.exc.InvalidTypeException;
  * collection of {@link AccessOutcome}s, 
  * associating {@link Expression}s on the array index to 
  * the outcome of an array access when the access index satisfies it.
+ * Concrete arrays of primitives with simple representation are 
+ * backed by a Java array of the member type, that is shared 
+ * copy-on-write between clones; they switch to a list of entries
+ * as soon as an operation needs it (e.g., a symbolic value or 
+ * a value at a symbolic index is stored).
  *  
  * @author Pietro Braione
  */
@@ -72,6 +87,25 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
      * This is possible only if {@code this.length} is a {@link Simplex}.
      */ 
     private boolean simpleRep;
+    
+    /**
+     * The values of the array when it is concrete with primitive 
+     * members and simple representation: a {@code boolean[]}, 
+     * {@code byte[]}, {@code char[]}, {@code short[]}, {@code int[]}, 
+     * {@code long[]}, {@code float[]} or {@code double[]}. When 
+     * not {@code null}, {@code this.entries} is {@code null}.
+     */
+    private Object concreteValues;
+    
+    /** The member type of {@code this.concreteValues}. */
+    private char concreteType;
+    
+    /** 
+     * Whether {@code this.concreteValues} may be shared with 
+     * a clone of this array, and thus must be copied before 
+     * being modified.
+     */
+    private boolean concreteShared;
 
     public abstract class AccessOutcomeImpl implements AccessOutcome {
         /** 
@@ -465,6 +499,14 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             final int ln = ((Integer) ((Simplex) getLength()).getActualValue()).intValue();
             if (ln <= maxSimpleArrayLength) {
                 this.simpleRep = true;
+                if (entryValue instanceof Simplex) {
+                    //concrete values: backs them with a Java array
+                    this.entries = null;
+                    this.concreteType = entryValue.getType();
+                    this.concreteValues = makeConcreteValues(this.concreteType, ln, (Simplex) entryValue);
+                    this.concreteShared = false;
+                    return;
+                }
                 for (int i = 0; i < ln; ++i) {
                     try {
                         this.entries.add(new AccessOutcomeInValueImpl((Expression) calc.push(this.indexFormal).eq(calc.valInt(i)).pop(),
@@ -482,6 +524,210 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         this.entries.add(new AccessOutcomeInValueImpl(this.indexInRange, entryValue));
     }
     
+    /**
+     * Creates the Java array backing a concrete array.
+     * 
+     * @param type a {@code char}, the (primitive) member type.
+     * @param length an {@code int}, the length of the array.
+     * @param initValue a {@link Simplex} with type {@code type}, 
+     *        the initial value of all the members.
+     * @return the created Java array.
+     */
+    private static Object makeConcreteValues(char type, int length, Simplex initValue) {
+        switch (type) {
+        case BOOLEAN: {
+            final boolean[] retVal = new boolean[length];
+            Arrays.fill(retVal, initValue.surelyTrue());
+            return retVal;
+        }
+        case BYTE: {
+            final byte[] retVal = new byte[length];
+            Arrays.fill(retVal, (byte) initValue.intValue());
+            return retVal;
+        }
+        case CHAR: {
+            final char[] retVal = new char[length];
+            Arrays.fill(retVal, (char) initValue.intValue());
+            return retVal;
+        }
+        case SHORT: {
+            final short[] retVal = new short[length];
+            Arrays.fill(retVal, (short) initValue.intValue());
+            return retVal;
+        }
+        case INT: {
+            final int[] retVal = new int[length];
+            Arrays.fill(retVal, initValue.intValue());
+            return retVal;
+        }
+        case LONG: {
+            final long[] retVal = new long[length];
+            Arrays.fill(retVal, initValue.longValue());
+            return retVal;
+        }
+        case FLOAT: {
+            final float[] retVal = new float[length];
+            Arrays.fill(retVal, initValue.floatValue());
+            return retVal;
+        }
+        case DOUBLE: {
+            final double[] retVal = new double[length];
+            Arrays.fill(retVal, initValue.doubleValue());
+            return retVal;
+        }
+        default:
+            //this should never happen
+            throw new UnexpectedInternalException("Attempted to create a concrete array with member type " + type + ".");
+        }
+    }
+    
+    /**
+     * Returns the length of a concrete array.
+     * 
+     * @return the length of {@code this.concreteValues}.
+     */
+    private int concreteLength() {
+        return java.lang.reflect.Array.getLength(this.concreteValues);
+    }
+    
+    /**
+     * Reads a member of a concrete array.
+     * 
+     * @param i an {@code int}, the index of the member. It must be in range.
+     * @return a {@link Simplex}, the value of the member.
+     */
+    private Simplex concreteGet(int i) {
+        switch (this.concreteType) {
+        case BOOLEAN:
+            return Simplex.makeBoolean(((boolean[]) this.concreteValues)[i]);
+        case BYTE:
+            return Simplex.makeByte(((byte[]) this.concreteValues)[i]);
+        case CHAR:
+            return Simplex.makeChar(((char[]) this.concreteValues)[i]);
+        case SHORT:
+            return Simplex.makeShort(((short[]) this.concreteValues)[i]);
+        case INT:
+            return Simplex.makeInt(((int[]) this.concreteValues)[i]);
+        case LONG:
+            return Simplex.makeLong(((long[]) this.concreteValues)[i]);
+        case FLOAT:
+            return Simplex.makeFloat(((float[]) this.concreteValues)[i]);
+        case DOUBLE:
+            return Simplex.makeDouble(((double[]) this.concreteValues)[i]);
+        default:
+            //this should never happen
+            throw new UnexpectedInternalException("Concrete array with member type " + this.concreteType + ".");
+        }
+    }
+    
+    /**
+     * Copies {@code this.concreteValues} if it is shared 
+     * with a clone.
+     */
+    private void concreteUnshare() {
+        if (this.concreteShared) {
+            this.concreteValues = copyConcreteValues(this.concreteValues);
+            this.concreteShared = false;
+        }
+    }
+    
+    private static Object copyConcreteValues(Object values) {
+        final int length = java.lang.reflect.Array.getLength(values);
+        final Object retVal = java.lang.reflect.Array.newInstance(values.getClass().getComponentType(), length);
+        System.arraycopy(values, 0, retVal, 0, length);
+        return retVal;
+    }
+    
+    /**
+     * Writes a member of a concrete array.
+     * 
+     * @param i an {@code int}, the index of the member. It must be in range.
+     * @param value a {@link Simplex} with type {@code this.concreteType}.
+     */
+    private void concreteSet(int i, Simplex value) {
+        concreteUnshare();
+        switch (this.concreteType) {
+        case BOOLEAN:
+            ((boolean[]) this.concreteValues)[i] = value.surelyTrue();
+            break;
+        case BYTE:
+            ((byte[]) this.concreteValues)[i] = (byte) value.intValue();
+            break;
+        case CHAR:
+            ((char[]) this.concreteValues)[i] = (char) value.intValue();
+            break;
+        case SHORT:
+            ((short[]) this.concreteValues)[i] = (short) value.intValue();
+            break;
+        case INT:
+            ((int[]) this.concreteValues)[i] = value.intValue();
+            break;
+        case LONG:
+            ((long[]) this.concreteValues)[i] = value.longValue();
+            break;
+        case FLOAT:
+            ((float[]) this.concreteValues)[i] = value.floatValue();
+            break;
+        case DOUBLE:
+            ((double[]) this.concreteValues)[i] = value.doubleValue();
+            break;
+        default:
+            //this should never happen
+            throw new UnexpectedInternalException("Concrete array with member type " + this.concreteType + ".");
+        }
+    }
+    
+    /**
+     * Builds the entry of a concrete array for an index.
+     * 
+     * @param i an {@code int}, the index. It must be in range.
+     * @return an {@link AccessOutcomeInValueImpl} with same access 
+     *         condition and value of the corresponding entry 
+     *         in the simple representation.
+     */
+    private AccessOutcomeInValueImpl concreteEntry(int i) {
+        try {
+            return new AccessOutcomeInValueImpl(Expression.makeExpressionBinary(this.indexFormal, Operator.EQ, Simplex.makeInt(i)), concreteGet(i));
+        } catch (InvalidOperandException | InvalidOperatorException | InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+    
+    /**
+     * Returns the entries of this array, without changing 
+     * its representation.
+     * 
+     * @return a {@link List}{@code <}{@link AccessOutcomeInImpl}{@code >}. 
+     *         If the array is backed by a Java array, it is a fresh
+     *         list, otherwise it is {@code this.entries}. It must
+     *         not be modified.
+     */
+    private List<AccessOutcomeInImpl> entriesView() {
+        if (this.concreteValues == null) {
+            return this.entries;
+        }
+        final int length = concreteLength();
+        final ArrayList<AccessOutcomeInImpl> retVal = new ArrayList<>(length);
+        for (int i = 0; i < length; ++i) {
+            retVal.add(concreteEntry(i));
+        }
+        return retVal;
+    }
+    
+    /**
+     * Switches from the Java array backing a concrete 
+     * array to the list of entries; does nothing if the
+     * array is not backed by a Java array.
+     */
+    private void materialize() {
+        if (this.concreteValues != null) {
+            this.entries = (ArrayList<AccessOutcomeInImpl>) entriesView();
+            this.concreteValues = null;
+            this.concreteShared = false;
+        }
+    }
+    
     @Override
     ArrayWrapper makeWrapper(Heap destinationHeap, long destinationPosition) {
     	return new ArrayWrapper(destinationHeap, destinationPosition, this);
@@ -504,6 +750,9 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
 
     @Override
     public boolean isSimple() {
+        if (this.concreteValues != null) {
+            return true;
+        }
         if (hasSimpleRep()) {
             for (AccessOutcomeIn e : this.entries) {
                 if (!(e instanceof AccessOutcomeInValue) || ((AccessOutcomeInValue) e).getValue().isSymbolic()) {
@@ -544,6 +793,16 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             throw new InvalidTypeException("Attempted array fast access with an index with type " + index.getType() + ".");
         }
         final ArrayList<AccessOutcome> retVal = new ArrayList<>();
+        if (this.concreteValues != null && index instanceof Simplex) {
+            //the fastest case, reads the Java array
+            final int indexInt = ((Simplex) index).intValue();
+            if (indexInt >= 0 && indexInt < concreteLength()) {
+                retVal.add(new AccessOutcomeInValueImpl(concreteGet(indexInt)));
+            } else {
+                retVal.add(new AccessOutcomeOutImpl());
+            }
+            return retVal;
+        }
         final Primitive inRange = inRange(calc, index);
 
         //builds the answer
@@ -564,7 +823,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         } else {
             //scans the entries and adds all the (possibly) satisfiable 
             //inbound cases
-            for (AccessOutcomeIn e : this.entries) {
+            for (AccessOutcomeIn e : entriesView()) {
                 final Primitive inRangeEntry = e.inRange(calc, index);
                 if (inRangeEntry.surelyTrue()) { //this may only happen when index is Simplex
                     if (e instanceof AccessOutcomeInValue) {
@@ -638,8 +897,17 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             throw new FastArrayAccessNotAllowedException();
         }
         checkSetValue(newValue);
-        final int actualIndex = (Integer) index.getActualValue();
-        final int actualLength = (Integer) ((Simplex) this.getLength()).getActualValue();
+        final int actualIndex = index.intValue();
+        final int actualLength = ((Simplex) this.getLength()).intValue();
+        if (this.concreteValues != null) {
+            if (newValue instanceof Simplex) {
+                if (actualIndex >= 0 && actualIndex < actualLength) {
+                    concreteSet(actualIndex, (Simplex) newValue);
+                }
+                return;
+            }
+            materialize();
+        }
         if (actualIndex >= 0 && actualIndex < actualLength) {
             final AccessOutcomeIn e = this.entries.get(actualIndex);
             if (e instanceof AccessOutcomeInValueImpl) {
@@ -661,6 +929,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             throw new InvalidTypeException("Attempted array access with an index with type " + index.getType() + ".");
         }
         checkSetValue(newValue);
+        materialize();
         this.simpleRep = false;
 		try {
 	        final Expression formalIndexIsActualIndex = (Expression) calc.push(this.indexFormal).eq(index).pop();
@@ -674,6 +943,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     
     @Override
     public Iterator<? extends AccessOutcomeIn> entries() {
+    	materialize();
     	return this.entries.iterator();
     }
     
@@ -683,6 +953,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         if (calc == null || index == null) {
             throw new InvalidInputException("Attempted array access with null calc or index.");
         }
+        materialize();
         return new Iterator<AccessOutcomeIn>() {
             //this iterator filters the relevant members in Array.this.values
             //by wrapping the default iterator to it
@@ -773,8 +1044,9 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	if (!this.classFile.equals(otherImpl.classFile)) {
     		throw new InvalidTypeException("tried to clone entries of a " + otherImpl.classFile + " array into a " + this.classFile + " array");
     	}
+    	materialize();
     	this.entries.clear();
-    	for (AccessOutcomeInImpl entry : otherImpl.entries) {
+    	for (AccessOutcomeInImpl entry : otherImpl.entriesView()) {
     		final AccessOutcomeInImpl entryClone = entry.clone();
     		try {
     			entryClone.accessCondition = (Expression) calc.push(entryClone.accessCondition).replace(this.indexFormal, otherImpl.indexFormal).pop();
@@ -809,17 +1081,27 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	final String srcTypeComponent = getArrayMemberType(src.getType().getClassName());
     	final String destTypeComponent = getArrayMemberType(getType().getClassName());
     	try {
+    		if (this.concreteValues != null && srcImpl.concreteValues != null && 
+    				this.concreteType == srcImpl.concreteType &&
+    				srcPos instanceof Simplex && destPos instanceof Simplex && 
+    				length instanceof Simplex) {
+    			//fastest operation, copies the Java arrays
+    			concreteUnshare();
+    			System.arraycopy(srcImpl.concreteValues, ((Simplex) srcPos).intValue(), this.concreteValues, ((Simplex) destPos).intValue(), ((Simplex) length).intValue());
+    			return EMPTY_ITERATOR;
+    		}
+    		materialize();
     		if (this.simpleRep && srcImpl.simpleRep && 
     				srcPos instanceof Simplex && destPos instanceof Simplex && 
     				length instanceof Simplex) {
     			//fast operation
-    			int srcPosInt = ((Integer) ((Simplex) srcPos).getActualValue()).intValue();
-    			int destPosInt = ((Integer) ((Simplex) destPos).getActualValue()).intValue();
-    			int lengthInt = ((Integer) ((Simplex) length).getActualValue()).intValue();
+    			int srcPosInt = ((Simplex) srcPos).intValue();
+    			int destPosInt = ((Simplex) destPos).intValue();
+    			int lengthInt = ((Simplex) length).intValue();
     			final ArrayList<Integer> destPosEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
     			final ArrayList<AccessOutcomeInImpl> destEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
     			for (int ofst = 0; ofst < lengthInt; ++ofst) {
-    				final AccessOutcomeIn srcEntry = srcImpl.entries.get(srcPosInt + ofst);
+    				final AccessOutcomeIn srcEntry = (srcImpl.concreteValues == null ? srcImpl.entries.get(srcPosInt + ofst) : srcImpl.concreteEntry(srcPosInt + ofst));
     				final AccessOutcomeInImpl destEntry;
     				if (srcEntry instanceof AccessOutcomeInValue) {
     					final Value srcValue = ((AccessOutcomeInValue) srcEntry).getValue();
@@ -853,7 +1135,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     			//adds new entries corresponding to the source array entries
     			final Primitive srcIndex = calc.push(this.indexFormal).sub(destPos).add(srcPos).pop();
     			final ArrayList<AccessOutcomeInImpl> destEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
-    			for (AccessOutcomeIn srcEntry : srcImpl.entries) {
+    			for (AccessOutcomeIn srcEntry : srcImpl.entriesView()) {
     				final Expression accessCondition = (Expression) calc.push(this.indexInRange).and(srcEntry.inRange(calc, srcIndex)).and(indexInDestRange).pop();
     				final AccessOutcomeInImpl destEntry;
     				if (srcEntry instanceof AccessOutcomeInValue) {
@@ -914,6 +1196,10 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     @Override
     public List<AccessOutcomeIn> values() {
     	final ArrayList<AccessOutcomeIn> retVal = new ArrayList<>();
+    	if (this.concreteValues != null) {
+    		retVal.addAll(entriesView());
+    		return retVal;
+    	}
     	for (AccessOutcomeIn entry : this.entries) {
     		retVal.add(entry.clone());
     	}
@@ -922,10 +1208,13 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
 
     @Override
     public String valueString() {
+    	if (this.concreteValues != null && this.concreteType == CHAR) {
+    		return new String((char[]) this.concreteValues);
+    	}
     	if (this.classFile.getMemberClass().getClassName().equals("char") && isSimple()) {
     		final StringBuilder buf = new StringBuilder();
     		for (AccessOutcomeIn e : this.entries) {
-    			buf.append(((AccessOutcomeInValue) e).getValue().toString().substring(1, 2));
+    			buf.append(((Character) ((Simplex) ((AccessOutcomeInValue) e).getValue()).getActualValue()).charValue());
     		}
     		return buf.toString();
     	} else {
@@ -943,7 +1232,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	String str = "[Type:" + this.classFile + ", Length:" + this.getLength().toString() + ", Elements: {";
     	boolean firstEntryPassed = false;
     	final StringBuilder buf = new StringBuilder();
-    	for (AccessOutcomeIn e : this.entries) {
+    	for (AccessOutcomeIn e : entriesView()) {
     		if (firstEntryPassed) {
     			buf.append(", ");
     		} else {
@@ -958,6 +1247,13 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     @Override
     public ArrayImpl clone() {
     	final ArrayImpl o = (ArrayImpl) super.clone();
+    	
+    	if (this.concreteValues != null) {
+    		//shares the Java array copy-on-write
+    		this.concreteShared = true;
+    		o.concreteShared = true;
+    		return o;
+    	}
 
     	o.entries = new ArrayList<>();
     	for (AccessOutcomeInImpl e : this.entries) {
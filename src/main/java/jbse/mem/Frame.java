@@ -31,7 +31,14 @@ public abstract class Frame implements Cloneable {
     private ClassFile methodClass;
     
     /** The bytecode of the frame's method. */
-    private byte[] bytecode; //not final to implement clone method (bytecode may be patched)
+    private byte[] bytecode; //not final because it is copied on patch
+    
+    /** 
+     * Whether {@code bytecode} is shared with some other
+     * frame or class file, and must thus be copied 
+     * before being patched.
+     */
+    private boolean bytecodeShared;
 
     /** The program counter for the frame's method. */
     private int programCounter;
@@ -44,10 +51,13 @@ public abstract class Frame implements Cloneable {
      * 
      * @param methodClass the {@link ClassFile} for the method class.
      * @param bytecode a {@code byte[]}, the bytecode to be executed.
+     *        It is not modified by this frame, that copies it upon
+     *        the first patch (see {@link #patchCode(byte)}).
      */
     public Frame(ClassFile methodClass, byte[] bytecode) {
         this.methodClass = methodClass;
-        this.bytecode = bytecode.clone();
+        this.bytecode = bytecode;
+        this.bytecodeShared = true;
         this.programCounter = 0;
         this.returnProgramCounter = UNKNOWN_PC;
     }
@@ -124,6 +134,10 @@ public abstract class Frame implements Cloneable {
      *        Note that the action is destructive.
      */
     public final void patchCode(byte bytecode) {
+        if (this.bytecodeShared) {
+            this.bytecode = this.bytecode.clone();
+            this.bytecodeShared = false;
+        }
         this.bytecode[this.programCounter] = bytecode;
     }
 
@@ -336,7 +350,9 @@ public abstract class Frame implements Cloneable {
         } catch (CloneNotSupportedException e) {
             throw new InternalError(e);
         }
-        o.bytecode = o.bytecode.clone();
+        //the bytecode is copied on patch
+        this.bytecodeShared = true;
+        o.bytecodeShared = true;
         return o;
     }
 }
\ No newline at end of file
@@ -4,8 +4,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.TreeSet;
 
+import jbse.common.PersistentLongMap;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.mem.exc.HeapMemoryExhaustedException;
 
@@ -14,8 +14,21 @@ import jbse.mem.exc.HeapMemoryExhaustedException;
  */
 final class Heap implements Cloneable {
     private final long maxHeapSize;
-	private Heap delegate; //nonfinal to allow cloning
-    private TreeMap<Long, HeapObjekt> objects; //nonfinal to allow cloning
+    
+    /** 
+     * The objects in the heap. It may contain objects 
+     * shared with the heap this heap was lazily cloned from.
+     */
+    private PersistentLongMap<HeapObjekt> objects; //nonfinal to allow cloning
+    
+    /** 
+     * The objects of the heap this heap was lazily cloned
+     * from, at the moment of the cloning. An object in 
+     * {@link #objects} that is also in {@code inherited} at 
+     * the same position is shared, and must be wrapped before 
+     * being handed out.
+     */
+    private PersistentLongMap<HeapObjekt> inherited; //nonfinal to allow cloning
     private long nextIndex;
     
     /**
@@ -25,9 +38,9 @@ final class Heap implements Cloneable {
      *        of objects this heap can store.
      */
     Heap(long maxHeapSize) {
-    	this.delegate = null;
         this.maxHeapSize = maxHeapSize;
-        this.objects = new TreeMap<>();
+        this.objects = PersistentLongMap.empty();
+        this.inherited = PersistentLongMap.empty();
         this.nextIndex = Util.POS_ROOT;
     }
 
@@ -59,7 +72,7 @@ final class Heap implements Cloneable {
      *         where {@code item} is stored.
      */
     long addNewSurely(HeapObjektImpl item) {
-        this.objects.put(this.nextIndex, item);
+        this.objects = this.objects.put(this.nextIndex, item);
         long retVal = this.nextIndex;
         while (existsAt(this.nextIndex)) {
             if (this.nextIndex == Long.MAX_VALUE) {
@@ -77,11 +90,7 @@ final class Heap implements Cloneable {
      * @return {@code true} iff there is an object at position {@code index}.
      */
     boolean existsAt(long index) {
-    	if (this.objects.containsKey(index)) {
-    		return (this.objects.get(index) != null);
-    	} else {
-    		return (this.delegate != null && this.delegate.existsAt(index));
-    	}
+        return this.objects.containsKey(index);
     }
 
     /**
@@ -92,7 +101,7 @@ final class Heap implements Cloneable {
      * @param item the {@link HeapObjekt} to stored at {@code pos}.
      */
     void set(long pos, HeapObjekt item) {
-        this.objects.put(pos, item);
+        this.objects = this.objects.put(pos, item);
     }
 
     /**
@@ -104,63 +113,57 @@ final class Heap implements Cloneable {
      *         {@code null} if nothing is stored at {@code pos}.
      */
     HeapObjekt getObject(long pos) {
-    	if (existsAt(pos)) {
-    		final HeapObjekt localObjekt = this.objects.get(pos);
-    		if (localObjekt == null) {
-    			final HeapObjektImpl trueObjekt = getTheRealThing(pos);
-    			final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
-    			set(pos, delegateObjekt);
-    			return delegateObjekt;
-    		} else {
-    			return localObjekt;
-    		}
-    	} else {
-    		return null;
-    	}
+        final HeapObjekt localObjekt = this.objects.get(pos);
+        if (localObjekt != null && localObjekt == this.inherited.get(pos)) {
+            return wrap(pos, localObjekt);
+        } else {
+            return localObjekt;
+        }
+    }
+    
+    /**
+     * Replaces a shared object with a copy-on-write
+     * wrapper owned by this heap.
+     * 
+     * @param pos a {@code long}, the position of {@code sharedObjekt}.
+     * @param sharedObjekt the {@link HeapObjekt} at {@code pos}, that 
+     *        this heap shares with the heap it was lazily cloned from.
+     * @return the wrapper, now stored at {@code pos}.
+     */
+    private HeapObjektWrapper<?> wrap(long pos, HeapObjekt sharedObjekt) {
+        final HeapObjektImpl trueObjekt = theRealThing(sharedObjekt);
+        final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
+        set(pos, delegateObjekt);
+        return delegateObjekt;
     }
     
     /**
-     * Gets the real {@link ObjektImpl} that is stored
-     * at some position.
+     * Gets the real {@link ObjektImpl} for 
+     * a {@link HeapObjekt}.
      * 
-     * @param pos a {@code long}. It must be 
-     * {@link #existsAt(long) existsObjectAt}{@code (pos) == true}.
-     * @return the {@link ObjektImpl} stored at {@code pos}, obtained
-     * by walking through the delegation chain until either an {@link ObjektImpl}
-     * or an {@link ObjektWrapper} is found (in the latter case, the wrapped
-     * object is returned).
+     * @param objekt a {@link HeapObjekt}. It must not be {@code null}.
+     * @return {@code objekt} if it is an {@link ObjektImpl}, otherwise 
+     *         {@code objekt} is an {@link ObjektWrapper} and the wrapped 
+     *         object is returned.
      */
-    private HeapObjektImpl getTheRealThing(long pos) {
-		final HeapObjekt localObjekt = this.objects.get(pos);
-		if (localObjekt == null) {
-			return this.delegate.getTheRealThing(pos);
-		} else if (localObjekt instanceof ObjektWrapper<?>) {
-			return ((HeapObjektWrapper<?>) localObjekt).getDelegate();
-		} else {
-			return (HeapObjektImpl) localObjekt;
-		}
+    private static HeapObjektImpl theRealThing(HeapObjekt objekt) {
+        if (objekt instanceof ObjektWrapper<?>) {
+            return ((HeapObjektWrapper<?>) objekt).getDelegate();
+        } else {
+            return (HeapObjektImpl) objekt;
+        }
     }
     
-    private TreeSet<Long> filledPositions() {
-    	final TreeSet<Long> retVal = new TreeSet<>();
-    	for (long pos : this.objects.keySet()) {
-    		if (this.objects.get(pos) != null) {
-    			retVal.add(pos);
-    		}
-    	}
-    	if (this.delegate != null) {
-    		retVal.addAll(this.delegate.filledPositions());
-    	}
-    	return retVal;
+    private long[] filledPositions() {
+        final long[] retVal = new long[this.objects.size()];
+        final int[] i = { 0 };
+        this.objects.forEach((objekt, pos) -> retVal[i[0]++] = pos);
+        return retVal;
     }
     
     private void makeAllWrappers() {
         for (long pos : filledPositions()) {
-            if (!this.objects.containsKey(pos)) {
-            	final HeapObjektImpl trueObjekt = getTheRealThing(pos);
-            	final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
-            	this.objects.put(pos, delegateObjekt);
-            }
+            getObject(pos);
         }
     }
 
@@ -173,8 +176,10 @@ final class Heap implements Cloneable {
      * at them.
      */
     SortedMap<Long, Objekt> getObjects() {
-    	makeAllWrappers();
-        return new TreeMap<>(this.objects);
+        makeAllWrappers();
+        final TreeMap<Long, Objekt> retVal = new TreeMap<>();
+        this.objects.forEach((objekt, pos) -> retVal.put(pos, objekt));
+        return retVal;
     }    
 
     /**
@@ -183,7 +188,7 @@ final class Heap implements Cloneable {
      * @return a positive {@code int}.
      */
     int getSize() {
-        return filledPositions().size();
+        return this.objects.size();
     }
     
     /**
@@ -199,7 +204,7 @@ final class Heap implements Cloneable {
             if (exceptPos.contains(pos)) {
                 continue;
             }
-            this.objects.put(pos, null);
+            this.objects = this.objects.remove(pos);
         }
     }
 
@@ -211,8 +216,9 @@ final class Heap implements Cloneable {
             throw new InternalError(e);
         }
 
-        h.delegate = this;
-        h.objects = new TreeMap<>();
+        //the clone shares all the objects, that 
+        //will be wrapped upon access
+        h.inherited = this.objects;
         
         return h;
     }
@@ -245,12 +251,12 @@ final class Heap implements Cloneable {
             throw new InternalError(e);
         }
 
-        h.delegate = null;
-        final TreeMap<Long, HeapObjekt> objectsClone = new TreeMap<>();
+        PersistentLongMap<HeapObjekt> objectsClone = PersistentLongMap.empty();
         for (long pos : filledPositions()) {
-            objectsClone.put(pos, getTheRealThing(pos).clone());
+            objectsClone = objectsClone.put(pos, theRealThing(this.objects.get(pos)).clone());
         }
         h.objects = objectsClone;
+        h.inherited = PersistentLongMap.empty();
         
         return h;
     }
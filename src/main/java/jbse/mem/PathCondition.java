@@ -1,13 +1,18 @@
 package jbse.mem;
 
+import static jbse.bc.Signatures.JAVA_OBJECT;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import jbse.bc.ClassFile;
+import jbse.common.PersistentMap;
 import jbse.common.exc.InvalidInputException;
 import jbse.val.Expression;
 import jbse.val.Primitive;
@@ -18,30 +23,112 @@ import jbse.val.Simplex;
  * A path condition. It retains all the clauses gathered at the 
  * different branch points traversed during execution as a 
  * suitable {@link Collection}{@code <}{@link Clause}{@code >}. 
+ * Path conditions are persistent: The clauses are stored
+ * in an immutable chain where each link points to the link of
+ * the previous clause, so that a clone shares with its original 
+ * the whole chain and cloning costs O(1).
  */
 final class PathCondition implements Cloneable {
-    /** {@link ArrayList} of all the {@link Clause}s forming the path condition. */
-    private ArrayList<Clause> clauses;
+    /** 
+     * A link in the chain of the {@link Clause}s forming the 
+     * path condition. Links are immutable and shared among
+     * clones.
+     */
+    private static final class ClauseLink {
+        final Clause clause;
+        final ClauseLink previous;
+        final int size;
+        
+        ClauseLink(Clause clause, ClauseLink previous) {
+            this.clause = clause;
+            this.previous = previous;
+            this.size = (previous == null ? 1 : previous.size + 1);
+        }
+    }
+    
+    /** 
+     * A link in a chain of {@link ClauseAssumeExpands}, from
+     * the most recent to the least recent one. Links are 
+     * immutable and shared among clones.
+     */
+    private static final class ExpandsLink {
+        final ClauseAssumeExpands clause;
+        final ExpandsLink next;
+        
+        ExpandsLink(ClauseAssumeExpands clause, ExpandsLink next) {
+            this.clause = clause;
+            this.next = next;
+        }
+    }
+    
+    /** 
+     * The last {@link ClauseLink} of the chain of all the 
+     * {@link Clause}s forming the path condition, or 
+     * {@code null} if the path condition is empty.
+     */
+    private ClauseLink last;
+    
+    /**
+     * The {@link Clause}s in the chain from {@code last}, 
+     * in order, or {@code null} if they were not yet 
+     * collected. It is a cache owned by {@code this} 
+     * (i.e., not shared with the clones) that only grows.
+     */
+    private ArrayList<Clause> clausesCache;
 
     /** 
      * Maps symbolic references to their respective heap positions.
-     * It is just a cache of information already contained in {@code clauses}.
+     * It is just a cache of information already contained in the clauses.
      */
-    private HashMap<ReferenceSymbolic, Long> referenceResolutionMap;
+    private PersistentMap<ReferenceSymbolic, Long> referenceResolutionMap;
 
     /**
      * Maps each class with the number of assumed objects in it. 
-     * It is just a cache of information already contained in {@code clauses}.
+     * It is just a cache of information already contained in the clauses.
      */
-    private HashMap<String, Integer> objectCounters;
+    private PersistentMap<String, Integer> objectCounters;
+
+    /**
+     * Maps each class with the chain of the {@link ClauseAssumeExpands} 
+     * whose objects have the class as superclass or superinterface.
+     * It is just an index of information already contained in the clauses.
+     */
+    private PersistentMap<ClassFile, ExpandsLink> expandsBySupertype;
+
+    /**
+     * The chain of the {@link ClauseAssumeExpands} whose objects are arrays.
+     * It is just an index of information already contained in the clauses.
+     */
+    private ExpandsLink expandsArrays;
+
+    /**
+     * The chain of all the {@link ClauseAssumeExpands}.
+     * It is just an index of information already contained in the clauses.
+     */
+    private ExpandsLink expandsAll;
 
     /**
      * Constructor.
      */
     PathCondition() {
-        this.clauses = new ArrayList<>();
-        this.referenceResolutionMap = new HashMap<>();
-        this.objectCounters = new HashMap<>();
+        this.last = null;
+        this.clausesCache = new ArrayList<>();
+        this.referenceResolutionMap = PersistentMap.empty();
+        this.objectCounters = PersistentMap.empty();
+        this.expandsBySupertype = PersistentMap.empty();
+        this.expandsArrays = null;
+        this.expandsAll = null;
+    }
+    
+    private void add(Clause c) {
+        this.last = new ClauseLink(c, this.last);
+        if (this.clausesCache != null) {
+            this.clausesCache.add(c);
+        }
+    }
+    
+    private int size() {
+        return (this.last == null ? 0 : this.last.size);
     }
 
     /**
@@ -60,7 +147,7 @@ final class PathCondition implements Cloneable {
     		return; //nothing to add
     	}
     	//TODO what if condition.surelyFalse? Throw a ContradictionException?
-        this.clauses.add(new ClauseAssume(condition));
+        add(new ClauseAssume(condition));
     }
 
     /**
@@ -75,15 +162,26 @@ final class PathCondition implements Cloneable {
      *        is expanded.
      */
     void addClauseAssumeExpands(ReferenceSymbolic reference, long heapPosition, HeapObjekt object) {
-        this.clauses.add(new ClauseAssumeExpands(reference, heapPosition, object));
-        this.referenceResolutionMap.put(reference, heapPosition);
+        final ClauseAssumeExpands clause = new ClauseAssumeExpands(reference, heapPosition, object);
+        add(clause);
+        this.referenceResolutionMap = this.referenceResolutionMap.put(reference, heapPosition);
 
         //increments objectCounters
-        if (!this.objectCounters.containsKey(object.getType().getClassName())) {
-            this.objectCounters.put(object.getType().getClassName(), 0);
+        final ClassFile classFile = object.getType();
+        final String className = classFile.getClassName();
+        this.objectCounters = this.objectCounters.put(className, getNumAssumed(className) + 1);
+        
+        //updates the indices of the expansions
+        this.expandsAll = new ExpandsLink(clause, this.expandsAll);
+        if (classFile.isArray()) {
+            this.expandsArrays = new ExpandsLink(clause, this.expandsArrays);
+        }
+        for (ClassFile superclass : classFile.superclasses()) {
+            this.expandsBySupertype = this.expandsBySupertype.put(superclass, new ExpandsLink(clause, this.expandsBySupertype.get(superclass)));
+        }
+        for (ClassFile superinterface : classFile.superinterfaces()) {
+            this.expandsBySupertype = this.expandsBySupertype.put(superinterface, new ExpandsLink(clause, this.expandsBySupertype.get(superinterface)));
         }
-        final int nobjects = this.objectCounters.get(object.getType().getClassName());
-        this.objectCounters.put(object.getType().getClassName(), nobjects + 1);
     }
 
     /**
@@ -98,8 +196,8 @@ final class PathCondition implements Cloneable {
      *        at the time of its assumption.
      */
     void addClauseAssumeAliases(ReferenceSymbolic reference, long heapPosition, HeapObjekt object) {
-        this.clauses.add(new ClauseAssumeAliases(reference, heapPosition, object));
-        this.referenceResolutionMap.put(reference, heapPosition);
+        add(new ClauseAssumeAliases(reference, heapPosition, object));
+        this.referenceResolutionMap = this.referenceResolutionMap.put(reference, heapPosition);
     }
 
     /**
@@ -109,8 +207,8 @@ final class PathCondition implements Cloneable {
      * @param reference the {@link ReferenceSymbolic} which is resolved. 
      */
     void addClauseAssumeNull(ReferenceSymbolic reference) {
-        this.clauses.add(new ClauseAssumeNull(reference));
-        this.referenceResolutionMap.put(reference, Util.POS_NULL);
+        add(new ClauseAssumeNull(reference));
+        this.referenceResolutionMap = this.referenceResolutionMap.put(reference, Util.POS_NULL);
     }
 
     /**
@@ -124,7 +222,7 @@ final class PathCondition implements Cloneable {
      * @throws InvalidInputException if {@code classFile == null || klass == null}.
      */
     void addClauseAssumeClassInitialized(ClassFile classFile, Klass klass) throws InvalidInputException {
-        this.clauses.add(new ClauseAssumeClassInitialized(classFile, klass));
+        add(new ClauseAssumeClassInitialized(classFile, klass));
     }
 
     /**
@@ -134,7 +232,7 @@ final class PathCondition implements Cloneable {
      * @param classFile a {@link ClassFile}.
      */
     void addClauseAssumeClassNotInitialized(ClassFile classFile) {
-        this.clauses.add(new ClauseAssumeClassNotInitialized(classFile));
+        add(new ClauseAssumeClassNotInitialized(classFile));
     }
 
     /**
@@ -174,8 +272,21 @@ final class PathCondition implements Cloneable {
      *         {@code pathCondition} returns {@code null}.
      */
     Iterator<Clause> refines(PathCondition pathCondition) {
-        final Iterator<Clause> i = this.clauses.iterator();
-        for (Clause c : pathCondition.clauses) {
+        //fast path: pathCondition's chain is a prefix of this chain
+        final int otherSize = pathCondition.size();
+        if (otherSize <= size()) {
+            ClauseLink link = this.last;
+            while (link != null && link.size > otherSize) {
+                link = link.previous;
+            }
+            if (link == pathCondition.last) {
+                return getClauses().listIterator(otherSize);
+            }
+        }
+        
+        //slow path: compares clause by clause
+        final Iterator<Clause> i = getClauses().iterator();
+        for (Clause c : pathCondition.getClauses()) {
             if (!i.hasNext()) {
                 return null;
             }
@@ -195,10 +306,49 @@ final class PathCondition implements Cloneable {
      * assumed by this path condition.
      */
     int getNumAssumed(String className) {
-        if (this.objectCounters.containsKey(className)) {
-            return this.objectCounters.get(className);
+        final Integer retVal = this.objectCounters.get(className);
+        return (retVal == null ? 0 : retVal);
+    }
+
+    /**
+     * Returns the {@link ClauseAssumeExpands} of the path condition
+     * whose objects may have a given type.
+     * 
+     * @param classFile a {@link ClassFile}. It must not be {@code null}.
+     * @return an {@link Iterable}{@code <}{@link ClauseAssumeExpands}{@code >}
+     *         containing, from the most recent to the least recent, 
+     *         (at least) all the {@link ClauseAssumeExpands} in this path 
+     *         condition whose objects have a type that is a subclass of 
+     *         {@code classFile} (see {@link ClassFile#isSubclass(ClassFile)}).
+     *         It is not affected by later modifications of {@code this}.
+     */
+    Iterable<ClauseAssumeExpands> getClausesAssumeExpands(ClassFile classFile) {
+        final ExpandsLink first;
+        if (JAVA_OBJECT.equals(classFile.getClassName())) {
+            first = this.expandsAll;
+        } else if (classFile.isArray()) {
+            first = this.expandsArrays;
+        } else {
+            first = this.expandsBySupertype.get(classFile);
         }
-        return 0;
+        return () -> new Iterator<ClauseAssumeExpands>() {
+            private ExpandsLink next = first;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public ClauseAssumeExpands next() {
+                if (this.next == null) {
+                    throw new NoSuchElementException();
+                }
+                final ClauseAssumeExpands retVal = this.next.clause;
+                this.next = this.next.next;
+                return retVal;
+            }
+        };
     }
 
     /**
@@ -209,14 +359,48 @@ final class PathCondition implements Cloneable {
      * It is valid until {@code this} is modified.
      */
     List<Clause> getClauses() {
-        return Collections.unmodifiableList(this.clauses);
+        if (this.clausesCache == null) {
+            final Clause[] clauses = new Clause[size()];
+            for (ClauseLink link = this.last; link != null; link = link.previous) {
+                clauses[link.size - 1] = link.clause;
+            }
+            this.clausesCache = new ArrayList<>(Arrays.asList(clauses));
+        }
+        return new ClauseList(this.clausesCache, size());
+    }
+    
+    /**
+     * A read-only view of a prefix of a list 
+     * of {@link Clause}s that only grows.
+     */
+    private static final class ClauseList extends AbstractList<Clause> implements RandomAccess {
+        private final ArrayList<Clause> clauses;
+        private final int size;
+        
+        ClauseList(ArrayList<Clause> clauses, int size) {
+            this.clauses = clauses;
+            this.size = size;
+        }
+
+        @Override
+        public Clause get(int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+            }
+            return this.clauses.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
     }
 
     @Override
     public String toString() {
         final StringBuilder buf = new StringBuilder();
         boolean isFirst = true;
-        for (Clause c : this.clauses) {
+        for (Clause c : getClauses()) {
             if (isFirst) {
                 isFirst = false;
             } else {
@@ -242,10 +426,9 @@ final class PathCondition implements Cloneable {
             throw new InternalError(e);
         }
 
-        //does a deep copy
-        o.clauses = new ArrayList<>(this.clauses);
-        o.referenceResolutionMap = new HashMap<>(this.referenceResolutionMap);
-        o.objectCounters = new HashMap<>(this.objectCounters);
+        //the clause chain, the maps and the indices are persistent, thus
+        //they are shared; only the cache must not be shared
+        o.clausesCache = null;
 
         return o;
     }
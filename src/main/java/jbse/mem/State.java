@@ -948,7 +948,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException if the stack is empty.
      */
     public ClassFile getCurrentClass() throws ThreadStackEmptyException {
-        return this.stack.currentFrame().getMethodClass();
+        return this.stack.peekCurrentFrame().getMethodClass();
     }
 
     /**
@@ -959,7 +959,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException if the stack is empty.
      */
     public Signature getCurrentMethodSignature() throws ThreadStackEmptyException {
-        return this.stack.currentFrame().getMethodSignature();
+        return this.stack.peekCurrentFrame().getMethodSignature();
     }
     
     /**
@@ -970,7 +970,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException if the stack is empty.
      */
     public ClassFile getRootClass() throws ThreadStackEmptyException {
-        return this.stack.rootFrame().getMethodClass();
+        return this.stack.peekRootFrame().getMethodClass();
     }
 
     /**
@@ -981,7 +981,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException if the stack is empty.
      */
     public Signature getRootMethodSignature() throws ThreadStackEmptyException {
-        return this.stack.rootFrame().getMethodSignature();
+        return this.stack.peekRootFrame().getMethodSignature();
     }
 
     /**
@@ -1058,7 +1058,7 @@ public final class State implements Cloneable {
     	if (this.frozen) {
     		throw new FrozenStateException();
     	}
-        getCurrentFrame().setLocalVariableValue(slot, this.stack.currentFrame().getProgramCounter(), val);
+        getCurrentFrame().setLocalVariableValue(slot, this.stack.peekCurrentFrame().getProgramCounter(), val);
     }
 
 
@@ -3419,7 +3419,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException if the thread stack is empty.
      */
     public int getCurrentProgramCounter() throws ThreadStackEmptyException {
-        return this.stack.currentFrame().getProgramCounter();
+        return this.stack.peekCurrentFrame().getProgramCounter();
     }
 
     /**
@@ -3448,7 +3448,7 @@ public final class State implements Cloneable {
      * @throws ThreadStackEmptyException  if the thread stack is empty.
      */
     public int getReturnProgramCounter() throws ThreadStackEmptyException {
-        return this.stack.currentFrame().getReturnProgramCounter();
+        return this.stack.peekCurrentFrame().getReturnProgramCounter();
     }
 
     /**
@@ -3722,6 +3722,25 @@ public final class State implements Cloneable {
         return this.pathCondition.getClauses();
     }
 
+    /**
+     * Returns the path condition clauses that assume the expansion
+     * of a symbolic reference to an object with a given type.
+     * 
+     * @param classFile a {@link ClassFile}.
+     * @return an {@link Iterable}{@code <}{@link ClauseAssumeExpands}{@code >} 
+     *         containing (at least) all the {@link ClauseAssumeExpands} in the
+     *         state's path condition whose objects have a type that is a subclass
+     *         of {@code classFile}. It is not affected by later modifications 
+     *         of {@code this}.
+     * @throws InvalidInputException if {@code classFile == null}.
+     */
+    public Iterable<ClauseAssumeExpands> getPathConditionExpands(ClassFile classFile) throws InvalidInputException {
+        if (classFile == null) {
+            throw new InvalidInputException("Attempted to invoke State.getPathConditionExpands with a null classFile.");
+        }
+        return this.pathCondition.getClausesAssumeExpands(classFile);
+    }
+
     /**
      * Returns the path condition clauses that have been pushed since
      * the last call of {@link #resetLastPathConditionClauses()}. Used to determine
@@ -4606,8 +4625,8 @@ public final class State implements Cloneable {
                 tmp += "Return:" + this.val.toString() + ", ";
         } else {
             try {
-                tmp += "CurrentMethod:" + this.stack.currentFrame().getMethodSignature() + ", ";
-                tmp += "ProgramCounter:" + this.stack.currentFrame().getProgramCounter() + ", ";
+                tmp += "CurrentMethod:" + this.stack.peekCurrentFrame().getMethodSignature() + ", ";
+                tmp += "ProgramCounter:" + this.stack.peekCurrentFrame().getProgramCounter() + ", ";
             } catch (ThreadStackEmptyException e) {
                 //does nothing
             }
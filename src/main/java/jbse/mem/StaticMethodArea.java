@@ -1,11 +1,11 @@
 package jbse.mem;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import jbse.bc.ClassFile;
+import jbse.common.PersistentMap;
 
 /**
  * The static method area, where all the {@link Klass} objects of a 
@@ -15,71 +15,68 @@ import jbse.bc.ClassFile;
  *
  */
 final class StaticMethodArea implements Cloneable {
-    private StaticMethodArea delegate;
-    private HashMap<ClassFile, Klass> objects;
+    /** 
+     * The {@link Klass}es in the area. It may contain {@link Klass}es 
+     * shared with the area this area was lazily cloned from.
+     */
+    private PersistentMap<ClassFile, Klass> objects; //nonfinal to allow cloning
+    
+    /** 
+     * The {@link Klass}es of the area this area was lazily cloned
+     * from, at the moment of the cloning. A {@link Klass} in 
+     * {@link #objects} that is also in {@code inherited} for the
+     * same {@link ClassFile} is shared, and must be wrapped before 
+     * being handed out.
+     */
+    private PersistentMap<ClassFile, Klass> inherited; //nonfinal to allow cloning
 
     StaticMethodArea() {
-    	this.delegate = null;
-        this.objects = new HashMap<>();
+        this.objects = PersistentMap.empty();
+        this.inherited = PersistentMap.empty();
     }
 
     boolean contains(ClassFile classFile) { 
-        return (this.objects.containsKey(classFile) || (this.delegate != null && this.delegate.contains(classFile))); 
+        return this.objects.containsKey(classFile); 
     }
 
     void set(ClassFile classFile, Klass k) {
-        this.objects.put(classFile, k);
+        this.objects = this.objects.put(classFile, k);
     }
 
     Klass get(ClassFile classFile) {
-    	if (contains(classFile)) {
-    		final Klass localKlass = this.objects.get(classFile);
-    		if (localKlass == null) {
-    			final KlassImpl trueKlass = getTheRealThing(classFile);
-    			final KlassWrapper delegateKlass = trueKlass.makeWrapper(this, classFile);
-    			set(classFile, delegateKlass);
-    			return delegateKlass;
-    		} else {
-    			return localKlass;
-    		}
-    	} else {
-    		return null;
-    	}
-    }
-    
-    private KlassImpl getTheRealThing(ClassFile classFile) {
-    	final Klass localKlass = this.objects.get(classFile);
-		if (localKlass == null) {
-			return this.delegate.getTheRealThing(classFile);
-		} else 	if (localKlass instanceof KlassWrapper) {
-    		return ((KlassWrapper) localKlass).getDelegate();
-    	} else {
-    		return (KlassImpl) localKlass;
-    	}
+        final Klass localKlass = this.objects.get(classFile);
+        if (localKlass != null && localKlass == this.inherited.get(classFile)) {
+            final KlassImpl trueKlass = theRealThing(localKlass);
+            final KlassWrapper delegateKlass = trueKlass.makeWrapper(this, classFile);
+            set(classFile, delegateKlass);
+            return delegateKlass;
+        } else {
+            return localKlass;
+        }
     }
     
-    private HashSet<ClassFile> filledPositions() {
-    	final HashSet<ClassFile> retVal = new HashSet<>();
-    	retVal.addAll(this.objects.keySet());
-    	if (this.delegate != null) {
-    		retVal.addAll(this.delegate.filledPositions());
-    	}
-    	return retVal;
+    private static KlassImpl theRealThing(Klass klass) {
+        if (klass instanceof KlassWrapper) {
+            return ((KlassWrapper) klass).getDelegate();
+        } else {
+            return (KlassImpl) klass;
+        }
     }
     
-    private void makeAllWrappers() {
-        for (ClassFile pos : filledPositions()) {
-            if (!this.objects.containsKey(pos)) {
-            	final KlassImpl trueKlass = getTheRealThing(pos);
-            	final KlassWrapper delegateObjekt = trueKlass.makeWrapper(this, pos);
-            	this.objects.put(pos, delegateObjekt);
-            }
+    private ArrayList<ClassFile> filledPositions() {
+        final ArrayList<ClassFile> retVal = new ArrayList<>(this.objects.size());
+        for (Map.Entry<ClassFile, Klass> e : this.objects) {
+            retVal.add(e.getKey());
         }
+        return retVal;
     }
 
     Map<ClassFile, Klass> getObjects() {
-    	makeAllWrappers();
-        return this.objects;
+        final HashMap<ClassFile, Klass> retVal = new HashMap<>();
+        for (ClassFile pos : filledPositions()) {
+            retVal.put(pos, get(pos));
+        }
+        return retVal;
     }
     
     StaticMethodArea lazyClone() {
@@ -90,8 +87,9 @@ final class StaticMethodArea implements Cloneable {
             throw new InternalError(e);
         }
     	
-    	a.delegate = this;
-    	a.objects = new HashMap<>();
+    	//the clone shares all the klasses, that 
+    	//will be wrapped upon access
+    	a.inherited = this.objects;
     	
     	return a;
     }
@@ -101,8 +99,7 @@ final class StaticMethodArea implements Cloneable {
         final StringBuilder buf = new StringBuilder(); 
         buf.append("[");
         boolean isFirst = true;
-        final Set<Map.Entry<ClassFile, Klass>> entries = this.objects.entrySet();
-        for (Map.Entry<ClassFile, Klass> e : entries) {
+        for (Map.Entry<ClassFile, Klass> e : this.objects) {
             if (isFirst) {
                 isFirst = false;
             } else {
@@ -129,11 +126,12 @@ final class StaticMethodArea implements Cloneable {
             throw new InternalError(e);
         }
 
-        final HashMap<ClassFile, Klass> objectsClone = new HashMap<>();
-        for (ClassFile pos : filledPositions()) {
-            objectsClone.put(pos, getTheRealThing(pos).clone());
+        PersistentMap<ClassFile, Klass> objectsClone = PersistentMap.empty();
+        for (Map.Entry<ClassFile, Klass> e : this.objects) {
+            objectsClone = objectsClone.put(e.getKey(), theRealThing(e.getValue()).clone());
         }
         o.objects = objectsClone;
+        o.inherited = PersistentMap.empty();
 
         return o;
     }
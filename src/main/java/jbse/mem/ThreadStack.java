@@ -1,13 +1,17 @@
 package jbse.mem;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
 import jbse.mem.exc.ThreadStackEmptyException;
 
 /**
- * Class representing JVM thread stacks.
+ * Class representing JVM thread stacks. Cloning is 
+ * copy-on-write: A clone shares its {@link Frame}s with 
+ * the original thread stack, and a shared frame is
+ * copied only when it is first accessed for modification.
  */
 class ThreadStack implements Cloneable {
     /** The stack position of the root frame. */
@@ -15,12 +19,38 @@ class ThreadStack implements Cloneable {
 
     /** The actual stack of {@link Frame}s. */
     private ArrayList<Frame> frameStack;
+    
+    /** 
+     * The positions in {@code frameStack} of the {@link Frame}s 
+     * that are shared with some clone, and thus must be copied
+     * before being modified.
+     */
+    private BitSet shared;
 
     /**
      * Constructor of stack.
      */
     ThreadStack() {
         this.frameStack = new ArrayList<Frame>();
+        this.shared = new BitSet();
+    }
+    
+    /**
+     * Returns a {@link Frame} in the stack, after 
+     * replacing it with a private copy if it is 
+     * shared with some clone.
+     * 
+     * @param pos an {@code int}, the position of the
+     *        {@link Frame} in the stack.
+     * @return the {@link Frame} at position {@code pos}, 
+     *         that is not shared with any clone.
+     */
+    private Frame ownedFrame(int pos) {
+        if (this.shared.get(pos)) {
+            this.frameStack.set(pos, this.frameStack.get(pos).clone());
+            this.shared.clear(pos);
+        }
+        return this.frameStack.get(pos);
     }
 
     /**
@@ -31,6 +61,7 @@ class ThreadStack implements Cloneable {
      *        current frame.
      */
     void push(Frame item) {
+        this.shared.clear(this.frameStack.size());
         this.frameStack.add(item);
     }
 
@@ -46,7 +77,10 @@ class ThreadStack implements Cloneable {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
-        return this.frameStack.remove(this.frameStack.size() - 1);
+        final int top = this.frameStack.size() - 1;
+        final Frame retVal = ownedFrame(top);
+        this.frameStack.remove(top);
+        return retVal;
     }
 
     /**
@@ -63,6 +97,7 @@ class ThreadStack implements Cloneable {
      */
     void clear() {
         this.frameStack.clear();
+        this.shared.clear();
     }
 
     /**
@@ -74,6 +109,22 @@ class ThreadStack implements Cloneable {
      *         is empty.
      */
     Frame currentFrame() throws ThreadStackEmptyException {
+        if (isEmpty()) {
+            throw new ThreadStackEmptyException();
+        }
+        return ownedFrame(this.frameStack.size() - 1);
+    }
+
+    /**
+     * Returns the current frame for reading. 
+     * 
+     * @return the current {@link Frame}, that might 
+     *         be shared with some clone and thus must 
+     *         not be modified.
+     * @throws ThreadStackEmptyException if the stack
+     *         is empty.
+     */
+    Frame peekCurrentFrame() throws ThreadStackEmptyException {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
@@ -89,6 +140,22 @@ class ThreadStack implements Cloneable {
      *         is empty.
      */
     Frame rootFrame() throws ThreadStackEmptyException {
+        if (isEmpty()) {
+            throw new ThreadStackEmptyException();
+        }
+        return ownedFrame(ROOT_FRAME);
+    }
+
+    /**
+     * Returns the root frame for reading. 
+     * 
+     * @return the root {@link Frame}, that might 
+     *         be shared with some clone and thus must 
+     *         not be modified.
+     * @throws ThreadStackEmptyException if the stack
+     *         is empty.
+     */
+    Frame peekRootFrame() throws ThreadStackEmptyException {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
@@ -101,6 +168,8 @@ class ThreadStack implements Cloneable {
      * 
      * @return a {@link List}{@code <}{@link Frame}{@code >} 
      *         of the frames in the stack, in their push order.
+     *         The frames might be shared with some clone, and
+     *         thus must not be modified.
      */
     List<Frame> frames() {
         return Collections.unmodifiableList(this.frameStack);
@@ -134,11 +203,10 @@ class ThreadStack implements Cloneable {
             throw new InternalError(e);
         }
 
-        final ArrayList<Frame> frameStackClone = new ArrayList<Frame>();
-        for (int i = 0; i < this.frameStack.size(); ++i) {
-            frameStackClone.add(this.frameStack.get(i).clone());
-        }
-        o.frameStack = frameStackClone;
+        //all the frames become shared
+        this.shared.set(0, this.frameStack.size());
+        o.frameStack = new ArrayList<Frame>(this.frameStack);
+        o.shared = (BitSet) this.shared.clone();
         return o;
     }   
 }
\ No newline at end of file
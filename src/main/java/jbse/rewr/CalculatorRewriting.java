@@ -8,6 +8,7 @@ import jbse.common.exc.UnexpectedInternalException;
 import jbse.val.Calculator;
 import jbse.val.Primitive;
 import jbse.val.Rewriter;
+import jbse.val.Simplex;
 import jbse.val.exc.NoResultException;
 
 /**
@@ -36,16 +37,21 @@ public class CalculatorRewriting extends Calculator {
     		rewriterNew.calc = this;
     		this.rewriters.add(rewriterNew);
     	}
+    	setFoldSimplex(calc.getFoldSimplex());
     }
     
     /**
-     * Adds a rewriter.
+     * Adds a rewriter. If the first added rewriter is a 
+     * {@link RewriterOperationOnSimplex}, the operations on
+     * {@link Simplex} operands are calculated directly, without
+     * invoking the rewriters (see {@link #setFoldSimplex(boolean)}).
      * 
      * @param rewriter the {@link Rewriter} to add.
      */
     public void addRewriter(RewriterCalculatorRewriting rewriter) {
     	rewriter.calc = this;
         this.rewriters.add(rewriter);
+        setFoldSimplex(this.rewriters.get(0) instanceof RewriterOperationOnSimplex);
     }
 
     @Override
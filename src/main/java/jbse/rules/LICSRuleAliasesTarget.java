@@ -1,10 +1,5 @@
 package jbse.rules;
 
-import static jbse.rules.Util.makeOriginPatternRelative;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import jbse.mem.Objekt;
 import jbse.val.ReferenceSymbolic;
 
@@ -20,6 +15,9 @@ public final class LICSRuleAliasesTarget extends LICSRuleAliases {
 	/** Should not be {@code null}. */
 	private final String targetExp;
 	
+	/** The compiled {@code targetExp}. */
+	private final OriginPatternRelative targetPattern;
+	
 	/** When {@code true} only the maximal path matches. */
 	private final boolean hasMax;
 	
@@ -47,19 +45,14 @@ public final class LICSRuleAliasesTarget extends LICSRuleAliases {
 			this.targetExp = targetExp;
 			this.hasMax = false;
 		}
+		this.targetPattern = new OriginPatternRelative(this.targetExp, this.originPattern);
 		this.toString = originExp + " aliases target " + (this.hasMax ? Util.MAX : "") + this.targetExp;
 	}
 
 	@Override
 	public boolean satisfies(ReferenceSymbolic ref, Objekt o) {
-		//makes the pattern
-		final Pattern p = makeOriginPatternRelative(this.targetExp, ref, this.originPattern);
-		
-		//checks if the origin of o matches the pattern
-		final String originString = o.getOrigin().asOriginString();
-		final Matcher m = p.matcher(originString);
-		final boolean retVal = m.matches();
-		return retVal;
+		//checks if the origin of o matches the target pattern
+		return this.targetPattern.matches(ref, o.getOrigin());
 	}
 	
 	@Override
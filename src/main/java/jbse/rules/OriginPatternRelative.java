@@ -0,0 +1,93 @@
+package jbse.rules;
+
+import static jbse.rules.Util.makeOriginPatternRelative;
+
+import java.util.regex.Pattern;
+
+import jbse.val.Origin;
+import jbse.val.ReferenceSymbolic;
+
+/**
+ * A relative origin expression in a rule, compiled to 
+ * a {@link Pattern} once for each origin it is relative to.
+ * Since the rules are checked many times in a row against
+ * the same origin (once for each candidate object), it 
+ * remembers the {@link Pattern} for the last origin, that 
+ * is recognized by identity since origins are interned; if
+ * the expression refers no origin, it is compiled once 
+ * and for all. 
+ * 
+ *
+ */
+final class OriginPatternRelative {
+	/** The relative origin expression. */
+	private final String originExpRelative;
+	
+	/** The pattern of the origins the expression is relative to. */
+	private final Pattern originPattern;
+	
+	/** 
+	 * The compiled expression if it does not refer 
+	 * the origin, otherwise {@code null}.
+	 */
+	private final Pattern patternConstant;
+	
+	/** The last specialization, or {@code null}. */
+	private volatile Specialization last = null;
+	
+	private static final class Specialization {
+		final Origin origin;
+		final Pattern pattern;
+		
+		Specialization(Origin origin, Pattern pattern) {
+			this.origin = origin;
+			this.pattern = pattern;
+		}
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param originExpRelative a {@link String}, the relative origin 
+	 *        expression. It must not be {@code null}.
+	 * @param originPattern a {@link Pattern} that is used to detect 
+	 *        the {$R_ANY} in {@code originExpRelative} (see
+	 *        {@link Util#makeOriginPatternRelative(String, ReferenceSymbolic, Pattern)}).
+	 */
+	OriginPatternRelative(String originExpRelative, Pattern originPattern) {
+		this.originExpRelative = originExpRelative;
+		this.originPattern = originPattern;
+		final boolean isConstant = !originExpRelative.contains(Util.REF) && 
+		                           !originExpRelative.contains(Util.REFANY) && 
+		                           !originExpRelative.contains(Util.UP);
+		this.patternConstant = (isConstant ? Util.makeOriginPatternAbsolute(originExpRelative) : null);
+	}
+	
+	/**
+	 * Checks whether a reference matches this expression. 
+	 * 
+	 * @param origin a {@link ReferenceSymbolic}, the origin 
+	 *        this expression is relative to.
+	 * @param ref a {@link ReferenceSymbolic}.
+	 * @return {@code true} iff the origin {@link String} of 
+	 *         {@code ref} matches this expression relative to 
+	 *         {@code origin}.
+	 */
+	boolean matches(ReferenceSymbolic origin, ReferenceSymbolic ref) {
+		return pattern(origin).matcher(ref.asOriginString()).matches();
+	}
+	
+	private Pattern pattern(ReferenceSymbolic origin) {
+		if (this.patternConstant != null) {
+			return this.patternConstant;
+		}
+		final Origin originNode = origin.asOrigin();
+		final Specialization last = this.last;
+		if (last != null && last.origin == originNode) {
+			return last.pattern;
+		}
+		final Pattern retVal = makeOriginPatternRelative(this.originExpRelative, origin, this.originPattern);
+		this.last = new Specialization(originNode, retVal);
+		return retVal;
+	}
+}
@@ -1,5 +1,7 @@
 package jbse.rules;
 
+import static jbse.rules.Util.literalPrefix;
+import static jbse.rules.Util.literalSuffix;
 import static jbse.rules.Util.makeOriginPatternAbsolute;
 
 import java.util.regex.Matcher;
@@ -18,6 +20,19 @@ import jbse.val.ReferenceSymbolic;
 public abstract class Rule {
 	protected final Pattern originPattern;
 	
+	/** 
+	 * A literal prefix of all the origin {@link String}s 
+	 * that match {@code originPattern}. 
+	 */
+	private final String originPrefix;
+	
+	/** 
+	 * A literal suffix of all the origin {@link String}s 
+	 * that match {@code originPattern}, not overlapping 
+	 * with {@code originPrefix}. 
+	 */
+	private final String originSuffix;
+	
 	/**
 	 * Constructor.
 	 * 
@@ -27,7 +42,10 @@ public abstract class Rule {
 	 *        value is equivalent to "match all".
 	 */
 	public Rule(String originExp) { 
-		this.originPattern = makeOriginPatternAbsolute(originExp == null ? Util.ANY : originExp);
+		final String originExpAbsolute = (originExp == null ? Util.ANY : originExp);
+		this.originPattern = makeOriginPatternAbsolute(originExpAbsolute);
+		this.originPrefix = literalPrefix(originExpAbsolute);
+		this.originSuffix = literalSuffix(originExpAbsolute);
 	}
 	
 	/**
@@ -40,6 +58,12 @@ public abstract class Rule {
 	public final boolean matches(ReferenceSymbolic ref) {
 		//checks if the origin of ref origin matches the pattern
 		final String originString = ref.asOriginString();
+		
+		//first filters by the literal prefix and suffix, that is cheaper
+		if (originString.length() < this.originPrefix.length() + this.originSuffix.length() ||
+		    !originString.startsWith(this.originPrefix) || !originString.endsWith(this.originSuffix)) {
+			return false;
+		}
 		final Matcher m = this.originPattern.matcher(originString);
 		final boolean retVal = m.matches();
 		return retVal;
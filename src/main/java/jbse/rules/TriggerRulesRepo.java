@@ -5,6 +5,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import jbse.bc.Signature;
 import jbse.common.Type;
@@ -285,4 +287,30 @@ public final class TriggerRulesRepo implements Cloneable {
         
         return o;
 	}
+	
+	/**
+	 * Returns a representation of all the rules in this
+	 * repository that does not depend on the order they
+	 * were added.
+	 * 
+	 * @return a {@link String}.
+	 */
+	@Override
+	public String toString() {
+		return "expandsTo:" + canonical(this.rulesExpandsTo) + 
+		       ", aliases:" + canonical(this.rulesAliases) + 
+		       ", null:" + canonical(this.rulesNull);
+	}
+	
+	private static String canonical(Map<String, ? extends Set<? extends TriggerRule>> rules) {
+		final TreeMap<String, TreeSet<String>> retVal = new TreeMap<>();
+		for (Map.Entry<String, ? extends Set<? extends TriggerRule>> e : rules.entrySet()) {
+			final TreeSet<String> rulesSorted = new TreeSet<>();
+			for (TriggerRule rule : e.getValue()) {
+				rulesSorted.add(rule.toString());
+			}
+			retVal.put(e.getKey(), rulesSorted);
+		}
+		return retVal.toString();
+	}
 }
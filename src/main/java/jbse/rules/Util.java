@@ -19,6 +19,19 @@ public final class Util {
 	static final String UP = "{UP}";
 	static final String REGEX_ALLCHARS = "{°}";
 	static final String REGEX_ENDLINE = "\\{EOL\\}"; //braces must be escaped because REGEX_ENDLINE substitution comes after brace substitution
+	static final String ENDLINE = "{EOL}";
+	
+	/** The tokens of an origin expression that are not literal. */
+	private static final String[] NONLITERAL_TOKENS = { ANY, REGEX_ALLCHARS, ENDLINE, REF, REFANY, UP, MAX };
+	
+	/** The characters of an origin expression that are not literal. */
+	private static final String NONLITERAL_CHARS = "\\()|^*+?";
+	
+	/** The quantifier characters of an origin expression. */
+	private static final String QUANTIFIER_CHARS = "*+?";
+	
+	/** Matches a step followed by {UP}. */
+	private static final Pattern UP_STEP = Pattern.compile("\\.[^\\.]+\\.\\Q" + UP + "\\E");
 
 	/**
 	 * Makes a regular expression pattern from an absolute origin expression
@@ -82,11 +95,82 @@ public final class Util {
 		String retValOld;
 		do {
 			retValOld = retVal;
-			retVal = retVal.replaceFirst("\\.[^\\.]+\\.\\Q" + UP + "\\E", "");
+			retVal = UP_STEP.matcher(retVal).replaceFirst("");
 		} while (!retVal.equals(retValOld));
 		return retVal;
 	}
 	
+	/**
+	 * Returns the literal prefix of an absolute origin expression,
+	 * i.e., a string with which all the origin strings that match 
+	 * the expression must start.
+	 * 
+	 * @param originExpAbsolute a {@link String}, the absolute origin expression.
+	 * @return a {@link String}, the literal prefix of {@code originExpAbsolute}
+	 *         (possibly empty, or {@code originExpAbsolute} itself if it 
+	 *         has no regular expression constructs).
+	 */
+	static String literalPrefix(String originExpAbsolute) {
+		if (originExpAbsolute.indexOf('|') >= 0) {
+			return ""; //alternatives may have different prefixes
+		}
+		for (int i = 0; i < originExpAbsolute.length(); ++i) {
+			if (nonLiteralTokenLength(originExpAbsolute, i) > 0) {
+				return originExpAbsolute.substring(0, i);
+			}
+			final char c = originExpAbsolute.charAt(i);
+			if (QUANTIFIER_CHARS.indexOf(c) >= 0) {
+				return originExpAbsolute.substring(0, Math.max(i - 1, 0)); //the previous character is quantified
+			} else if (NONLITERAL_CHARS.indexOf(c) >= 0) {
+				return originExpAbsolute.substring(0, i);
+			}
+		}
+		return originExpAbsolute;
+	}
+	
+	/**
+	 * Returns the literal suffix of an absolute origin expression,
+	 * i.e., a string with which all the origin strings that match 
+	 * the expression must end. It never overlaps with the literal
+	 * prefix (see {@link #literalPrefix(String)}) of the expression.
+	 * 
+	 * @param originExpAbsolute a {@link String}, the absolute origin expression.
+	 * @return a {@link String}, the literal suffix of {@code originExpAbsolute}
+	 *         (possibly empty, and empty if it has no regular expression 
+	 *         constructs).
+	 */
+	static String literalSuffix(String originExpAbsolute) {
+		if (originExpAbsolute.indexOf('|') >= 0) {
+			return ""; //alternatives may have different suffixes
+		}
+		int suffixStart = -1;
+		for (int i = 0; i < originExpAbsolute.length(); ) {
+			final int tokenLength = nonLiteralTokenLength(originExpAbsolute, i);
+			if (tokenLength > 0) {
+				i += tokenLength;
+				suffixStart = i;
+			} else if (originExpAbsolute.charAt(i) == '\\') {
+				i = Math.min(i + 2, originExpAbsolute.length()); //also skips the escaped character
+				suffixStart = i;
+			} else if (NONLITERAL_CHARS.indexOf(originExpAbsolute.charAt(i)) >= 0) {
+				++i;
+				suffixStart = i;
+			} else {
+				++i;
+			}
+		}
+		return (suffixStart < 0 ? "" : originExpAbsolute.substring(suffixStart));
+	}
+	
+	private static int nonLiteralTokenLength(String originExp, int pos) {
+		for (String token : NONLITERAL_TOKENS) {
+			if (originExp.startsWith(token, pos)) {
+				return token.length();
+			}
+		}
+		return 0;
+	}
+	
 	static String findAny(Pattern originPattern, ReferenceSymbolic origin) {
 		final Matcher m = originPattern.matcher(origin.asOriginString());
 		if (m.matches() && m.pattern().pattern().startsWith("(.*)") && m.groupCount() >= 1) {
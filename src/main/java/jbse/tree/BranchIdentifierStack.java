@@ -0,0 +1,241 @@
+package jbse.tree;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+/**
+ * A stack of branch identifiers that keeps in memory only
+ * its top, and stores all the other identifiers in a
+ * memory-mapped file, used as an append-only log whose
+ * tail is cut by {@link #pop()}. Since the identifiers
+ * pushed one after the other usually share a long prefix,
+ * each identifier in the file is delta-encoded against the
+ * identifier immediately above it, as the length of the
+ * common prefix plus the remaining suffix. The record
+ * of an identifier is stored as follows:
+ *
+ * <ul>
+ * <li>the suffix, UTF-8 encoded;</li>
+ * <li>the length in bytes of the suffix, as a variable-length
+ * integer;</li>
+ * <li>the length in characters of the common prefix, as a
+ * variable-length integer.</li>
+ * </ul>
+ *
+ * The variable-length integers are stored in reverse, so the
+ * records can be scanned backwards from the end of the file.
+ * If the file cannot be created or grown, the identifiers
+ * pushed afterwards are kept in memory.
+ */
+final class BranchIdentifierStack {
+    /** The initial size of the mapped region of the file, in bytes. */
+    private static final int INITIAL_CAPACITY = 1 << 20;
+
+    /** The file, or {@code null} if it was not created yet. */
+    private Path file = null;
+
+    /** The {@link FileChannel} of {@link #file}. */
+    private FileChannel channel = null;
+
+    /** The mapped region of {@link #file}. */
+    private MappedByteBuffer buffer = null;
+
+    /** The position of the end of the last record in {@link #buffer}. */
+    private int end = 0;
+
+    /**
+     * The topmost identifier stored in the file, that is
+     * kept in memory, or {@code null} if the file stores
+     * no identifier.
+     */
+    private String fileTop = null;
+
+    /** The number of identifiers stored in the file (including {@link #fileTop}). */
+    private int fileSize = 0;
+
+    /**
+     * Whether the file failed, in which case the identifiers
+     * are pushed on {@link #resident}.
+     */
+    private boolean failed = false;
+
+    /** The identifiers above the ones stored in the file. */
+    private final ArrayDeque<String> resident = new ArrayDeque<>();
+
+    /**
+     * Checks whether this stack is empty.
+     *
+     * @return {@code true} iff this stack is empty.
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of identifiers in this stack.
+     *
+     * @return an {@code int}.
+     */
+    int size() {
+        return this.fileSize + this.resident.size();
+    }
+
+    /**
+     * Pushes an identifier on top of this stack.
+     *
+     * @param identifier a {@link String}. It must not be {@code null}.
+     * @throws NullPointerException if {@code identifier == null}.
+     */
+    void push(String identifier) {
+        if (identifier == null) {
+            throw new NullPointerException();
+        }
+        if (this.failed) {
+            this.resident.push(identifier);
+        } else if (this.fileSize == 0) {
+            this.fileTop = identifier;
+            this.fileSize = 1;
+        } else {
+            try {
+                writeRecord(identifier);
+            } catch (IOException e) {
+                this.failed = true;
+                this.resident.push(identifier);
+                return;
+            }
+            this.fileTop = identifier;
+            ++this.fileSize;
+        }
+    }
+
+    /**
+     * Pops the identifier on top of this stack.
+     *
+     * @return a {@link String}, the identifier on top
+     *         of this stack.
+     * @throws NoSuchElementException if this stack is empty.
+     */
+    String pop() {
+        if (!this.resident.isEmpty()) {
+            return this.resident.pop();
+        }
+        if (this.fileSize == 0) {
+            throw new NoSuchElementException();
+        }
+        final String retVal = this.fileTop;
+        --this.fileSize;
+        this.fileTop = (this.fileSize == 0 ? null : readRecord(retVal));
+        return retVal;
+    }
+
+    /**
+     * Deletes the file. After the invocation of this
+     * method this stack must not be used anymore.
+     */
+    void close() {
+        if (this.file == null) {
+            return;
+        }
+        try {
+            this.channel.close();
+            Files.deleteIfExists(this.file);
+        } catch (IOException e) {
+            //nothing to do, the file is deleted on exit
+        }
+        this.file = null;
+        this.channel = null;
+        this.buffer = null;
+    }
+
+    private void writeRecord(String identifier) throws IOException {
+        final String below = this.fileTop;
+        final int max = Math.min(below.length(), identifier.length());
+        int prefixLength = 0;
+        while (prefixLength < max && below.charAt(prefixLength) == identifier.charAt(prefixLength)) {
+            ++prefixLength;
+        }
+        final byte[] suffix = below.substring(prefixLength).getBytes(StandardCharsets.UTF_8);
+
+        //the two variable-length integers take at most 5 bytes each
+        ensureCapacity(suffix.length + 10);
+        this.buffer.position(this.end);
+        this.buffer.put(suffix);
+        putReverseVarInt(suffix.length);
+        putReverseVarInt(prefixLength);
+        this.end = this.buffer.position();
+    }
+
+    private String readRecord(String above) {
+        final int prefixLength = getReverseVarInt();
+        final int suffixLength = getReverseVarInt();
+        this.end -= suffixLength;
+        final byte[] suffix = new byte[suffixLength];
+        this.buffer.position(this.end);
+        this.buffer.get(suffix);
+        return above.substring(0, prefixLength) + new String(suffix, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (this.buffer != null && this.buffer.capacity() - this.end >= bytes) {
+            return;
+        }
+        if (this.channel == null) {
+            this.file = Files.createTempFile("jbse-pending-", ".bin");
+            this.file.toFile().deleteOnExit();
+            this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        long capacity = (this.buffer == null ? INITIAL_CAPACITY : this.buffer.capacity());
+        while (capacity - this.end < bytes) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("The file of the pending branch identifiers exceeds the maximum size.");
+        }
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Writes a nonnegative {@code int} as a sequence of 7-bit
+     * groups so that the least significant group is written
+     * last. The most significant bit of each byte is set iff
+     * the byte is preceded by another group of the same integer.
+     *
+     * @param value a nonnegative {@code int}.
+     */
+    private void putReverseVarInt(int value) {
+        int shift = 28;
+        while (shift > 0 && (value >>> shift) == 0) {
+            shift -= 7;
+        }
+        this.buffer.put((byte) ((value >>> shift) & 0x7F));
+        for (shift -= 7; shift >= 0; shift -= 7) {
+            this.buffer.put((byte) (((value >>> shift) & 0x7F) | 0x80));
+        }
+    }
+
+    /**
+     * Reads backwards from {@link #end} an {@code int} written
+     * by {@link #putReverseVarInt(int)}, and moves {@link #end}
+     * before it.
+     *
+     * @return the read {@code int}.
+     */
+    private int getReverseVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = this.buffer.get(--this.end);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
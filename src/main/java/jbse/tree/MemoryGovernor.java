@@ -0,0 +1,236 @@
+package jbse.tree;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.WeakHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Watches the memory retained by the pending states of one
+ * or more {@link StateTree}s and decides when, and how many,
+ * pending states must be released to stay within a budget. 
+ * The trees of the engines of a run share the same governor, 
+ * so the budget is enforced on the run as a whole and each 
+ * tree releases a share of its pending states proportional 
+ * to their number. 
+ * The retained memory is measured as the memory used by
+ * the tenured heap memory pools, where the long-lived pending 
+ * states end up; after some states are released no further 
+ * state is released until the next collection of these pools
+ * makes the release visible.
+ */
+public final class MemoryGovernor {
+    /** Check the memory once every {@code CHECK_PERIOD} emitted states. */
+    private static final int CHECK_PERIOD = 64;
+
+    /** The tenured heap memory pools. */
+    private static final List<MemoryPoolMXBean> TENURED_POOLS = tenuredPools();
+
+    /** The garbage collectors of the tenured heap memory pools. */
+    private static final List<GarbageCollectorMXBean> TENURED_COLLECTORS = tenuredCollectors();
+
+    /** The memory budget, in bytes. */
+    private final long memoryBudget;
+
+    /** Measures the retained memory, in bytes. */
+    private final LongSupplier retainedMemory;
+
+    /** Counts the garbage collections of the retained memory. */
+    private final LongSupplier collections;
+
+    /** The retained memory when the governor was started, or {@code -1}. */
+    private long baseline = -1;
+
+    /** The trees that use this governor. */
+    private final WeakHashMap<StateTree, Client> clients = new WeakHashMap<>();
+
+    /** The number of states emitted since the last check. */
+    private int emittedSinceCheck = 0;
+
+    /** The number of garbage collections when the last states were released. */
+    private long collectionsAtLastRelease = -1;
+
+    /** The last measured average retained size of a pending state. */
+    private long stateSize = 0;
+
+    /** The number of the last release decided by this governor. */
+    private long release = 0;
+
+    /** The fraction of the pending states that the last release frees. */
+    private double releaseFraction = 0;
+
+    /** What the governor knows about a tree. */
+    private static final class Client {
+        /** The number of the pending states of the tree. */
+        int pendingStates = 0;
+
+        /** The number of the last release the tree performed. */
+        long release;
+
+        Client(long release) {
+            this.release = release;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param memoryBudget a {@code long}, the memory budget
+     *        in bytes. It must be positive.
+     */
+    public MemoryGovernor(long memoryBudget) {
+        this(memoryBudget, MemoryGovernor::tenuredUsedMemory, MemoryGovernor::tenuredCollections);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param memoryBudget a {@code long}, the memory budget
+     *        in bytes. It must be positive.
+     * @param retainedMemory a {@link LongSupplier} measuring
+     *        the retained memory in bytes.
+     * @param collections a {@link LongSupplier} counting the 
+     *        garbage collections that free the retained memory.
+     */
+    MemoryGovernor(long memoryBudget, LongSupplier retainedMemory, LongSupplier collections) {
+        this.memoryBudget = memoryBudget;
+        this.retainedMemory = retainedMemory;
+        this.collections = collections;
+    }
+
+    /**
+     * Starts the governor by measuring the memory retained 
+     * before any pending state is added. Only the first 
+     * invocation has effect.
+     */
+    synchronized void start() {
+        if (this.baseline < 0) {
+            this.baseline = this.retainedMemory.getAsLong();
+        }
+    }
+
+    /**
+     * Returns the number of pending states that a tree must
+     * release after it emitted a state.
+     *
+     * @param tree the {@link StateTree} that emitted the state.
+     * @param pendingStates an {@code int}, the number of
+     *        pending states in {@code tree}.
+     * @return an {@code int} between {@code 0} and
+     *         {@code pendingStates}.
+     */
+    synchronized int statesToRelease(StateTree tree, int pendingStates) {
+        start();
+        final Client client = this.clients.computeIfAbsent(tree, t -> new Client(this.release));
+        client.pendingStates = pendingStates;
+        if (++this.emittedSinceCheck >= CHECK_PERIOD) {
+            this.emittedSinceCheck = 0;
+            check();
+        }
+        if (client.release == this.release) {
+            return 0;
+        }
+        client.release = this.release;
+        return (int) Math.min(pendingStates, Math.ceil(pendingStates * this.releaseFraction));
+    }
+
+    /**
+     * Measures the retained memory and possibly decides
+     * a new release.
+     */
+    private void check() {
+        final long collections = this.collections.getAsLong();
+        if (collections == this.collectionsAtLastRelease) {
+            return; //the last release is not yet measured
+        }
+        int pendingStates = 0;
+        for (Client client : this.clients.values()) {
+            pendingStates += client.pendingStates;
+        }
+        final long retained = this.retainedMemory.getAsLong();
+        this.stateSize = Math.max(1, (retained - this.baseline) / Math.max(1, pendingStates));
+        if (retained <= this.memoryBudget || pendingStates == 0) {
+            return;
+        }
+        this.collectionsAtLastRelease = collections;
+        final long excess = retained - this.memoryBudget;
+        final long toRelease = (excess + this.stateSize - 1) / this.stateSize;
+        this.releaseFraction = Math.min(1.0, ((double) toRelease) / pendingStates);
+        ++this.release;
+    }
+
+    /**
+     * Returns the average memory retained by a pending state,
+     * as of the last measurement.
+     *
+     * @return a {@code long}, the size in bytes, or {@code 0}
+     *         if no measurement was done yet.
+     */
+    synchronized long getStateSize() {
+        return this.stateSize;
+    }
+
+    /**
+     * Returns the tenured heap memory pools, i.e., the heap 
+     * pools that support a usage threshold (the young ones do
+     * not), or all the heap pools if there is none. 
+     * 
+     * @return a {@link List}{@code <}{@link MemoryPoolMXBean}{@code >}.
+     */
+    private static List<MemoryPoolMXBean> tenuredPools() {
+        final ArrayList<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        final ArrayList<MemoryPoolMXBean> retVal = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+                if (pool.isUsageThresholdSupported()) {
+                    retVal.add(pool);
+                }
+            }
+        }
+        return (retVal.isEmpty() ? heapPools : retVal);
+    }
+
+    private static List<GarbageCollectorMXBean> tenuredCollectors() {
+        final ArrayList<GarbageCollectorMXBean> retVal = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final List<String> poolNames = Arrays.asList(gc.getMemoryPoolNames());
+            for (MemoryPoolMXBean pool : TENURED_POOLS) {
+                if (poolNames.contains(pool.getName())) {
+                    retVal.add(gc);
+                    break;
+                }
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Measures the memory used by the tenured heap memory 
+     * pools. Differently from the usage after the last 
+     * collection it is not stale after young collections, that
+     * promote the surviving pending states to these pools.
+     * 
+     * @return a {@code long}, the used memory in bytes.
+     */
+    private static long tenuredUsedMemory() {
+        long retVal = 0;
+        for (MemoryPoolMXBean pool : TENURED_POOLS) {
+            retVal += pool.getUsage().getUsed();
+        }
+        return retVal;
+    }
+
+    private static long tenuredCollections() {
+        long retVal = 0;
+        for (GarbageCollectorMXBean gc : TENURED_COLLECTORS) {
+            retVal += Math.max(0, gc.getCollectionCount());
+        }
+        return retVal;
+    }
+}
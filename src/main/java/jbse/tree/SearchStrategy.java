@@ -0,0 +1,44 @@
+package jbse.tree;
+
+import jbse.mem.State;
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A strategy for selecting the next pending state of a 
+ * {@link StateTree} to be explored. The strategy stores the
+ * pending states, and is consulted only when the execution 
+ * backtracks. When the current state branches the execution 
+ * always continues with the first state of the branch, so 
+ * every path is explored until its end.
+ */
+public interface SearchStrategy {
+    /**
+     * Adds a pending state. The states are added in reverse 
+     * depth-first order, i.e., the state added last is the 
+     * first one that depth-first search would emit (see 
+     * {@link PendingState#DEPTH_FIRST_ORDER}).
+     * 
+     * @param pendingState a {@link PendingState}.
+     */
+    void add(PendingState pendingState);
+    
+    /**
+     * Removes the next state to be emitted. The tree 
+     * discards the returned states that are no longer 
+     * pending because the tree emitted them on a branch
+     * or another tree stole them, and invokes this method 
+     * again.
+     * 
+     * @return the next {@link PendingState} to be emitted, 
+     *         or {@code null} if this strategy stores no state.
+     */
+    PendingState poll();
+
+    /**
+     * Notifies this strategy that the current state is 
+     * about to execute a step. By default it does nothing.
+     * 
+     * @param state the current {@link State}.
+     */
+    default void notifyStep(State state) { }
+}
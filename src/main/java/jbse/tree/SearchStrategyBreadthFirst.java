@@ -0,0 +1,27 @@
+package jbse.tree;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A {@link SearchStrategy} that selects the pending states
+ * in breadth-first order, i.e., selects the pending state with 
+ * minimum depth, and among these the first in depth-first order.
+ */
+public final class SearchStrategyBreadthFirst implements SearchStrategy {
+    /** The pending states, by depth and then in depth-first order. */
+    private final PriorityQueue<PendingState> pendingStates = 
+        new PriorityQueue<>(Comparator.comparingInt(PendingState::getDepth).thenComparing(PendingState.DEPTH_FIRST_ORDER));
+    
+    @Override
+    public void add(PendingState pendingState) {
+        this.pendingStates.add(pendingState);
+    }
+    
+    @Override
+    public PendingState poll() {
+        return this.pendingStates.poll();
+    }
+}
@@ -0,0 +1,110 @@
+package jbse.tree;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+import jbse.bc.Signature;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.mem.State;
+import jbse.mem.exc.ThreadStackEmptyException;
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A {@link SearchStrategy} that records the bytecodes executed
+ * so far, and selects the first pending state, in depth-first 
+ * order, whose next bytecode was not yet executed. If all the 
+ * pending states are at already covered bytecodes, it selects 
+ * the pending states in depth-first order. Since the covered
+ * bytecodes only increase, a pending state is checked again 
+ * only until it is found covered.
+ */
+public final class SearchStrategyCoverage implements SearchStrategy {
+    /** 
+     * Maps the signature of each executed method to the set of
+     * the program counters of its executed bytecodes.
+     */
+    private final HashMap<Signature, BitSet> coveredPCs = new HashMap<>();
+    
+    /** 
+     * The pending states whose next bytecode was not executed 
+     * when they were last checked, in depth-first order.
+     */
+    private final PriorityQueue<PendingState> uncovered = new PriorityQueue<>(PendingState.DEPTH_FIRST_ORDER);
+    
+    /** 
+     * The pending states whose next bytecode was executed, 
+     * in depth-first order.
+     */
+    private final PriorityQueue<PendingState> covered = new PriorityQueue<>(PendingState.DEPTH_FIRST_ORDER);
+    
+    /** The signature of the method of the last step. */
+    private Signature lastSignature = null;
+    
+    /** The covered program counters of {@link #lastSignature}. */
+    private BitSet lastCovered = null;
+    
+    @Override
+    public void notifyStep(State state) {
+        if (state.isStuck() || state.getStackSize() == 0) {
+            return;
+        }
+        try {
+            final Signature signature = state.getCurrentMethodSignature();
+            if (signature != this.lastSignature) {
+                this.lastSignature = signature;
+                this.lastCovered = this.coveredPCs.computeIfAbsent(signature, k -> new BitSet());
+            }
+            this.lastCovered.set(state.getCurrentProgramCounter());
+        } catch (ThreadStackEmptyException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Checks whether the next bytecode of a state was 
+     * already executed.
+     * 
+     * @param state a {@link State}.
+     * @return {@code true} iff {@code state} is stuck, or
+     *         its next bytecode was executed by some 
+     *         state notified to {@link #notifyStep(State)}.
+     */
+    public boolean isCovered(State state) {
+        if (state.isStuck() || state.getStackSize() == 0) {
+            return true;
+        }
+        try {
+            final BitSet coveredPCs = this.coveredPCs.get(state.getCurrentMethodSignature());
+            return coveredPCs != null && coveredPCs.get(state.getCurrentProgramCounter());
+        } catch (ThreadStackEmptyException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+    
+    @Override
+    public void add(PendingState pendingState) {
+        if (isCovered(pendingState.getState())) {
+            this.covered.add(pendingState);
+        } else {
+            this.uncovered.add(pendingState);
+        }
+    }
+    
+    @Override
+    public PendingState poll() {
+        while (!this.uncovered.isEmpty()) {
+            final PendingState retVal = this.uncovered.poll();
+            if (!retVal.isPending()) {
+                continue;
+            } else if (isCovered(retVal.getState())) {
+                this.covered.add(retVal);
+            } else {
+                return retVal;
+            }
+        }
+        return this.covered.poll();
+    }
+}
@@ -0,0 +1,24 @@
+package jbse.tree;
+
+import java.util.ArrayDeque;
+
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A {@link SearchStrategy} that selects the pending states
+ * in depth-first order.
+ */
+public final class SearchStrategyDepthFirst implements SearchStrategy {
+    /** The pending states, in depth-first order. */
+    private final ArrayDeque<PendingState> pendingStates = new ArrayDeque<>();
+    
+    @Override
+    public void add(PendingState pendingState) {
+        this.pendingStates.addFirst(pendingState);
+    }
+    
+    @Override
+    public PendingState poll() {
+        return this.pendingStates.pollFirst();
+    }
+}
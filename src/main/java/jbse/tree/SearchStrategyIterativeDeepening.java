@@ -0,0 +1,102 @@
+package jbse.tree;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A {@link SearchStrategy} that selects the pending states
+ * in depth-first order, but defers the states whose depth
+ * exceeds a bound. When all the pending states are deferred
+ * the bound is increased, until some state fits it. Since the 
+ * pending states are stored, the paths explored with a smaller
+ * bound are not explored again, as iterative deepening would do.
+ * The bound applies only when the execution backtracks, since 
+ * every path is explored until its end.
+ */
+public final class SearchStrategyIterativeDeepening implements SearchStrategy {
+    /** The default initial depth bound. */
+    public static final int DEFAULT_DEPTH_BOUND = 10;
+    
+    /** The default increment of the depth bound. */
+    public static final int DEFAULT_DEPTH_INCREMENT = 10;
+    
+    /** The pending states within the depth bound, in depth-first order. */
+    private final PriorityQueue<PendingState> active = new PriorityQueue<>(PendingState.DEPTH_FIRST_ORDER);
+    
+    /** The pending states deeper than the depth bound, by depth. */
+    private final PriorityQueue<PendingState> deferred = 
+        new PriorityQueue<>(Comparator.comparingInt(PendingState::getDepth).thenComparing(PendingState.DEPTH_FIRST_ORDER));
+    
+    /** The current depth bound. */
+    private int depthBound;
+    
+    /** The increment of the depth bound. */
+    private final int depthIncrement;
+    
+    /**
+     * Constructor with default initial depth bound 
+     * and increment.
+     */
+    public SearchStrategyIterativeDeepening() {
+        this(DEFAULT_DEPTH_BOUND, DEFAULT_DEPTH_INCREMENT);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param depthBound a positive {@code int}, the initial 
+     *        depth bound.
+     * @param depthIncrement a positive {@code int}, the 
+     *        increment of the depth bound.
+     * @throws IllegalArgumentException if {@code depthBound <= 0 || depthIncrement <= 0}.
+     */
+    public SearchStrategyIterativeDeepening(int depthBound, int depthIncrement) {
+        if (depthBound <= 0 || depthIncrement <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.depthBound = depthBound;
+        this.depthIncrement = depthIncrement;
+    }
+    
+    /**
+     * Returns the current depth bound.
+     * 
+     * @return an {@code int}.
+     */
+    public int getDepthBound() {
+        return this.depthBound;
+    }
+    
+    @Override
+    public void add(PendingState pendingState) {
+        if (pendingState.getDepth() <= this.depthBound) {
+            this.active.add(pendingState);
+        } else {
+            this.deferred.add(pendingState);
+        }
+    }
+    
+    @Override
+    public PendingState poll() {
+        if (this.active.isEmpty()) {
+            //discards the deferred states that are no longer pending
+            while (!this.deferred.isEmpty() && !this.deferred.peek().isPending()) {
+                this.deferred.poll();
+            }
+            if (this.deferred.isEmpty()) {
+                return null;
+            }
+            
+            //no state fits the bound: increases it
+            final int minDepth = this.deferred.peek().getDepth();
+            final long increments = ((long) minDepth - this.depthBound + this.depthIncrement - 1) / this.depthIncrement;
+            this.depthBound = (int) Math.min(Integer.MAX_VALUE, this.depthBound + increments * this.depthIncrement);
+            while (!this.deferred.isEmpty() && this.deferred.peek().getDepth() <= this.depthBound) {
+                this.active.add(this.deferred.poll());
+            }
+        }
+        return this.active.poll();
+    }
+}
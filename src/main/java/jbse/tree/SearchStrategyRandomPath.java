@@ -0,0 +1,101 @@
+package jbse.tree;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import jbse.tree.StateTree.PendingState;
+
+/**
+ * A {@link SearchStrategy} that selects the pending states
+ * at random, as if it were walking the symbolic execution 
+ * tree from its root by choosing at random the child at each 
+ * binary branch: A pending state is selected with probability
+ * proportional to 2<sup>-depth</sup>. This favours the shallow 
+ * states, so the exploration does not get stuck in deep
+ * subtrees, e.g., those generated by unbounded loops. The 
+ * pending states are grouped by depth, so a selection costs
+ * time proportional to the number of distinct depths.
+ */
+public final class SearchStrategyRandomPath implements SearchStrategy {
+    /** The default seed, so the explorations are reproducible. */
+    public static final long DEFAULT_SEED = 0L;
+    
+    /** 
+     * The maximum difference of depth from the shallowest state 
+     * that is weighted; the deeper states are weighted as this.
+     */
+    private static final int MAX_DEPTH_DIFFERENCE = 62;
+    
+    /** 
+     * Maps each depth to the pending states with that depth, 
+     * in no particular order. 
+     */
+    private final TreeMap<Integer, ArrayList<PendingState>> levels = new TreeMap<>();
+    
+    /** The random number generator. */
+    private final Random random;
+    
+    /**
+     * Constructor with default seed.
+     */
+    public SearchStrategyRandomPath() {
+        this(DEFAULT_SEED);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param seed a {@code long}, the seed for the generation
+     *        of the random numbers.
+     */
+    public SearchStrategyRandomPath(long seed) {
+        this.random = new Random(seed);
+    }
+    
+    @Override
+    public void add(PendingState pendingState) {
+        this.levels.computeIfAbsent(pendingState.getDepth(), k -> new ArrayList<>()).add(pendingState);
+    }
+    
+    @Override
+    public PendingState poll() {
+        while (!this.levels.isEmpty()) {
+            //selects a depth with probability proportional to 
+            //the total weight of its states
+            final int minDepth = this.levels.firstKey();
+            double totalWeight = 0.0;
+            for (Map.Entry<Integer, ArrayList<PendingState>> level : this.levels.entrySet()) {
+                totalWeight += level.getValue().size() * weight(level.getKey(), minDepth);
+            }
+            double r = this.random.nextDouble() * totalWeight;
+            Map.Entry<Integer, ArrayList<PendingState>> selected = null;
+            for (Map.Entry<Integer, ArrayList<PendingState>> level : this.levels.entrySet()) {
+                selected = level;
+                r -= level.getValue().size() * weight(level.getKey(), minDepth);
+                if (r < 0) {
+                    break;
+                }
+            } //if r >= 0 at the end, due to rounding, the deepest is selected
+            
+            //selects a state with that depth, uniformly
+            final ArrayList<PendingState> states = selected.getValue();
+            final int index = this.random.nextInt(states.size());
+            final PendingState retVal = states.get(index);
+            states.set(index, states.get(states.size() - 1));
+            states.remove(states.size() - 1);
+            if (states.isEmpty()) {
+                this.levels.remove(selected.getKey());
+            }
+            if (retVal.isPending()) {
+                return retVal;
+            }
+        }
+        return null;
+    }
+    
+    private static double weight(int depth, int minDepth) {
+        return Math.scalb(1.0, -Math.min(depth - minDepth, MAX_DEPTH_DIFFERENCE));
+    }
+}
@@ -1,6 +1,12 @@
 package jbse.tree;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static jbse.val.HistoryPoint.BRANCH_IDENTIFIER_SEPARATOR_COMPACT;
+import static jbse.val.HistoryPoint.BRANCH_IDENTIFIER_SEPARATOR_LONG;
 
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
@@ -120,6 +126,19 @@ public class StateTree {
          */
         int emittedStates;
 
+        /** 
+         * The number of states of {@code branch} stolen by 
+         * another tree. Used for COMPACT branch identification.
+         */
+        int stolenStates;
+
+        /**
+         * Whether the states in {@code branch} were adopted from
+         * another tree, and therefore already carry their 
+         * branch identifiers.
+         */
+        boolean adopted;
+
         /** 
          * Constructor for branch identification.
          */
@@ -127,8 +146,120 @@ public class StateTree {
             this.branch = new BranchPoint();
             this.totalStates = 0;
             this.emittedStates = 0;
+            this.stolenStates = 0;
+            this.adopted = false;
+        }
+
+        /**
+         * Returns the number of states in the branch
+         * that are still pending.
+         * 
+         * @return an {@code int}.
+         */
+        int pendingStates() {
+            return this.totalStates - this.emittedStates - this.stolenStates;
+        }
+        
+        /**
+         * Checks whether all the states in the branch were
+         * emitted or stolen.
+         * 
+         * @return {@code true} iff the branch has some state
+         *         and no pending state.
+         */
+        boolean exhausted() {
+            return this.totalStates > 0 && pendingStates() == 0;
         }
     }
+    
+    /**
+     * A pending state, as stored by a {@link SearchStrategy}.
+     * 
+     * @author Pietro Braione
+     */
+    public static final class PendingState {
+        /** 
+         * Compares the pending states in depth-first order, i.e., 
+         * the first is the one depth-first search would emit first.
+         */
+        public static final Comparator<PendingState> DEPTH_FIRST_ORDER = (p, q) -> Long.compare(q.rank, p.rank);
+        
+        /** 
+         * The {@link State}, or {@code null} if it was 
+         * emitted or stolen. 
+         */
+        private State state;
+        
+        /** The depth of {@code state} when it was added. */
+        private final int depth;
+        
+        /** 
+         * The rank of {@code state} in depth-first order: 
+         * depth-first search emits first the pending state 
+         * with highest rank.
+         */
+        private final long rank;
+        
+        /** The {@link BranchInfo} of the branch of {@code state}. */
+        private BranchInfo branchInfo;
+        
+        /** 
+         * The position of {@code state} in the order the 
+         * states of its branch were added, starting from 
+         * {@code 1}. Used for COMPACT branch identification.
+         */
+        private int order;
+        
+        /**
+         * Constructor.
+         * 
+         * @param state a {@link State}.
+         * @param rank a {@code long}, the rank of {@code state}
+         *        in depth-first order.
+         */
+        PendingState(State state, long rank) {
+            this.state = state;
+            this.depth = state.getDepth();
+            this.rank = rank;
+        }
+        
+        /**
+         * Returns the state.
+         * 
+         * @return the {@link State}, or {@code null} if
+         *         it is no longer pending.
+         */
+        public State getState() {
+            return this.state;
+        }
+        
+        /**
+         * Returns the depth of the state.
+         * 
+         * @return an {@code int}, the depth of the state 
+         *         when it was added to the tree.
+         */
+        public int getDepth() {
+            return this.depth;
+        }
+        
+        /**
+         * Checks whether the state is pending.
+         * 
+         * @return {@code true} iff the state was neither 
+         *         emitted nor stolen.
+         */
+        public boolean isPending() {
+            return this.state != null;
+        }
+    }
+
+    /** 
+     * The number of states emitted out of depth-first order 
+     * that the buffer of the pending states may contain, in 
+     * excess of the pending states, before it is compacted.
+     */
+    private static final int COMPACTION_THRESHOLD = 64;
 
     /** State identification mode. */
     private final StateIdentificationMode stateIdMode;
@@ -139,11 +270,26 @@ public class StateTree {
     /** Breadth mode, after switching to post-initial phase. */
     private final BreadthMode breadthModePostInitial;
 
-    /** Buffer of the inserted {@link State}s. */
-    private final LinkedList<State> stateBuffer = new LinkedList<State>();
+    /** 
+     * Buffer of the inserted {@link State}s, in depth-first order.
+     * It may also contain the states that the search strategy 
+     * emitted out of depth-first order, that are discarded when
+     * they reach an end of the buffer. 
+     */
+    private final ArrayDeque<PendingState> stateBuffer = new ArrayDeque<>();
+    
+    /** The number of pending states in {@link #stateBuffer}. */
+    private int pendingStates = 0;
+    
+    /** The number of states added so far, used to rank them in depth-first order. */
+    private long addedStates = 0;
 
-    /** Buffer of the inserted {@link BranchInfo}s. */
-    private final LinkedList<BranchInfo> branchList = new LinkedList<BranchInfo>();
+    /** 
+     * Buffer of the inserted {@link BranchInfo}s, in depth-first
+     * order. It may also contain exhausted branches, that are 
+     * discarded when they reach the front of the buffer.
+     */
+    private final ArrayDeque<BranchInfo> branchList = new ArrayDeque<>();
 
     /** 
      * Flag indicating whether the tree level has been increased 
@@ -151,9 +297,56 @@ public class StateTree {
      */
     private boolean createdBranch = false;
     
+    /** The {@link SearchStrategy} that selects the states to be emitted. */
+    private SearchStrategy searchStrategy = new SearchStrategyDepthFirst();
+    
+    /** The {@link BranchInfo} of the state last emitted. */
+    private BranchInfo lastBranch = null;
+    
     /** Flag indicating whether the next state is a user-provided start state. */
     private boolean userProvidedStartState = false;
 
+    /** 
+     * Flag indicating whether the next state was reserved for
+     * emission by {@link #nextState()}, and thus cannot be stolen.
+     */
+    private boolean reserved = false;
+    
+    /** 
+     * The memory budget for the pending states, in bytes
+     * ({@code <= 0} means unlimited).
+     */
+    private long memoryBudget = 0;
+    
+    /** 
+     * The maximum number of pending states kept in memory
+     * ({@code <= 0} means unlimited).
+     */
+    private int pendingStatesWindow = 0;
+    
+    /** Whether the pending states can be released. */
+    private boolean initialStateAvailable = false;
+    
+    /** 
+     * The {@link MemoryGovernor}, or {@code null} if the memory 
+     * of the pending states is not bounded. 
+     */
+    private MemoryGovernor memoryGovernor = null;
+    
+    /** 
+     * The branch identifiers of the pending states released
+     * because of the memory budget or of the pending states
+     * window, the ones that would be emitted first on top. 
+     */
+    private final BranchIdentifierStack released = new BranchIdentifierStack();
+    
+    /** 
+     * The branch identifier of the root of the subtree whose 
+     * pending states are released, or {@code null} if it is 
+     * the whole tree. The pending states out of it are discarded.
+     */
+    private String releaseSubregion = null;
+
     /**
      * Constructor.
      * 
@@ -177,6 +370,173 @@ public class StateTree {
         this.breadthMode = this.breadthModePostInitial;
     }
 
+    /**
+     * Sets the search strategy, that selects the order 
+     * in which the pending states are emitted when the
+     * execution backtracks. By default the states are 
+     * emitted in depth-first order.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public synchronized void setSearchStrategy(SearchStrategy searchStrategy) {
+        if (searchStrategy == null) {
+            throw new NullPointerException();
+        }
+        this.searchStrategy = searchStrategy;
+        for (Iterator<PendingState> it = this.stateBuffer.descendingIterator(); it.hasNext(); ) {
+            final PendingState p = it.next();
+            if (p.isPending()) {
+                searchStrategy.add(p);
+            }
+        }
+    }
+    
+    /**
+     * Returns the search strategy.
+     * 
+     * @return a {@link SearchStrategy}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.searchStrategy;
+    }
+
+    /**
+     * Sets the memory budget for the pending states. The 
+     * budget is enforced only after the invocation of
+     * {@link #setInitialStateAvailable()}.
+     * 
+     * @param memoryBudget a {@code long}, the budget in bytes
+     *        ({@code <= 0} means unlimited).
+     */
+    public synchronized void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+    
+    /**
+     * Sets the {@link MemoryGovernor} that enforces the memory 
+     * budget, overriding the one that this tree would create
+     * from {@link #setMemoryBudget(long)}. The trees of the 
+     * engines of a same run should share the same governor.
+     * 
+     * @param memoryGovernor a {@link MemoryGovernor}, or 
+     *        {@code null} for an unlimited budget.
+     */
+    public synchronized void setMemoryGovernor(MemoryGovernor memoryGovernor) {
+        this.memoryGovernor = memoryGovernor;
+        if (this.initialStateAvailable && memoryGovernor != null) {
+            memoryGovernor.start();
+        }
+    }
+    
+    /**
+     * Sets the maximum number of pending states kept in memory.
+     * The pending states beyond it are released as for the memory
+     * budget, and their branch identifiers are spilled to a 
+     * file. The window is enforced only after the invocation of
+     * {@link #setInitialStateAvailable()}.
+     * 
+     * @param pendingStatesWindow an {@code int}, the maximum number 
+     *        of pending states ({@code <= 0} means unlimited).
+     */
+    public synchronized void setPendingStatesWindow(int pendingStatesWindow) {
+        this.pendingStatesWindow = pendingStatesWindow;
+    }
+    
+    /**
+     * Notifies this tree that the initial state is available,
+     * and thus the pending states can be released when the 
+     * memory budget or the pending states window is exceeded, 
+     * since the subtrees they root can be re-derived by replaying 
+     * the execution from the initial state.
+     */
+    public synchronized void setInitialStateAvailable() {
+        this.initialStateAvailable = true;
+        if (this.memoryBudget > 0 && this.memoryGovernor == null) {
+            this.memoryGovernor = new MemoryGovernor(this.memoryBudget);
+        }
+        if (this.memoryGovernor != null) {
+            this.memoryGovernor.start();
+        }
+    }
+    
+    /**
+     * Returns the average memory retained by a pending state,
+     * as of the last measurement done to enforce the memory 
+     * budget.
+     * 
+     * @return a {@code long}, the size in bytes, or {@code 0} 
+     *         if the memory budget is not enforced or no 
+     *         measurement was done yet.
+     */
+    public synchronized long getPendingStateSize() {
+        return (this.memoryGovernor == null ? 0 : this.memoryGovernor.getStateSize());
+    }
+    
+    /**
+     * Restricts the release of the pending states to a subtree.
+     * The pending states that exceed the memory budget or the 
+     * pending states window, and that are neither in the subtree
+     * nor on the path from the root of the tree to it, are discarded 
+     * rather than released, since they are out of the subtree under 
+     * exploration. This is the case of the pending states 
+     * generated while re-deriving a released state.
+     * 
+     * @param releaseSubregion a {@link String}, the branch identifier
+     *        of the root of the subtree, or {@code null} for the 
+     *        whole tree.
+     */
+    public synchronized void setReleaseSubregion(String releaseSubregion) {
+        this.releaseSubregion = releaseSubregion;
+    }
+    
+    /**
+     * Checks whether some pending states were released 
+     * because of the memory budget, and must be re-derived.
+     * 
+     * @return {@code true} iff there is at least a released
+     *         state that was not yet re-derived.
+     */
+    public synchronized boolean hasReleasedStates() {
+        return !this.released.isEmpty();
+    }
+    
+    /**
+     * Removes from this tree the branch identifier of the next 
+     * released state to be re-derived.
+     * 
+     * @return a {@link String}, the branch identifier of
+     *         the state.
+     * @throws NoSuchElementException if {@link #hasReleasedStates()} {@code == false}.
+     */
+    public synchronized String nextReleasedState() {
+        return this.released.pop();
+    }
+    
+    /**
+     * Adds the branch identifier of a state to the released 
+     * ones, so that it will be re-derived before the other
+     * released states. This allows to re-derive a pending 
+     * state released by another tree.
+     * 
+     * @param identifier a {@link String}, the branch identifier
+     *        of the state.
+     * @throws NullPointerException if {@code identifier == null}.
+     */
+    public synchronized void addReleasedState(String identifier) {
+        this.released.push(identifier);
+    }
+    
+    /**
+     * Disposes the resources used to store the branch 
+     * identifiers of the released states. After the 
+     * invocation of this method no released state can 
+     * be re-derived.
+     */
+    public synchronized void close() {
+        this.released.close();
+    }
+
     /**
      * Returns the branch identification mode.
      * 
@@ -204,7 +564,7 @@ public class StateTree {
      *        start state is user-provided.
      * @throws InvalidInputException if the tree is not empty.
      */
-    public void addStateStart(State s, boolean userProvidedStartState) throws InvalidInputException {
+    public synchronized void addStateStart(State s, boolean userProvidedStartState) throws InvalidInputException {
         if (hasStates()) {
             throw new InvalidInputException("Invoked " + StateTree.class.getName() + ".addStateStart() on a nonempty tree.");
         }
@@ -220,7 +580,7 @@ public class StateTree {
      * @throws InvalidInputException if {@code s} is not initial
      *         or the tree is not empty.
      */
-    public void addStateInitial(State s) throws InvalidInputException {
+    public synchronized void addStateInitial(State s) throws InvalidInputException {
     	final Phase phase = s.phase();
     	if (phase == Phase.INITIAL) {
     	    if (hasStates()) {
@@ -248,7 +608,7 @@ public class StateTree {
      * @throws InvalidInputException if {@code s} is frozen, or if this method is used to add a pre-initial 
      *         or initial state.
      */
-    public void addState(State s, int branchNumber, String branchIdentifier) throws InvalidInputException {
+    public synchronized void addState(State s, int branchNumber, String branchIdentifier) throws InvalidInputException {
         if (s.phase() == Phase.POST_INITIAL) {
             if (this.stateIdMode == StateIdentificationMode.COMPACT) {
                 //in compact mode nextState() will update the history point            
@@ -272,8 +632,8 @@ public class StateTree {
      * @return true iff the store has one or more states 
      *              to emit.
      */
-    public boolean hasStates() {
-        return !this.stateBuffer.isEmpty();
+    public synchronized boolean hasStates() {
+        return this.pendingStates > 0;
     }
     
     /**
@@ -284,10 +644,13 @@ public class StateTree {
      * @return the number of states at the branch identified by {@code bp} 
      *         that must be emitted yet.
      */
-    public int getNumOfStatesAtBranch(BranchPoint bp) {
+    public synchronized int getNumOfStatesAtBranch(BranchPoint bp) {
+    	if (this.lastBranch != null && this.lastBranch.branch == bp) {
+    		return this.lastBranch.pendingStates();
+    	}
     	for (BranchInfo info : this.branchList) {
     		if (info.branch == bp) {
-    			return info.totalStates - info.emittedStates;
+    			return info.pendingStates();
     		}
     	}
     	return 0;
@@ -302,48 +665,208 @@ public class StateTree {
      *         that is the next {@code index}-th to be emitted.
      * @throws InvalidInputException if {@code index < 0 || index >= }{@link #getNumOfStatesAtBranch(BranchPoint) getNumOfStatesAtBranch}{@code (bp)}.
      */
-    public State getStateAtBranch(BranchPoint bp, int index) throws InvalidInputException {
+    public synchronized State getStateAtBranch(BranchPoint bp, int index) throws InvalidInputException {
     	if (index < 0 || index >= getNumOfStatesAtBranch(bp)) {
     		throw new InvalidInputException("Tried to get state at branch " + bp + " with index " + index + " (total number of states at branch is " + getNumOfStatesAtBranch(bp) + ").");
     	}
     	int position = 0;
-    	boolean found = false;
-    	for (BranchInfo info : this.branchList) {
-    		if (info.branch == bp) {
-    			found = true;
-    			break;
+    	for (PendingState p : this.stateBuffer) {
+    		if (p.isPending() && p.branchInfo.branch == bp) {
+    			if (position == index) {
+    				return p.state;
+    			}
+    			++position;
     		}
-    		position += info.totalStates - info.emittedStates;
-    	}
-    	if (found) {
-    		return this.stateBuffer.get(position + index);
-    	} else {
-    		throw new InvalidInputException("Tried to get state at branch " + bp + " but no state seems to exist at branch.");
     	}
+    	throw new InvalidInputException("Tried to get state at branch " + bp + " but no state seems to exist at branch.");
     }
 
     /**
-     * Removes the next state from the store and emits it.
+     * Removes the next state, as selected by the search
+     * strategy, from the store and emits it. It must be 
+     * invoked when the execution backtracks.
      * 
      * @return the {@link State} removed from the store.
      * @throws FrozenStateException if the returned {@link State} is frozen.
      * @throws NoSuchElementException if {@link #hasStates()} {@code == false}.
      */
-    public State nextState() throws FrozenStateException {
-        final State s = this.stateBuffer.removeFirst();
-        final BranchInfo b = this.branchList.getFirst();
+    public synchronized State nextState() throws FrozenStateException {
+        PendingState p;
+        do {
+            p = this.searchStrategy.poll();
+            if (p == null) {
+                throw new NoSuchElementException();
+            }
+        } while (!p.isPending());
+        return emit(p);
+    }
+    
+    /**
+     * Removes the next state in depth-first order from the 
+     * store and emits it, without consulting the search 
+     * strategy. It must be invoked when the current state
+     * branches, to continue the execution with the first 
+     * state of the branch.
+     * 
+     * @return the {@link State} removed from the store.
+     * @throws FrozenStateException if the returned {@link State} is frozen.
+     * @throws NoSuchElementException if {@link #hasStates()} {@code == false}.
+     */
+    public synchronized State nextStateDepthFirst() throws FrozenStateException {
+        PendingState p;
+        do {
+            p = this.stateBuffer.removeFirst();
+        } while (!p.isPending());
+        return emit(p);
+    }
+    
+    private State emit(PendingState p) throws FrozenStateException {
+        final State s = p.state;
+        p.state = null;
+        --this.pendingStates;
+        final BranchInfo b = p.branchInfo;
         ++b.emittedStates;
-        if (b.emittedStates == b.totalStates) {
-            this.branchList.removeFirst();
-        }
+        this.lastBranch = b;
         
-        if (!this.userProvidedStartState && this.stateIdMode == StateIdentificationMode.COMPACT && s.phase() == Phase.POST_INITIAL) {
-            s.addBranchToHistoryPoint(String.valueOf(b.emittedStates));
-        } //else, the history point was already set by addState
+        if (!this.userProvidedStartState && !b.adopted && this.stateIdMode == StateIdentificationMode.COMPACT && s.phase() == Phase.POST_INITIAL) {
+            s.addBranchToHistoryPoint(String.valueOf(number(p)));
+        } //else, the history point was already set by addState or by stealState
         this.userProvidedStartState = false;
+        this.reserved = false;
+        
+        //possibly releases the pending states over the memory budget
+        //or the pending states window
+        if (this.initialStateAvailable) {
+            int toRelease = (this.memoryGovernor == null ? 0 : this.memoryGovernor.statesToRelease(this, this.pendingStates));
+            if (this.pendingStatesWindow > 0) {
+                toRelease = Math.max(toRelease, this.pendingStates - this.pendingStatesWindow);
+            }
+            for (int i = 0; i < toRelease; ++i) {
+                final State releasedState = stealState();
+                if (releasedState == null) {
+                    break;
+                }
+                final String identifier = releasedState.getBranchIdentifier();
+                if (isInReleaseSubregion(identifier)) {
+                    this.released.push(identifier);
+                }
+            }
+        }
+        
+        //discards the states emitted out of depth-first order, 
+        //when they are many
+        if (this.stateBuffer.size() > 2 * this.pendingStates + COMPACTION_THRESHOLD) {
+            this.stateBuffer.removeIf(q -> !q.isPending());
+            this.branchList.removeIf(BranchInfo::exhausted);
+        }
 
         return s;
-    }    
+    }
+    
+    /**
+     * Returns the number of a state in its branch, i.e., 
+     * its position in depth-first order. 
+     * 
+     * @param p a {@link PendingState}.
+     * @return an {@code int}. It is meaningful only 
+     *         after all the states of the branch are added.
+     */
+    private static int number(PendingState p) {
+        return p.branchInfo.totalStates - p.order + 1;
+    }
+    
+    private boolean isInReleaseSubregion(String identifier) {
+        return (this.releaseSubregion == null ||
+                this.releaseSubregion.equals(identifier) ||
+                identifier.startsWith(this.releaseSubregion + BRANCH_IDENTIFIER_SEPARATOR_COMPACT) || 
+                identifier.startsWith(this.releaseSubregion + BRANCH_IDENTIFIER_SEPARATOR_LONG) ||
+                this.releaseSubregion.startsWith(identifier + BRANCH_IDENTIFIER_SEPARATOR_COMPACT) || 
+                this.releaseSubregion.startsWith(identifier + BRANCH_IDENTIFIER_SEPARATOR_LONG));
+    }
+    
+    /**
+     * Returns the branch point of the state last emitted by 
+     * {@link #nextState()} or {@link #nextStateDepthFirst()}.
+     * 
+     * @return the {@link BranchPoint} of the last emitted state, 
+     *         or {@code null} if no state was emitted yet.
+     */
+    public synchronized BranchPoint lastBranch() {
+        return (this.lastBranch == null ? null : this.lastBranch.branch);
+    }
+    
+    /**
+     * Checks whether some {@link State} can be emitted and, 
+     * in the positive case, reserves it so that it cannot be
+     * removed by {@link #stealState()} until the next 
+     * invocation of {@link #nextState()}.
+     * 
+     * @return true iff the store has one or more states 
+     *              to emit.
+     */
+    public synchronized boolean hasStatesReserve() {
+        final boolean retVal = hasStates();
+        this.reserved = this.reserved || retVal;
+        return retVal;
+    }
+
+    /**
+     * Removes from the store the state that depth-first search
+     * would emit last, to allow its exploration by another {@link StateTree}. 
+     * Only post-initial states can be stolen, and the state
+     * reserved by {@link #createdBranch()} or {@link #hasStatesReserve()}
+     * is never stolen.
+     * 
+     * @return the removed {@link State}, or {@code null} if no 
+     *         state can be stolen.
+     * @throws FrozenStateException if the removed {@link State} is frozen.
+     */
+    public synchronized State stealState() throws FrozenStateException {
+        if (this.pendingStates == 0 || (this.reserved && this.pendingStates == 1)) {
+            return null;
+        }
+        while (!this.stateBuffer.getLast().isPending()) {
+            this.stateBuffer.removeLast();
+        }
+        final PendingState p = this.stateBuffer.getLast();
+        final State s = p.state;
+        if (s.phase() != Phase.POST_INITIAL) {
+            return null;
+        }
+        this.stateBuffer.removeLast();
+        p.state = null;
+        --this.pendingStates;
+        final BranchInfo b = p.branchInfo;
+        ++b.stolenStates;
+        if (!b.adopted && this.stateIdMode == StateIdentificationMode.COMPACT) {
+            //the stolen state is the last one that depth-first search would emit
+            s.addBranchToHistoryPoint(String.valueOf(number(p)));
+        }
+        return s;
+    }
+
+    /**
+     * Adds to the store a state that was previously removed 
+     * from another tree by {@link #stealState()}. The state is 
+     * added on a new branch, that does not cause 
+     * {@link #createdBranch()} to return {@code true}, and it
+     * is reserved, so that it cannot be stolen back before the 
+     * next invocation of {@link #nextState()}. 
+     * 
+     * @param s the {@link State} to be added. 
+     * @throws InvalidInputException if {@code s} is not 
+     *         post-initial.
+     */
+    public synchronized void addStateAdopted(State s) throws InvalidInputException {
+        if (s.phase() != Phase.POST_INITIAL) {
+            throw new InvalidInputException("Tried to adopt a " + (s.phase() == Phase.PRE_INITIAL ? "pre-" : "") + "initial state.");
+        }
+        final BranchInfo b = new BranchInfo();
+        b.adopted = true;
+        this.branchList.addFirst(b);
+        add(s);
+        this.reserved = true;
+    }
     
     
     /**
@@ -362,7 +885,7 @@ public class StateTree {
      * @return {@code true} iff the method has increased
      *         the tree level.
      */
-    public boolean possiblyAddBranchPoint(boolean moreThanOne, boolean trivial, boolean concrete, boolean noDecision) {
+    public synchronized boolean possiblyAddBranchPoint(boolean moreThanOne, boolean trivial, boolean concrete, boolean noDecision) {
         boolean retVal = moreThanOne;
         switch (this.breadthMode) {
         case MORE_THAN_ONE:
@@ -406,10 +929,11 @@ public class StateTree {
      *         of {@code createdBranch}, {@code false} 
      *         otherwise.
      */
-    public boolean createdBranch() {
+    public synchronized boolean createdBranch() {
         final boolean retval = this.createdBranch;
 
         this.createdBranch = false;
+        this.reserved = this.reserved || retval;
         return retval;
     }
 
@@ -422,7 +946,10 @@ public class StateTree {
      *         or {@code null} in the case such state does not 
      *         exist.  
      */
-    public BranchPoint nextBranch() {
+    public synchronized BranchPoint nextBranch() {
+        while (!this.branchList.isEmpty() && this.branchList.getFirst().exhausted()) {
+            this.branchList.removeFirst();
+        }
         if (this.branchList.isEmpty()) {
             return null;
         } else {
@@ -431,13 +958,18 @@ public class StateTree {
     }    
 
     /**
-     * Adds a state to the buffer and increases the 
-     * total count of states in the branch.
+     * Adds a state to the buffer and to the search strategy,
+     * and increases the total count of states in the branch.
      * 
      * @param s the {@link State} to be added.
      */
     private void add(State s) {
-        this.stateBuffer.addFirst(s);
-        ++(this.branchList.getFirst().totalStates);
+        final BranchInfo b = this.branchList.getFirst();
+        final PendingState p = new PendingState(s, this.addedStates++);
+        p.branchInfo = b;
+        p.order = ++b.totalStates;
+        this.stateBuffer.addFirst(p);
+        ++this.pendingStates;
+        this.searchStrategy.add(p);
     }
 }
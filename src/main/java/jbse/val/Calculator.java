@@ -107,6 +107,39 @@ public abstract class Calculator {
     
 	/** The stack. */
     private final ArrayDeque<Primitive> stack = new ArrayDeque<>();
+    
+    /** 
+     * Whether operations on {@link Simplex} operands are 
+     * calculated directly, without building and simplifying 
+     * an {@link Expression} or a conversion.
+     */
+    private boolean foldSimplex = false;
+    
+    /**
+     * Enables or disables the direct calculation of operations
+     * on {@link Simplex} operands. When enabled, unary and 
+     * binary operations and conversions whose operands are all
+     * {@link Simplex} produce their result without building
+     * an {@link Expression} (or a conversion) and without 
+     * invoking {@link #simplify(Primitive)}. Subclasses must 
+     * enable it only if {@link #simplify(Primitive)} would 
+     * calculate the same result.
+     * 
+     * @param foldSimplex a {@code boolean}.
+     */
+    protected final void setFoldSimplex(boolean foldSimplex) {
+    	this.foldSimplex = foldSimplex;
+    }
+    
+    /**
+     * Checks whether operations on {@link Simplex} operands are
+     * calculated directly (see {@link #setFoldSimplex(boolean)}).
+     * 
+     * @return a {@code boolean}.
+     */
+    public final boolean getFoldSimplex() {
+    	return this.foldSimplex;
+    }
 
     /**
      * Factory method for values with type {@link Any}.
@@ -137,12 +170,7 @@ public abstract class Calculator {
         if (value == ((byte) 0)) {
             return ZERO_BYTE;
         }
-        try {
-            return Simplex.make(Byte.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeByte(value);
     }
 
     /**
@@ -155,12 +183,7 @@ public abstract class Calculator {
         if (value == ((short) 0)) {
             return ZERO_SHORT;
         }
-        try {
-            return Simplex.make(Short.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeShort(value);
     }
 
     /**
@@ -173,12 +196,7 @@ public abstract class Calculator {
         if (value == 0) {
             return ZERO_INT;
         }
-        try {
-            return Simplex.make(Integer.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeInt(value);
     }
 
     /**
@@ -191,12 +209,7 @@ public abstract class Calculator {
         if (value == 0L) {
             return ZERO_LONG;
         }
-        try {
-            return Simplex.make(Long.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeLong(value);
     }
 
     /**
@@ -209,12 +222,7 @@ public abstract class Calculator {
         if (value == 0.0f) {
             return ZERO_FLOAT;
         }
-        try {
-            return Simplex.make(Float.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeFloat(value);
     }
 
     /**
@@ -227,12 +235,7 @@ public abstract class Calculator {
         if (value == 0.0d) {
             return ZERO_DOUBLE;
         }
-        try {
-            return Simplex.make(Double.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeDouble(value);
     }
 
     /**
@@ -242,12 +245,7 @@ public abstract class Calculator {
      * @return a {@link Simplex} representing {@code value}. 
      */
     public final Simplex valChar(char value) {
-        try {
-            return Simplex.make(Character.valueOf(value));
-        } catch (InvalidOperandException e) {
-            //this should never happen
-            throw new UnexpectedInternalException(e);
-        }
+        return Simplex.makeChar(value);
     }
 
     /**
@@ -1076,6 +1074,13 @@ public abstract class Calculator {
             throw new InvalidOperatorException("Tried to apply operator " + operator + " to build a unary expression.");
     	} else {
         	final Primitive operand = pop();
+        	if (this.foldSimplex && operand instanceof Simplex) {
+        		final Simplex result = foldUnary(operator, (Simplex) operand);
+        		if (result != null) {
+        			this.stack.push(result);
+        			return this;
+        		}
+        	}
             try {
                 push(simplify(Expression.makeExpressionUnary(operator, operand)));
             } catch (InvalidOperatorException | InvalidOperandException e) {
@@ -1105,6 +1110,13 @@ public abstract class Calculator {
         	throw new InvalidOperandException("Tried to build a binary expression with a null operand.");
     	} else {
         	final Primitive firstOperand = pop();
+        	if (this.foldSimplex && firstOperand instanceof Simplex && operand instanceof Simplex) {
+        		final Simplex result = foldBinary((Simplex) firstOperand, operator, (Simplex) operand);
+        		if (result != null) {
+        			this.stack.push(result);
+        			return this;
+        		}
+        	}
         	try {
         		push(simplify(Expression.makeExpressionBinary(firstOperand, operator, operand)));
         	} catch (InvalidOperatorException | InvalidOperandException e) {
@@ -1126,6 +1138,13 @@ public abstract class Calculator {
      */
     public final Calculator widen(char type) throws InvalidTypeException {
     	final Primitive operand = pop();
+    	if (this.foldSimplex && operand instanceof Simplex && widens(type, operand.getType())) {
+    		final Simplex result = foldConversion((Simplex) operand, type);
+    		if (result != null) {
+    			this.stack.push(result);
+    			return this;
+    		}
+    	}
         try {
             push(simplify(WideningConversion.make(type, operand)));
         } catch (InvalidOperandException e) {
@@ -1146,6 +1165,13 @@ public abstract class Calculator {
      */
     public final Calculator narrow(char type) throws InvalidTypeException {
     	final Primitive operand = pop();
+    	if (this.foldSimplex && operand instanceof Simplex && narrows(type, operand.getType())) {
+    		final Simplex result = foldConversion((Simplex) operand, type);
+    		if (result != null) {
+    			this.stack.push(result);
+    			return this;
+    		}
+    	}
         try {
             push(simplify(NarrowingConversion.make(type, operand)));
         } catch (InvalidOperandException e) {
@@ -1174,6 +1200,13 @@ public abstract class Calculator {
                 //this should never happen
                 throw new UnexpectedInternalException(e);
 			}
+        } else if (this.foldSimplex && operand instanceof Simplex && (widens(type, operandType) || narrows(type, operandType))) {
+        	final Simplex result = foldConversion((Simplex) operand, type);
+        	if (result == null) {
+        		//this should never happen
+        		throw new UnexpectedInternalException("Failed conversion of " + operand + " to type " + type + ".");
+        	}
+        	this.stack.push(result);
         } else if (widens(type, operandType)) {
             try {
                 push(simplify(WideningConversion.make(type, operand)));
@@ -1194,6 +1227,204 @@ public abstract class Calculator {
         return this;
     }
     
+    /**
+     * Calculates a unary operation on a {@link Simplex}, 
+     * with the same result that the simplification of the 
+     * corresponding {@link Expression} would yield.
+     * 
+     * @param operator an {@link Operator}. It must be unary.
+     * @param operand a {@link Simplex}.
+     * @return a {@link Simplex}, or {@code null} if the 
+     *         operation is not calculated directly and the 
+     *         caller must build the {@link Expression}.
+     */
+    private Simplex foldUnary(Operator operator, Simplex operand) {
+    	final char type = operand.getType();
+    	if (operator == Operator.NOT) {
+    		return (type == BOOLEAN ? valBoolean(!operand.surelyTrue()) : null);
+    	} else if (operator == Operator.NEG) {
+    		switch (type) {
+    		case INT:
+    			return valInt(-operand.intValue());
+    		case LONG:
+    			return valLong(-operand.longValue());
+    		case FLOAT:
+    			return valFloat(-operand.floatValue());
+    		case DOUBLE:
+    			return valDouble(-operand.doubleValue());
+    		default:
+    			return null;
+    		}
+    	}
+    	return null;
+    }
+
+    /**
+     * Calculates a binary operation on two {@link Simplex}, 
+     * with the same result that the simplification of the 
+     * corresponding {@link Expression} would yield. Only 
+     * the operations whose operands have the types that 
+     * the JVM instructions operate on are calculated 
+     * directly; Integer divisions by zero are left to 
+     * the {@link Expression} path.
+     * 
+     * @param first a {@link Simplex}, the first operand.
+     * @param operator an {@link Operator}. It must be binary.
+     * @param second a {@link Simplex}, the second operand.
+     * @return a {@link Simplex}, or {@code null} if the 
+     *         operation is not calculated directly and the 
+     *         caller must build the {@link Expression}.
+     */
+    private Simplex foldBinary(Simplex first, Operator operator, Simplex second) {
+    	final char type = first.getType();
+    	final char secondType = second.getType();
+    	
+    	//shifts
+    	if (operator == Operator.SHL || operator == Operator.SHR || operator == Operator.USHR) {
+    		if (secondType != INT) {
+    			return null;
+    		}
+    		final int distance = second.intValue();
+    		if (type == INT) {
+    			final int value = first.intValue();
+    			return valInt(operator == Operator.SHL ? value << distance : operator == Operator.SHR ? value >> distance : value >>> distance);
+    		} else if (type == LONG) {
+    			final long value = first.longValue();
+    			return valLong(operator == Operator.SHL ? value << distance : operator == Operator.SHR ? value >> distance : value >>> distance);
+    		}
+    		return null;
+    	}
+    	
+    	//all other operators need operands with same type
+    	if (type != secondType) {
+    		return null;
+    	}
+    	if (type == BOOLEAN) {
+    		if (operator == Operator.AND) {
+    			return valBoolean(first.surelyTrue() && second.surelyTrue());
+    		} else if (operator == Operator.OR) {
+    			return valBoolean(first.surelyTrue() || second.surelyTrue());
+    		}
+    		return null;
+    	}
+    	
+    	switch (type) {
+    	case INT: {
+    		final int a = first.intValue();
+    		final int b = second.intValue();
+    		switch (operator) {
+    		case ADD:   return valInt(a + b);
+    		case SUB:   return valInt(a - b);
+    		case MUL:   return valInt(a * b);
+    		case DIV:   return (b == 0 ? null : valInt(a / b));
+    		case REM:   return (b == 0 ? null : valInt(a % b));
+    		case ANDBW: return valInt(a & b);
+    		case ORBW:  return valInt(a | b);
+    		case XORBW: return valInt(a ^ b);
+    		case EQ:    return valBoolean(a == b);
+    		case NE:    return valBoolean(a != b);
+    		case LT:    return valBoolean(a < b);
+    		case LE:    return valBoolean(a <= b);
+    		case GT:    return valBoolean(a > b);
+    		case GE:    return valBoolean(a >= b);
+    		default:    return null;
+    		}
+    	}
+    	case LONG: {
+    		final long a = first.longValue();
+    		final long b = second.longValue();
+    		switch (operator) {
+    		case ADD:   return valLong(a + b);
+    		case SUB:   return valLong(a - b);
+    		case MUL:   return valLong(a * b);
+    		case DIV:   return (b == 0L ? null : valLong(a / b));
+    		case REM:   return (b == 0L ? null : valLong(a % b));
+    		case ANDBW: return valLong(a & b);
+    		case ORBW:  return valLong(a | b);
+    		case XORBW: return valLong(a ^ b);
+    		case EQ:    return valBoolean(a == b);
+    		case NE:    return valBoolean(a != b);
+    		case LT:    return valBoolean(a < b);
+    		case LE:    return valBoolean(a <= b);
+    		case GT:    return valBoolean(a > b);
+    		case GE:    return valBoolean(a >= b);
+    		default:    return null;
+    		}
+    	}
+    	case FLOAT: {
+    		final float a = first.floatValue();
+    		final float b = second.floatValue();
+    		switch (operator) {
+    		case ADD:   return valFloat(a + b);
+    		case SUB:   return valFloat(a - b);
+    		case MUL:   return valFloat(a * b);
+    		case DIV:   return valFloat(a / b);
+    		case REM:   return valFloat(a % b);
+    		case EQ:    return valBoolean(a == b);
+    		case NE:    return valBoolean(a != b);
+    		case LT:    return valBoolean(a < b);
+    		case LE:    return valBoolean(a <= b);
+    		case GT:    return valBoolean(a > b);
+    		case GE:    return valBoolean(a >= b);
+    		default:    return null;
+    		}
+    	}
+    	case DOUBLE: {
+    		final double a = first.doubleValue();
+    		final double b = second.doubleValue();
+    		switch (operator) {
+    		case ADD:   return valDouble(a + b);
+    		case SUB:   return valDouble(a - b);
+    		case MUL:   return valDouble(a * b);
+    		case DIV:   return valDouble(a / b);
+    		case REM:   return valDouble(a % b);
+    		case EQ:    return valBoolean(a == b);
+    		case NE:    return valBoolean(a != b);
+    		case LT:    return valBoolean(a < b);
+    		case LE:    return valBoolean(a <= b);
+    		case GT:    return valBoolean(a > b);
+    		case GE:    return valBoolean(a >= b);
+    		default:    return null;
+    		}
+    	}
+    	default:
+    		return null;
+    	}
+    }
+
+    /**
+     * Converts a {@link Simplex} to another primitive type, 
+     * with the same result that the simplification of the 
+     * corresponding conversion would yield.
+     * 
+     * @param operand a {@link Simplex}.
+     * @param type a {@code char}, the type to convert to.
+     * @return a {@link Simplex}, or {@code null} if {@code type}
+     *         is not a primitive type.
+     */
+    private Simplex foldConversion(Simplex operand, char type) {
+    	switch (type) {
+    	case BOOLEAN:
+    		return valBoolean(operand.intValue() != 0);
+    	case BYTE:
+    		return valByte((byte) operand.intValue());
+    	case SHORT:
+    		return valShort((short) operand.intValue());
+    	case CHAR:
+    		return valChar((char) operand.intValue());
+    	case INT:
+    		return valInt(operand.intValue());
+    	case LONG:
+    		return valLong(operand.longValue());
+    	case FLOAT:
+    		return valFloat(operand.floatValue());
+    	case DOUBLE:
+    		return valDouble(operand.doubleValue());
+    	default:
+    		return null;
+    	}
+    }
+    
     private static final class ReplacementTriple {
     	private final Primitive operand;
     	private final Primitive from;
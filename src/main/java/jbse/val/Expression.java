@@ -3,6 +3,7 @@ package jbse.val;
 import static jbse.val.HistoryPoint.unknown;
 
 import jbse.common.Type;
+import jbse.common.WeakInternTable;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.val.exc.InvalidOperandException;
@@ -12,8 +13,18 @@ import jbse.val.exc.InvalidTypeException;
 /**
  * Class representing the {@code PrimitiveSymbolicComputed} obtained 
  * by applying a unary or binary {@link Operator} to arguments.
+ * {@link Expression}s are hash-consed: structurally equal 
+ * expressions are the same object. Their string representations
+ * are calculated on demand.
  */
 public final class Expression extends PrimitiveSymbolicComputed {
+    /** The canonical {@link Expression}s. */
+    private static final WeakInternTable<Expression> INTERN = 
+        new WeakInternTable<>(Expression::hashCode, 
+                              (e1, e2) -> e1.operator == e2.operator && e1.getType() == e2.getType() && 
+                                          interchangeable(e1.firstOp, e2.firstOp) && 
+                                          interchangeable(e1.secondOp, e2.secondOp));
+    
     /** The operator. */
     private final Operator operator;
 
@@ -26,11 +37,11 @@ public final class Expression extends PrimitiveSymbolicComputed {
     /** The hash code of this object. */
     private final int hashCode;
 
-    /** The string representation of this object. */
-    private final String toString;
+    /** The string representation of this object, calculated on demand. */
+    private String toString;
     
-    /** The origin String representation of this object. */
-    private final String asOriginString;
+    /** The origin String representation of this object, calculated on demand. */
+    private String asOriginString;
 
     /**
      * Factory method for verbatim expressions (binary).
@@ -64,7 +75,7 @@ public final class Expression extends PrimitiveSymbolicComputed {
         final char type = operator.returnType(firstOperand.getType(), secondOperand.getType()); 
 
         try {
-			return new Expression(type, firstOperand, operator, secondOperand);
+			return INTERN.intern(new Expression(type, firstOperand, operator, secondOperand));
 		} catch (InvalidInputException e) {
 			//this should never happen
 			throw new UnexpectedInternalException(e);
@@ -98,7 +109,7 @@ public final class Expression extends PrimitiveSymbolicComputed {
         final char type = (operator.returnsBoolean() ? Type.BOOLEAN : operand.getType());
 
         try {
-			return new Expression(type, null, operator, operand);
+			return INTERN.intern(new Expression(type, null, operator, operand));
 		} catch (InvalidInputException e) {
 			//this should never happen
 			throw new UnexpectedInternalException(e);
@@ -129,12 +140,6 @@ public final class Expression extends PrimitiveSymbolicComputed {
     	tmpHashCode = prime * tmpHashCode + this.operator.hashCode();
     	tmpHashCode = prime * tmpHashCode + this.secondOp.hashCode();
     	this.hashCode = tmpHashCode;
-
-    	//calculates toString
-    	this.toString = stringify(true);
-    	
-    	//calculates originString
-    	this.asOriginString = stringify(false);
     }
     
     private String stringify(boolean toString) {
@@ -232,6 +237,9 @@ public final class Expression extends PrimitiveSymbolicComputed {
     
     @Override
     public String asOriginString() {
+        if (this.asOriginString == null) {
+            this.asOriginString = stringify(false);
+        }
         return this.asOriginString;
     }
     
@@ -255,6 +263,9 @@ public final class Expression extends PrimitiveSymbolicComputed {
 
     @Override
     public String toString() {
+        if (this.toString == null) {
+            this.toString = stringify(true);
+        }
         return this.toString;
     }
 
@@ -275,6 +286,9 @@ public final class Expression extends PrimitiveSymbolicComputed {
             return false;
         }
         final Expression other = (Expression) obj;
+        if (this.hashCode != other.hashCode) {
+            return false;
+        }
         if (this.firstOp == null) {
             if (other.firstOp != null) {
                 return false;
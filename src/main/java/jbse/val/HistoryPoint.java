@@ -21,6 +21,12 @@ public final class HistoryPoint {
     
     private final ArrayList<String> branchIdentifier;
     
+    /** 
+     * The branch identifier as a {@link String}, shared by all the
+     * history points on the same branch (cached). 
+     */
+    private final String branchIdentifierString;
+    
     private final int sequenceNumber;
     
     /**
@@ -29,6 +35,7 @@ public final class HistoryPoint {
     private HistoryPoint() {
         this.compact = true;
         this.branchIdentifier = null;
+        this.branchIdentifierString = null;
         this.sequenceNumber = 0;
     }
     
@@ -37,11 +44,14 @@ public final class HistoryPoint {
      * 
      * @param compact a {@code boolean}.
      * @param branchIdentifier an {@link ArrayList}{@code <}{@link String}{@code >}.
+     * @param branchIdentifierString a {@link String}, {@code branchIdentifier}
+     *        as a {@link String}.
      * @param sequenceNumber an {@code int}.
      */
-    private HistoryPoint(boolean compact, ArrayList<String> branchIdentifier, int sequenceNumber) {
+    private HistoryPoint(boolean compact, ArrayList<String> branchIdentifier, String branchIdentifierString, int sequenceNumber) {
         this.compact = compact;
         this.branchIdentifier = branchIdentifier;
+        this.branchIdentifierString = branchIdentifierString;
         this.sequenceNumber = sequenceNumber;
     }
     
@@ -62,7 +72,7 @@ public final class HistoryPoint {
      */
     public static HistoryPoint startingPreInitial(boolean compact) {
         final ArrayList<String> preInitialBranchIdentifier = new ArrayList<>();
-        return new HistoryPoint(compact, preInitialBranchIdentifier, 0);
+        return new HistoryPoint(compact, preInitialBranchIdentifier, "", 0);
     }
     
     /**
@@ -72,8 +82,9 @@ public final class HistoryPoint {
      */
     public HistoryPoint startingInitial() {
         final ArrayList<String> initialBranchIdentifier = new ArrayList<>();
-        initialBranchIdentifier.add(this.compact ? BRANCH_IDENTIFIER_DEFAULT_COMPACT : BRANCH_IDENTIFIER_DEFAULT_LONG);
-        return new HistoryPoint(this.compact, initialBranchIdentifier, 0);
+        final String initialBranch = (this.compact ? BRANCH_IDENTIFIER_DEFAULT_COMPACT : BRANCH_IDENTIFIER_DEFAULT_LONG);
+        initialBranchIdentifier.add(initialBranch);
+        return new HistoryPoint(this.compact, initialBranchIdentifier, separator() + initialBranch, 0);
     }
     
     /**
@@ -83,7 +94,7 @@ public final class HistoryPoint {
      * @return a {@link HistoryPoint}.
      */
     public HistoryPoint next() {
-        return new HistoryPoint(this.compact, this.branchIdentifier, this.sequenceNumber + 1);
+        return new HistoryPoint(this.compact, this.branchIdentifier, this.branchIdentifierString, this.sequenceNumber + 1);
     }
     
     /**
@@ -99,21 +110,22 @@ public final class HistoryPoint {
     public HistoryPoint nextBranch(String additionalBranch) {
         final ArrayList<String> nextBranchIdentifier = new ArrayList<>(this.branchIdentifier);
         nextBranchIdentifier.add(additionalBranch);
-        return new HistoryPoint(this.compact, nextBranchIdentifier, 0);
+        return new HistoryPoint(this.compact, nextBranchIdentifier, this.branchIdentifierString + separator() + additionalBranch, 0);
+    }
+    
+    private String separator() {
+        return (this.compact ? BRANCH_IDENTIFIER_SEPARATOR_COMPACT : BRANCH_IDENTIFIER_SEPARATOR_LONG);
     }
     
     /**
-     * Returns the branch identifier as a {@link String}.
+     * Returns the branch identifier as a {@link String}. 
+     * All the history points on the same branch return 
+     * the same {@link String} object.
      * 
      * @return a {@link String}.
      */
     public String getBranchIdentifier() {
-        final StringBuilder retVal = new StringBuilder();
-        for (String b : this.branchIdentifier) {
-            retVal.append(this.compact ? BRANCH_IDENTIFIER_SEPARATOR_COMPACT : BRANCH_IDENTIFIER_SEPARATOR_LONG);
-            retVal.append(b);
-        }
-        return retVal.toString();
+        return this.branchIdentifierString;
     }
     
     /**
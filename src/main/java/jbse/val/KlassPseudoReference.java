@@ -11,6 +11,7 @@ import jbse.mem.Klass;
  */
 public final class KlassPseudoReference extends ReferenceSymbolic {
     private final ClassFile classFile;
+    private final Origin origin;
     
     /**
      * Constructor.
@@ -26,6 +27,7 @@ public final class KlassPseudoReference extends ReferenceSymbolic {
             throw new InvalidInputException("Attempted to build a KlassPseudoReference with null classFile.");
     	}
     	this.classFile = classFile;
+    	this.origin = Origin.root("[" + this.classFile.getClassName() + "]");
     }
     
     public ClassFile getClassFile() {
@@ -33,8 +35,8 @@ public final class KlassPseudoReference extends ReferenceSymbolic {
     }
     
     @Override
-    public String asOriginString() {
-        return "[" + this.classFile.getClassName() + "]";
+    public Origin asOrigin() {
+        return this.origin;
     }
 
     @Override
@@ -3,6 +3,7 @@ package jbse.val;
 import static jbse.val.HistoryPoint.unknown;
 
 import jbse.common.Type;
+import jbse.common.WeakInternTable;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.val.exc.InvalidOperandException;
@@ -15,9 +16,13 @@ import jbse.val.exc.InvalidTypeException;
  * @author Pietro Braione
  */
 public final class NarrowingConversion extends PrimitiveSymbolicComputed {
+    /** The canonical {@link NarrowingConversion}s. */
+    private static final WeakInternTable<NarrowingConversion> INTERN = 
+        new WeakInternTable<>(NarrowingConversion::hashCode, (c1, c2) -> c1.getType() == c2.getType() && interchangeable(c1.arg, c2.arg));
+
     private final Primitive arg;
-    private final String toString;
-    private final String asOriginString;
+    private String toString; //calculated on demand
+    private String asOriginString; //calculated on demand
     private final int hashCode;
 
     private NarrowingConversion(char type, Primitive arg) 
@@ -34,12 +39,6 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
         this.arg = arg;
 
-        //calculates toString
-        this.toString = "NARROW-"+ getType() + "(" + arg.toString() + ")";
-
-        //calculates asOriginString
-        this.asOriginString = "NARROW-"+ getType() + "(" + (arg.isSymbolic() ? ((Symbolic) arg).asOriginString(): arg.toString()) + ")";
-
         //calculates hashCode
         final int prime = 311;
         int result = 1;
@@ -62,7 +61,7 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
     public static NarrowingConversion make(char type, Primitive arg) 
     throws InvalidOperandException, InvalidTypeException {
         try {
-			return new NarrowingConversion(type, arg);
+			return INTERN.intern(new NarrowingConversion(type, arg));
 		} catch (InvalidInputException e) {
 			//this should never happen
 			throw new UnexpectedInternalException(e);
@@ -75,6 +74,9 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
 	@Override
 	public String asOriginString() {
+		if (this.asOriginString == null) {
+			this.asOriginString = "NARROW-"+ getType() + "(" + (this.arg.isSymbolic() ? ((Symbolic) this.arg).asOriginString(): this.arg.toString()) + ")";
+		}
 		return this.asOriginString;
 	}
 
@@ -98,6 +100,9 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
     @Override
     public String toString() {
+        if (this.toString == null) {
+            this.toString = "NARROW-"+ getType() + "(" + this.arg.toString() + ")";
+        }
         return this.toString;
     }
 
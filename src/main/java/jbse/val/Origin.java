@@ -0,0 +1,156 @@
+package jbse.val;
+
+import jbse.common.WeakInternTable;
+
+/**
+ * The origin of a symbol, i.e., the path of steps
+ * (root, field access, array access...) through which
+ * a symbolic value is reached. Origins are interned, and
+ * the origins with a same prefix share the node of the
+ * prefix, so they form a trie where each node points
+ * to its parent. Thus, two origins are equal iff they
+ * are the same object, and the {@link String} rendering
+ * of an origin is built only when requested.
+ */
+public final class Origin {
+    /** The interned origins. */
+    private static final WeakInternTable<Origin> ORIGINS =
+        new WeakInternTable<>(Origin::hashCode, Origin::sameNode);
+
+    /** The parent origin, or {@code null} if this is a root. */
+    private final Origin parent;
+
+    /** The last step of this origin. */
+    private final String step;
+
+    /** The number of steps of this origin. */
+    private final int length;
+
+    /** The hash code of this origin. */
+    private final int hashCode;
+
+    /** The {@link String} rendering of this origin, built on demand. */
+    private String toString = null;
+
+    private Origin(Origin parent, String step) {
+        this.parent = parent;
+        this.step = step;
+        this.length = (parent == null ? 1 : parent.length + 1);
+        this.hashCode = 31 * (parent == null ? 0 : parent.hashCode) + step.hashCode();
+    }
+
+    private static boolean sameNode(Origin o1, Origin o2) {
+        return o1.parent == o2.parent && o1.step.equals(o2.step);
+    }
+
+    /**
+     * Returns a root origin.
+     *
+     * @param step a {@link String}, the root step
+     *        (e.g., {@code "{ROOT}:this"}). It must
+     *        not be {@code null}.
+     * @return the (interned) {@link Origin} with {@code step}
+     *         as its only step.
+     * @throws NullPointerException if {@code step == null}.
+     */
+    public static Origin root(String step) {
+        if (step == null) {
+            throw new NullPointerException();
+        }
+        return ORIGINS.intern(new Origin(null, step));
+    }
+
+    /**
+     * Returns an origin that extends this origin with a step.
+     *
+     * @param step a {@link String}, the added step
+     *        (e.g., {@code ".java/util/LinkedList:first"}). It must
+     *        not be {@code null}.
+     * @return the (interned) {@link Origin} with the steps of
+     *         {@code this} followed by {@code step}.
+     * @throws NullPointerException if {@code step == null}.
+     */
+    public Origin child(String step) {
+        if (step == null) {
+            throw new NullPointerException();
+        }
+        return ORIGINS.intern(new Origin(this, step));
+    }
+
+    /**
+     * Returns the parent of this origin.
+     *
+     * @return the {@link Origin} with all the steps of this
+     *         origin but the last, or {@code null} if this
+     *         origin is a root.
+     */
+    public Origin getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Returns the last step of this origin.
+     *
+     * @return a {@link String}.
+     */
+    public String getStep() {
+        return this.step;
+    }
+
+    /**
+     * Returns the number of steps of this origin.
+     *
+     * @return a positive {@code int}.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Checks whether this origin is a (nonstrict) prefix
+     * of another one.
+     *
+     * @param other an {@link Origin}. It must not be {@code null}.
+     * @return {@code true} iff the steps of {@code this} are the
+     *         first steps of {@code other}.
+     * @throws NullPointerException if {@code other == null}.
+     */
+    public boolean isPrefixOf(Origin other) {
+        Origin o = other;
+        for (int i = other.length; i > this.length; --i) {
+            o = o.parent;
+        }
+        return o == this;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj; //origins are interned
+    }
+
+    @Override
+    public String toString() {
+        //benign race: all the threads calculate the same string
+        String retVal = this.toString;
+        if (retVal == null) {
+            final String[] steps = new String[this.length];
+            int size = 0;
+            for (Origin o = this; o != null; o = o.parent) {
+                steps[o.length - 1] = o.step;
+                size += o.step.length();
+            }
+            final StringBuilder buf = new StringBuilder(size);
+            for (String step : steps) {
+                buf.append(step);
+            }
+            retVal = buf.toString();
+            this.toString = retVal;
+        }
+        return retVal;
+    }
+}
@@ -29,6 +29,14 @@ public abstract class PrimitiveSymbolicAtomic extends PrimitiveSymbolic implemen
     	this.toString = "{V" + id + "}";
     }
 
+    @Override
+    public abstract Origin asOrigin();
+
+    @Override
+    public final String asOriginString() {
+        return asOrigin().toString();
+    }
+
     @Override
     public final void accept(PrimitiveVisitor v) throws Exception {
         v.visitPrimitiveSymbolicAtomic(this);
@@ -20,4 +20,22 @@ public abstract class PrimitiveSymbolicComputed extends PrimitiveSymbolic {
     throws InvalidTypeException, InvalidInputException {
     	super(type, historyPoint);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Checks whether two operands of {@link PrimitiveSymbolicComputed}s
+     * are interchangeable, and thus two computed values built on them 
+     * can be hash-consed. Computed values are hash-consed, so they 
+     * are interchangeable iff they are the same object; 
+     * {@link Simplex} values are interchangeable iff they are 
+     * equal; all the other values are conservatively considered
+     * interchangeable iff they are the same object.
+     * 
+     * @param first a {@link Primitive}, possibly {@code null}.
+     * @param second a {@link Primitive}, possibly {@code null}.
+     * @return {@code true} iff {@code first} and {@code second}
+     *         are interchangeable.
+     */
+    static boolean interchangeable(Primitive first, Primitive second) {
+        return (first == second || (first instanceof Simplex && first.equals(second)));
+    }
+}
@@ -19,6 +19,9 @@ public final class PrimitiveSymbolicHashCode extends PrimitiveSymbolicAtomic {
      */
     private final ReferenceSymbolic container;
     
+    /** The origin of this object. */
+    private final Origin origin;
+    
 	/** The hash code of this object. */
     private final int hashCode;
 
@@ -40,6 +43,7 @@ public final class PrimitiveSymbolicHashCode extends PrimitiveSymbolicAtomic {
     throws InvalidTypeException, InvalidInputException {
     	super(id, INT, (container == null ? historyPoint : container.historyPoint()));
     	this.container = container;
+    	this.origin = (this.container == null ? Origin.root(historyPoint().toString()) : this.container.asOrigin()).child(".<identityHashCode>");
     	
 		//calculates hashCode
 		final int prime = 1123;
@@ -67,8 +71,8 @@ public final class PrimitiveSymbolicHashCode extends PrimitiveSymbolicAtomic {
     }
 
     @Override
-    public String asOriginString() {
-        return (this.container == null ? historyPoint().toString() : this.container.asOriginString()) + ".<identityHashCode>";
+    public Origin asOrigin() {
+        return this.origin;
     }
 
 	@Override
@@ -9,7 +9,7 @@ import jbse.val.exc.InvalidTypeException;
  */
 public final class PrimitiveSymbolicLocalVariable extends PrimitiveSymbolicAtomic implements SymbolicLocalVariable {
     private final String variableName;
-    private final String originString;
+    private final Origin origin;
     private final int hashCode;
     
     /**
@@ -28,7 +28,7 @@ public final class PrimitiveSymbolicLocalVariable extends PrimitiveSymbolicAtomi
     throws InvalidTypeException, InvalidInputException {
     	super(id, type, historyPoint);
     	this.variableName = variableName;
-    	this.originString = "{ROOT}:" + this.variableName;
+    	this.origin = Origin.root("{ROOT}:" + this.variableName);
     	
     	//calculates hashCode
 		final int prime = 2699;
@@ -43,8 +43,8 @@ public final class PrimitiveSymbolicLocalVariable extends PrimitiveSymbolicAtomi
     }
     
     @Override
-    public String asOriginString() {
-        return this.originString;
+    public Origin asOrigin() {
+        return this.origin;
     }
 
 	@Override
@@ -9,7 +9,7 @@ import jbse.val.exc.InvalidTypeException;
  */
 public final class PrimitiveSymbolicMemberArray extends PrimitiveSymbolicMember implements SymbolicMemberArray {
     private final Primitive index;
-    private final String originString;
+    private final Origin origin;
     private final int hashCode;
     
     /**
@@ -33,7 +33,7 @@ public final class PrimitiveSymbolicMemberArray extends PrimitiveSymbolicMember
     	}
     	
     	this.index = index;
-    	this.originString = getContainer().asOriginString() + "[" + (this.index.isSymbolic() ? ((Symbolic) this.index).asOriginString() : this.index.toString()) + "]";
+    	this.origin = getContainer().asOrigin().child("[" + (this.index.isSymbolic() ? ((Symbolic) this.index).asOriginString() : this.index.toString()) + "]");
 
     	//calculates hashCode
 		final int prime = 2003;
@@ -49,8 +49,8 @@ public final class PrimitiveSymbolicMemberArray extends PrimitiveSymbolicMember
     }
     
     @Override
-    public String asOriginString() {
-        return this.originString;
+    public Origin asOrigin() {
+        return this.origin;
     }
 
 	@Override
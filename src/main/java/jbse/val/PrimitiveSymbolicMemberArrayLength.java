@@ -10,7 +10,7 @@ import jbse.val.exc.InvalidTypeException;
  * length of an array.
  */
 public final class PrimitiveSymbolicMemberArrayLength extends PrimitiveSymbolicMember {
-	private final String originString;
+	private final Origin origin;
 	private final int hashCode;
 	
     /**
@@ -30,7 +30,7 @@ public final class PrimitiveSymbolicMemberArrayLength extends PrimitiveSymbolicM
     PrimitiveSymbolicMemberArrayLength(ReferenceSymbolic container, int id) 
     throws InvalidTypeException, InvalidInputException {
     	super(container, id, INT);
-    	this.originString = getContainer().asOriginString() + ".length";
+    	this.origin = getContainer().asOrigin().child(".length");
 
     	//calculates hashCode
 		final int prime = 2357;
@@ -40,8 +40,8 @@ public final class PrimitiveSymbolicMemberArrayLength extends PrimitiveSymbolicM
     }
     
     @Override
-    public String asOriginString() {
-        return this.originString;
+    public Origin asOrigin() {
+        return this.origin;
     }
     
     @Override
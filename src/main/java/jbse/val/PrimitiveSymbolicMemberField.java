@@ -10,7 +10,7 @@ import jbse.val.exc.InvalidTypeException;
 public final class PrimitiveSymbolicMemberField extends PrimitiveSymbolicMember implements SymbolicMemberField {
     private final String fieldName;
     private final String fieldClass;
-    private final String asOriginString;
+    private final Origin origin;
     private final int hashCode;
 
     /**
@@ -38,7 +38,7 @@ public final class PrimitiveSymbolicMemberField extends PrimitiveSymbolicMember
         }
         this.fieldName = fieldName;
         this.fieldClass = fieldClass;
-        this.asOriginString = getContainer().asOriginString() + "." + this.fieldClass + ":" + this.fieldName;
+        this.origin = getContainer().asOrigin().child("." + this.fieldClass + ":" + this.fieldName);
 
         //calculates hashCode
         final int prime = 7211;
@@ -60,8 +60,8 @@ public final class PrimitiveSymbolicMemberField extends PrimitiveSymbolicMember
     }
 
     @Override
-    public String asOriginString() {
-        return this.asOriginString;
+    public Origin asOrigin() {
+        return this.origin;
     }
 
     @Override
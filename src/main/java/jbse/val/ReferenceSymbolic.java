@@ -46,6 +46,19 @@ public abstract class ReferenceSymbolic extends Reference implements Symbolic {
     
     @Override
     public abstract ReferenceSymbolic root();
+    
+    /**
+     * Returns the origin of this symbol.
+     * 
+     * @return an {@link Origin} whose {@link Origin#toString() toString}
+     *         is {@link #asOriginString()}.
+     */
+    public abstract Origin asOrigin();
+
+    @Override
+    public final String asOriginString() {
+        return asOrigin().toString();
+    }
 
     @Override
     public final String getValue() {
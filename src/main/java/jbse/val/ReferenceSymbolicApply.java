@@ -34,8 +34,8 @@ public final class ReferenceSymbolicApply extends ReferenceSymbolic implements S
     /** The String representation of this object. */
 	private final String toString;
 	
-    /** The origin String representation of this object. */
-	private final String originString;
+    /** The origin of this object. */
+	private final Origin origin;
 	
 	/**
 	 * Constructor. 
@@ -115,7 +115,7 @@ public final class ReferenceSymbolicApply extends ReferenceSymbolic implements S
 				buf.append(historyPoint().toString());
 				buf.append('>');
 			}
-			this.originString = buf.toString();
+			this.origin = Origin.root(buf.toString());
 		}
 	}
 
@@ -130,8 +130,8 @@ public final class ReferenceSymbolicApply extends ReferenceSymbolic implements S
 	}
 	
 	@Override
-	public String asOriginString() {
-		return this.originString;
+	public Origin asOrigin() {
+		return this.origin;
 	}
 	
 	@Override
@@ -14,8 +14,8 @@ public final class ReferenceSymbolicLocalVariable extends ReferenceSymbolicAtomi
 	 */
     private final String variableName;
     
-    /** The origin String representation of this object. */
-    private final String asOriginString;
+    /** The origin of this object. */
+    private final Origin origin;
     
     /** The hash code of this object. */
     private final int hashCode;
@@ -43,7 +43,7 @@ public final class ReferenceSymbolicLocalVariable extends ReferenceSymbolicAtomi
     		throw new InvalidInputException("Attempted the creation of a ReferenceSymbolicLocalVariable with null variableName.");
     	}
     	this.variableName = variableName;
-    	this.asOriginString = "{ROOT}:" + this.variableName;
+    	this.origin = Origin.root("{ROOT}:" + this.variableName);
     	
     	//calculates hashCode
 		final int prime = 5227;
@@ -58,8 +58,8 @@ public final class ReferenceSymbolicLocalVariable extends ReferenceSymbolicAtomi
     }
     
     @Override
-    public String asOriginString() {
-        return this.asOriginString;
+    public Origin asOrigin() {
+        return this.origin;
     }
     
     @Override
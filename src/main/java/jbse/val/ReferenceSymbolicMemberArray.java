@@ -11,8 +11,8 @@ public final class ReferenceSymbolicMemberArray extends ReferenceSymbolicMember
 	/** The index of the slot in the container array this symbol originates from. */
     private final Primitive index;
     
-    /** The origin String representation of this object. */
-    private final String asOriginString;
+    /** The origin of this object. */
+    private final Origin origin;
     
     /** The hash code of this object. */
     private final int hashCode;
@@ -44,7 +44,7 @@ public final class ReferenceSymbolicMemberArray extends ReferenceSymbolicMember
     	}
     	
     	this.index = index;
-    	this.asOriginString = getContainer().asOriginString() + "[" + (this.index.isSymbolic() ? ((Symbolic) this.index).asOriginString() : this.index.toString()) + "]";
+    	this.origin = getContainer().asOrigin().child("[" + (this.index.isSymbolic() ? ((Symbolic) this.index).asOriginString() : this.index.toString()) + "]");
 
     	//calculates hashCode
 		final int prime = 677;
@@ -60,8 +60,8 @@ public final class ReferenceSymbolicMemberArray extends ReferenceSymbolicMember
     }
     
     @Override
-    public String asOriginString() {
-        return this.asOriginString;
+    public Origin asOrigin() {
+        return this.origin;
     }
     
     @Override
@@ -6,196 +6,286 @@ import jbse.val.exc.InvalidOperandException;
 import jbse.val.exc.InvalidTypeException;
 
 /**
- * Class for concrete primitive values.
+ * Class for concrete primitive values. Every primitive type
+ * has its own (private) subclass that stores the value unboxed,
+ * the most frequently used values are cached, and the string
+ * representation is calculated on demand.
  */
-public final class Simplex extends Primitive implements Cloneable {	
-    /** The primitive value this object represents. */
-    private final Object value;
+public abstract class Simplex extends Primitive implements Cloneable {
+    /** The minimum cached integral value. */
+    private static final int CACHE_LOW = -128;
 
-    /** The hash code. */
-    private final int hashCode;
+    /** The maximum cached integral value. */
+    private static final int CACHE_HIGH = 1023;
 
-    /** The string representation of this object. */
-    private final String toString;
+    /** The cached {@code boolean} values. */
+    private static final Simplex TRUE, FALSE;
+
+    /** The cached {@code byte} values (all of them). */
+    private static final Simplex[] CACHE_BYTE = new Simplex[256];
+
+    /** The cached {@code short} values. */
+    private static final Simplex[] CACHE_SHORT = new Simplex[CACHE_HIGH - CACHE_LOW + 1];
+
+    /** The cached {@code char} values. */
+    private static final Simplex[] CACHE_CHAR = new Simplex[CACHE_HIGH + 1];
+
+    /** The cached {@code int} values. */
+    private static final Simplex[] CACHE_INT = new Simplex[CACHE_HIGH - CACHE_LOW + 1];
+
+    /** The cached {@code long} values. */
+    private static final Simplex[] CACHE_LONG = new Simplex[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        try {
+            TRUE = new SimplexBoolean(true);
+            FALSE = new SimplexBoolean(false);
+            for (int i = 0; i < CACHE_BYTE.length; ++i) {
+                CACHE_BYTE[i] = new SimplexByte((byte) (i + Byte.MIN_VALUE));
+            }
+            for (int i = 0; i < CACHE_SHORT.length; ++i) {
+                CACHE_SHORT[i] = new SimplexShort((short) (i + CACHE_LOW));
+            }
+            for (int i = 0; i < CACHE_CHAR.length; ++i) {
+                CACHE_CHAR[i] = new SimplexChar((char) i);
+            }
+            for (int i = 0; i < CACHE_INT.length; ++i) {
+                CACHE_INT[i] = new SimplexInt(i + CACHE_LOW);
+            }
+            for (int i = 0; i < CACHE_LONG.length; ++i) {
+                CACHE_LONG[i] = new SimplexLong(i + CACHE_LOW);
+            }
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /** The string representation of this object, calculated on demand. */
+    private String toString;
 
     /**
      * Constructor.
-     * 
+     *
      * @param type a {@code char}, the type of this value.
-     * @param value a (boxed) value with primitive type.
-     * @throws InvalidOperandException if {@code value} is not a 
-     *         primitive value (i.e., an instance of {@link Boolean}, {@link Byte}, 
-     *         {@link Character}, {@link Double}, {@link Float}, {@link Integer}, 
-     *         {@link Long}, or {@link Short}).
-     * @throws InvalidTypeException if {@code type} is not primitive or is
-     *         not the type of {@code value}.
+     * @throws InvalidTypeException if {@code type} is not primitive.
      */
-    private Simplex(char type, Object value) 
-    throws InvalidOperandException, InvalidTypeException {
+    private Simplex(char type) throws InvalidTypeException {
         super(type);
-        //checks on parameters
-        if (value == null || !(
-            value instanceof Boolean || 
-            value instanceof Byte || 
-            value instanceof Character ||
-            value instanceof Double ||
-            value instanceof Float || 
-            value instanceof Integer ||
-            value instanceof Long ||
-            value instanceof Short)) {
-            throw new InvalidOperandException("no operand in simplex construction");
-        }
-        if ((type == Type.BOOLEAN && !(value instanceof Boolean)) ||
-            (type == Type.BYTE && !(value instanceof Byte)) ||
-            (type == Type.CHAR && !(value instanceof Character)) ||
-            (type == Type.DOUBLE && !(value instanceof Double)) ||
-            (type == Type.FLOAT && !(value instanceof Float)) ||
-            (type == Type.INT && !(value instanceof Integer)) ||
-            (type == Type.LONG && !(value instanceof Long)) ||
-            (type == Type.SHORT && !(value instanceof Short))) {
-            throw new InvalidTypeException("type does not agree with value in simplex construction");
-        }
-        this.value = value;
-
-        //calculates hashCode
-        final int prime = 31;
-        int result = 1;
-        result = prime + result * this.value.hashCode();
-        this.hashCode = result;
-
-        //calculates toString
-        if (type == Type.BOOLEAN) {
-        	this.toString = this.value.toString();
-        } else if (type == Type.BYTE) {
-        	this.toString = "(byte) " + this.value.toString();
-        } else if (type == Type.CHAR) {
-        	this.toString = "'" + this.value.toString() + "'";
-        } else if (type == Type.DOUBLE) {
-        	this.toString = this.value.toString() + "d";
-        } else if (type == Type.FLOAT) {
-        	this.toString = this.value.toString() + "f";
-        } else if (type == Type.INT) {
-        	this.toString = this.value.toString();
-        } else if (type == Type.LONG) {
-        	this.toString = this.value.toString() + "L";
-        } else { //type == Type.SHORT
-            this.toString = "(short) " + this.value.toString();
-        }
     }
 
     /**
      * Factory method for {@link Simplex} values.
-     * 
-     * @param calc a {@link Calculator}. It must not be {@code null}.
-     * @param value a (boxed) value with primitive type. 
+     *
+     * @param value a (boxed) value with primitive type.
      * @throws InvalidOperandException if {@code value} is not a boxed
-     *         primitive value (i.e., an instance of {@link Boolean}, {@link Byte}, 
-     *         {@link Character}, {@link Double}, {@link Float}, {@link Integer}, 
+     *         primitive value (i.e., an instance of {@link Boolean}, {@link Byte},
+     *         {@link Character}, {@link Double}, {@link Float}, {@link Integer},
      *         {@link Long}, or {@link Short}).
      */
     public static Simplex make(Object n) throws InvalidOperandException {
+        if (n instanceof Boolean) {
+            return makeBoolean(((Boolean) n).booleanValue());
+        } else if (n instanceof Byte) {
+            return makeByte(((Byte) n).byteValue());
+        } else if (n instanceof Character) {
+            return makeChar(((Character) n).charValue());
+        } else if (n instanceof Double) {
+            return makeDouble(((Double) n).doubleValue());
+        } else if (n instanceof Float) {
+            return makeFloat(((Float) n).floatValue());
+        } else if (n instanceof Integer) {
+            return makeInt(((Integer) n).intValue());
+        } else if (n instanceof Long) {
+            return makeLong(((Long) n).longValue());
+        } else if (n instanceof Short) {
+            return makeShort(((Short) n).shortValue());
+        } else {
+            throw new InvalidOperandException("no operand in simplex construction");
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code boolean}.
+     *
+     * @param value a {@code boolean}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeBoolean(boolean value) {
+        return (value ? TRUE : FALSE);
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code byte}.
+     *
+     * @param value a {@code byte}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeByte(byte value) {
+        return CACHE_BYTE[value - Byte.MIN_VALUE];
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code short}.
+     *
+     * @param value a {@code short}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeShort(short value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE_SHORT[value - CACHE_LOW];
+        }
+        try {
+            return new SimplexShort(value);
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code char}.
+     *
+     * @param value a {@code char}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeChar(char value) {
+        if (value <= CACHE_HIGH) {
+            return CACHE_CHAR[value];
+        }
+        try {
+            return new SimplexChar(value);
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code int}.
+     *
+     * @param value an {@code int}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeInt(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE_INT[value - CACHE_LOW];
+        }
+        try {
+            return new SimplexInt(value);
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code long}.
+     *
+     * @param value a {@code long}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeLong(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE_LONG[((int) value) - CACHE_LOW];
+        }
+        try {
+            return new SimplexLong(value);
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code float}.
+     *
+     * @param value a {@code float}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeFloat(float value) {
+        try {
+            return new SimplexFloat(value);
+        } catch (InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Factory method for {@link Simplex} values with type {@code double}.
+     *
+     * @param value a {@code double}.
+     * @return a {@link Simplex}.
+     */
+    public static Simplex makeDouble(double value) {
         try {
-        	if (n instanceof Boolean) {
-        		return new Simplex(Type.BOOLEAN, n);
-        	} else if (n instanceof Byte) {
-        		return new Simplex(Type.BYTE, n);
-        	} else if (n instanceof Character) {
-        		return new Simplex(Type.CHAR, n);
-        	} else if (n instanceof Double) {
-        		return new Simplex(Type.DOUBLE, n);
-        	} else if (n instanceof Float) {
-        		return new Simplex(Type.FLOAT, n);
-        	} else if (n instanceof Integer) {
-        		return new Simplex(Type.INT, n);
-        	} else if (n instanceof Long) {
-        		return new Simplex(Type.LONG, n);
-        	} else {
-        		return new Simplex(Type.SHORT, n);
-        	}
-		} catch (InvalidTypeException e) {
+            return new SimplexDouble(value);
+        } catch (InvalidTypeException e) {
             //this should never happen
             throw new UnexpectedInternalException(e);
-		}
+        }
     }
 
     /**
      * Returns the (Java) value of this {@link Simplex} value.
-     * 
+     *
      * @return the value as {@link Object}, either {@link Boolean},
      *         {@link Byte}, {@link Short}, {@link Integer}, {@link Long},
-     *         {@link Float}, {@link Double}, or {@link Character}. 
+     *         {@link Float}, {@link Double}, or {@link Character}.
      */
-    public Object getActualValue() {
-        return this.value;
-    }
+    public abstract Object getActualValue();
+
+    /**
+     * Returns the value of this {@link Simplex} converted to
+     * {@code int} as by a Java cast. Booleans are converted
+     * to {@code 1} ({@code true}) or {@code 0} ({@code false}).
+     *
+     * @return an {@code int}.
+     */
+    public abstract int intValue();
+
+    /**
+     * Returns the value of this {@link Simplex} converted to
+     * {@code long} as by a Java cast. Booleans are converted
+     * to {@code 1L} ({@code true}) or {@code 0L} ({@code false}).
+     *
+     * @return a {@code long}.
+     */
+    public abstract long longValue();
+
+    /**
+     * Returns the value of this {@link Simplex} converted to
+     * {@code float} as by a Java cast. Booleans are converted
+     * to {@code 1f} ({@code true}) or {@code 0f} ({@code false}).
+     *
+     * @return a {@code float}.
+     */
+    public abstract float floatValue();
+
+    /**
+     * Returns the value of this {@link Simplex} converted to
+     * {@code double} as by a Java cast. Booleans are converted
+     * to {@code 1d} ({@code true}) or {@code 0d} ({@code false}).
+     *
+     * @return a {@code double}.
+     */
+    public abstract double doubleValue();
 
     /**
-     * Checks whether this object represents the value zero 
+     * Checks whether this object represents the value zero
      * or the value one.
-     * 
+     *
      * @param zero {@code true} iff this object must be checked
      *        against zero, {@code false} iff it must be checked
      *        against one.
-     * @return {@code true} iff this object is equal to zero or one, 
-     *         according to the value of the parameter {@code zero}, 
+     * @return {@code true} iff this object is equal to zero or one,
+     *         according to the value of the parameter {@code zero},
      *         for its type. If this object is a boolean, it will be
      *         compared against {@code false} when {@code zero == true}
      *         and against {@code true} when {@code zero == false}.
      */
-    public boolean isZeroOne(boolean zero) {
-        byte b;
-        short s;
-        char c;
-        int i;
-        long l;
-        float f;
-        double d;
-        boolean z;
-
-        if (zero) {
-            b = 0;
-            s = 0;
-            c = 0;
-            i = 0;
-            l = 0L;
-            f = 0F; //TODO negative zero
-            d = 0D; //TODO negative zero
-            z = false;
-        } else {
-            b = 1;
-            s = 1;
-            c = 1;
-            i = 1;
-            l = 1L;
-            f = 1F;
-            d = 1D;
-            z = true;
-        }
-
-        boolean retVal = false;
-        if (getType() == Type.BYTE) {
-            retVal = (((Byte) getActualValue()).byteValue() == b);
-        } else if (getType() == Type.SHORT) {
-            retVal = (((Short) getActualValue()).shortValue() == s);
-        } else if (getType() == Type.CHAR) {
-            retVal = (((Character) getActualValue()).charValue() == c);
-        } else if (getType() == Type.INT) {
-            retVal = (((Integer) getActualValue()).intValue() == i);
-        } else if (getType() == Type.LONG) {
-            retVal = (((Long) getActualValue()).longValue() == l);
-        } else if (getType() == Type.FLOAT) {
-            retVal = (((Float) getActualValue()).floatValue() == f);
-        } else if (getType() == Type.DOUBLE) {
-            retVal = (((Double) getActualValue()).doubleValue() == d);
-        } else if (getType() == Type.BOOLEAN) {
-            retVal = (((Boolean) getActualValue()).booleanValue() == z);
-        } else {
-        	//this should never happen
-        	throw new UnexpectedInternalException("Found a Simplex object with type " + getType() + ".");
-        }
-
-        return retVal;
-    }
+    public abstract boolean isZeroOne(boolean zero);
 
     /**
      * {@inheritDoc}
@@ -205,7 +295,7 @@ public final class Simplex extends Primitive implements Cloneable {
      */
     @Override
     public boolean surelyTrue() {
-        return (this.getType() == Type.BOOLEAN && ((Boolean) this.value).booleanValue());
+        return false; //overridden for booleans
     }
 
     /**
@@ -216,7 +306,7 @@ public final class Simplex extends Primitive implements Cloneable {
      */
     @Override
     public boolean surelyFalse() {
-        return (this.getType() == Type.BOOLEAN && !((Boolean) this.value).booleanValue());
+        return false; //overridden for booleans
     }
 
     @Override
@@ -233,37 +323,513 @@ public final class Simplex extends Primitive implements Cloneable {
         return false;
     }
 
+    /**
+     * Calculates the string representation of this object.
+     *
+     * @return a {@link String}.
+     */
+    abstract String makeString();
+
     @Override
-    public String toString() {
-        return this.toString;
+    public final String toString() {
+        //benign race: all the threads calculate the same string
+        String retVal = this.toString;
+        if (retVal == null) {
+            retVal = makeString();
+            this.toString = retVal;
+        }
+        return retVal;
     }
 
-    @Override
-    public int hashCode() {
-        return this.hashCode;
+    private static final class SimplexBoolean extends Simplex {
+        private final boolean value;
+
+        SimplexBoolean(boolean value) throws InvalidTypeException {
+            super(Type.BOOLEAN);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Boolean.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return (this.value ? 1 : 0);
+        }
+
+        @Override
+        public long longValue() {
+            return (this.value ? 1L : 0L);
+        }
+
+        @Override
+        public float floatValue() {
+            return (this.value ? 1f : 0f);
+        }
+
+        @Override
+        public double doubleValue() {
+            return (this.value ? 1d : 0d);
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value != zero);
+        }
+
+        @Override
+        public boolean surelyTrue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean surelyFalse() {
+            return !this.value;
+        }
+
+        @Override
+        String makeString() {
+            return Boolean.toString(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Boolean.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexBoolean) obj).value);
+        }
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }		
-        if (obj == null) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
-            return false;
-        }
-        Simplex other = (Simplex) obj;
-        if (this.value == null) {
-            if (other.value != null) {
+    private static final class SimplexByte extends Simplex {
+        private final byte value;
+
+        SimplexByte(byte value) throws InvalidTypeException {
+            super(Type.BYTE);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Byte.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0 : 1));
+        }
+
+        @Override
+        String makeString() {
+            return "(byte) " + this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Byte.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexByte) obj).value);
+        }
+    }
+
+    private static final class SimplexShort extends Simplex {
+        private final short value;
+
+        SimplexShort(short value) throws InvalidTypeException {
+            super(Type.SHORT);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Short.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0 : 1));
+        }
+
+        @Override
+        String makeString() {
+            return "(short) " + this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Short.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexShort) obj).value);
+        }
+    }
+
+    private static final class SimplexChar extends Simplex {
+        private final char value;
+
+        SimplexChar(char value) throws InvalidTypeException {
+            super(Type.CHAR);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Character.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0 : 1));
+        }
+
+        @Override
+        String makeString() {
+            return "'" + this.value + "'";
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Character.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexChar) obj).value);
+        }
+    }
+
+    private static final class SimplexInt extends Simplex {
+        private final int value;
+
+        SimplexInt(int value) throws InvalidTypeException {
+            super(Type.INT);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Integer.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0 : 1));
+        }
+
+        @Override
+        String makeString() {
+            return Integer.toString(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Integer.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexInt) obj).value);
+        }
+    }
+
+    private static final class SimplexLong extends Simplex {
+        private final long value;
+
+        SimplexLong(long value) throws InvalidTypeException {
+            super(Type.LONG);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Long.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return (int) this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0L : 1L));
+        }
+
+        @Override
+        String makeString() {
+            return this.value + "L";
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Long.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return (this.value == ((SimplexLong) obj).value);
+        }
+    }
+
+    private static final class SimplexFloat extends Simplex {
+        private final float value;
+
+        SimplexFloat(float value) throws InvalidTypeException {
+            super(Type.FLOAT);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Float.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return (int) this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return (long) this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0F : 1F)); //TODO negative zero
+        }
+
+        @Override
+        String makeString() {
+            return this.value + "f";
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Float.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
                 return false;
             }
-        } else { 
-            if (!this.value.equals(other.value)) {
+            //as Float.equals
+            return (Float.floatToIntBits(this.value) == Float.floatToIntBits(((SimplexFloat) obj).value));
+        }
+    }
+
+    private static final class SimplexDouble extends Simplex {
+        private final double value;
+
+        SimplexDouble(double value) throws InvalidTypeException {
+            super(Type.DOUBLE);
+            this.value = value;
+        }
+
+        @Override
+        public Object getActualValue() {
+            return Double.valueOf(this.value);
+        }
+
+        @Override
+        public int intValue() {
+            return (int) this.value;
+        }
+
+        @Override
+        public long longValue() {
+            return (long) this.value;
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) this.value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isZeroOne(boolean zero) {
+            return (this.value == (zero ? 0D : 1D)); //TODO negative zero
+        }
+
+        @Override
+        String makeString() {
+            return this.value + "d";
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Double.hashCode(this.value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
                 return false;
             }
+            //as Double.equals
+            return (Double.doubleToLongBits(this.value) == Double.doubleToLongBits(((SimplexDouble) obj).value));
         }
-        return true;
     }
-}
\ No newline at end of file
+}
@@ -9,4 +9,11 @@ package jbse.val;
  *
  */
 public interface SymbolicAtomic extends Symbolic {
+    /**
+     * Returns the origin of this symbol.
+     * 
+     * @return an {@link Origin} whose {@link Origin#toString() toString}
+     *         is {@link #asOriginString()}.
+     */
+    Origin asOrigin();
 }
@@ -3,6 +3,7 @@ package jbse.val;
 import static jbse.val.HistoryPoint.unknown;
 
 import jbse.common.Type;
+import jbse.common.WeakInternTable;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.val.exc.InvalidOperandException;
@@ -16,9 +17,13 @@ import jbse.val.exc.InvalidTypeException;
  *
  */
 public final class WideningConversion extends PrimitiveSymbolicComputed {
+    /** The canonical {@link WideningConversion}s. */
+    private static final WeakInternTable<WideningConversion> INTERN = 
+        new WeakInternTable<>(WideningConversion::hashCode, (c1, c2) -> c1.getType() == c2.getType() && interchangeable(c1.arg, c2.arg));
+
     private final Primitive arg;
-    private final String toString;
-    private final String asOriginString;
+    private String toString; //calculated on demand
+    private String asOriginString; //calculated on demand
     private final int hashCode;
 
     private WideningConversion(char type, Primitive arg) 
@@ -35,12 +40,6 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
         
         this.arg = arg;
 
-        //calculates toString
-        this.toString = "WIDEN-"+ getType() + "(" + arg.toString() + ")";
-
-        //calculates asOriginString
-        this.asOriginString = "WIDEN-"+ getType() + "(" + (arg.isSymbolic() ? ((Symbolic) arg).asOriginString(): arg.toString()) + ")";;
-
         //calculates hashCode
         final int prime = 281;
         int result = 1;
@@ -63,7 +62,7 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
     public static WideningConversion make(char type, Primitive arg) 
     throws InvalidOperandException, InvalidTypeException {
         try {
-			return new WideningConversion(type, arg);
+			return INTERN.intern(new WideningConversion(type, arg));
 		} catch (InvalidInputException e) {
 			//this should never happen
 			throw new UnexpectedInternalException(e);
@@ -76,6 +75,9 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
     
 	@Override
 	public String asOriginString() {
+		if (this.asOriginString == null) {
+			this.asOriginString = "WIDEN-"+ getType() + "(" + (this.arg.isSymbolic() ? ((Symbolic) this.arg).asOriginString(): this.arg.toString()) + ")";
+		}
 		return this.asOriginString;
 	}
 
@@ -99,6 +101,9 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
 
     @Override
     public String toString() {
+        if (this.toString == null) {
+            this.toString = "WIDEN-"+ getType() + "(" + this.arg.toString() + ")";
+        }
         return this.toString;
     }
 
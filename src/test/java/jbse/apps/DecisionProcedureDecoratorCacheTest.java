@@ -0,0 +1,194 @@
+package jbse.apps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFile;
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.DecisionProcedure;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.mem.ClauseAssumeNull;
+import jbse.mem.Objekt;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterOperationOnSimplex;
+import jbse.val.Calculator;
+import jbse.val.Expression;
+import jbse.val.HistoryPoint;
+import jbse.val.PrimitiveSymbolic;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.SymbolFactory;
+import jbse.val.Term;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidTypeException;
+
+public class DecisionProcedureDecoratorCacheTest {
+    CalculatorRewriting calc;
+    DecisionProcedureCounting component;
+    DecisionProcedureDecoratorCache dec;
+
+    static class DecisionProcedureCounting implements DecisionProcedure {
+        private final CalculatorRewriting calc;
+        private final ArrayList<Clause> assumptions = new ArrayList<>();
+        int queries = 0;
+        DecisionProcedureCounting(CalculatorRewriting calc) { this.calc = calc; }
+
+        @Override
+        public Calculator getCalculator() { return this.calc; }
+
+        @Override
+        public void pushAssumption(Clause c) { this.assumptions.add(c); }
+
+        @Override
+        public void clearAssumptions() { this.assumptions.clear(); }
+
+        @Override
+        public Collection<Clause> getAssumptions() { return new ArrayList<>(this.assumptions); }
+
+        @Override
+        public boolean isSat(Expression exp) { ++this.queries; return true; }
+
+        @Override
+        public boolean isSatNull(ReferenceSymbolic r) { ++this.queries; return true; }
+
+        @Override
+        public boolean isSatAliases(ReferenceSymbolic r, long heapPos, Objekt o) { ++this.queries; return true; }
+
+        @Override
+        public boolean isSatExpands(ReferenceSymbolic r, ClassFile classFile) { ++this.queries; return true; }
+
+        @Override
+        public boolean isSatInitialized(ClassFile classFile) { ++this.queries; return true; }
+
+        @Override
+        public boolean isSatNotInitialized(ClassFile classFile) { ++this.queries; return true; }
+    }
+
+    @Before
+    public void setUp() throws InvalidInputException {
+        this.calc = new CalculatorRewriting();
+        this.calc.addRewriter(new RewriterOperationOnSimplex());
+        this.component = new DecisionProcedureCounting(this.calc);
+        this.dec = new DecisionProcedureDecoratorCache(this.component, 100, null, null);
+    }
+
+    @Test
+    public void testRepeatedQuery()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop()));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop()));
+        assertEquals(1, this.component.queries);
+        assertEquals(1, this.dec.getHits());
+        assertEquals(1, this.dec.getMisses());
+    }
+
+    @Test
+    public void testIrrelevantAssumption()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final Clause cA = new ClauseAssume((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop());
+        final Clause cB = new ClauseAssume((Expression) this.calc.push(B).gt(this.calc.valInt(0)).pop());
+        this.dec.setAssumptions(Arrays.asList(cA));
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop());
+        this.dec.setAssumptions(Arrays.asList(cB, cA));
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop());
+        assertEquals(1, this.component.queries);
+    }
+
+    @Test
+    public void testRelevantAssumption()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final Clause cA = new ClauseAssume((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop());
+        final Clause cAB = new ClauseAssume((Expression) this.calc.push(A).gt(B).pop());
+        this.dec.setAssumptions(Arrays.asList(cA));
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop());
+        this.dec.setAssumptions(Arrays.asList(cA, cAB));
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop());
+        assertEquals(2, this.component.queries);
+    }
+
+    @Test
+    public void testKeysByOrigin()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        final HistoryPoint hp = HistoryPoint.startingPreInitial(true).startingInitial();
+        final SymbolFactory symbolFactory1 = new SymbolFactory();
+        final SymbolFactory symbolFactory2 = new SymbolFactory();
+        symbolFactory2.createSymbolLocalVariablePrimitive(hp, "I", "y"); //shifts the identifiers
+        final PrimitiveSymbolic x1 = symbolFactory1.createSymbolLocalVariablePrimitive(hp, "I", "x");
+        final PrimitiveSymbolic x2 = symbolFactory2.createSymbolLocalVariablePrimitive(hp, "I", "x");
+        assertFalse(x1.toString().equals(x2.toString()));
+        this.dec.isSat((Expression) this.calc.push(x1).lt(this.calc.valInt(10)).pop());
+        this.dec.isSat((Expression) this.calc.push(x2).lt(this.calc.valInt(10)).pop());
+        assertEquals(1, this.component.queries);
+    }
+
+    @Test
+    public void testRelevantReferenceAssumption()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        final HistoryPoint hp = HistoryPoint.startingPreInitial(true).startingInitial();
+        final SymbolFactory symbolFactory = new SymbolFactory();
+        final ReferenceSymbolic r = symbolFactory.createSymbolLocalVariableReference(hp, "Ljava/lang/Object;", "Ljava/lang/Object;", "r");
+        final ReferenceSymbolic s = symbolFactory.createSymbolLocalVariableReference(hp, "Ljava/lang/Object;", "Ljava/lang/Object;", "s");
+        final PrimitiveSymbolic f = symbolFactory.createSymbolMemberFieldPrimitive("I", r, "f", "java/lang/Object");
+        final Expression query = (Expression) this.calc.push(f).lt(this.calc.valInt(10)).pop();
+        this.dec.isSat(query);
+        this.dec.setAssumptions(Arrays.asList(new ClauseAssumeNull(s)));
+        this.dec.isSat(query);
+        assertEquals(1, this.component.queries);
+        this.dec.setAssumptions(Arrays.asList(new ClauseAssumeNull(s), new ClauseAssumeNull(r)));
+        this.dec.isSat(query);
+        assertEquals(2, this.component.queries);
+    }
+
+    @Test
+    public void testEviction()
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        this.dec = new DecisionProcedureDecoratorCache(this.component, 2, null, null);
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(1)).pop());
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(2)).pop());
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(1)).pop()); //hit, becomes most recent
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(3)).pop()); //evicts A < 2
+        this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(2)).pop());
+        assertEquals(2, this.dec.size());
+        assertEquals(4, this.component.queries);
+    }
+
+    @Test
+    public void testPersistence() throws Exception {
+        final Path cacheFile = Files.createTempFile("jbse", ".cache");
+        try {
+            Files.delete(cacheFile);
+            final Term A = this.calc.valTerm(Type.INT, "A");
+            this.dec = new DecisionProcedureDecoratorCache(this.component, 100, cacheFile, "ctx");
+            this.dec.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(1)).pop());
+            this.dec.close();
+            final DecisionProcedureCounting otherComponent = new DecisionProcedureCounting(this.calc);
+            final DecisionProcedureDecoratorCache otherContext = new DecisionProcedureDecoratorCache(otherComponent, 100, cacheFile, "other");
+            assertEquals(0, otherContext.size());
+            final DecisionProcedureDecoratorCache sameContext = new DecisionProcedureDecoratorCache(otherComponent, 100, cacheFile, "ctx");
+            sameContext.isSat((Expression) this.calc.push(A).lt(this.calc.valInt(1)).pop());
+            assertEquals(0, otherComponent.queries);
+            assertFalse(sameContext.getHits() == 0);
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package jbse.bc;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClasspathIndexTest {
+    private static final String DIR_CLASS = "tsafe/engine/TsafeEngine";
+    private static final String JAR_CLASS = "tsafe/main/SimpleCalculator";
+    private static final Path DIR = Paths.get("src/test/resources/jbse/bc/testdata");
+    private Path jar;
+    private Path indexFile;
+    
+    @Before
+    public void setUp() throws IOException {
+        ClasspathIndex.clear();
+        final Path tmp = Files.createTempDirectory("jbse");
+        this.jar = tmp.resolve("test.jar");
+        this.indexFile = tmp.resolve("index.txt");
+        try (final JarOutputStream out = new JarOutputStream(Files.newOutputStream(this.jar))) {
+            out.putNextEntry(new JarEntry(JAR_CLASS + ".class"));
+            out.write(Files.readAllBytes(DIR.resolve(JAR_CLASS + ".class")));
+            out.closeEntry();
+        }
+    }
+    
+    @Test
+    public void testLocateAndRead() throws IOException {
+        final ArrayList<Path> paths = new ArrayList<>();
+        paths.add(this.jar);
+        paths.add(DIR);
+        final ClasspathIndex index = new ClasspathIndex(paths, null);
+        assertEquals(this.jar, index.locate(JAR_CLASS));
+        assertEquals(DIR, index.locate(DIR_CLASS));
+        assertNull(index.locate("tsafe/engine/DoesNotExist"));
+        assertArrayEquals(Files.readAllBytes(DIR.resolve(JAR_CLASS + ".class")), index.read(this.jar, JAR_CLASS));
+        assertArrayEquals(Files.readAllBytes(DIR.resolve(DIR_CLASS + ".class")), index.read(DIR, DIR_CLASS));
+    }
+    
+    @Test
+    public void testIndexFile() throws IOException {
+        final ArrayList<Path> paths = new ArrayList<>();
+        paths.add(this.jar);
+        new ClasspathIndex(paths, this.indexFile);
+        assertTrue(Files.isRegularFile(this.indexFile));
+        
+        //a later run takes the class list from the index file, 
+        //rather than from the jar
+        final List<String> lines = Files.readAllLines(this.indexFile).stream()
+            .map(line -> line.equals("C" + JAR_CLASS) ? "Cfake/Reused" : line)
+            .collect(Collectors.toList());
+        Files.write(this.indexFile, lines);
+        ClasspathIndex.clear();
+        final ClasspathIndex index = new ClasspathIndex(paths, this.indexFile);
+        assertEquals(this.jar, index.locate("fake/Reused"));
+        assertNull(index.locate(JAR_CLASS));
+    }
+    
+    @Test
+    public void testTruncatedIndexFile() throws IOException {
+        final ArrayList<Path> paths = new ArrayList<>();
+        paths.add(this.jar);
+        new ClasspathIndex(paths, this.indexFile);
+        
+        //truncates the index file after the jar line
+        final List<String> lines = Files.readAllLines(this.indexFile);
+        Files.write(this.indexFile, lines.subList(0, 2));
+        ClasspathIndex.clear();
+        final ClasspathIndex index = new ClasspathIndex(paths, this.indexFile);
+        assertEquals(this.jar, index.locate(JAR_CLASS));
+        
+        //the index file was rewritten in full
+        assertEquals(lines, Files.readAllLines(this.indexFile));
+    }
+    
+    @Test
+    public void testConcreteSubclasses() throws IOException {
+        final ArrayList<Path> paths = new ArrayList<>();
+        paths.add(this.jar);
+        paths.add(DIR);
+        final ClasspathIndex index = new ClasspathIndex(paths, this.indexFile);
+        assertEquals(new HashSet<>(Arrays.asList("hier/A", "hier/B")), index.concreteSubclasses("hier/C"));
+        assertEquals(new HashSet<>(Arrays.asList("hier/A")), index.concreteSubclasses("hier/H"));
+        assertEquals(new HashSet<>(Arrays.asList("hier/A", "hier/B")), index.concreteSubclasses("hier/I"));
+        assertEquals(Collections.emptySet(), index.concreteSubclasses("hier/A"));
+        assertEquals(new HashSet<>(Arrays.asList(JAR_CLASS)), index.concreteSubclasses("tsafe/engine/EngineCalculator"));
+        assertTrue(index.concreteSubclasses("java/lang/Thread").contains(DIR_CLASS));
+        assertTrue(Files.readAllLines(this.indexFile).stream().anyMatch(line -> line.startsWith("H" + JAR_CLASS + "\t")));
+    }
+    
+    @Test
+    public void testIndexFileHeaders() throws IOException {
+        final ArrayList<Path> paths = new ArrayList<>();
+        paths.add(this.jar);
+        new ClasspathIndex(paths, this.indexFile).concreteSubclasses("java/lang/Object");
+        
+        //a later run takes the class headers from the index file, 
+        //rather than from the jar
+        final List<String> lines = Files.readAllLines(this.indexFile).stream()
+            .map(line -> line.startsWith("H" + JAR_CLASS + "\t") ? "Hfake/Reused\t1\ttsafe/engine/EngineCalculator\t" : line)
+            .collect(Collectors.toList());
+        Files.write(this.indexFile, lines);
+        ClasspathIndex.clear();
+        assertEquals(new HashSet<>(Arrays.asList("fake/Reused")), new ClasspathIndex(paths, this.indexFile).concreteSubclasses("tsafe/engine/EngineCalculator"));
+        
+        //a header section with less headers than declared is scanned again
+        Files.write(this.indexFile, lines.stream().filter(line -> !line.startsWith("H")).collect(Collectors.toList()));
+        ClasspathIndex.clear();
+        assertEquals(new HashSet<>(Arrays.asList(JAR_CLASS)), new ClasspathIndex(paths, this.indexFile).concreteSubclasses("tsafe/engine/EngineCalculator"));
+    }
+}
@@ -0,0 +1,69 @@
+package jbse.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PersistentLongMapTest {
+	@Test
+	public void testPutGet() {
+		PersistentLongMap<String> m = PersistentLongMap.empty();
+		for (long i = 0; i < 10000; ++i) {
+			m = m.put(i, "v" + i);
+		}
+		assertEquals(10000, m.size());
+		for (long i = 0; i < 10000; ++i) {
+			assertEquals("v" + i, m.get(i));
+		}
+		assertNull(m.get(10000));
+		assertNull(m.get(1L << 40));
+		assertFalse(m.containsKey(-1));
+	}
+
+	@Test
+	public void testPersistence() {
+		final PersistentLongMap<Integer> m1 = PersistentLongMap.<Integer>empty().put(0, 1).put(1, 2);
+		final PersistentLongMap<Integer> m2 = m1.put(0, 3).put(100000, 4);
+		final PersistentLongMap<Integer> m3 = m1.remove(1);
+		assertEquals(Integer.valueOf(1), m1.get(0));
+		assertFalse(m1.containsKey(100000));
+		assertEquals(2, m1.size());
+		assertEquals(Integer.valueOf(3), m2.get(0));
+		assertEquals(Integer.valueOf(4), m2.get(100000));
+		assertEquals(3, m2.size());
+		assertFalse(m3.containsKey(1));
+		assertEquals(1, m3.size());
+		assertSame(m1, m1.remove(42));
+		assertTrue(m1.remove(0).remove(1).isEmpty());
+	}
+
+	@Test
+	public void testExtremeKeysAndOrder() {
+		PersistentLongMap<Long> m = PersistentLongMap.empty();
+		final long[] keys = { -1L, Long.MAX_VALUE, 1L << 35, 7L, 0L, Long.MIN_VALUE };
+		for (long k : keys) {
+			m = m.put(k, k);
+		}
+		for (long k : keys) {
+			assertEquals(Long.valueOf(k), m.get(k));
+		}
+		final List<Long> actual = new ArrayList<>();
+		m.forEach((value, key) -> {
+			assertEquals(key, value.longValue());
+			actual.add(key);
+		});
+		assertEquals(Arrays.asList(0L, 7L, 1L << 35, Long.MAX_VALUE, Long.MIN_VALUE, -1L), actual);
+		m = m.remove(-1L).remove(7L);
+		assertEquals(4, m.size());
+		assertNull(m.get(-1L));
+		assertEquals(Long.valueOf(Long.MIN_VALUE), m.get(Long.MIN_VALUE));
+	}
+}
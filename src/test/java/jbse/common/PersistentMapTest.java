@@ -0,0 +1,84 @@
+package jbse.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class PersistentMapTest {
+	/** A key whose hash code collides with the hash code of other keys. */
+	private static final class CollidingKey {
+		private final int id;
+		
+		CollidingKey(int id) {
+			this.id = id;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			return (o instanceof CollidingKey) && ((CollidingKey) o).id == this.id;
+		}
+	}
+
+	@Test
+	public void testPutGet() {
+		PersistentMap<Integer, String> m = PersistentMap.empty();
+		for (int i = 0; i < 10000; ++i) {
+			m = m.put(i, "v" + i);
+		}
+		assertEquals(10000, m.size());
+		for (int i = 0; i < 10000; ++i) {
+			assertEquals("v" + i, m.get(i));
+		}
+		assertNull(m.get(10000));
+		assertFalse(m.containsKey(-1));
+	}
+
+	@Test
+	public void testPersistence() {
+		final PersistentMap<String, Integer> m1 = PersistentMap.<String, Integer>empty().put("a", 1).put("b", 2);
+		final PersistentMap<String, Integer> m2 = m1.put("a", 3).put("c", 4);
+		final PersistentMap<String, Integer> m3 = m1.remove("b");
+		assertEquals(Integer.valueOf(1), m1.get("a"));
+		assertFalse(m1.containsKey("c"));
+		assertEquals(2, m1.size());
+		assertEquals(Integer.valueOf(3), m2.get("a"));
+		assertEquals(3, m2.size());
+		assertFalse(m3.containsKey("b"));
+		assertEquals(1, m3.size());
+		assertSame(m1, m1.remove("z"));
+	}
+
+	@Test
+	public void testCollisionsAndIteration() {
+		PersistentMap<Object, Integer> m = PersistentMap.empty();
+		final Map<Object, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 5; ++i) {
+			m = m.put(new CollidingKey(i), i);
+			expected.put(new CollidingKey(i), i);
+			m = m.put(i, i);
+			expected.put(i, i);
+		}
+		m = m.remove(new CollidingKey(2)).remove(3);
+		expected.remove(new CollidingKey(2));
+		expected.remove(3);
+		assertEquals(expected.size(), m.size());
+		final Map<Object, Integer> actual = new HashMap<>();
+		for (Map.Entry<Object, Integer> e : m) {
+			actual.put(e.getKey(), e.getValue());
+		}
+		assertEquals(expected, actual);
+		assertTrue(m.containsKey(new CollidingKey(4)));
+	}
+}
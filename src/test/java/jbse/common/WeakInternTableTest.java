@@ -0,0 +1,69 @@
+package jbse.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class WeakInternTableTest {
+	@Test
+	public void testIntern() {
+		final WeakInternTable<String> table = new WeakInternTable<>();
+		final String s1 = new String("a");
+		final String s2 = new String("a");
+		assertNotSame(s1, s2);
+		assertSame(s1, table.intern(s1));
+		assertSame(s1, table.intern(s2));
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testManyObjects() {
+		final WeakInternTable<String> table = new WeakInternTable<>();
+		final List<String> interned = new ArrayList<>();
+		for (int i = 0; i < 10_000; ++i) {
+			interned.add(table.intern(Integer.toString(i)));
+		}
+		for (int i = 0; i < 10_000; ++i) {
+			assertSame(interned.get(i), table.intern(new String(Integer.toString(i))));
+		}
+		assertEquals(10_000, table.size());
+	}
+
+	@Test
+	public void testConcurrentIntern() throws Exception {
+		final WeakInternTable<String> table = new WeakInternTable<>();
+		final int threads = 4;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<Future<String[]>> results = new ArrayList<>();
+			for (int t = 0; t < threads; ++t) {
+				final Callable<String[]> task = () -> {
+					final String[] canonical = new String[1_000];
+					for (int i = 0; i < canonical.length; ++i) {
+						canonical[i] = table.intern(new String(Integer.toString(i)));
+					}
+					return canonical;
+				};
+				results.add(executor.submit(task));
+			}
+			final String[] first = results.get(0).get();
+			for (Future<String[]> result : results) {
+				final String[] canonical = result.get();
+				for (int i = 0; i < canonical.length; ++i) {
+					assertSame(first[i], canonical[i]);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package jbse.dec;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
@@ -37,20 +40,21 @@ public class DecisionProcedureEqualityTest {
 
     static class DecisionProcedureNoDecision implements DecisionProcedure {
         private final CalculatorRewriting calc;
+        private final ArrayList<Clause> assumptions = new ArrayList<>();
         protected DecisionProcedureNoDecision(CalculatorRewriting calc) { this.calc = calc; }
 
         @Override
         public Calculator getCalculator() { return this.calc; }
 
         @Override
-        public void pushAssumption(Clause c) { }
+        public void pushAssumption(Clause c) { this.assumptions.add(c); }
 
         @Override
-        public void clearAssumptions() { }
+        public void clearAssumptions() { this.assumptions.clear(); }
 
         @Override
         public Collection<Clause> getAssumptions() 
-        throws DecisionException { return null; }
+        throws DecisionException { return new ArrayList<>(this.assumptions); }
 
         @Override
         public boolean isSat(Expression exp) 
@@ -193,4 +197,61 @@ public class DecisionProcedureEqualityTest {
         this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.push(A).add(this.calc.pushInt(-1).mul(B).pop()).eq(this.calc.valInt(0)).pop()));
         assertFalse(this.dec.isSat((Expression) this.calc.push(A).add(this.calc.pushInt(-1).mul(B).pop()).ne(this.calc.valInt(0)).pop()));
     }	
+
+    @Test
+    public void backtrackTest1() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        //X == Y, Z == W, A == B |-/- A != B
+    	final Term A = this.calc.valTerm(Type.INT, "A");
+    	final Term B = this.calc.valTerm(Type.INT, "B");
+    	final Term W = this.calc.valTerm(Type.INT, "W");
+    	final Term X = this.calc.valTerm(Type.INT, "X");
+    	final Term Y = this.calc.valTerm(Type.INT, "Y");
+    	final Term Z = this.calc.valTerm(Type.INT, "Z");
+    	final Clause XY = new ClauseAssume((Expression) this.calc.push(X).eq(Y).pop());
+    	final Clause ZW = new ClauseAssume((Expression) this.calc.push(Z).eq(W).pop());
+    	final Clause AB = new ClauseAssume((Expression) this.calc.push(A).eq(B).pop());
+        this.dec.setAssumptions(Arrays.asList(XY, ZW, AB));
+        assertFalse(this.dec.isSat((Expression) this.calc.push(A).ne(B).pop()));
+    }	
+
+    @Test(expected=NoDecisionException.class)
+    public void backtrackTest2() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        //X == Y, Z == W, A == B, then backtrack to X == Y, Z == W |-?- A != B
+    	final Term A = this.calc.valTerm(Type.INT, "A");
+    	final Term B = this.calc.valTerm(Type.INT, "B");
+    	final Term W = this.calc.valTerm(Type.INT, "W");
+    	final Term X = this.calc.valTerm(Type.INT, "X");
+    	final Term Y = this.calc.valTerm(Type.INT, "Y");
+    	final Term Z = this.calc.valTerm(Type.INT, "Z");
+    	final Clause XY = new ClauseAssume((Expression) this.calc.push(X).eq(Y).pop());
+    	final Clause ZW = new ClauseAssume((Expression) this.calc.push(Z).eq(W).pop());
+    	final Clause AB = new ClauseAssume((Expression) this.calc.push(A).eq(B).pop());
+        this.dec.setAssumptions(Arrays.asList(XY, ZW, AB));
+        this.dec.setAssumptions(Arrays.asList(XY, ZW));
+        assertFalse(this.dec.isSat((Expression) this.calc.push(X).ne(Y).pop()));
+        this.dec.isSat((Expression) this.calc.push(A).ne(B).pop());
+    }	
+
+    @Test
+    public void setAssumptionsStatsTest1() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+    	final Term A = this.calc.valTerm(Type.INT, "A");
+    	final Term B = this.calc.valTerm(Type.INT, "B");
+    	final Term W = this.calc.valTerm(Type.INT, "W");
+    	final Term X = this.calc.valTerm(Type.INT, "X");
+    	final Term Y = this.calc.valTerm(Type.INT, "Y");
+    	final Term Z = this.calc.valTerm(Type.INT, "Z");
+    	final Clause XY = new ClauseAssume((Expression) this.calc.push(X).eq(Y).pop());
+    	final Clause ZW = new ClauseAssume((Expression) this.calc.push(Z).eq(W).pop());
+    	final Clause AB = new ClauseAssume((Expression) this.calc.push(A).eq(B).pop());
+        this.dec.setAssumptions(Arrays.asList(XY, ZW, AB)); //pushes 3
+        this.dec.setAssumptions(Arrays.asList(XY, ZW));     //pops 1
+        this.dec.setAssumptions(Arrays.asList(AB));         //clears, pushes 1
+        assertEquals(4, this.dec.getNumAssumptionsPushed());
+        assertEquals(1, this.dec.getNumAssumptionsPopped());
+        assertEquals(1, this.dec.getNumAssumptionsCleared());
+        assertEquals(0, this.dec.getNumAssumptionsResent());
+    }	
 }
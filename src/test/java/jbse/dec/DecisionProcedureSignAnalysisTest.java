@@ -4,6 +4,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
@@ -42,20 +44,21 @@ public class DecisionProcedureSignAnalysisTest {
 	
 	static class DecisionProcedureNoDecision implements DecisionProcedure {
         private final CalculatorRewriting calc;
+        private final ArrayList<Clause> assumptions = new ArrayList<>();
         protected DecisionProcedureNoDecision(CalculatorRewriting calc) { this.calc = calc; }
 
 		@Override
 		public Calculator getCalculator() { return this.calc; }
 
 		@Override
-		public void pushAssumption(Clause c) { }
+		public void pushAssumption(Clause c) { this.assumptions.add(c); }
 
 		@Override
-		public void clearAssumptions() { }
+		public void clearAssumptions() { this.assumptions.clear(); }
 
 		@Override
 		public Collection<Clause> getAssumptions() 
-		throws DecisionException { return null; }
+		throws DecisionException { return new ArrayList<>(this.assumptions); }
 
 		@Override
 		public boolean isSat(Expression exp) 
@@ -439,4 +442,33 @@ public class DecisionProcedureSignAnalysisTest {
 		this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.pushDouble(-1.0d).mul(f).add(this.calc.push(E).mul(F).pop()).div(this.calc.pushDouble(-1.0d).mul(E).pop()).lt(this.calc.valInt(0)).pop()));
 		assertFalse(this.dec.isSat((Expression) this.calc.push(f).sub(this.calc.push(E).mul(F).pop()).ge(this.calc.valInt(0)).pop()));
 	}
-}
\ No newline at end of file
+
+	@Test(expected=NoDecisionException.class)
+	public void backtrackTest1() 
+	throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+		//A > 0, B > 0, A < 10, then backtrack to A > 0, B > 0 |-?- A >= 10 
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Term B = this.calc.valTerm(Type.INT, "B");
+		final Clause A1 = new ClauseAssume((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop());
+		final Clause B1 = new ClauseAssume((Expression) this.calc.push(B).gt(this.calc.valInt(0)).pop());
+		final Clause A2 = new ClauseAssume((Expression) this.calc.push(A).lt(this.calc.valInt(10)).pop());
+		this.dec.setAssumptions(Arrays.asList(A1, B1, A2));
+		this.dec.setAssumptions(Arrays.asList(A1, B1));
+		assertFalse(this.dec.isSat((Expression) this.calc.push(A).le(this.calc.valInt(0)).pop()));
+		this.dec.isSat((Expression) this.calc.push(A).ge(this.calc.valInt(10)).pop());
+	}
+	
+	@Test
+	public void backtrackTest2() 
+	throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+		//A > 0, B > 0, A == 0, then backtrack to A > 0, B > 0 |- A > 0 
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Term B = this.calc.valTerm(Type.INT, "B");
+		final Clause A1 = new ClauseAssume((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop());
+		final Clause B1 = new ClauseAssume((Expression) this.calc.push(B).gt(this.calc.valInt(0)).pop());
+		final Clause A2 = new ClauseAssume((Expression) this.calc.push(A).eq(this.calc.valInt(0)).pop());
+		this.dec.setAssumptions(Arrays.asList(A1, B1, A2));
+		this.dec.setAssumptions(Arrays.asList(A1, B1));
+		assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+	}
+}
@@ -0,0 +1,51 @@
+package jbse.jvm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class DistributedMessageTest {
+    private static DistributedMessage roundTrip(DistributedMessage message) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        message.write(new DataOutputStream(bytes));
+        return DistributedMessage.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    public void testWork() throws IOException {
+        final DistributedMessage message = roundTrip(DistributedMessage.work(".1.2.1"));
+        assertEquals(DistributedMessage.WORK, message.type);
+        assertEquals(".1.2.1", message.identifier);
+    }
+
+    @Test
+    public void testEmptySplit() throws IOException {
+        final DistributedMessage message = roundTrip(DistributedMessage.split(""));
+        assertEquals(DistributedMessage.SPLIT, message.type);
+        assertEquals("", message.identifier);
+    }
+
+    @Test
+    public void testLongIdentifier() throws IOException {
+        //deeper than what a modified UTF-8 string can hold
+        final StringBuilder identifier = new StringBuilder();
+        for (int i = 0; i < 40_000; ++i) {
+            identifier.append(".12");
+        }
+        final DistributedMessage message = roundTrip(DistributedMessage.split(identifier.toString()));
+        assertEquals(identifier.toString(), message.identifier);
+    }
+
+    @Test
+    public void testOutputAndDone() throws IOException {
+        assertArrayEquals(new byte[] { 1, 2, 3 }, roundTrip(DistributedMessage.output(new byte[] { 1, 2, 3 })).output);
+        assertArrayEquals(new long[] { 4, 5, 6 }, roundTrip(DistributedMessage.done(4, 5, 6)).statistics);
+    }
+}
@@ -0,0 +1,110 @@
+package jbse.jvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.Classpath;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.common.exc.InvalidInputException;
+import jbse.jvm.EngineParameters.BreadthMode;
+import jbse.jvm.EngineParameters.StateIdentificationMode;
+import jbse.mem.State;
+import jbse.tree.StateTree;
+import jbse.val.SymbolFactory;
+
+public class InitialStateCacheTest {
+    private Path userClass;
+    private EngineParameters parameters;
+    
+    @Before
+    public void setUp() throws IOException {
+        final Path tmp = Files.createTempDirectory("jbse");
+        final Path userDir = Files.createDirectory(tmp.resolve("classes"));
+        this.userClass = Files.write(userDir.resolve("A.class"), new byte[] { 1, 2, 3 });
+        this.parameters = new EngineParameters();
+        this.parameters.setJavaHome(tmp);
+        this.parameters.setJBSELibPath(Files.write(tmp.resolve("jbse.jar"), new byte[] { 0 }));
+        this.parameters.addUserClasspath(userDir);
+        this.parameters.setMethodSignature("A", "()V", "m");
+    }
+    
+    @Test
+    public void testSameParameters() throws IOException {
+        assertEquals(InitialStateCache.key(this.parameters), InitialStateCache.key(this.parameters.clone()));
+    }
+    
+    @Test
+    public void testClasspathContent() throws IOException {
+        final String key = InitialStateCache.key(this.parameters);
+        Files.setLastModifiedTime(this.userClass, FileTime.fromMillis(Files.getLastModifiedTime(this.userClass).toMillis() + 10_000L));
+        assertFalse(key.equals(InitialStateCache.key(this.parameters)));
+    }
+    
+    @Test
+    public void testTriggerRules() throws IOException {
+        final String key = InitialStateCache.key(this.parameters);
+        this.parameters.addResolveNullTrigger("A", "{ROOT}:this", "A", "()V", "trigger", null);
+        assertFalse(key.equals(InitialStateCache.key(this.parameters)));
+    }
+    
+    @Test
+    public void testClassInvariantAfterInitialization() throws IOException {
+        final String key = InitialStateCache.key(this.parameters);
+        this.parameters.addClassInvariantAfterInitializationPattern("java/lang/.*");
+        assertFalse(key.equals(InitialStateCache.key(this.parameters)));
+    }
+    
+    @Test
+    public void testTreeModes() throws IOException {
+        final String key = InitialStateCache.key(this.parameters);
+        this.parameters.setStateIdentificationMode(StateIdentificationMode.LONG);
+        final String keyLong = InitialStateCache.key(this.parameters);
+        assertFalse(key.equals(keyLong));
+        this.parameters.setBreadthMode(BreadthMode.ALL_DECISIONS);
+        assertFalse(keyLong.equals(InitialStateCache.key(this.parameters)));
+    }
+    
+    @Test
+    public void testRootMethodClasses() throws IOException {
+        final String key = InitialStateCache.key(this.parameters);
+        
+        //the bootstrap does not depend on the root method...
+        this.parameters.setMethodSignature("A", "(I)V", "n");
+        assertEquals(key, InitialStateCache.key(this.parameters));
+        
+        //...but on the classes it loads and initializes for it
+        this.parameters.setMethodSignature("A", "(LB;)V", "n");
+        assertFalse(key.equals(InitialStateCache.key(this.parameters)));
+        this.parameters.setMethodSignature("B", "()V", "m");
+        assertFalse(key.equals(InitialStateCache.key(this.parameters)));
+    }
+    
+    @Test
+    public void testBounded() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+        InitialStateCache.clear();
+        final StateTree tree = new StateTree(StateTree.StateIdentificationMode.COMPACT, StateTree.BreadthMode.MORE_THAN_ONE);
+        final State s = new State(true, tree.getPreInitialHistoryPoint(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+        for (int i = 0; i <= InitialStateCache.MAX_SIZE; ++i) {
+            InitialStateCache.put("key" + i, s);
+            InitialStateCache.get("key0"); //keeps it recently used
+        }
+        assertEquals(InitialStateCache.MAX_SIZE, InitialStateCache.size());
+        assertNotNull(InitialStateCache.get("key0"));
+        assertNull(InitialStateCache.get("key1"));
+        assertNotNull(InitialStateCache.get("key" + InitialStateCache.MAX_SIZE));
+        InitialStateCache.clear();
+    }
+}
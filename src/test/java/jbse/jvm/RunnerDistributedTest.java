@@ -0,0 +1,281 @@
+package jbse.jvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.DecisionProcedureAlwSat;
+import jbse.dec.DecisionProcedureClassInit;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.testdata.Branching;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterOperationOnSimplex;
+import jbse.rules.ClassInitRulesRepo;
+
+public class RunnerDistributedTest {
+    private static final String HOST = InetAddress.getLoopbackAddress().getHostAddress();
+    
+    private ExecutorService executor;
+    
+    @Before
+    public void setUp() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+    
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+    
+    /**
+     * A worker that talks the protocol of the coordinator 
+     * without running any engine.
+     */
+    private static final class ScriptedWorker implements AutoCloseable {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+        
+        ScriptedWorker(int port) throws IOException {
+            this.socket = new Socket(HOST, port);
+            this.out = new DataOutputStream(this.socket.getOutputStream());
+            this.in = new DataInputStream(this.socket.getInputStream());
+        }
+        
+        void send(DistributedMessage message) throws IOException {
+            message.write(this.out);
+        }
+        
+        DistributedMessage receive() throws IOException {
+            return DistributedMessage.read(this.in);
+        }
+        
+        /**
+         * Answers all the requests of work with an empty split
+         * until the coordinator ends the run, then sends its 
+         * statistics.
+         * 
+         * @return the {@link List} of the identifiers of the 
+         *         work received meanwhile.
+         */
+        List<String> idleUntilEnd(long pathsTotal, long pathsOutOfScope, long analyzedStates) throws IOException {
+            final ArrayList<String> work = new ArrayList<>();
+            DistributedMessage message;
+            while ((message = receive()).type != DistributedMessage.END) {
+                if (message.type == DistributedMessage.SPLIT_REQUEST) {
+                    send(DistributedMessage.split(""));
+                } else if (message.type == DistributedMessage.WORK) {
+                    work.add(message.identifier);
+                    send(DistributedMessage.idle());
+                }
+            }
+            send(DistributedMessage.done(pathsTotal, pathsOutOfScope, analyzedStates));
+            return work;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+    
+    private Future<Void> start(RunnerDistributed coordinator) {
+        return this.executor.submit(() -> {
+            coordinator.run();
+            return null;
+        });
+    }
+    
+    @Test(timeout = 10_000L)
+    public void testEmptySplit() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final RunnerDistributed coordinator = new RunnerDistributed(0, 2, output);
+        final Future<Void> run = start(coordinator);
+        try (final ScriptedWorker first = new ScriptedWorker(coordinator.getPort())) {
+            first.send(DistributedMessage.idle());
+            try (final ScriptedWorker second = new ScriptedWorker(coordinator.getPort())) {
+                //the first worker gets the whole tree, and has nothing to hand off
+                final DistributedMessage work = first.receive();
+                assertEquals(DistributedMessage.WORK, work.type);
+                assertEquals("", work.identifier);
+                second.send(DistributedMessage.idle());
+                final Future<List<String>> secondWork = this.executor.submit(() -> second.idleUntilEnd(2, 0, 5));
+                assertEquals(DistributedMessage.SPLIT_REQUEST, first.receive().type);
+                first.send(DistributedMessage.split(""));
+                first.send(DistributedMessage.output("a".getBytes(StandardCharsets.UTF_8)));
+                first.send(DistributedMessage.idle());
+                assertTrue(first.idleUntilEnd(3, 1, 10).isEmpty());
+                
+                //an empty split is no work for the idle worker
+                assertTrue(secondWork.get().isEmpty());
+            }
+        }
+        run.get();
+        assertEquals(5, coordinator.getPathsTotal());
+        assertEquals(1, coordinator.getPathsOutOfScope());
+        assertEquals(15, coordinator.getAnalyzedStates());
+        assertEquals("a", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+    
+    @Test(timeout = 10_000L)
+    public void testSplit() throws Exception {
+        final RunnerDistributed coordinator = new RunnerDistributed(0, 2, new ByteArrayOutputStream());
+        final Future<Void> run = start(coordinator);
+        try (final ScriptedWorker first = new ScriptedWorker(coordinator.getPort())) {
+            first.send(DistributedMessage.idle());
+            try (final ScriptedWorker second = new ScriptedWorker(coordinator.getPort())) {
+                assertEquals(DistributedMessage.WORK, first.receive().type);
+                second.send(DistributedMessage.idle());
+                final Future<List<String>> secondWork = this.executor.submit(() -> second.idleUntilEnd(1, 0, 4));
+                
+                //the first worker hands off a subtree to the idle one
+                assertEquals(DistributedMessage.SPLIT_REQUEST, first.receive().type);
+                first.send(DistributedMessage.split(".2"));
+                first.send(DistributedMessage.idle());
+                assertTrue(first.idleUntilEnd(1, 0, 6).isEmpty());
+                assertEquals(Collections.singletonList(".2"), secondWork.get());
+            }
+        }
+        run.get();
+        assertEquals(2, coordinator.getPathsTotal());
+        assertEquals(10, coordinator.getAnalyzedStates());
+    }
+    
+    @Test(timeout = 10_000L)
+    public void testEarlyDisconnect() throws Exception {
+        final RunnerDistributed coordinator = new RunnerDistributed(0, 2, new ByteArrayOutputStream());
+        final Future<Void> run = start(coordinator);
+        try (final ScriptedWorker second = new ScriptedWorker(coordinator.getPort())) {
+            try (final ScriptedWorker first = new ScriptedWorker(coordinator.getPort())) {
+                first.send(DistributedMessage.idle());
+                assertEquals(DistributedMessage.WORK, first.receive().type);
+                second.send(DistributedMessage.idle());
+            }
+            
+            //the work of the disconnected worker is lost, and
+            //the run must fail rather than wait for it
+            try {
+                run.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+            
+            //the coordinator hangs up on the remaining workers
+            try {
+                while (second.receive().type != DistributedMessage.END) {
+                    //skips the requests of work
+                }
+            } catch (IOException e) {
+                //expected
+            }
+        }
+    }
+    
+    private static DecisionProcedureAlgorithms decisionProcedure() throws DecisionException {
+        final CalculatorRewriting calc = new CalculatorRewriting();
+        calc.addRewriter(new RewriterOperationOnSimplex());
+        try {
+            return new DecisionProcedureAlgorithms(new DecisionProcedureClassInit(new DecisionProcedureAlwSat(calc), new ClassInitRulesRepo()));
+        } catch (InvalidInputException e) {
+            throw new DecisionException(e);
+        }
+    }
+    
+    private static final class ActionsLeaves extends Actions {
+        private final Set<String> leaves;
+        
+        ActionsLeaves(Set<String> leaves) {
+            this.leaves = leaves;
+        }
+        
+        @Override
+        public boolean atPathEnd() {
+            this.leaves.add(getEngine().getCurrentState().getBranchIdentifier());
+            return false;
+        }
+    }
+    
+    private static Runner buildRunner(Set<String> leaves) throws Exception {
+        final DecisionProcedureAlgorithms decisionProcedure = decisionProcedure();
+        final RunnerParameters parameters = new RunnerParameters();
+        parameters.setJBSELibPath(Paths.get(Runner.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        parameters.addUserClasspath(Paths.get(Branching.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        parameters.setMethodSignature("jbse/jvm/testdata/Branching", "(IIII)I", "m");
+        parameters.setCalculator(decisionProcedure.getCalculator());
+        parameters.setDecisionProcedure(decisionProcedure);
+        parameters.setActions(new ActionsLeaves(leaves));
+        return new RunnerBuilder().build(parameters);
+    }
+    
+    @Test(timeout = 60_000L)
+    public void testSameExplorationAsSequential() throws Exception {
+        //JBSE needs the bootstrap classes of a Java 8 runtime
+        assumeTrue(Files.exists(Paths.get(System.getProperty("java.home"), "lib", "rt.jar")));
+        
+        final Set<String> leavesSequential = Collections.synchronizedSet(new HashSet<>());
+        final Runner sequential = buildRunner(leavesSequential);
+        try {
+            sequential.run();
+        } finally {
+            sequential.getEngine().close();
+        }
+        
+        final int numWorkers = 3;
+        final Set<String> leavesDistributed = Collections.synchronizedSet(new HashSet<>());
+        final RunnerDistributed coordinator = new RunnerDistributed(0, numWorkers, new ByteArrayOutputStream());
+        final Future<Void> run = start(coordinator);
+        final ArrayList<Future<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < numWorkers; ++i) {
+            final Callable<Void> worker = () -> {
+                final Runner runner = buildRunner(leavesDistributed);
+                try {
+                    new RunnerDistributedWorker(HOST, coordinator.getPort()).run(runner);
+                } finally {
+                    runner.getEngine().close();
+                }
+                return null;
+            };
+            workers.add(this.executor.submit(worker));
+        }
+        for (Future<Void> worker : workers) {
+            worker.get();
+        }
+        run.get();
+        
+        assertEquals(sequential.getPathsTotal(), coordinator.getPathsTotal());
+        assertEquals(sequential.getPathsOutOfScope(), coordinator.getPathsOutOfScope());
+        assertEquals(leavesSequential, leavesDistributed);
+        //the workers replay the path to each subtree they get
+        assertFalse(coordinator.getAnalyzedStates() < sequential.getEngine().getAnalyzedStates());
+    }
+}
@@ -0,0 +1,109 @@
+package jbse.jvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.DecisionProcedureAlwSat;
+import jbse.dec.DecisionProcedureClassInit;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.testdata.Branching;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterOperationOnSimplex;
+import jbse.rules.ClassInitRulesRepo;
+
+public class RunnerParallelTest {
+    private static final int PATHS = 16;
+    
+    private Path jbseLibPath;
+    private Path userClasspath;
+    
+    @Before
+    public void setUp() throws URISyntaxException {
+        //JBSE needs the bootstrap classes of a Java 8 runtime
+        assumeTrue(Files.exists(Paths.get(System.getProperty("java.home"), "lib", "rt.jar")));
+        this.jbseLibPath = Paths.get(Runner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        this.userClasspath = Paths.get(Branching.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+    
+    private static DecisionProcedureAlgorithms decisionProcedure() throws DecisionException {
+        final CalculatorRewriting calc = new CalculatorRewriting();
+        calc.addRewriter(new RewriterOperationOnSimplex());
+        try {
+            return new DecisionProcedureAlgorithms(new DecisionProcedureClassInit(new DecisionProcedureAlwSat(calc), new ClassInitRulesRepo()));
+        } catch (InvalidInputException e) {
+            throw new DecisionException(e);
+        }
+    }
+    
+    private static final class ActionsLeaves extends Actions {
+        private final Set<String> leaves;
+        
+        ActionsLeaves(Set<String> leaves) {
+            this.leaves = leaves;
+        }
+        
+        @Override
+        public boolean atPathEnd() {
+            this.leaves.add(getEngine().getCurrentState().getBranchIdentifier());
+            return false;
+        }
+    }
+    
+    private RunnerParallel run(int numWorkers, Set<String> leaves) throws Exception {
+        final DecisionProcedureAlgorithms decisionProcedure = decisionProcedure();
+        final RunnerParameters parameters = new RunnerParameters();
+        parameters.setJBSELibPath(this.jbseLibPath);
+        parameters.addUserClasspath(this.userClasspath);
+        parameters.setMethodSignature("jbse/jvm/testdata/Branching", "(IIII)I", "m");
+        parameters.setCalculator(decisionProcedure.getCalculator());
+        parameters.setDecisionProcedure(decisionProcedure);
+        parameters.setActions(new ActionsLeaves(leaves));
+        parameters.setParallel(numWorkers, RunnerParallelTest::decisionProcedure);
+        parameters.setWorkerActionsFactory(() -> new ActionsLeaves(leaves));
+        final RunnerParallel runner = new RunnerBuilder().buildParallel(parameters);
+        try {
+            runner.run();
+        } finally {
+            runner.closeWorkers();
+            runner.getMainRunner().getEngine().close();
+        }
+        return runner;
+    }
+    
+    @Test(timeout = 60_000L)
+    public void testSameExploration() throws Exception {
+        final Set<String> leavesSequential = Collections.synchronizedSet(new HashSet<>());
+        final RunnerParallel sequential = run(1, leavesSequential);
+        assertEquals(PATHS, sequential.getPathsTotal());
+        assertEquals(PATHS, leavesSequential.size());
+        
+        final Set<String> leavesParallel = Collections.synchronizedSet(new HashSet<>());
+        final RunnerParallel parallel = run(4, leavesParallel);
+        assertEquals(sequential.getPathsTotal(), parallel.getPathsTotal());
+        assertEquals(leavesSequential, leavesParallel);
+    }
+    
+    @Test(timeout = 60_000L)
+    public void testMoreWorkersThanPaths() throws Exception {
+        //most workers never get a state, and the run must
+        //nevertheless end when all of them are idle
+        final Set<String> leaves = Collections.synchronizedSet(new HashSet<>());
+        final RunnerParallel parallel = run(PATHS + 4, leaves);
+        assertEquals(PATHS, parallel.getPathsTotal());
+        assertEquals(PATHS, leaves.size());
+    }
+}
@@ -0,0 +1,20 @@
+package jbse.jvm.testdata;
+
+public class Branching {
+    public int m(int a, int b, int c, int d) {
+        int retVal = 0;
+        if (a > 0) {
+            retVal += 1;
+        }
+        if (b > 0) {
+            retVal += 2;
+        }
+        if (c > 0) {
+            retVal += 4;
+        }
+        if (d > 0) {
+            retVal += 8;
+        }
+        return retVal;
+    }
+}
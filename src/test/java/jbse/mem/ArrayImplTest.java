@@ -0,0 +1,137 @@
+package jbse.mem;
+
+import static jbse.bc.ClassLoaders.CLASSLOADER_BOOT;
+import static jbse.bc.Signatures.JAVA_CLONEABLE;
+import static jbse.bc.Signatures.JAVA_OBJECT;
+import static jbse.bc.Signatures.JAVA_SERIALIZABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFile;
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.ClassHierarchy;
+import jbse.bc.Classpath;
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.mem.Array.AccessOutcome;
+import jbse.mem.Array.AccessOutcomeInValue;
+import jbse.mem.exc.FastArrayAccessNotAllowedException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterOperationOnSimplex;
+import jbse.val.HistoryPoint;
+import jbse.val.Primitive;
+import jbse.val.Simplex;
+import jbse.val.Value;
+import jbse.val.exc.InvalidTypeException;
+
+public class ArrayImplTest {
+    private ClassHierarchy hier;
+    private CalculatorRewriting calc;
+
+    @Before
+    public void setUp() throws Exception {
+        //environment
+        final ArrayList<Path> userPath = new ArrayList<>();
+        userPath.add(Paths.get("src/test/resources/jbse/bc/testdata"));
+        final Classpath env = new Classpath(Paths.get("."), Paths.get(System.getProperty("java.home", "")), Collections.emptyList(), userPath);
+
+        //class hierarchy
+        this.hier = new ClassHierarchy(env, ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap());
+        
+        //array classes need these
+        this.hier.loadCreateClass(CLASSLOADER_BOOT, JAVA_OBJECT, true);
+        this.hier.loadCreateClass(CLASSLOADER_BOOT, JAVA_CLONEABLE, true);
+        this.hier.loadCreateClass(CLASSLOADER_BOOT, JAVA_SERIALIZABLE, true);
+        
+        //calculator
+        this.calc = new CalculatorRewriting();
+        this.calc.addRewriter(new RewriterOperationOnSimplex());
+    }
+    
+    private ArrayImpl makeArray(char memberType, int length) throws Exception {
+        final ClassFile cf = this.hier.loadCreateClass("" + Type.ARRAYOF + memberType);
+        return new ArrayImpl(this.calc, false, false, null, this.calc.valInt(length), cf, null, HistoryPoint.unknown(), false, 100);
+    }
+    
+    private Value getValue(Array array, int index) throws InvalidInputException, InvalidTypeException, FastArrayAccessNotAllowedException {
+        final AccessOutcome outcome = array.getFast(this.calc, this.calc.valInt(index));
+        return ((AccessOutcomeInValue) outcome).getValue();
+    }
+
+    @Test
+    public void testConcreteDefaultAndSet() throws Exception {
+        final ArrayImpl a = makeArray(Type.CHAR, 3);
+        assertTrue(a.isSimple());
+        assertEquals(this.calc.valChar('\u0000'), getValue(a, 1));
+        a.setFast(this.calc.valInt(1), this.calc.valChar('x'));
+        assertEquals(this.calc.valChar('x'), getValue(a, 1));
+        assertEquals("\u0000x\u0000", a.valueString());
+    }
+
+    @Test
+    public void testConcreteOutOfRange() throws Exception {
+        final ArrayImpl a = makeArray(Type.INT, 2);
+        final Collection<AccessOutcome> outcomes = a.get(this.calc, this.calc.valInt(2));
+        assertEquals(1, outcomes.size());
+        assertTrue(outcomes.iterator().next() instanceof Array.AccessOutcomeOut);
+    }
+
+    @Test
+    public void testCloneIsCopyOnWrite() throws Exception {
+        final ArrayImpl a = makeArray(Type.INT, 2);
+        a.setFast(this.calc.valInt(0), this.calc.valInt(42));
+        final ArrayImpl b = a.clone();
+        b.setFast(this.calc.valInt(0), this.calc.valInt(7));
+        assertEquals(this.calc.valInt(42), getValue(a, 0));
+        assertEquals(this.calc.valInt(7), getValue(b, 0));
+    }
+
+    @Test
+    public void testSymbolicValueSwitchesRepresentation() throws Exception {
+        final ArrayImpl a = makeArray(Type.INT, 2);
+        a.setFast(this.calc.valInt(0), this.calc.valInt(5));
+        final Primitive A = this.calc.valTerm(Type.INT, "A");
+        a.setFast(this.calc.valInt(1), A);
+        assertFalse(a.isSimple());
+        assertTrue(a.hasSimpleRep());
+        assertEquals(this.calc.valInt(5), getValue(a, 0));
+        assertEquals(A, getValue(a, 1));
+    }
+
+    @Test
+    public void testArraycopy() throws Exception {
+        final ArrayImpl src = makeArray(Type.BYTE, 4);
+        for (int i = 0; i < 4; ++i) {
+            src.setFast(this.calc.valInt(i), this.calc.valByte((byte) i));
+        }
+        final ArrayImpl dest = makeArray(Type.BYTE, 4);
+        dest.arraycopy(this.calc, src, this.calc.valInt(1), this.calc.valInt(0), this.calc.valInt(3), null);
+        assertEquals(this.calc.valByte((byte) 3), getValue(dest, 2));
+        assertEquals(this.calc.valByte((byte) 0), getValue(dest, 3));
+        //overlapping copy
+        src.arraycopy(this.calc, src, this.calc.valInt(0), this.calc.valInt(1), this.calc.valInt(3), null);
+        assertEquals(this.calc.valByte((byte) 0), getValue(src, 1));
+        assertEquals(this.calc.valByte((byte) 2), getValue(src, 3));
+    }
+
+    @Test
+    public void testEntriesMatchSimpleRepresentation() throws Exception {
+        final ArrayImpl a = makeArray(Type.LONG, 2);
+        a.setFast(this.calc.valInt(1), this.calc.valLong(9L));
+        final Simplex nine = this.calc.valLong(9L);
+        assertEquals(2, a.values().size());
+        assertEquals(nine, ((AccessOutcomeInValue) a.values().get(1)).getValue());
+        assertTrue(a.values().get(1).inRange(this.calc, this.calc.valInt(1)).surelyTrue());
+        assertTrue(a.values().get(1).inRange(this.calc, this.calc.valInt(0)).surelyFalse());
+    }
+}
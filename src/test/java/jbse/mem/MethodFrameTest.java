@@ -30,6 +30,7 @@ import jbse.bc.exc.RenameUnsupportedException;
 import jbse.bc.exc.WrongClassNameException;
 import jbse.common.exc.InvalidInputException;
 import jbse.mem.exc.InvalidSlotException;
+import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.val.Null;
 import jbse.val.ReferenceConcrete;
 import jbse.val.Value;
@@ -103,4 +104,46 @@ public class MethodFrameTest {
         final Value valThisClone = fClone.getLocalVariableValue(0);
         assertEquals(valThisClone, Null.getInstance());
     }
+
+    @Test
+    public void testFrameClonePatchCode() throws ClassFileNotFoundException, ClassFileIllFormedException, 
+    InvalidInputException, BadClassFileVersionException, WrongClassNameException, IncompatibleClassFileException, 
+    ClassFileNotAccessibleException, PleaseLoadClassException, MethodNotFoundException, MethodCodeNotFoundException, 
+    RenameUnsupportedException {
+        final String className = "tsafe/engine/TsafeEngine";
+        final ClassFile cf = this.hier.loadCreateClass(CLASSLOADER_APP, className, true);
+        final Signature sigMethod = new Signature(className, "()V", "start");
+        final MethodFrame f = new MethodFrame(sigMethod, cf);
+        final byte original = f.getInstruction();
+        final byte patched = (byte) (original + 1);
+        final MethodFrame fClone = f.clone();
+        fClone.patchCode(patched);
+        assertEquals(patched, fClone.getInstruction());
+        assertEquals(original, f.getInstruction());
+        assertEquals(original, cf.getMethodCodeBySignature(sigMethod)[0]);
+    }
+
+    @Test
+    public void testThreadStackCloneCopyOnWrite() throws ClassFileNotFoundException, ClassFileIllFormedException, 
+    InvalidInputException, BadClassFileVersionException, WrongClassNameException, IncompatibleClassFileException, 
+    ClassFileNotAccessibleException, PleaseLoadClassException, MethodNotFoundException, MethodCodeNotFoundException, 
+    InvalidSlotException, RenameUnsupportedException, ThreadStackEmptyException {
+        final String className = "tsafe/engine/TsafeEngine";
+        final ClassFile cf = this.hier.loadCreateClass(CLASSLOADER_APP, className, true);
+        final Signature sigMethod = new Signature(className, "()V", "start");
+        final MethodFrame fRoot = new MethodFrame(sigMethod, cf);
+        fRoot.setArgs(Null.getInstance());
+        final MethodFrame fTop = new MethodFrame(sigMethod, cf);
+        fTop.setArgs(Null.getInstance());
+        final ThreadStack stack = new ThreadStack();
+        stack.push(fRoot);
+        stack.push(fTop);
+        final ThreadStack stackClone = stack.clone();
+        assertSame(fRoot, stackClone.peekRootFrame());
+        stackClone.currentFrame().setLocalVariableValue(0, 0, new ReferenceConcrete(5));
+        assertNotSame(fTop, stackClone.peekCurrentFrame());
+        assertSame(fRoot, stackClone.peekRootFrame());
+        assertEquals(Null.getInstance(), stack.currentFrame().getLocalVariableValue(0));
+        assertEquals(new ReferenceConcrete(5), stackClone.currentFrame().getLocalVariableValue(0));
+    }
 }
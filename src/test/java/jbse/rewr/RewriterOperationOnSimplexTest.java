@@ -1,11 +1,16 @@
 package jbse.rewr;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import jbse.common.Type;
+import jbse.val.Operator;
 import jbse.val.Primitive;
+import jbse.val.Simplex;
 import jbse.val.Term;
 import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidOperatorException;
 import jbse.val.exc.InvalidTypeException;
 
 import org.junit.Before;
@@ -36,5 +41,85 @@ public final class RewriterOperationOnSimplexTest {
 		assertEquals(threeEqThreeL, p_post);
 	}
 	
+	@Test
+	public void testFoldEnabled() {
+		//the fast path is enabled only if the rewriter on Simplex comes first
+		assertTrue(this.calc.getFoldSimplex());
+		final CalculatorRewriting calcOther = new CalculatorRewriting();
+		calcOther.addRewriter(new RewriterCalculatorRewriting() { });
+		calcOther.addRewriter(new RewriterOperationOnSimplex());
+		assertFalse(calcOther.getFoldSimplex());
+		assertTrue(new CalculatorRewriting(this.calc).getFoldSimplex());
+	}
+	
+	@Test
+	public void testFoldSameAsRewriting() 
+	throws InvalidOperandException, InvalidTypeException, InvalidOperatorException {
+		//the fast path yields the same results of the rewriters
+		final CalculatorRewriting calcSlow = new CalculatorRewriting();
+		calcSlow.addRewriter(new RewriterCalculatorRewriting() { });
+		calcSlow.addRewriter(new RewriterOperationOnSimplex());
+		final Simplex[] values = {
+			this.calc.valInt(0), this.calc.valInt(7), this.calc.valInt(-3), this.calc.valInt(Integer.MIN_VALUE), 
+			this.calc.valLong(5L), this.calc.valLong(-1L), this.calc.valLong(Long.MAX_VALUE),
+			this.calc.valFloat(2.5f), this.calc.valFloat(-0.0f), this.calc.valFloat(Float.NaN),
+			this.calc.valDouble(1.0E10d), this.calc.valDouble(-7.25d),
+			this.calc.valBoolean(true), this.calc.valBoolean(false)
+		};
+		final Operator[] binary = {
+			Operator.ADD, Operator.SUB, Operator.MUL, Operator.DIV, Operator.REM, 
+			Operator.ANDBW, Operator.ORBW, Operator.XORBW, Operator.SHL, Operator.SHR, Operator.USHR,
+			Operator.EQ, Operator.NE, Operator.LT, Operator.LE, Operator.GT, Operator.GE, 
+			Operator.AND, Operator.OR
+		};
+		for (Simplex first : values) {
+			for (Simplex second : values) {
+				for (Operator operator : binary) {
+					if (!isSupported(first, operator, second)) {
+						continue;
+					}
+					final Primitive fast = this.calc.push(first).applyBinary(operator, second).pop();
+					final Primitive slow = calcSlow.push(first).applyBinary(operator, second).pop();
+					assertEquals(first + " " + operator + " " + second, slow, fast);
+				}
+			}
+			if (first.getType() == Type.BOOLEAN) {
+				assertEquals(calcSlow.push(first).not().pop(), this.calc.push(first).not().pop());
+			} else {
+				assertEquals(calcSlow.push(first).neg().pop(), this.calc.push(first).neg().pop());
+			}
+			for (char type : new char[] { Type.BYTE, Type.SHORT, Type.CHAR, Type.INT, Type.LONG, Type.FLOAT, Type.DOUBLE }) {
+				if (Type.widens(type, first.getType()) || Type.narrows(type, first.getType())) {
+					assertEquals(calcSlow.push(first).to(type).pop(), this.calc.push(first).to(type).pop());
+				}
+			}
+		}
+	}
 	
+	private static boolean isSupported(Simplex first, Operator operator, Simplex second) {
+		final char firstType = first.getType();
+		final char secondType = second.getType();
+		final boolean firstBoolean = (firstType == Type.BOOLEAN);
+		final boolean secondBoolean = (secondType == Type.BOOLEAN);
+		final boolean firstIntegral = (firstType == Type.INT || firstType == Type.LONG);
+		if (operator == Operator.AND || operator == Operator.OR) {
+			return firstBoolean && secondBoolean;
+		}
+		if (firstBoolean || secondBoolean) {
+			return false;
+		}
+		if (operator == Operator.SHL || operator == Operator.SHR || operator == Operator.USHR) {
+			return firstIntegral && secondType == Type.INT;
+		}
+		if (firstType != secondType) {
+			return false;
+		}
+		if (operator == Operator.ANDBW || operator == Operator.ORBW || operator == Operator.XORBW) {
+			return firstIntegral;
+		}
+		if (operator == Operator.DIV || operator == Operator.REM) {
+			return !firstIntegral || !second.isZeroOne(true);
+		}
+		return true;
+	}
 }
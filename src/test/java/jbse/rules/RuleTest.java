@@ -0,0 +1,83 @@
+package jbse.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.val.HistoryPoint;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.SymbolFactory;
+import jbse.val.exc.InvalidTypeException;
+
+public class RuleTest {
+    private static final String[] ORIGIN_EXPS = {
+        null,
+        "{ROOT}:this",
+        "{ROOT}:that",
+        "{ROOT}:this.hier/List:head",
+        "{ROOT}:this.hier/List:heads?",
+        "{R_ANY}.hier/Node:next",
+        "{R_ANY}.hier/Node:nex",
+        "{ROOT}:this.{°}*",
+        "{ROOT}:this.hier/List:head(.hier/Node:next)*",
+        "{ROOT}:this|{ROOT}:that",
+        "{ROOT}:this.hier/List:head{EOL}",
+    };
+    
+    private ReferenceSymbolic root, head, next;
+    
+    @Before
+    public void setUp() throws InvalidTypeException, InvalidInputException {
+        final SymbolFactory symbolFactory = new SymbolFactory();
+        this.root = symbolFactory.createSymbolLocalVariableReference(HistoryPoint.unknown(), "Lhier/List;", "Lhier/List;", "this");
+        this.head = symbolFactory.createSymbolMemberFieldReference("Lhier/Node;", "Lhier/Node;", this.root, "head", "hier/List");
+        this.next = symbolFactory.createSymbolMemberFieldReference("Lhier/Node;", "Lhier/Node;", this.head, "next", "hier/Node");
+    }
+    
+    @Test
+    public void testLiteralPrefixSuffix() {
+        assertEquals("{ROOT}:this.hier/List:head", Util.literalPrefix("{ROOT}:this.hier/List:head"));
+        assertEquals("", Util.literalSuffix("{ROOT}:this.hier/List:head"));
+        assertEquals("", Util.literalPrefix("{R_ANY}.hier/Node:next"));
+        assertEquals(".hier/Node:next", Util.literalSuffix("{R_ANY}.hier/Node:next"));
+        assertEquals("{ROOT}:this.hier/List:head", Util.literalPrefix("{ROOT}:this.hier/List:heads?"));
+        assertEquals("", Util.literalSuffix("{ROOT}:this.hier/List:heads?"));
+        assertEquals("", Util.literalPrefix("{ROOT}:this|{ROOT}:that"));
+        assertEquals("", Util.literalSuffix("{ROOT}:this|{ROOT}:that"));
+        assertEquals("", Util.literalSuffix("{R_ANY}\\w"));
+    }
+    
+    @Test
+    public void testMatchesSameAsPattern() {
+        for (String originExp : ORIGIN_EXPS) {
+            final Rule rule = new LICSRuleNotNull(originExp);
+            final Pattern pattern = Util.makeOriginPatternAbsolute(originExp == null ? Util.ANY : originExp);
+            for (ReferenceSymbolic ref : new ReferenceSymbolic[] { this.root, this.head, this.next }) {
+                assertEquals(originExp + " vs " + ref.asOriginString(), 
+                             pattern.matcher(ref.asOriginString()).matches(), rule.matches(ref));
+            }
+        }
+    }
+    
+    @Test
+    public void testOriginPatternRelative() {
+        final Pattern originPattern = Util.makeOriginPatternAbsolute("{R_ANY}.hier/Node:next");
+        final OriginPatternRelative up = new OriginPatternRelative("{$REF}.{UP}", originPattern);
+        assertTrue(up.matches(this.next, this.head));
+        assertTrue(up.matches(this.next, this.head)); //cached
+        assertFalse(up.matches(this.next, this.next));
+        assertTrue(up.matches(this.head, this.root)); //another origin
+        final OriginPatternRelative any = new OriginPatternRelative("{$R_ANY}", originPattern);
+        assertTrue(any.matches(this.next, this.head));
+        assertFalse(any.matches(this.next, this.root));
+        final OriginPatternRelative constant = new OriginPatternRelative("{ROOT}:this", originPattern);
+        assertTrue(constant.matches(this.next, this.root));
+        assertFalse(constant.matches(this.next, this.head));
+    }
+}
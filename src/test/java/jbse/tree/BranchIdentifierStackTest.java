@@ -0,0 +1,51 @@
+package jbse.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class BranchIdentifierStackTest {
+	@Test
+	public void testPushPop() {
+		final BranchIdentifierStack stack = new BranchIdentifierStack();
+		final List<String> pushed = new ArrayList<>();
+		for (int i = 1; i <= 20000; ++i) {
+			final String id = ".1.2." + (i % 7) + (i % 3 == 0 ? ".\u00e8" : "") + "." + i;
+			stack.push(id);
+			pushed.add(id);
+		}
+		assertEquals(20000, stack.size());
+		for (int i = pushed.size() - 1; i >= 0; --i) {
+			assertEquals(pushed.get(i), stack.pop());
+		}
+		assertTrue(stack.isEmpty());
+		stack.close();
+	}
+
+	@Test
+	public void testInterleaved() {
+		final BranchIdentifierStack stack = new BranchIdentifierStack();
+		stack.push(".1.1");
+		stack.push(".1.1.1");
+		stack.push("");
+		assertEquals("", stack.pop());
+		stack.push(".2");
+		assertEquals(".2", stack.pop());
+		assertEquals(".1.1.1", stack.pop());
+		stack.push(".1.10");
+		assertEquals(".1.10", stack.pop());
+		assertEquals(".1.1", stack.pop());
+		assertTrue(stack.isEmpty());
+		stack.close();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testPopEmpty() {
+		new BranchIdentifierStack().pop();
+	}
+}
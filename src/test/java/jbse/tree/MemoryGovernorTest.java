@@ -0,0 +1,94 @@
+package jbse.tree;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.tree.StateTree.BreadthMode;
+import jbse.tree.StateTree.StateIdentificationMode;
+
+public class MemoryGovernorTest {
+	/** The memory measured by the governors. */
+	private long memory;
+	
+	/** The collections counted by the governors. */
+	private long collections;
+	
+	private MemoryGovernor governor;
+	
+	@Before
+	public void setUp() {
+		this.memory = 1000;
+		this.collections = 0;
+		this.governor = new MemoryGovernor(2000, () -> this.memory, () -> this.collections);
+		this.governor.start();
+	}
+	
+	private static StateTree newTree() {
+		return new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+	}
+	
+	@Test
+	public void testWithinBudget() {
+		final StateTree tree = newTree();
+		this.memory = 2000;
+		for (int i = 0; i < 1000; ++i) {
+			assertEquals(0, this.governor.statesToRelease(tree, 100));
+		}
+		assertEquals(10, this.governor.getStateSize());
+	}
+	
+	@Test
+	public void testOverBudget() {
+		final StateTree tree = newTree();
+		this.memory = 3000; //100 states of 20 bytes, 1000 bytes over budget
+		for (int i = 1; i < 64; ++i) {
+			assertEquals(0, this.governor.statesToRelease(tree, 100));
+		}
+		//the memory is checked once every 64 emissions
+		assertEquals(50, this.governor.statesToRelease(tree, 100));
+		assertEquals(20, this.governor.getStateSize());
+	}
+	
+	@Test
+	public void testWaitForCollection() {
+		final StateTree tree = newTree();
+		this.memory = 3000;
+		for (int i = 1; i < 64; ++i) {
+			this.governor.statesToRelease(tree, 100);
+		}
+		assertEquals(50, this.governor.statesToRelease(tree, 100));
+		
+		//no collection makes the release visible, so nothing is released
+		for (int i = 0; i < 10 * 64; ++i) {
+			assertEquals(0, this.governor.statesToRelease(tree, 50));
+		}
+		
+		//a collection shows that the release was not enough
+		this.collections = 1;
+		this.memory = 2250;
+		for (int i = 1; i < 64; ++i) {
+			this.governor.statesToRelease(tree, 50);
+		}
+		assertEquals(10, this.governor.statesToRelease(tree, 50));
+	}
+	
+	@Test
+	public void testShared() {
+		final StateTree tree1 = newTree();
+		final StateTree tree2 = newTree();
+		this.memory = 5000; //400 states of 10 bytes, 3000 bytes over budget
+		assertEquals(0, this.governor.statesToRelease(tree2, 300));
+		for (int i = 2; i < 64; ++i) {
+			assertEquals(0, this.governor.statesToRelease(tree1, 100));
+		}
+		
+		//each tree releases its share once
+		assertEquals(75, this.governor.statesToRelease(tree1, 100));
+		assertEquals(0, this.governor.statesToRelease(tree1, 25));
+		assertEquals(225, this.governor.statesToRelease(tree2, 300));
+		assertEquals(0, this.governor.statesToRelease(tree2, 75));
+		assertEquals(10, this.governor.getStateSize());
+	}
+}
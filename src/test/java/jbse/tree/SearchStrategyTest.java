@@ -0,0 +1,123 @@
+package jbse.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.Classpath;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.common.exc.InvalidInputException;
+import jbse.mem.State;
+import jbse.mem.exc.FrozenStateException;
+import jbse.tree.StateTree.PendingState;
+import jbse.val.HistoryPoint;
+import jbse.val.SymbolFactory;
+
+public class SearchStrategyTest {
+	private State s;
+	
+	@Before
+	public void setUp() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		this.s = new State(true, HistoryPoint.startingPreInitial(true).startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+	}
+	
+	/**
+	 * Creates pending states with given depths, 
+	 * in depth-first order, and adds them to a strategy.
+	 */
+	private List<PendingState> addStatesWithDepths(SearchStrategy strategy, int... depths) throws FrozenStateException {
+		final ArrayList<PendingState> retVal = new ArrayList<>();
+		for (int i = 0; i < depths.length; ++i) {
+			final State t = this.s.clone();
+			t.resetDepth();
+			for (int j = 1; j < depths[i]; ++j) {
+				t.incDepth();
+			}
+			retVal.add(new PendingState(t, depths.length - i));
+		}
+		for (int i = depths.length - 1; i >= 0; --i) {
+			strategy.add(retVal.get(i));
+		}
+		return retVal;
+	}
+	
+	@Test
+	public void testDepthFirst() throws FrozenStateException {
+		final SearchStrategyDepthFirst strategy = new SearchStrategyDepthFirst();
+		final List<PendingState> states = addStatesWithDepths(strategy, 5, 3, 1);
+		assertSame(states.get(0), strategy.poll());
+		assertSame(states.get(1), strategy.poll());
+		assertSame(states.get(2), strategy.poll());
+		assertNull(strategy.poll());
+	}
+	
+	@Test
+	public void testBreadthFirst() throws FrozenStateException {
+		final SearchStrategyBreadthFirst strategy = new SearchStrategyBreadthFirst();
+		final List<PendingState> states = addStatesWithDepths(strategy, 5, 2, 4, 2);
+		assertSame(states.get(1), strategy.poll());
+		assertSame(states.get(3), strategy.poll());
+		assertSame(states.get(2), strategy.poll());
+		assertSame(states.get(0), strategy.poll());
+		assertNull(strategy.poll());
+	}
+	
+	@Test
+	public void testIterativeDeepening() throws FrozenStateException {
+		final SearchStrategyIterativeDeepening strategy = new SearchStrategyIterativeDeepening(3, 4);
+		final List<PendingState> states = addStatesWithDepths(strategy, 5, 4, 3, 1);
+		assertSame(states.get(2), strategy.poll());
+		assertSame(states.get(3), strategy.poll());
+		assertEquals(3, strategy.getDepthBound());
+		assertSame(states.get(0), strategy.poll());
+		assertEquals(7, strategy.getDepthBound());
+		assertSame(states.get(1), strategy.poll());
+		
+		//no pending state: the bound is not changed
+		assertNull(strategy.poll());
+		assertEquals(7, strategy.getDepthBound());
+		final List<PendingState> deeper = addStatesWithDepths(strategy, 12, 8, 9);
+		assertSame(deeper.get(1), strategy.poll());
+		assertEquals(11, strategy.getDepthBound());
+	}
+	
+	@Test
+	public void testCoverage() throws FrozenStateException {
+		//states with no frames are never uncovered
+		final SearchStrategyCoverage strategy = new SearchStrategyCoverage();
+		final List<PendingState> states = addStatesWithDepths(strategy, 3, 1);
+		assertSame(states.get(0), strategy.poll());
+		assertSame(states.get(1), strategy.poll());
+		assertNull(strategy.poll());
+	}
+	
+	@Test
+	public void testRandomPath() throws FrozenStateException {
+		final SearchStrategyRandomPath strategy = new SearchStrategyRandomPath(42L);
+		final int[] selections = new int[3];
+		for (int i = 0; i < 3000; ++i) {
+			final List<PendingState> states = addStatesWithDepths(strategy, 1, 2, 40);
+			++selections[states.indexOf(strategy.poll())];
+			
+			//empties the strategy
+			strategy.poll();
+			strategy.poll();
+			assertNull(strategy.poll());
+		}
+		//the expected frequencies are 2/3, 1/3, and almost 0
+		assertTrue(selections[0] > 1800);
+		assertTrue(selections[1] > 800);
+		assertTrue(selections[2] < 5);
+	}
+}
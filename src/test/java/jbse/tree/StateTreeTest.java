@@ -1,12 +1,19 @@
 package jbse.tree;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
@@ -15,8 +22,10 @@ import jbse.bc.Classpath;
 import jbse.bc.exc.InvalidClassFileFactoryClassException;
 import jbse.common.exc.InvalidInputException;
 import jbse.mem.State;
+import jbse.mem.exc.FrozenStateException;
 import jbse.tree.StateTree.BranchPoint;
 import jbse.tree.StateTree.BreadthMode;
+import jbse.tree.StateTree.PendingState;
 import jbse.tree.StateTree.StateIdentificationMode;
 import jbse.val.SymbolFactory;
 
@@ -124,4 +133,346 @@ public class StateTreeTest {
 		final State statePicked = tree.getStateAtBranch(bp_1_2, 1);
 		assertSame(_1_2_6, statePicked);
 	}
+	
+	@Test
+	public void testStealState() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		final State _1_3 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		tree.addState(_1_3, 0, null);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		assertTrue(tree.createdBranch());
+		assertSame(_1_1, tree.nextState());
+		assertSame(_1_3, tree.stealState());
+		assertEquals(".1.3", _1_3.getBranchIdentifier().toString());
+		assertTrue(tree.hasStatesReserve());
+		assertNull(tree.stealState()); //_1_2 is reserved
+		assertSame(_1_2, tree.nextState());
+		assertEquals(".1.2", _1_2.getBranchIdentifier().toString());
+		assertFalse(tree.hasStates());
+		
+		final StateTree thief = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		thief.addStateAdopted(_1_3);
+		assertFalse(thief.createdBranch());
+		assertSame(_1_3, thief.nextState());
+		assertEquals(".1.3", _1_3.getBranchIdentifier().toString());
+	}
+	
+	@Test
+	public void testStealStateConcurrent() throws Exception {
+		final int numStates = 500;
+		final int numWorkers = 4;
+		final StateTree[] trees = new StateTree[numWorkers];
+		for (int i = 0; i < numWorkers; ++i) {
+			trees[i] = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		}
+		final State s = new State(true, trees[0].getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		s.setPhasePostInitial();
+		trees[0].possiblyAddBranchPoint(true, false, false, false);
+		for (int i = 1; i < numStates; ++i) {
+			trees[0].addState(s.clone(), 0, null);
+		}
+		trees[0].addState(s, 0, null);
+		
+		//each worker explores its states, and when it has none steals 
+		//one from another worker and immediately backtracks to it, as 
+		//Engine does; the adopted state must not be stolen in between
+		final Object lock = new Object();
+		final Set<State> explored = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		final AtomicInteger exploredCount = new AtomicInteger();
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final Thread[] threads = new Thread[numWorkers];
+		for (int i = 0; i < numWorkers; ++i) {
+			final StateTree own = trees[i];
+			threads[i] = new Thread(() -> {
+				try {
+					while (exploredCount.get() < numStates && failure.get() == null) {
+						State next = null;
+						if (own.hasStatesReserve()) {
+							next = own.nextState();
+						} else {
+							boolean adopted = false;
+							synchronized (lock) {
+								for (StateTree victim : trees) {
+									final State stolen = (victim == own ? null : victim.stealState());
+									if (stolen != null) {
+										own.addStateAdopted(stolen);
+										adopted = true;
+										break;
+									}
+								}
+							}
+							if (adopted) {
+								next = own.nextState();
+							} else {
+								Thread.yield();
+							}
+						}
+						if (next != null) {
+							explored.add(next);
+							exploredCount.incrementAndGet();
+						}
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		assertNull(failure.get());
+		assertEquals(numStates, exploredCount.get());
+		assertEquals(numStates, explored.size());
+	}
+	
+	@Test
+	public void testReleaseStates() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setMemoryGovernor(new MemoryGovernor(1, () -> 1000, () -> 0)); //always over budget
+		tree.setInitialStateAvailable();
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		for (int i = 0; i < 99; ++i) {
+			tree.addState(_1_1.clone(), 0, null);
+		}
+		tree.addState(_1_1, 0, null);
+		assertFalse(tree.hasReleasedStates());
+		for (int i = 1; i < 64; ++i) {
+			assertEquals(".1." + i, tree.nextState().getBranchIdentifier());
+			assertFalse(tree.hasReleasedStates());
+		}
+		//the 64th emission checks the memory, which exceeds the budget
+		assertEquals(".1.64", tree.nextState().getBranchIdentifier());
+		assertTrue(tree.hasReleasedStates());
+		assertTrue(tree.getPendingStateSize() > 0);
+		
+		//the released states are the ones that would be emitted last
+		int i = 65;
+		while (tree.hasStates()) {
+			assertEquals(".1." + i, tree.nextState().getBranchIdentifier());
+			++i;
+		}
+		for (; i <= 100; ++i) {
+			assertTrue(tree.hasReleasedStates());
+			assertEquals(".1." + i, tree.nextReleasedState());
+		}
+		assertFalse(tree.hasReleasedStates());
+	}
+	
+	@Test
+	public void testPendingStatesWindow() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setPendingStatesWindow(3);
+		tree.setInitialStateAvailable();
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		for (int i = 0; i < 9; ++i) {
+			tree.addState(_1_1.clone(), 0, null);
+		}
+		tree.addState(_1_1, 0, null);
+		
+		//the first emission leaves 3 pending states and releases the other 6
+		assertEquals(".1.1", tree.nextState().getBranchIdentifier());
+		assertEquals(".1.2", tree.nextState().getBranchIdentifier());
+		assertEquals(".1.3", tree.nextState().getBranchIdentifier());
+		assertEquals(".1.4", tree.nextState().getBranchIdentifier());
+		assertFalse(tree.hasStates());
+		for (int i = 5; i <= 10; ++i) {
+			assertTrue(tree.hasReleasedStates());
+			assertEquals(".1." + i, tree.nextReleasedState());
+		}
+		assertFalse(tree.hasReleasedStates());
+		tree.close();
+	}
+	
+	@Test
+	public void testSearchStrategy() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setSearchStrategy(new SearchStrategy() {
+			//emits the pending states in reverse depth-first order
+			private final ArrayDeque<PendingState> pendingStates = new ArrayDeque<>();
+			
+			@Override
+			public void add(PendingState pendingState) {
+				this.pendingStates.addFirst(pendingState);
+			}
+			
+			@Override
+			public PendingState poll() {
+				return this.pendingStates.pollLast();
+			}
+		});
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		final State _1_3 = _1_1.clone();
+		final State _1_4 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		final BranchPoint bp = tree.nextBranch();
+		tree.addState(_1_4, 0, null);
+		tree.addState(_1_3, 0, null);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		
+		//the states keep their depth-first numbers when emitted in another order
+		assertSame(_1_4, tree.nextState());
+		assertSame(bp, tree.lastBranch());
+		assertSame(_1_3, tree.stealState());
+		
+		//the strategy is not consulted on branches
+		assertSame(_1_1, tree.nextStateDepthFirst());
+		assertSame(_1_2, tree.nextState());
+		assertSame(bp, tree.lastBranch());
+		assertFalse(tree.hasStates());
+		assertEquals(".1.1", _1_1.getBranchIdentifier().toString());
+		assertEquals(".1.2", _1_2.getBranchIdentifier().toString());
+		assertEquals(".1.3", _1_3.getBranchIdentifier().toString());
+		assertEquals(".1.4", _1_4.getBranchIdentifier().toString());
+	}
+	
+	@Test
+	public void testAddReleasedState() {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		assertFalse(tree.hasReleasedStates());
+		tree.addReleasedState(".1.2");
+		tree.addReleasedState(".1.3.1");
+		
+		//the adopted states are re-derived last in, first out
+		assertTrue(tree.hasReleasedStates());
+		assertEquals(".1.3.1", tree.nextReleasedState());
+		assertEquals(".1.2", tree.nextReleasedState());
+		assertFalse(tree.hasReleasedStates());
+		tree.close();
+	}
+	
+	@Test
+	public void testReleaseSubregion() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setMemoryGovernor(new MemoryGovernor(1, () -> 1000, () -> 0)); //always over budget
+		tree.setReleaseSubregion(".1.100.2");
+		tree.setInitialStateAvailable();
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		for (int i = 0; i < 99; ++i) {
+			tree.addState(_1_1.clone(), 0, null);
+		}
+		tree.addState(_1_1, 0, null);
+		while (tree.hasStates()) {
+			tree.nextState();
+		}
+		
+		//only the state on the path to the subregion is released
+		assertTrue(tree.hasReleasedStates());
+		assertEquals(".1.100", tree.nextReleasedState());
+		assertFalse(tree.hasReleasedStates());
+	}
+	
+	@Test
+	public void testReleasedPathsCount() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException, FrozenStateException {
+		final StateTree unbounded = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final State root = new State(true, unbounded.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		root.setPhasePostInitial();
+		assertEquals(512, explore(unbounded, root, 9, 2));
+		assertEquals(0, this.replays);
+		
+		//a bounded run explores every path once, however many states it releases
+		final StateTree bounded = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final AtomicInteger collections = new AtomicInteger();
+		bounded.setMemoryGovernor(new MemoryGovernor(1, () -> 1000, collections::incrementAndGet)); //always over budget
+		bounded.setInitialStateAvailable();
+		assertEquals(512, explore(bounded, root, 9, 2));
+		assertTrue(this.replays > 0);
+		
+		//the same with a pending states window, that releases states at every emission
+		final StateTree windowed = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		windowed.setPendingStatesWindow(2);
+		windowed.setInitialStateAvailable();
+		assertEquals(512, explore(windowed, root, 9, 2));
+		assertTrue(this.replays > 0);
+		windowed.close();
+	}
+	
+	@Test
+	public void testSearchStrategyPathsCount() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException, FrozenStateException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final State root = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		root.setPhasePostInitial();
+		
+		//every strategy explores every path once, also when releasing states
+		for (SearchStrategy strategy : strategies()) {
+			final StateTree unbounded = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+			unbounded.setSearchStrategy(strategy);
+			assertEquals(512, explore(unbounded, root, 9, 2));
+		}
+		for (SearchStrategy strategy : strategies()) {
+			final StateTree windowed = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+			windowed.setSearchStrategy(strategy);
+			windowed.setPendingStatesWindow(2);
+			windowed.setInitialStateAvailable();
+			assertEquals(512, explore(windowed, root, 9, 2));
+			windowed.close();
+		}
+	}
+	
+	private static SearchStrategy[] strategies() {
+		return new SearchStrategy[] { 
+			new SearchStrategyDepthFirst(), new SearchStrategyBreadthFirst(), new SearchStrategyIterativeDeepening(3, 2),
+			new SearchStrategyCoverage(), new SearchStrategyRandomPath()
+		};
+	}
+	
+	private int replays;
+	
+	/**
+	 * Explores a complete tree as a runner does, re-deriving
+	 * each released state from {@code root} and pruning the 
+	 * paths out of the subtree it roots.
+	 */
+	private int explore(StateTree tree, State root, int depth, int breadth) throws InvalidInputException, FrozenStateException {
+		this.replays = 0;
+		int paths = 0;
+		String subregion = null;
+		State s = root.clone();
+		while (true) {
+			while (isInSubregion(s.getBranchIdentifier(), subregion) && depthOf(s) < depth) {
+				tree.possiblyAddBranchPoint(true, false, false, false);
+				tree.nextBranch();
+				for (int i = 1; i < breadth; ++i) {
+					tree.addState(s.clone(), 0, null);
+				}
+				tree.addState(s, 0, null);
+				s = tree.nextStateDepthFirst();
+			}
+			if (isInSubregion(s.getBranchIdentifier(), subregion)) {
+				++paths;
+			}
+			if (tree.hasStates()) {
+				s = tree.nextState();
+			} else if (tree.hasReleasedStates()) {
+				subregion = tree.nextReleasedState();
+				tree.setReleaseSubregion(subregion);
+				++this.replays;
+				s = root.clone();
+			} else {
+				return paths;
+			}
+		}
+	}
+	
+	private static boolean isInSubregion(String identifier, String subregion) {
+		return (subregion == null || identifier.equals(subregion) || identifier.startsWith(subregion + ".") || subregion.startsWith(identifier + "."));
+	}
+	
+	private static int depthOf(State s) {
+		return s.getBranchIdentifier().split("\\.").length - 2;
+	}
 }
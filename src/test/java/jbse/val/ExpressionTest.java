@@ -0,0 +1,65 @@
+package jbse.val;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidOperatorException;
+import jbse.val.exc.InvalidTypeException;
+
+public class ExpressionTest {
+    private CalculatorRewriting calc;
+
+    @Before
+    public void setUp() {
+        this.calc = new CalculatorRewriting();
+    }
+
+    @Test
+    public void testHashConsing() 
+    throws InvalidOperandException, InvalidOperatorException, InvalidTypeException, InvalidInputException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final Expression e1 = Expression.makeExpressionBinary(Expression.makeExpressionBinary(A, Operator.ADD, B), Operator.MUL, A);
+        final Expression e2 = Expression.makeExpressionBinary(Expression.makeExpressionBinary(A, Operator.ADD, B), Operator.MUL, A);
+        assertSame(e1, e2);
+        assertSame(e1.getFirstOperand(), e2.getFirstOperand());
+        assertNotSame(e1, Expression.makeExpressionBinary(Expression.makeExpressionBinary(A, Operator.ADD, B), Operator.MUL, B));
+        assertSame(Expression.makeExpressionUnary(Operator.NEG, A), Expression.makeExpressionUnary(Operator.NEG, A));
+        assertSame(WideningConversion.make(Type.LONG, A), WideningConversion.make(Type.LONG, A));
+        assertSame(NarrowingConversion.make(Type.BYTE, A), NarrowingConversion.make(Type.BYTE, A));
+    }
+
+    @Test
+    public void testNoHashConsingOfDifferentTypes() 
+    throws InvalidOperandException, InvalidOperatorException, InvalidTypeException, InvalidInputException {
+        //terms with same name and different types are equal, 
+        //but expressions on them must not be shared
+        final Term AInt = this.calc.valTerm(Type.INT, "A");
+        final Term ADouble = this.calc.valTerm(Type.DOUBLE, "A");
+        final Expression eInt = Expression.makeExpressionBinary(AInt, Operator.MUL, AInt);
+        final Expression eDouble = Expression.makeExpressionBinary(ADouble, Operator.MUL, ADouble);
+        assertNotSame(eInt, eDouble);
+        assertEquals(Type.INT, eInt.getType());
+        assertEquals(Type.DOUBLE, eDouble.getType());
+    }
+
+    @Test
+    public void testLazyStrings() 
+    throws InvalidOperandException, InvalidOperatorException, InvalidTypeException, InvalidInputException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final Expression e = Expression.makeExpressionBinary(Expression.makeExpressionBinary(A, Operator.ADD, B), Operator.MUL, this.calc.valInt(2));
+        assertEquals("((" + A + ") + (" + B + ")) * (2)", e.toString());
+        assertEquals("((" + A.asOriginString() + ")+(" + B.asOriginString() + "))*(2)", e.asOriginString());
+        assertSame(e.toString(), e.toString());
+        assertEquals("WIDEN-J(" + A + ")", WideningConversion.make(Type.LONG, A).toString());
+    }
+}
@@ -0,0 +1,58 @@
+package jbse.val;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.val.exc.InvalidTypeException;
+
+public class OriginTest {
+    @Test
+    public void testInterned() {
+        final Origin root = Origin.root("{ROOT}:this");
+        final Origin head = root.child(".hier/List:head");
+        assertSame(root, Origin.root("{ROOT}:this"));
+        assertSame(head, Origin.root("{ROOT}:this").child(".hier/List:head"));
+        assertSame(root, head.getParent());
+        assertNull(root.getParent());
+        assertFalse(head.equals(root.child(".hier/List:tail")));
+    }
+    
+    @Test
+    public void testToString() {
+        final Origin next = Origin.root("{ROOT}:this").child(".hier/List:head").child(".hier/Node:next");
+        assertEquals("{ROOT}:this.hier/List:head.hier/Node:next", next.toString());
+        assertEquals(3, next.length());
+        assertEquals(".hier/Node:next", next.getStep());
+    }
+    
+    @Test
+    public void testPrefix() {
+        final Origin root = Origin.root("{ROOT}:this");
+        final Origin head = root.child(".hier/List:head");
+        final Origin next = head.child(".hier/Node:next");
+        assertTrue(root.isPrefixOf(next));
+        assertTrue(head.isPrefixOf(next));
+        assertTrue(next.isPrefixOf(next));
+        assertFalse(next.isPrefixOf(head));
+        assertFalse(root.child(".hier/List:tail").isPrefixOf(next));
+        assertFalse(Origin.root("{ROOT}:that").isPrefixOf(next));
+    }
+    
+    @Test
+    public void testSymbolsShareOrigins() throws InvalidTypeException, InvalidInputException {
+        final SymbolFactory symbolFactory = new SymbolFactory();
+        final ReferenceSymbolic root = symbolFactory.createSymbolLocalVariableReference(HistoryPoint.unknown(), "Lhier/List;", "Lhier/List;", "this");
+        final ReferenceSymbolic head = symbolFactory.createSymbolMemberFieldReference("Lhier/Node;", "Lhier/Node;", root, "head", "hier/List");
+        final PrimitiveSymbolicMemberField size = symbolFactory.createSymbolMemberFieldPrimitive("I", root, "size", "hier/List");
+        assertEquals("{ROOT}:this.hier/List:head", head.asOriginString());
+        assertEquals("{ROOT}:this.hier/List:size", size.asOriginString());
+        assertSame(root.asOrigin(), head.asOrigin().getParent());
+        assertSame(root.asOrigin(), size.asOrigin().getParent());
+    }
+}
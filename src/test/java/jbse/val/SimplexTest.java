@@ -0,0 +1,53 @@
+package jbse.val;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.val.exc.InvalidOperandException;
+
+public class SimplexTest {
+    @Test
+    public void testCachedValues() throws InvalidOperandException {
+        assertSame(Simplex.make(Integer.valueOf(42)), Simplex.make(Integer.valueOf(42)));
+        assertSame(Simplex.make(Byte.valueOf((byte) -128)), Simplex.make(Byte.valueOf((byte) -128)));
+        assertSame(Simplex.make(Character.valueOf('a')), Simplex.make(Character.valueOf('a')));
+        assertSame(Simplex.make(Boolean.TRUE), Simplex.make(Boolean.TRUE));
+    }
+
+    @Test
+    public void testUncachedValuesEqual() throws InvalidOperandException {
+        final Simplex a = Simplex.make(Integer.valueOf(100000));
+        final Simplex b = Simplex.make(Integer.valueOf(100000));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(Integer.valueOf(100000), a.getActualValue());
+    }
+
+    @Test
+    public void testDifferentTypesNotEqual() throws InvalidOperandException {
+        assertFalse(Simplex.make(Integer.valueOf(1)).equals(Simplex.make(Long.valueOf(1L))));
+        assertFalse(Simplex.make(Integer.valueOf(1)).equals(Simplex.make(Short.valueOf((short) 1))));
+    }
+
+    @Test
+    public void testFloatingEquality() throws InvalidOperandException {
+        assertEquals(Simplex.make(Double.valueOf(Double.NaN)), Simplex.make(Double.valueOf(Double.NaN)));
+        assertFalse(Simplex.make(Float.valueOf(0.0f)).equals(Simplex.make(Float.valueOf(-0.0f))));
+    }
+
+    @Test
+    public void testTypesAndString() throws InvalidOperandException {
+        final Simplex c = Simplex.make(Character.valueOf('x'));
+        assertEquals(Type.CHAR, c.getType());
+        assertEquals("'x'", c.toString());
+        assertEquals(Type.LONG, Simplex.make(Long.valueOf(5000L)).getType());
+        assertTrue(Simplex.make(Boolean.TRUE).surelyTrue());
+        assertFalse(Simplex.make(Boolean.TRUE).surelyFalse());
+        assertTrue(Simplex.make(Boolean.FALSE).surelyFalse());
+    }
+}